@@ -0,0 +1,105 @@
+package ru.clevertec.authservice.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import ru.clevertec.authservice.mapper.AuthorityMapper;
+import ru.clevertec.authservice.security.jwt.impl.JwtProviderImpl;
+import ru.clevertec.authservice.security.jwt.properties.JwtKeyProperties;
+import ru.clevertec.authservice.security.jwt.util.ClaimsUtil;
+import ru.clevertec.authservice.security.jwt.util.KeyUtil;
+
+import java.security.KeyPair;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the time of the JSON Web Token checks made by the filter and the validate endpoint for one request.
+ * The parse per check variant repeats the former flow, which parsed and verified the RS256 signature of the token
+ * for the expiration and the subject in the filter and twice more in the validation. The parse once variant is
+ * the current flow, which parses the token once in the filter and checks the claims carried by the authentication.
+ * Run with ./gradlew jmh
+ *
+ * @author Ruslan Kantsevich
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtValidationBenchmark {
+
+    private static final String KEY_ID = "auth-service-benchmark";
+    private static final String USERNAME = "erik_gibson";
+
+    private JwtProviderImpl jwtProvider;
+    private Authentication authentication;
+    private String jwt;
+
+    @Setup
+    public void setUp() {
+        KeyPair keyPair = Keys.keyPairFor(SignatureAlgorithm.RS256);
+        KeyUtil.setJwtKeys(createJwtKeyProperties(keyPair));
+
+        jwtProvider = new JwtProviderImpl(new AuthorityMapper() {
+        });
+        authentication = new UsernamePasswordAuthenticationToken(USERNAME, null,
+                List.of(new SimpleGrantedAuthority("ROLE_ADMIN")));
+        jwt = Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, KEY_ID)
+                .setSubject(USERNAME)
+                .claim("authorities", List.of("ROLE_ADMIN"))
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + TimeUnit.DAYS.toMillis(1)))
+                .signWith(keyPair.getPrivate(), SignatureAlgorithm.RS256)
+                .compact();
+    }
+
+    @Benchmark
+    public boolean parsePerCheck() {
+        boolean expired = ClaimsUtil.extractClaim(jwt, Claims::getExpiration).before(new Date());
+        String username = ClaimsUtil.extractClaim(jwt, Claims::getSubject);
+        boolean valid = ClaimsUtil.extractClaim(jwt, Claims::getSubject).equals(authentication.getName())
+                && !ClaimsUtil.extractClaim(jwt, Claims::getExpiration).before(new Date());
+
+        return !expired && username != null && valid;
+    }
+
+    @Benchmark
+    public boolean parseOnce() {
+        Claims claims = ClaimsUtil.extractAllClaims(jwt);
+        boolean expired = jwtProvider.isTokenExpired(claims);
+        String username = claims.getSubject();
+        boolean valid = jwtProvider.isTokenValid(claims, authentication);
+
+        return !expired && username != null && valid;
+    }
+
+    private static JwtKeyProperties createJwtKeyProperties(KeyPair keyPair) {
+        JwtKeyProperties.JwtKey jwtKey = new JwtKeyProperties.JwtKey();
+        jwtKey.setId(KEY_ID);
+        jwtKey.setPrivateKey(Encoders.BASE64.encode(keyPair.getPrivate().getEncoded()));
+        jwtKey.setPublicKey(Encoders.BASE64.encode(keyPair.getPublic().getEncoded()));
+
+        JwtKeyProperties jwtKeyProperties = new JwtKeyProperties();
+        jwtKeyProperties.setSigningKeyId(KEY_ID);
+        jwtKeyProperties.setKeys(List.of(jwtKey));
+
+        return jwtKeyProperties;
+    }
+}
@@ -0,0 +1,29 @@
+package ru.clevertec.authservice.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import ru.clevertec.authservice.security.cache.UserCache;
+
+import java.time.Duration;
+
+/**
+ * Class for configuration of the cache of the users loaded for authentication
+ *
+ * @author Ruslan Kantsevich
+ * */
+@Configuration
+public class UserCacheConfig {
+
+    @Value("${security.user-cache.capacity:10000}")
+    private int capacity;
+
+    @Value("${security.user-cache.ttl:5m}")
+    private Duration ttl;
+
+    @Bean
+    public UserCache userCache() {
+        return new UserCache(capacity, ttl);
+    }
+}
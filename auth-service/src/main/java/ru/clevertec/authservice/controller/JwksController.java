@@ -0,0 +1,31 @@
+package ru.clevertec.authservice.controller;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import ru.clevertec.authservice.dto.response.JwksResponse;
+import ru.clevertec.authservice.mapper.JwkMapper;
+import ru.clevertec.authservice.security.jwt.util.KeyUtil;
+
+import java.time.Duration;
+
+@RestController
+@RequiredArgsConstructor
+public class JwksController {
+
+    private static final Duration MAX_AGE = Duration.ofMinutes(5);
+
+    private final JwkMapper jwkMapper;
+
+    @GetMapping(".well-known/jwks.json")
+    public ResponseEntity<JwksResponse> getJwks() {
+        JwksResponse jwksResponse = jwkMapper.mapToJwksResponse(KeyUtil.getVerificationKeys());
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(MAX_AGE).cachePublic())
+                .body(jwksResponse);
+    }
+}
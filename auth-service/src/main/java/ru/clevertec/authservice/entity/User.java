@@ -2,6 +2,7 @@ package ru.clevertec.authservice.entity;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
@@ -16,6 +17,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import ru.clevertec.authservice.security.cache.UserCacheInvalidationListener;
+
 @Entity
 @Getter
 @Setter
@@ -24,6 +27,7 @@ import lombok.Setter;
 @NoArgsConstructor
 @AllArgsConstructor
 @Table(name = "users")
+@EntityListeners(UserCacheInvalidationListener.class)
 public class User {
 
     @Id
@@ -0,0 +1,77 @@
+package ru.clevertec.authservice.mapper;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Encoders;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.ReportingPolicy;
+
+import org.springframework.stereotype.Component;
+
+import ru.clevertec.authservice.dto.response.JwkResponse;
+import ru.clevertec.authservice.dto.response.JwksResponse;
+
+import java.math.BigInteger;
+import java.security.PublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Class that provides methods for mapping the keys of JSON Web Token to JSON Web Keys (RFC 7517)
+ *
+ * @author Ruslan Kantsevich
+ * */
+@Component
+@Mapper(unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface JwkMapper {
+
+    /**
+     * Mappings the verification keys to JSON Web Key Set
+     *
+     * @param verificationKeys map of the keys of type {@link PublicKey} by their ids
+     * @return object of type {@link JwksResponse} containing the keys
+     * */
+    default JwksResponse mapToJwksResponse(Map<String, PublicKey> verificationKeys) {
+        return JwksResponse.builder()
+                .keys(verificationKeys.entrySet().stream()
+                        .map(verificationKey -> mapToJwkResponse(verificationKey.getKey(),
+                                (RSAPublicKey) verificationKey.getValue()))
+                        .toList())
+                .build();
+    }
+
+    /**
+     * Mappings the RSA public key to JSON Web Key verifying RS256 signatures
+     *
+     * @param keyId     id of the key
+     * @param publicKey object of type {@link RSAPublicKey}
+     * @return object of type {@link JwkResponse} containing the modulus and the exponent of the key
+     * */
+    default JwkResponse mapToJwkResponse(String keyId, RSAPublicKey publicKey) {
+        return JwkResponse.builder()
+                .kty("RSA")
+                .kid(keyId)
+                .use("sig")
+                .alg(SignatureAlgorithm.RS256.getValue())
+                .n(encodeUnsigned(publicKey.getModulus()))
+                .e(encodeUnsigned(publicKey.getPublicExponent()))
+                .build();
+    }
+
+    /**
+     * Encodes the integer as BASE64URL of its unsigned big-endian bytes
+     *
+     * @param value the integer to encode
+     * @return BASE64URL encoded integer
+     * */
+    private static String encodeUnsigned(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+
+        return Encoders.BASE64URL.encode(bytes);
+    }
+}
@@ -0,0 +1,201 @@
+package ru.clevertec.authservice.security.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import ru.clevertec.authservice.entity.Role;
+import ru.clevertec.authservice.entity.User;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded cache of the users loaded by username. The least recently used user is evicted when the cache is full,
+ * and every user expires after the time-to-live, which bounds the staleness of the changes made bypassing
+ * the application. The cache keeps an immutable copy of the user and returns a new {@link User} on every hit,
+ * so the callers cannot change the cached password hash or role.
+ * <p>
+ * A user invalidated while it is being loaded is not put in the cache, so a load racing with a sign-up or
+ * a role change never caches the user read before the change. The hits, the misses, the evictions and the size
+ * are published as cache.* meters with the tag cache=users
+ *
+ * @author Ruslan Kantsevich
+ * */
+public class UserCache implements MeterBinder {
+
+    private static final Tags TAGS = Tags.of("cache", "users");
+
+    private final int capacity;
+    private final long ttlNanos;
+    private final LongSupplier ticker;
+    private final Map<String, CachedUser> users;
+    private final LongAdder hitCount;
+    private final LongAdder missCount;
+
+    private long evictionCount;
+    private long generation;
+
+    /**
+     * Creates the cache
+     *
+     * @param capacity maximum number of the cached users
+     * @param ttl      time-to-live of the cached user
+     * */
+    public UserCache(int capacity, Duration ttl) {
+        this(capacity, ttl, System::nanoTime);
+    }
+
+    UserCache(int capacity, Duration ttl, LongSupplier ticker) {
+        this.capacity = capacity;
+        this.ttlNanos = ttl.toNanos();
+        this.ticker = ticker;
+        this.users = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedUser> eldest) {
+                if (size() <= UserCache.this.capacity) {
+                    return false;
+                }
+
+                evictionCount++;
+                return true;
+            }
+        };
+        this.hitCount = new LongAdder();
+        this.missCount = new LongAdder();
+    }
+
+    /**
+     * Gets the user by username from the cache or loads it by the loader and caches it. Absent users are not cached
+     *
+     * @param username username of the user
+     * @param loader   function loading the user by username on a miss
+     * @return object of type {@link Optional<User>} containing the loaded user or a new copy of the cached one
+     * */
+    public Optional<User> get(String username, Function<String, Optional<User>> loader) {
+        long loadGeneration;
+        long loadedAt = ticker.getAsLong();
+
+        synchronized (users) {
+            CachedUser cachedUser = users.get(username);
+
+            if (Objects.nonNull(cachedUser) && loadedAt - cachedUser.cachedAt() < ttlNanos) {
+                hitCount.increment();
+                return Optional.of(cachedUser.toUser());
+            }
+
+            if (Objects.nonNull(cachedUser)) {
+                users.remove(username);
+                evictionCount++;
+            }
+
+            loadGeneration = generation;
+        }
+
+        missCount.increment();
+        Optional<User> user = loader.apply(username);
+
+        user.ifPresent(loadedUser -> put(username, loadedUser, loadGeneration, loadedAt));
+
+        return user;
+    }
+
+    /**
+     * Removes the user from the cache and discards the loads of users started before the invalidation
+     *
+     * @param username username of the user
+     * */
+    public void invalidate(String username) {
+        synchronized (users) {
+            generation++;
+            users.remove(username);
+        }
+    }
+
+    /**
+     * Removes all users from the cache and discards the loads of users started before the invalidation
+     * */
+    public void invalidateAll() {
+        synchronized (users) {
+            generation++;
+            users.clear();
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        synchronized (users) {
+            return evictionCount;
+        }
+    }
+
+    public int size() {
+        synchronized (users) {
+            return users.size();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        FunctionCounter.builder("cache.gets", this, UserCache::getHitCount)
+                .description("The number of times cache lookup methods have returned a cached value")
+                .tags(TAGS)
+                .tag("result", "hit")
+                .register(meterRegistry);
+
+        FunctionCounter.builder("cache.gets", this, UserCache::getMissCount)
+                .description("The number of times cache lookup methods have not found a cached value")
+                .tags(TAGS)
+                .tag("result", "miss")
+                .register(meterRegistry);
+
+        FunctionCounter.builder("cache.evictions", this, UserCache::getEvictionCount)
+                .description("The number of entries evicted from the cache")
+                .tags(TAGS)
+                .register(meterRegistry);
+
+        Gauge.builder("cache.size", this, UserCache::size)
+                .description("The number of entries in the cache")
+                .tags(TAGS)
+                .register(meterRegistry);
+    }
+
+    private void put(String username, User user, long loadGeneration, long loadedAt) {
+        synchronized (users) {
+            if (loadGeneration == generation) {
+                users.put(username, CachedUser.of(user, loadedAt));
+            }
+        }
+    }
+
+    private record CachedUser(Long id, String username, String password, Role role, long cachedAt) {
+
+        static CachedUser of(User user, long cachedAt) {
+            return new CachedUser(user.getId(), user.getUsername(), user.getPassword(), user.getRole(), cachedAt);
+        }
+
+        User toUser() {
+            return User.builder()
+                    .id(id)
+                    .username(username)
+                    .password(password)
+                    .role(role)
+                    .build();
+        }
+    }
+}
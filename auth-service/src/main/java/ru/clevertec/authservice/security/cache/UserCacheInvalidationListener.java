@@ -0,0 +1,44 @@
+package ru.clevertec.authservice.security.cache;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import ru.clevertec.authservice.entity.User;
+
+/**
+ * Entity listener invalidating the cached user when the user is signed up, changed (e.g. its role or password)
+ * or removed. The user is invalidated when the change is flushed and once more when the transaction is completed,
+ * so a user loaded by a concurrent request before the commit is not left in the cache
+ *
+ * @author Ruslan Kantsevich
+ * */
+@Component
+@RequiredArgsConstructor
+public class UserCacheInvalidationListener {
+
+    private final UserCache userCache;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void invalidate(User user) {
+        String username = user.getUsername();
+        userCache.invalidate(username);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    userCache.invalidate(username);
+                }
+            });
+        }
+    }
+}
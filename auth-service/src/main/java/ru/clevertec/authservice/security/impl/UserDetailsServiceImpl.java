@@ -6,21 +6,23 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import ru.clevertec.authservice.entity.User;
 import ru.clevertec.authservice.repository.UserRepository;
+import ru.clevertec.authservice.security.cache.UserCache;
 
 /**
- * Class that implements {@link UserDetailsService} and provides a methods for working with the user
+ * Class that implements {@link UserDetailsService} and provides a methods for working with the user.
+ * The users are loaded through {@link UserCache}, so the users of the frequent requests are taken from memory
+ * without a transaction and a query to the database
  *
  * @author Ruslan Kantsevich
  * */
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class UserDetailsServiceImpl implements UserDetailsService {
 
+    private final UserCache userCache;
     private final UserRepository userRepository;
 
     /**
@@ -32,7 +34,7 @@ public class UserDetailsServiceImpl implements UserDetailsService {
      * */
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        User user = userRepository.findByUsername(username)
+        User user = userCache.get(username, userRepository::findByUsername)
                 .orElseThrow(() -> new UsernameNotFoundException("User with username = [%s] not found".formatted(username)));
 
         return UserDetailsImpl.builder()
@@ -1,5 +1,7 @@
 package ru.clevertec.authservice.security.jwt;
 
+import io.jsonwebtoken.Claims;
+
 import org.springframework.security.core.Authentication;
 
 /**
@@ -11,6 +13,8 @@ public interface JwtProvider {
 
     String generateToken(Authentication authentication);
     boolean isTokenValid(String jwt, Authentication authentication);
+    boolean isTokenValid(Claims claims, Authentication authentication);
     boolean isTokenExpired(String jwt);
+    boolean isTokenExpired(Claims claims);
 
 }
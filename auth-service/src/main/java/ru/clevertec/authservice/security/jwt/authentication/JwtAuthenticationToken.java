@@ -0,0 +1,34 @@
+package ru.clevertec.authservice.security.jwt.authentication;
+
+import io.jsonwebtoken.Claims;
+
+import lombok.Getter;
+
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * Authentication of the user by JSON Web Token of the request. It carries the token together with its claims,
+ * which are verified once by the filter, so the request does not parse the token again
+ *
+ * @author Ruslan Kantsevich
+ * */
+@Getter
+public class JwtAuthenticationToken extends UsernamePasswordAuthenticationToken {
+
+    private final transient String jwt;
+    private final transient Claims claims;
+
+    /**
+     * Creates the authentication
+     *
+     * @param userDetails object of type {@link UserDetails} containing information about the authenticated user
+     * @param jwt         JSON Web Token of the request
+     * @param claims      object of type {@link Claims} of the verified token
+     * */
+    public JwtAuthenticationToken(UserDetails userDetails, String jwt, Claims claims) {
+        super(userDetails, userDetails.getPassword(), userDetails.getAuthorities());
+        this.jwt = jwt;
+        this.claims = claims;
+    }
+}
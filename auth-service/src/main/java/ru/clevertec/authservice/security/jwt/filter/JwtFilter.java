@@ -10,7 +10,6 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -18,6 +17,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import ru.clevertec.authservice.security.impl.UserDetailsServiceImpl;
+import ru.clevertec.authservice.security.jwt.authentication.JwtAuthenticationToken;
 import ru.clevertec.authservice.security.jwt.impl.JwtProviderImpl;
 import ru.clevertec.authservice.security.jwt.util.ClaimsUtil;
 import ru.clevertec.exceptionhandlingstarter.exception.InvalidJwtException;
@@ -30,7 +30,8 @@ import static org.springframework.http.HttpHeaders.AUTHORIZATION;
 import static ru.clevertec.authservice.security.jwt.util.JwtUtil.BEARER_PREFIX;
 
 /**
- * Filter class for JSON Web Token validation and user authentication
+ * Filter class for JSON Web Token validation and user authentication. The token is parsed and its signature
+ * is verified once per request, the claims are carried to the request by {@link JwtAuthenticationToken}
  *
  * @author Ruslan Kantsevich
  * */
@@ -52,11 +53,12 @@ public class JwtFilter extends OncePerRequestFilter {
         }
 
         String jwtToken = authorizationHeader.substring(BEARER_PREFIX.length() + 1);
-        if (jwtTokenProvider.isTokenExpired(jwtToken)) {
+        Claims claims = ClaimsUtil.extractAllClaims(jwtToken);
+        if (jwtTokenProvider.isTokenExpired(claims)) {
             throw new InvalidJwtException("Jwt expired");
         }
 
-        String username = ClaimsUtil.extractClaim(jwtToken, Claims::getSubject);
+        String username = claims.getSubject();
         if (Objects.isNull(username)) {
             throw new InvalidJwtException("Jwt doesn't contain subject");
         }
@@ -64,8 +66,7 @@ public class JwtFilter extends OncePerRequestFilter {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (Objects.isNull(authentication)) {
             UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-            UsernamePasswordAuthenticationToken authenticationToken =
-                    new UsernamePasswordAuthenticationToken(userDetails, userDetails.getPassword(), userDetails.getAuthorities());
+            JwtAuthenticationToken authenticationToken = new JwtAuthenticationToken(userDetails, jwtToken, claims);
             SecurityContextHolder.getContext().setAuthentication(authenticationToken);
         }
 
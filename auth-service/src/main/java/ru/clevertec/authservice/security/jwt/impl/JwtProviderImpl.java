@@ -2,6 +2,7 @@ package ru.clevertec.authservice.security.jwt.impl;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Header;
+import io.jsonwebtoken.JwsHeader;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 
@@ -37,7 +38,7 @@ public class JwtProviderImpl implements JwtProvider {
     private final AuthorityMapper authorityMapper;
 
     /**
-     * Generates JSON Web Token
+     * Generates JSON Web Token signed by the sign in key, whose id is put in the kid header
      *
      * @param authentication object of type {@link Authentication} containing information about the authenticated user
      * @return JSON Web token
@@ -51,11 +52,12 @@ public class JwtProviderImpl implements JwtProvider {
 
         return Jwts.builder()
                 .setHeaderParam(JWT_TYPE_HEADER, Header.JWT_TYPE)
+                .setHeaderParam(JwsHeader.KEY_ID, KeyUtil.getSignInKeyId())
                 .setSubject(authentication.getName())
                 .claim(AUTHORITIES_CLAIM, authorities)
                 .setIssuedAt(now)
                 .setExpiration(expiration)
-                .signWith(KeyUtil.getSignInKey(), SignatureAlgorithm.HS256)
+                .signWith(KeyUtil.getSignInKey(), SignatureAlgorithm.RS256)
                 .compact();
     }
 
@@ -70,8 +72,19 @@ public class JwtProviderImpl implements JwtProvider {
      * */
     @Override
     public boolean isTokenValid(String jwt, Authentication authentication) {
-        String username = ClaimsUtil.extractClaim(jwt, Claims::getSubject);
-        return username.equals(authentication.getName()) && !isTokenExpired(jwt);
+        return isTokenValid(ClaimsUtil.extractAllClaims(jwt), authentication);
+    }
+
+    /**
+     * Checks the claims of the verified JSON Web token for validity without parsing the token again
+     *
+     * @param claims object of type {@link Claims} of the verified JSON Web Token
+     * @param authentication object of type {@link Authentication} containing information about the authenticated user
+     * @return variable containing information about the validity of JSON Web Token
+     * */
+    @Override
+    public boolean isTokenValid(Claims claims, Authentication authentication) {
+        return claims.getSubject().equals(authentication.getName()) && !isTokenExpired(claims);
     }
 
     /**
@@ -83,9 +96,17 @@ public class JwtProviderImpl implements JwtProvider {
      * */
     @Override
     public boolean isTokenExpired(String jwt) {
-        Date now = new Date();
-        Date expiration = ClaimsUtil.extractClaim(jwt, Claims::getExpiration);
+        return isTokenExpired(ClaimsUtil.extractAllClaims(jwt));
+    }
 
-        return expiration.before(now);
+    /**
+     * Checks the claims of the verified JSON Web token for expiration without parsing the token again
+     *
+     * @param claims object of type {@link Claims} of the verified JSON Web Token
+     * @return variable containing information about the expiration of JSON Web Token
+     * */
+    @Override
+    public boolean isTokenExpired(Claims claims) {
+        return claims.getExpiration().before(new Date());
     }
 }
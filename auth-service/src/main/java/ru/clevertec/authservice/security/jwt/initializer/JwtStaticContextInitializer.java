@@ -2,24 +2,28 @@ package ru.clevertec.authservice.security.jwt.initializer;
 
 import jakarta.annotation.PostConstruct;
 
-import org.springframework.beans.factory.annotation.Value;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import ru.clevertec.authservice.security.jwt.properties.JwtKeyProperties;
 import ru.clevertec.authservice.security.jwt.util.KeyUtil;
 
 /**
- * Class for initializing a static variable containing the secret key of the JSON Web Token
+ * Class for initializing a static variable containing the keys of the JSON Web Token
  *
  * @author Ruslan Kantsevich
  * */
 @Component
+@RequiredArgsConstructor
+@EnableConfigurationProperties(JwtKeyProperties.class)
 public class JwtStaticContextInitializer {
 
-    @Value("${security.jwt.secret-key}")
-    private String jwtSecretKey;
+    private final JwtKeyProperties jwtKeyProperties;
 
     @PostConstruct
     public void init() {
-        KeyUtil.setJwtSecretKey(jwtSecretKey);
+        KeyUtil.setJwtKeys(jwtKeyProperties);
     }
 }
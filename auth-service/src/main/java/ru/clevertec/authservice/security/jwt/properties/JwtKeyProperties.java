@@ -0,0 +1,44 @@
+package ru.clevertec.authservice.security.jwt.properties;
+
+import lombok.Data;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Class of the RS256 keys of JSON Web Token set by security.jwt.keys. All keys are published by the JWKS endpoint
+ * and accepted when verifying tokens, while the tokens are signed by the key security.jwt.signing-key-id. A key is
+ * rotated by adding the new key, switching the signing key to it once the services have reloaded the published
+ * keys, and removing the old key after the tokens signed by it have expired
+ *
+ * @author Ruslan Kantsevich
+ * */
+@Data
+@ConfigurationProperties(prefix = "security.jwt")
+public class JwtKeyProperties {
+
+    private String signingKeyId;
+    private List<JwtKey> keys = new ArrayList<>();
+
+    @Data
+    public static class JwtKey {
+
+        /**
+         * Key id put in the kid header of the signed tokens
+         * */
+        private String id;
+
+        /**
+         * BASE64 encoded PKCS#8 private key, not required for the keys only verifying tokens
+         * */
+        private String privateKey;
+
+        /**
+         * BASE64 encoded X.509 public key
+         * */
+        private String publicKey;
+
+    }
+}
@@ -1,17 +1,38 @@
 package ru.clevertec.authservice.security.jwt.util;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
 
+import java.security.Key;
 import java.util.function.Function;
 
 /**
- * Utility class that provides methods for working with JSON Web Token claims
+ * Utility class that provides methods for working with JSON Web Token claims. The tokens are parsed by a single
+ * parser, which verifies the RS256 signature by the key of the kid header
  *
  * @author Ruslan Kantsevich
  * */
 public class ClaimsUtil {
 
+    private static final JwtParser JWT_PARSER = Jwts.parserBuilder()
+            .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                @Override
+                public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                    if (!SignatureAlgorithm.RS256.getValue().equals(header.getAlgorithm())) {
+                        throw new UnsupportedJwtException("Jwt algorithm [%s] is not supported"
+                                .formatted(header.getAlgorithm()));
+                    }
+
+                    return KeyUtil.getVerificationKey(header.getKeyId());
+                }
+            })
+            .build();
+
     /**
      * Extracts a specific claim from a JSON Web Token
      *
@@ -31,10 +52,6 @@ public class ClaimsUtil {
      * @return object of type {@link Claims} containing information about all claims
      * */
     public static Claims extractAllClaims(String jwt) {
-        return Jwts.parserBuilder()
-                .setSigningKey(KeyUtil.getSignInKey())
-                .build()
-                .parseClaimsJws(jwt)
-                .getBody();
+        return JWT_PARSER.parseClaimsJws(jwt).getBody();
     }
 }
@@ -1,30 +1,114 @@
 package ru.clevertec.authservice.security.jwt.util;
 
 import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
 
-import java.security.Key;
+import ru.clevertec.authservice.security.jwt.properties.JwtKeyProperties;
+import ru.clevertec.authservice.security.jwt.properties.JwtKeyProperties.JwtKey;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
 
 /**
- * Utility class to get sign in key for JSON Web Token
+ * Utility class to get the RS256 keys of JSON Web Token. The keys are decoded once when they are set and shared by
+ * all tokens
  *
  * @author Ruslan Kantsevich
  * */
 public class KeyUtil {
 
-    private static String jwtSecretKey;
+    private static final String KEY_ALGORITHM = "RSA";
+
+    private static volatile JwtKeys jwtKeys;
 
     /**
      * Gets sign in key for JSON Web Token
      *
-     * @return object of type {@link Key} containing information about sign in key
+     * @return object of type {@link PrivateKey} containing information about sign in key
+     * */
+    public static PrivateKey getSignInKey() {
+        return jwtKeys.signInKey();
+    }
+
+    /**
+     * Gets the id of the sign in key, which is put in the kid header of JSON Web Token
+     *
+     * @return the key id
      * */
-    public static Key getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(jwtSecretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+    public static String getSignInKeyId() {
+        return jwtKeys.signInKeyId();
+    }
+
+    /**
+     * Gets the key verifying JSON Web Token signed by the key with the given id
+     *
+     * @param keyId id of the key from the kid header of JSON Web Token
+     * @return object of type {@link PublicKey} containing information about the verification key
+     * @throws SignatureException if there is no key with the id
+     * */
+    public static PublicKey getVerificationKey(String keyId) {
+        PublicKey verificationKey = Objects.isNull(keyId) ? null : jwtKeys.verificationKeys().get(keyId);
+
+        if (Objects.isNull(verificationKey)) {
+            throw new SignatureException("Jwt key id [%s] is unknown".formatted(keyId));
+        }
+
+        return verificationKey;
+    }
+
+    /**
+     * Gets all keys verifying JSON Web Token
+     *
+     * @return map of the keys of type {@link PublicKey} by their ids in the configured order
+     * */
+    public static Map<String, PublicKey> getVerificationKeys() {
+        return jwtKeys.verificationKeys();
+    }
+
+    /**
+     * Decodes and sets the keys of JSON Web Token
+     *
+     * @param jwtKeyProperties object of type {@link JwtKeyProperties} containing the encoded keys
+     * @throws IllegalStateException if a key cannot be decoded or the signing key has no private key
+     * */
+    public static void setJwtKeys(JwtKeyProperties jwtKeyProperties) {
+        Map<String, PublicKey> verificationKeys = new LinkedHashMap<>();
+        PrivateKey signInKey = null;
+
+        try {
+            KeyFactory keyFactory = KeyFactory.getInstance(KEY_ALGORITHM);
+
+            for (JwtKey jwtKey : jwtKeyProperties.getKeys()) {
+                verificationKeys.put(jwtKey.getId(), keyFactory.generatePublic(
+                        new X509EncodedKeySpec(Decoders.BASE64.decode(jwtKey.getPublicKey()))));
+
+                if (jwtKey.getId().equals(jwtKeyProperties.getSigningKeyId())
+                        && Objects.nonNull(jwtKey.getPrivateKey())) {
+                    signInKey = keyFactory.generatePrivate(
+                            new PKCS8EncodedKeySpec(Decoders.BASE64.decode(jwtKey.getPrivateKey())));
+                }
+            }
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Jwt keys cannot be decoded", e);
+        }
+
+        if (Objects.isNull(signInKey)) {
+            throw new IllegalStateException("Jwt signing key [%s] has no private key"
+                    .formatted(jwtKeyProperties.getSigningKeyId()));
+        }
+
+        jwtKeys = new JwtKeys(jwtKeyProperties.getSigningKeyId(), signInKey,
+                Collections.unmodifiableMap(verificationKeys));
     }
 
-    public static void setJwtSecretKey(String secretKey) {
-        jwtSecretKey = secretKey;
+    private record JwtKeys(String signInKeyId, PrivateKey signInKey, Map<String, PublicKey> verificationKeys) {
     }
 }
@@ -16,6 +16,7 @@ import ru.clevertec.authservice.entity.User;
 import ru.clevertec.authservice.mapper.AuthorityMapper;
 import ru.clevertec.authservice.mapper.UserMapper;
 import ru.clevertec.authservice.repository.UserRepository;
+import ru.clevertec.authservice.security.jwt.authentication.JwtAuthenticationToken;
 import ru.clevertec.authservice.security.jwt.impl.JwtProviderImpl;
 import ru.clevertec.authservice.security.jwt.util.JwtUtil;
 import ru.clevertec.authservice.service.AuthenticationService;
@@ -82,7 +83,8 @@ public class AuthenticationServiceImpl implements AuthenticationService {
 
     /**
      * Validates the JSON Web Token. If the token is valid then it returns information about
-     * the user authorized (username and authorities) in the application
+     * the user authorized (username and authorities) in the application. The claims verified by the filter
+     * are reused if the user is authenticated by the same token
      *
      * @param authorizationHeader authorization header of HTTP request
      * @return object of type {@link UserResponse} containing information about username and authorities of user
@@ -92,7 +94,7 @@ public class AuthenticationServiceImpl implements AuthenticationService {
         String jwtToken = JwtUtil.extractJwt(authorizationHeader);
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
-        if (!jwtTokenProvider.isTokenValid(jwtToken, authentication)) {
+        if (!isTokenValid(jwtToken, authentication)) {
             throw new InvalidJwtException("Jwt token is not valid");
         }
 
@@ -104,6 +106,23 @@ public class AuthenticationServiceImpl implements AuthenticationService {
                 .build();
     }
 
+    /**
+     * Checks the JSON Web Token for validity by the claims of the authentication if it carries the same token,
+     * otherwise the token is parsed
+     *
+     * @param jwt JSON Web Token
+     * @param authentication object of type {@link Authentication} containing information about the authenticated user
+     * @return variable containing information about the validity of JSON Web Token
+     * */
+    private boolean isTokenValid(String jwt, Authentication authentication) {
+        if (authentication instanceof JwtAuthenticationToken jwtAuthentication
+                && jwt.equals(jwtAuthentication.getJwt())) {
+            return jwtTokenProvider.isTokenValid(jwtAuthentication.getClaims(), authentication);
+        }
+
+        return jwtTokenProvider.isTokenValid(jwt, authentication);
+    }
+
     /**
      * Authenticates user in the application
      *
@@ -0,0 +1,36 @@
+package ru.clevertec.authservice.integration.controller;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+
+import ru.clevertec.authservice.integration.BaseIntegrationTest;
+
+import static org.hamcrest.Matchers.contains;
+
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+class JwksControllerTest extends BaseIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void checkGetJwksShouldReturnStatusOkAndAllKeys() throws Exception {
+        mockMvc.perform(get("/.well-known/jwks.json")
+                        .accept(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "max-age=300, public"))
+                .andExpect(jsonPath("$.keys[*].kid").value(contains("auth-service-test-1", "auth-service-test-2")))
+                .andExpect(jsonPath("$.keys[*].alg").value(contains("RS256", "RS256")))
+                .andExpect(jsonPath("$.keys[0].n").isNotEmpty())
+                .andExpect(jsonPath("$.keys[0].e").value("AQAB"));
+    }
+}
@@ -0,0 +1,64 @@
+package ru.clevertec.authservice.mapper;
+
+import io.jsonwebtoken.io.Decoders;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.mapstruct.factory.Mappers;
+
+import ru.clevertec.authservice.dto.response.JwkResponse;
+import ru.clevertec.authservice.dto.response.JwksResponse;
+import ru.clevertec.authservice.security.jwt.util.KeyUtil;
+import ru.clevertec.authservice.util.jwt.JwtTestData;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.security.interfaces.RSAPublicKey;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwkMapperTest {
+
+    private final JwkMapper jwkMapper = Mappers.getMapper(JwkMapper.class);
+
+    @BeforeEach
+    void setUp() throws IOException {
+        KeyUtil.setJwtKeys(JwtTestData.buildJwtKeyProperties());
+    }
+
+    @Test
+    void checkMapToJwksResponseShouldReturnAllKeysInOrder() {
+        JwksResponse actualJwksResponse = jwkMapper.mapToJwksResponse(KeyUtil.getVerificationKeys());
+
+        assertThat(actualJwksResponse.getKeys())
+                .extracting(JwkResponse::getKid)
+                .containsExactly("auth-service-test-1", "auth-service-test-2");
+    }
+
+    @Test
+    void checkMapToJwkResponseShouldReturnRs256Key() {
+        RSAPublicKey publicKey = (RSAPublicKey) KeyUtil.getVerificationKey("auth-service-test-2");
+
+        JwkResponse actualJwkResponse = jwkMapper.mapToJwkResponse("auth-service-test-2", publicKey);
+
+        assertThat(actualJwkResponse.getKty()).isEqualTo("RSA");
+        assertThat(actualJwkResponse.getKid()).isEqualTo("auth-service-test-2");
+        assertThat(actualJwkResponse.getUse()).isEqualTo("sig");
+        assertThat(actualJwkResponse.getAlg()).isEqualTo("RS256");
+        assertThat(new BigInteger(1, Decoders.BASE64URL.decode(actualJwkResponse.getN())))
+                .isEqualTo(publicKey.getModulus());
+        assertThat(new BigInteger(1, Decoders.BASE64URL.decode(actualJwkResponse.getE())))
+                .isEqualTo(publicKey.getPublicExponent());
+    }
+
+    @Test
+    void checkMapToJwkResponseShouldEncodeModulusWithoutSignByte() {
+        RSAPublicKey publicKey = (RSAPublicKey) KeyUtil.getVerificationKey("auth-service-test-2");
+
+        JwkResponse actualJwkResponse = jwkMapper.mapToJwkResponse("auth-service-test-2", publicKey);
+
+        assertThat(Decoders.BASE64URL.decode(actualJwkResponse.getN())).hasSize(256);
+        assertThat(actualJwkResponse.getE()).isEqualTo("AQAB");
+    }
+}
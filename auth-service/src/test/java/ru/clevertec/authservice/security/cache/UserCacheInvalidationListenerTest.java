@@ -0,0 +1,61 @@
+package ru.clevertec.authservice.security.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import ru.clevertec.authservice.entity.User;
+import ru.clevertec.authservice.util.entity.UserTestBuilder;
+
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class UserCacheInvalidationListenerTest {
+
+    @Mock
+    private UserCache userCache;
+
+    @InjectMocks
+    private UserCacheInvalidationListener userCacheInvalidationListener;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void checkInvalidateShouldInvalidateUser() {
+        User user = UserTestBuilder.user()
+                .withUsername("erik_gibson")
+                .build();
+
+        userCacheInvalidationListener.invalidate(user);
+
+        verify(userCache).invalidate("erik_gibson");
+    }
+
+    @Test
+    void checkInvalidateShouldInvalidateUserAgainAfterTransactionCompletion() {
+        User user = UserTestBuilder.user()
+                .withUsername("erik_gibson")
+                .build();
+        TransactionSynchronizationManager.initSynchronization();
+
+        userCacheInvalidationListener.invalidate(user);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization ->
+                        synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        verify(userCache, times(2)).invalidate("erik_gibson");
+    }
+}
@@ -0,0 +1,199 @@
+package ru.clevertec.authservice.security.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import ru.clevertec.authservice.entity.User;
+import ru.clevertec.authservice.util.entity.UserTestBuilder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import static ru.clevertec.authservice.entity.Role.ADMIN;
+import static ru.clevertec.authservice.entity.Role.SUBSCRIBER;
+
+class UserCacheTest {
+
+    private static final Duration TTL = Duration.ofMinutes(5);
+    private static final int CAPACITY = 2;
+
+    private final AtomicLong ticker = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private UserCache userCache;
+
+    @BeforeEach
+    void setUp() {
+        userCache = new UserCache(CAPACITY, TTL, ticker::get);
+    }
+
+    @Test
+    void checkGetShouldReturnCachedUserWithoutLoading() {
+        userCache.get("erik_gibson", this::load);
+
+        Optional<User> actualUser = userCache.get("erik_gibson", this::load);
+
+        assertThat(actualUser).map(User::getUsername).contains("erik_gibson");
+        assertThat(loads).hasValue(1);
+        assertThat(userCache.getHitCount()).isEqualTo(1);
+        assertThat(userCache.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    void checkGetShouldReturnCopyOfCachedUser() {
+        userCache.get("erik_gibson", this::load)
+                .ifPresent(user -> user.setPassword("changed"));
+        userCache.get("erik_gibson", this::load)
+                .ifPresent(user -> user.setRole(ADMIN));
+
+        Optional<User> actualUser = userCache.get("erik_gibson", this::load);
+
+        assertThat(actualUser).map(User::getPassword).contains("password");
+        assertThat(actualUser).map(User::getRole).contains(SUBSCRIBER);
+    }
+
+    @Test
+    void checkGetShouldLoadUserAfterTtl() {
+        userCache.get("erik_gibson", this::load);
+        ticker.addAndGet(TTL.toNanos());
+
+        userCache.get("erik_gibson", this::load);
+
+        assertThat(loads).hasValue(2);
+        assertThat(userCache.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void checkGetShouldEvictLeastRecentlyUsedUser() {
+        userCache.get("erik_gibson", this::load);
+        userCache.get("thomas_martinez", this::load);
+        userCache.get("erik_gibson", this::load);
+        userCache.get("ivan_ivanov", this::load);
+
+        userCache.get("erik_gibson", this::load);
+        userCache.get("thomas_martinez", this::load);
+
+        assertThat(loads).hasValue(4);
+        assertThat(userCache.size()).isEqualTo(CAPACITY);
+        assertThat(userCache.getEvictionCount()).isEqualTo(2);
+    }
+
+    @Test
+    void checkGetShouldNotCacheAbsentUser() {
+        userCache.get("erik_gibson", username -> Optional.empty());
+
+        Optional<User> actualUser = userCache.get("erik_gibson", this::load);
+
+        assertThat(actualUser).isPresent();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void checkInvalidateShouldLoadUserAgain() {
+        userCache.get("erik_gibson", this::load);
+        userCache.invalidate("erik_gibson");
+
+        userCache.get("erik_gibson", this::load);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void checkInvalidateAllShouldRemoveAllUsers() {
+        userCache.get("erik_gibson", this::load);
+        userCache.get("thomas_martinez", this::load);
+
+        userCache.invalidateAll();
+
+        assertThat(userCache.size()).isZero();
+    }
+
+    @Test
+    void checkGetShouldNotCacheUserInvalidatedWhileLoading() {
+        userCache.get("erik_gibson", username -> {
+            Optional<User> user = load(username);
+            userCache.invalidate(username);
+            return user;
+        });
+
+        userCache.get("erik_gibson", this::load);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void checkGetShouldNotReturnStalePasswordAfterConcurrentChanges() throws Exception {
+        AtomicReference<String> password = new AtomicReference<>("password-0");
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < 7; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < 10_000; j++) {
+                        userCache.get("erik_gibson", username -> Optional.of(user(username, password.get())));
+                    }
+                }));
+            }
+            futures.add(executor.submit(() -> {
+                for (int j = 1; j <= 1_000; j++) {
+                    password.set("password-" + j);
+                    userCache.invalidate("erik_gibson");
+                }
+            }));
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Optional<User> actualUser = userCache.get("erik_gibson",
+                username -> Optional.of(user(username, password.get())));
+
+        assertThat(actualUser).map(User::getPassword).contains("password-1000");
+    }
+
+    @Test
+    void checkBindToShouldPublishHitsAndMisses() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        userCache.bindTo(meterRegistry);
+
+        userCache.get("erik_gibson", this::load);
+        userCache.get("erik_gibson", this::load);
+        userCache.get("erik_gibson", this::load);
+
+        assertThat(meterRegistry.get("cache.gets").tags("cache", "users", "result", "hit").functionCounter().count())
+                .isEqualTo(2);
+        assertThat(meterRegistry.get("cache.gets").tags("cache", "users", "result", "miss").functionCounter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("cache.size").tags("cache", "users").gauge().value())
+                .isEqualTo(1);
+    }
+
+    private Optional<User> load(String username) {
+        loads.incrementAndGet();
+        return Optional.of(user(username, "password"));
+    }
+
+    private User user(String username, String password) {
+        return UserTestBuilder.user()
+                .withUsername(username)
+                .withPassword(password)
+                .withRole(SUBSCRIBER)
+                .build();
+    }
+}
@@ -1,9 +1,9 @@
 package ru.clevertec.authservice.security.impl;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -12,15 +12,19 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
 import ru.clevertec.authservice.entity.User;
 import ru.clevertec.authservice.repository.UserRepository;
+import ru.clevertec.authservice.security.cache.UserCache;
 import ru.clevertec.authservice.util.entity.UserDetailsTestBuilder;
 import ru.clevertec.authservice.util.entity.UserTestBuilder;
 
+import java.time.Duration;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class UserDetailsServiceImplTest {
@@ -28,9 +32,15 @@ class UserDetailsServiceImplTest {
     @Mock
     private UserRepository userRepository;
 
-    @InjectMocks
+    private UserCache userCache;
     private UserDetailsServiceImpl userDetailsService;
 
+    @BeforeEach
+    void setUp() {
+        userCache = new UserCache(100, Duration.ofMinutes(5));
+        userDetailsService = new UserDetailsServiceImpl(userCache, userRepository);
+    }
+
     @Test
     void checkLoadByUsernameShouldReturnUserDetails() {
         String username = "erik_gibson";
@@ -50,6 +60,45 @@ class UserDetailsServiceImplTest {
         assertThat(actualUserDetails).isEqualTo(expectedUserDetails);
     }
 
+    @Test
+    void checkLoadByUsernameShouldReturnCachedUserDetails() {
+        String username = "erik_gibson";
+        User user = UserTestBuilder.user()
+                .withUsername(username)
+                .withPassword("$2y$10$7d4u75rP/8X/JuXMB2oGkuAn6uV30IGMj8jwV5HSDdGfo09g5w9Qu")
+                .build();
+
+        doReturn(Optional.of(user)).when(userRepository).findByUsername(username);
+
+        UserDetails expectedUserDetails = userDetailsService.loadUserByUsername(username);
+        UserDetails actualUserDetails = userDetailsService.loadUserByUsername(username);
+
+        assertThat(actualUserDetails).isEqualTo(expectedUserDetails);
+        verify(userRepository).findByUsername(username);
+    }
+
+    @Test
+    void checkLoadByUsernameShouldReturnChangedPasswordAfterInvalidation() {
+        String username = "erik_gibson";
+        User user = UserTestBuilder.user()
+                .withUsername(username)
+                .withPassword("$2y$10$7d4u75rP/8X/JuXMB2oGkuAn6uV30IGMj8jwV5HSDdGfo09g5w9Qu")
+                .build();
+        User changedUser = UserTestBuilder.user()
+                .withUsername(username)
+                .withPassword("$2a$10$gS2Wz0tC2E0QxMIl5BbG8eC4wD8RJ1mN0bTQ0oYbqK7XrTb3eWw3O")
+                .build();
+
+        doReturn(Optional.of(user), Optional.of(changedUser)).when(userRepository).findByUsername(username);
+
+        userDetailsService.loadUserByUsername(username);
+        userCache.invalidate(username);
+        UserDetails actualUserDetails = userDetailsService.loadUserByUsername(username);
+
+        assertThat(actualUserDetails.getPassword()).isEqualTo(changedUser.getPassword());
+        verify(userRepository, times(2)).findByUsername(username);
+    }
+
     @Test
     void checkLoadByUsernameShouldThrowsUsernameNotFoundException() {
         String username = "ivan_ivanov";
@@ -0,0 +1,117 @@
+package ru.clevertec.authservice.security.jwt.filter;
+
+import io.jsonwebtoken.Claims;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import ru.clevertec.authservice.entity.User;
+import ru.clevertec.authservice.security.impl.UserDetailsServiceImpl;
+import ru.clevertec.authservice.security.jwt.authentication.JwtAuthenticationToken;
+import ru.clevertec.authservice.security.jwt.impl.JwtProviderImpl;
+import ru.clevertec.authservice.security.jwt.util.KeyUtil;
+import ru.clevertec.authservice.util.entity.UserDetailsTestBuilder;
+import ru.clevertec.authservice.util.entity.UserTestBuilder;
+import ru.clevertec.authservice.util.jwt.JwtTestData;
+import ru.clevertec.exceptionhandlingstarter.exception.InvalidJwtException;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+
+@ExtendWith(MockitoExtension.class)
+class JwtFilterTest {
+
+    @Mock
+    private JwtProviderImpl jwtTokenProvider;
+
+    @Mock
+    private UserDetailsServiceImpl userDetailsService;
+
+    @InjectMocks
+    private JwtFilter jwtFilter;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        SecurityContextHolder.clearContext();
+        KeyUtil.setJwtKeys(JwtTestData.buildJwtKeyProperties());
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void checkDoFilterShouldAuthenticateUserByClaimsOfToken() throws Exception {
+        String validJwt = JwtTestData.buildErikGibsonValidJwt().getAccessToken();
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(AUTHORIZATION, "Bearer " + validJwt);
+        User user = UserTestBuilder.user()
+                .withUsername("erik_gibson")
+                .withPassword("password")
+                .build();
+        UserDetails userDetails = UserDetailsTestBuilder.userDetails()
+                .withUser(user)
+                .build();
+
+        doReturn(false).when(jwtTokenProvider).isTokenExpired(any(Claims.class));
+        doReturn(userDetails).when(userDetailsService).loadUserByUsername("erik_gibson");
+
+        jwtFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        Authentication actualAuthentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(actualAuthentication).isInstanceOf(JwtAuthenticationToken.class);
+        JwtAuthenticationToken actualJwtAuthentication = (JwtAuthenticationToken) actualAuthentication;
+        assertThat(actualJwtAuthentication.getPrincipal()).isEqualTo(userDetails);
+        assertThat(actualJwtAuthentication.getJwt()).isEqualTo(validJwt);
+        assertThat(actualJwtAuthentication.getClaims().getSubject()).isEqualTo("erik_gibson");
+        verify(jwtTokenProvider, never()).isTokenExpired(anyString());
+    }
+
+    @Test
+    void checkDoFilterShouldThrowsInvalidJwtExceptionForExpiredClaims() throws IOException {
+        String validJwt = JwtTestData.buildErikGibsonValidJwt().getAccessToken();
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(AUTHORIZATION, "Bearer " + validJwt);
+
+        doReturn(true).when(jwtTokenProvider).isTokenExpired(any(Claims.class));
+
+        assertThatThrownBy(() -> jwtFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain()))
+                .isInstanceOf(InvalidJwtException.class)
+                .hasMessage("Jwt expired");
+    }
+
+    @Test
+    void checkDoFilterShouldSkipRequestWithoutBearerToken() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+
+        jwtFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verifyNoInteractions(jwtTokenProvider, userDetailsService);
+    }
+}
@@ -1,6 +1,9 @@
 package ru.clevertec.authservice.security.jwt.impl;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -21,6 +24,7 @@ import ru.clevertec.authservice.util.jwt.JwtTestData;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.Date;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -38,15 +42,14 @@ class JwtProviderImplTest {
     private JwtProviderImpl jwtProvider;
 
     @BeforeEach
-    void setUp() {
+    void setUp() throws IOException {
         String username = "erik_gibson";
         List<String> roles = List.of("ADMIN");
         SecurityContextFactory.buildSecurityContext(username, roles);
 
         Long jwtExpirationMillis = 86400000L;
-        String jwtSecretKey = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
         ReflectionTestUtils.setField(jwtProvider, "jwtExpirationMillis", jwtExpirationMillis);
-        ReflectionTestUtils.setField(KeyUtil.class, "jwtSecretKey", jwtSecretKey);
+        KeyUtil.setJwtKeys(JwtTestData.buildJwtKeyProperties());
     }
 
     @Test
@@ -61,6 +64,24 @@ class JwtProviderImplTest {
         assertThat(actualToken).isNotEmpty();
     }
 
+    @Test
+    void checkGenerateTokenShouldSignTokenBySignInKey() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        List<String> authorities = Collections.singletonList("ROLE_ADMIN");
+
+        doReturn(authorities).when(authorityMapper).mapToAuthorities(authentication.getAuthorities());
+
+        String actualToken = jwtProvider.generateToken(authentication);
+
+        JwsHeader<?> actualHeader = Jwts.parserBuilder()
+                .setSigningKey(KeyUtil.getVerificationKey("auth-service-test-2"))
+                .build()
+                .parseClaimsJws(actualToken)
+                .getHeader();
+        assertThat(actualHeader.getKeyId()).isEqualTo("auth-service-test-2");
+        assertThat(actualHeader.getAlgorithm()).isEqualTo("RS256");
+    }
+
     @Test
     void checkIsTokenValidShouldReturnTrue() throws IOException {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
@@ -106,4 +127,39 @@ class JwtProviderImplTest {
         assertThatThrownBy(() -> jwtProvider.isTokenExpired(expiredJwt))
                 .isInstanceOf(ExpiredJwtException.class);
     }
+
+    @Test
+    void checkIsTokenValidShouldReturnTrueForClaimsOfUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        Claims claims = Jwts.claims()
+                .setSubject("erik_gibson")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000));
+
+        boolean actualIsTokenValid = jwtProvider.isTokenValid(claims, authentication);
+
+        assertThat(actualIsTokenValid).isTrue();
+    }
+
+    @Test
+    void checkIsTokenValidShouldReturnFalseForClaimsOfOtherUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        Claims claims = Jwts.claims()
+                .setSubject("thomas_martinez")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000));
+
+        boolean actualIsTokenValid = jwtProvider.isTokenValid(claims, authentication);
+
+        assertThat(actualIsTokenValid).isFalse();
+    }
+
+    @Test
+    void checkIsTokenExpiredShouldReturnTrueForExpiredClaims() {
+        Claims claims = Jwts.claims()
+                .setSubject("erik_gibson")
+                .setExpiration(new Date(System.currentTimeMillis() - 60_000));
+
+        boolean actualIsTokenExpired = jwtProvider.isTokenExpired(claims);
+
+        assertThat(actualIsTokenExpired).isTrue();
+    }
 }
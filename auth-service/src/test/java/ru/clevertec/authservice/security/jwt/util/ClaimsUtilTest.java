@@ -1,12 +1,15 @@
 package ru.clevertec.authservice.security.jwt.util;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import org.springframework.test.util.ReflectionTestUtils;
-
 import ru.clevertec.authservice.util.jwt.JwtTestData;
 
 import java.io.IOException;
@@ -14,13 +17,13 @@ import java.time.Instant;
 import java.util.Date;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class ClaimsUtilTest {
 
     @BeforeEach
-    void setUp() {
-        String jwtSecretKey = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
-        ReflectionTestUtils.setField(KeyUtil.class, "jwtSecretKey", jwtSecretKey);
+    void setUp() throws IOException {
+        KeyUtil.setJwtKeys(JwtTestData.buildJwtKeyProperties());
     }
 
     @Test
@@ -45,11 +48,36 @@ class ClaimsUtilTest {
 
     @Test
     void checkExtractClaimShouldReturnExpiration() throws IOException {
-        Date expectedExpiration = Date.from(Instant.ofEpochSecond(1690939177));
+        Date expectedExpiration = Date.from(Instant.ofEpochSecond(4102444800L));
         String jwt = JwtTestData.buildErikGibsonValidJwt().getAccessToken();
 
         Date actualExpiration = ClaimsUtil.extractClaim(jwt, Claims::getExpiration);
 
         assertThat(actualExpiration).isEqualTo(expectedExpiration);
     }
+
+    @Test
+    void checkExtractAllClaimsShouldThrowsSignatureExceptionForUnknownKeyId() {
+        String jwt = Jwts.builder()
+                .setHeaderParam("kid", "auth-service-test-3")
+                .setSubject("erik_gibson")
+                .signWith(KeyUtil.getSignInKey(), SignatureAlgorithm.RS256)
+                .compact();
+
+        assertThatThrownBy(() -> ClaimsUtil.extractAllClaims(jwt))
+                .isInstanceOf(SignatureException.class);
+    }
+
+    @Test
+    void checkExtractAllClaimsShouldThrowsUnsupportedJwtExceptionForHmacSignature() {
+        String jwt = Jwts.builder()
+                .setHeaderParam("kid", "auth-service-test-2")
+                .setSubject("erik_gibson")
+                .signWith(Keys.secretKeyFor(SignatureAlgorithm.HS256))
+                .compact();
+
+        assertThatThrownBy(() -> ClaimsUtil.extractAllClaims(jwt))
+                .isInstanceOf(UnsupportedJwtException.class)
+                .hasMessage("Jwt algorithm [HS256] is not supported");
+    }
 }
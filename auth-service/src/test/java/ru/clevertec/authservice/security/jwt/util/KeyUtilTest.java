@@ -1,22 +1,69 @@
 package ru.clevertec.authservice.security.jwt.util;
 
+import io.jsonwebtoken.security.SignatureException;
+
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import org.springframework.test.util.ReflectionTestUtils;
+import ru.clevertec.authservice.security.jwt.properties.JwtKeyProperties;
+import ru.clevertec.authservice.util.jwt.JwtTestData;
 
+import java.io.IOException;
 import java.security.Key;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class KeyUtilTest {
 
+    @BeforeEach
+    void setUp() throws IOException {
+        KeyUtil.setJwtKeys(JwtTestData.buildJwtKeyProperties());
+    }
+
     @Test
     void checkGetSignInKeyShouldReturnSignInKey() {
-        String jwtSecretKey = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
-        ReflectionTestUtils.setField(KeyUtil.class, "jwtSecretKey", jwtSecretKey);
+        Key actualSignInKey = KeyUtil.getSignInKey();
+
+        assertThat(actualSignInKey.getAlgorithm()).isEqualTo("RSA");
+    }
+
+    @Test
+    void checkGetSignInKeyShouldReturnSameKey() {
+        Key expectedSignInKey = KeyUtil.getSignInKey();
 
         Key actualSignInKey = KeyUtil.getSignInKey();
 
-        assertThat(actualSignInKey).isNotNull();
+        assertThat(actualSignInKey).isSameAs(expectedSignInKey);
+    }
+
+    @Test
+    void checkGetSignInKeyIdShouldReturnSigningKeyId() {
+        String actualSignInKeyId = KeyUtil.getSignInKeyId();
+
+        assertThat(actualSignInKeyId).isEqualTo("auth-service-test-2");
+    }
+
+    @Test
+    void checkGetVerificationKeysShouldReturnAllKeys() {
+        assertThat(KeyUtil.getVerificationKeys())
+                .containsOnlyKeys("auth-service-test-1", "auth-service-test-2");
+    }
+
+    @Test
+    void checkGetVerificationKeyShouldThrowsSignatureExceptionForUnknownKeyId() {
+        assertThatThrownBy(() -> KeyUtil.getVerificationKey("auth-service-test-3"))
+                .isInstanceOf(SignatureException.class)
+                .hasMessage("Jwt key id [auth-service-test-3] is unknown");
+    }
+
+    @Test
+    void checkSetJwtKeysShouldThrowsIllegalStateExceptionIfSigningKeyHasNoPrivateKey() throws IOException {
+        JwtKeyProperties jwtKeyProperties = JwtTestData.buildJwtKeyProperties();
+        jwtKeyProperties.setSigningKeyId("auth-service-test-1");
+
+        assertThatThrownBy(() -> KeyUtil.setJwtKeys(jwtKeyProperties))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Jwt signing key [auth-service-test-1] has no private key");
     }
 }
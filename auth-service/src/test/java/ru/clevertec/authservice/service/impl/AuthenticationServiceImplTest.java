@@ -1,5 +1,8 @@
 package ru.clevertec.authservice.service.impl;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -13,6 +16,7 @@ import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.TestingAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
 
 import ru.clevertec.authservice.dto.request.LogInRequest;
 import ru.clevertec.authservice.dto.request.SignUpRequest;
@@ -22,7 +26,9 @@ import ru.clevertec.authservice.entity.User;
 import ru.clevertec.authservice.mapper.AuthorityMapper;
 import ru.clevertec.authservice.mapper.UserMapper;
 import ru.clevertec.authservice.repository.UserRepository;
+import ru.clevertec.authservice.security.jwt.authentication.JwtAuthenticationToken;
 import ru.clevertec.authservice.security.jwt.impl.JwtProviderImpl;
+import ru.clevertec.authservice.util.entity.UserDetailsTestBuilder;
 import ru.clevertec.authservice.util.entity.UserTestBuilder;
 import ru.clevertec.authservice.util.factory.SecurityContextFactory;
 import ru.clevertec.authservice.util.jwt.JwtTestData;
@@ -40,7 +46,11 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class AuthenticationServiceImplTest {
@@ -171,6 +181,34 @@ class AuthenticationServiceImplTest {
             assertThat(actualUserResponse).isEqualTo(expectedUserResponse);
         }
 
+        @Test
+        void checkValidateTokenShouldReuseClaimsOfJwtAuthentication() throws IOException {
+            String validJwt = JwtTestData.buildErikGibsonValidJwt().getAccessToken();
+            String authorizationHeader = "Bearer %s".formatted(validJwt);
+            Claims claims = Jwts.claims().setSubject("erik_gibson");
+            User user = UserTestBuilder.user()
+                    .withUsername("erik_gibson")
+                    .build();
+            UserDetails userDetails = UserDetailsTestBuilder.userDetails()
+                    .withUser(user)
+                    .build();
+            Authentication authentication = new JwtAuthenticationToken(userDetails, validJwt, claims);
+            SecurityContextHolder.getContext().setAuthentication(authentication);
+            List<String> authorities = List.of("ROLE_SUBSCRIBER");
+            UserResponse expectedUserResponse = UserResponseTestBuilder.userResponse()
+                    .withUsername("erik_gibson")
+                    .withAuthorities(authorities)
+                    .build();
+
+            doReturn(true).when(jwtTokenProvider).isTokenValid(claims, authentication);
+            doReturn(authorities).when(authorityMapper).mapToAuthorities(authentication.getAuthorities());
+
+            UserResponse actualUserResponse = authenticationService.validateToken(authorizationHeader);
+
+            assertThat(actualUserResponse).isEqualTo(expectedUserResponse);
+            verify(jwtTokenProvider, never()).isTokenValid(anyString(), any());
+        }
+
         @Test
         void checkValidateTokenShouldThrowsInvalidJwtException() throws IOException {
             String expiredJwt = JwtTestData.buildErikGibsonExpiredJwt().getAccessToken();
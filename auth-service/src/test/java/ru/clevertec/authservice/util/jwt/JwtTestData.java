@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 
 import ru.clevertec.authservice.dto.response.JwtResponse;
+import ru.clevertec.authservice.security.jwt.properties.JwtKeyProperties;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -28,6 +29,11 @@ public class JwtTestData {
         return objectMapper.readValue(json, JwtResponse.class);
     }
 
+    public static JwtKeyProperties buildJwtKeyProperties() throws IOException {
+        InputStream json = load("__files/jwt_keys.json");
+        return objectMapper.readValue(json, JwtKeyProperties.class);
+    }
+
     private static InputStream load(String fileName) {
         return ClassLoader.getSystemResourceAsStream(fileName);
     }
@@ -0,0 +1,8 @@
+package ru.clevertec.exceptionhandlingstarter.exception;
+
+public class InvalidBatchException extends RuntimeException {
+
+    public InvalidBatchException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package ru.clevertec.exceptionhandlingstarter.exception;
+
+public class InvalidCursorException extends RuntimeException {
+
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
@@ -9,6 +9,8 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import ru.clevertec.exceptionhandlingstarter.dto.ErrorResponse;
 import ru.clevertec.exceptionhandlingstarter.exception.CommentNotFoundException;
+import ru.clevertec.exceptionhandlingstarter.exception.InvalidBatchException;
+import ru.clevertec.exceptionhandlingstarter.exception.InvalidCursorException;
 import ru.clevertec.exceptionhandlingstarter.exception.InvalidJwtException;
 import ru.clevertec.exceptionhandlingstarter.exception.JwtNotFoundException;
 import ru.clevertec.exceptionhandlingstarter.exception.NewsNotFoundException;
@@ -43,6 +45,36 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(BAD_REQUEST).body(errorResponse);
     }
 
+    /**
+     * Handles an exception to type {@link InvalidCursorException} and returns the response with HTTP status
+     * 400 (BAD_REQUEST)
+     *
+     * @param request   - object of type {@link HttpServletRequest} containing information about the HTTP request
+     * @param exception - object of type {@link InvalidCursorException} containing information about
+     *                  an exception that occurred when decoding the continuation token of a listing
+     * @return object of type {@link ResponseEntity<ErrorResponse>} containing information about the error
+     */
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidCursor(HttpServletRequest request, InvalidCursorException exception) {
+        ErrorResponse errorResponse = ErrorResponseUtil.buildCommonErrorResponse(request, exception, BAD_REQUEST);
+        return ResponseEntity.status(BAD_REQUEST).body(errorResponse);
+    }
+
+    /**
+     * Handles an exception to type {@link InvalidBatchException} and returns the response with HTTP status
+     * 400 (BAD_REQUEST)
+     *
+     * @param request   - object of type {@link HttpServletRequest} containing information about the HTTP request
+     * @param exception - object of type {@link InvalidBatchException} containing information about
+     *                  an exception that occurred when a batch of items is empty or too large as a whole
+     * @return object of type {@link ResponseEntity<ErrorResponse>} containing information about the error
+     */
+    @ExceptionHandler(InvalidBatchException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidBatch(HttpServletRequest request, InvalidBatchException exception) {
+        ErrorResponse errorResponse = ErrorResponseUtil.buildCommonErrorResponse(request, exception, BAD_REQUEST);
+        return ResponseEntity.status(BAD_REQUEST).body(errorResponse);
+    }
+
     /**
      * Handles an exception to type {@link InvalidJwtException} and {@link JwtNotFoundException} and returns
      * the response with HTTP status 401 (UNAUTHORIZED)
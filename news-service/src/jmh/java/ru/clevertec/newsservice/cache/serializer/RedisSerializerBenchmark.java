@@ -0,0 +1,120 @@
+package ru.clevertec.newsservice.cache.serializer;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import ru.clevertec.newsservice.dto.response.comment.CommentResponse;
+import ru.clevertec.newsservice.dto.response.news.CommentNewsResponse;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares encode and decode time and payload size of the cached news with its comments in the JDK
+ * serialization, the binary format and the binary format compressed by LZ4. Run with ./gradlew jmh,
+ * the payload size is reported as the secondary result payloadSize:bytes
+ *
+ * @author Ruslan Kantsevich
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class RedisSerializerBenchmark {
+
+    @Param({"JDK", "BINARY", "BINARY_LZ4"})
+    private String format;
+
+    @Param({"0", "10", "100", "1000"})
+    private int commentCount;
+
+    private RedisSerializer<Object> serializer;
+    private CommentNewsResponse news;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() {
+        serializer = switch (format) {
+            case "JDK" -> RedisSerializer.java();
+            case "BINARY" -> new BinaryRedisSerializer();
+            case "BINARY_LZ4" -> new BinaryRedisSerializer(1024);
+            default -> throw new IllegalArgumentException(format);
+        };
+        news = createNews(commentCount);
+        payload = serializer.serialize(news);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(news);
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return serializer.deserialize(payload);
+    }
+
+    /**
+     * Serializes the news once to report its payload size. The counters of the events are summed over the
+     * iterations, so the size is measured by a single shot
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    public byte[] payloadSize(PayloadSize payloadSize) {
+        byte[] bytes = serializer.serialize(news);
+        payloadSize.bytes = bytes.length;
+
+        return bytes;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PayloadSize {
+
+        public long bytes;
+
+    }
+
+    private static CommentNewsResponse createNews(int commentCount) {
+        Random random = new Random(42);
+        LocalDateTime time = LocalDateTime.of(2023, 5, 28, 12, 0);
+        List<CommentResponse> comments = new ArrayList<>(commentCount);
+
+        for (long id = 1; id <= commentCount; id++) {
+            comments.add(CommentResponse.builder()
+                    .id(id)
+                    .text("Comment " + random.nextLong() + " to the news about the weather")
+                    .time(time.plusSeconds(random.nextInt(86_400)))
+                    .username("user" + random.nextInt(1_000))
+                    .build());
+        }
+
+        return CommentNewsResponse.builder()
+                .id(1L)
+                .title("Weather forecast for the week")
+                .text("Sunny days are expected in the first half of the week, rain is likely on the weekend")
+                .time(time)
+                .username("journalist")
+                .comments(comments)
+                .build();
+    }
+}
@@ -3,8 +3,14 @@ package ru.clevertec.newsservice;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
+import ru.clevertec.newsservice.repository.support.SliceJpaRepository;
+
+@EnableScheduling
 @EnableFeignClients
+@EnableJpaRepositories(repositoryBaseClass = SliceJpaRepository.class)
 @SpringBootApplication
 public class NewsServiceApplication {
 
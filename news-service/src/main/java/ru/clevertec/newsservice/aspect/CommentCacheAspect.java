@@ -7,12 +7,11 @@ import org.aspectj.lang.annotation.Aspect;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.stereotype.Component;
 
-import ru.clevertec.newsservice.cache.Cache;
 import ru.clevertec.newsservice.cache.factory.CacheFactory;
+import ru.clevertec.newsservice.cache.impl.TaggedCache;
+import ru.clevertec.newsservice.cache.weigher.NewsCommentResponseWeigher;
 import ru.clevertec.newsservice.dto.response.comment.NewsCommentResponse;
 
-import java.util.Optional;
-
 /**
  * Aspect class for comments caching
  *
@@ -23,15 +22,17 @@ import java.util.Optional;
 @ConditionalOnBean(CacheFactory.class)
 public class CommentCacheAspect {
 
-    private final Cache<Long, NewsCommentResponse> commentCache;
+    private final TaggedCache<Long, NewsCommentResponse, Long> commentCache;
 
     public CommentCacheAspect(CacheFactory cacheFactory) {
-        this.commentCache = cacheFactory.createCache();
+        this.commentCache = cacheFactory.createTaggedCache("comments", new NewsCommentResponseWeigher(),
+                (id, comment) -> comment.getNews() == null ? null : comment.getNews().getId());
     }
 
     /**
      * Caches the comment when getting it by id. If the comment is not in the cache then it is taken
-     * from the database and added to the cache. Otherwise, it is taken from the cache
+     * from the database and added to the cache. Otherwise, it is taken from the cache. Concurrent
+     * requests of the same missing comment wait for a single database query
      *
      * @param joinPoint object of type {@link ProceedingJoinPoint} exposes findById method in order to support around advice
      * @return object of type {@link NewsCommentResponse} which is a cached comment
@@ -39,16 +40,8 @@ public class CommentCacheAspect {
     @Around("execution(* ru.clevertec.newsservice.service.CommentService.findById*(..))")
     public NewsCommentResponse aroundFindById(ProceedingJoinPoint joinPoint) throws Throwable {
         Long id = (Long) joinPoint.getArgs()[0];
-        Optional<NewsCommentResponse> cachedComment = commentCache.get(id);
-
-        if (cachedComment.isEmpty()) {
-            NewsCommentResponse comment = (NewsCommentResponse) joinPoint.proceed();
-            commentCache.put(id, comment);
-
-            return comment;
-        }
 
-        return cachedComment.get();
+        return commentCache.get(id, key -> (NewsCommentResponse) joinPoint.proceed());
     }
 
     /**
@@ -99,4 +92,22 @@ public class CommentCacheAspect {
 
         return object;
     }
+
+    /**
+     * Removes the comments of the news when deleting the news by id, since its comments are deleted together
+     * with it. The comments are tagged by the news id, so all of them are removed in one operation without
+     * scanning the cache
+     *
+     * @param joinPoint object of type {@link ProceedingJoinPoint} exposes deleteById method of the news service in order to support around advice
+     * @return object result of execution of the delete method
+     * */
+    @Around("execution(* ru.clevertec.newsservice.service.NewsService.deleteById(..))")
+    public Object aroundDeleteNewsById(ProceedingJoinPoint joinPoint) throws Throwable {
+        Long newsId = (Long) joinPoint.getArgs()[0];
+
+        Object object = joinPoint.proceed();
+        commentCache.invalidateTag(newsId);
+
+        return object;
+    }
 }
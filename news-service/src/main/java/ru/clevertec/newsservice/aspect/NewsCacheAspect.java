@@ -4,85 +4,194 @@ import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.stereotype.Component;
 
+import ru.clevertec.exceptionhandlingstarter.exception.NewsNotFoundException;
 import ru.clevertec.newsservice.cache.Cache;
 import ru.clevertec.newsservice.cache.factory.CacheFactory;
+import ru.clevertec.newsservice.cache.impl.TaggedCache;
+import ru.clevertec.newsservice.cache.key.CommentSegmentKey;
+import ru.clevertec.newsservice.cache.tiered.CacheInvalidationPublisher;
+import ru.clevertec.newsservice.cache.tiered.TwoTierCacheManager;
+import ru.clevertec.newsservice.cache.weigher.CommentSegmentWeigher;
+import ru.clevertec.newsservice.cache.weigher.NewsResponseWeigher;
+import ru.clevertec.newsservice.dto.response.batch.BatchItemResponse;
+import ru.clevertec.newsservice.dto.response.batch.BatchResponse;
+import ru.clevertec.newsservice.dto.response.comment.CommentResponse;
 import ru.clevertec.newsservice.dto.response.news.CommentNewsResponse;
+import ru.clevertec.newsservice.dto.response.news.NewsResponse;
 
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 /**
- * Aspect class for news caching
+ * Aspect class for news caching. The news body and the segment of its first comments are cached separately
+ * and assembled into {@link CommentNewsResponse} on read, so a comment change evicts the segment only when
+ * the comment is inside it. The ids of the missing news are cached by every instance, so with the two-tier cache
+ * a saved news is forgotten as missing by the other instances through its invalidation messages
  *
  * @author Ruslan Kantsevich
  * */
 @Aspect
 @Component
 @ConditionalOnBean(CacheFactory.class)
-public class NewsCacheAspect {
-
-    private final Cache<Long, CommentNewsResponse> newsCache;
+public class NewsCacheAspect implements SmartInitializingSingleton {
+
+    private static final String NOT_FOUND_NEWS_CACHE_NAME = "news-not-found";
+
+    private final Cache<Long, NewsResponse> newsCache;
+    private final TaggedCache<CommentSegmentKey, List<CommentResponse>, Long> commentSegmentCache;
+    private final Cache<Long, String> notFoundNewsCache;
+    private final ObjectProvider<TwoTierCacheManager> twoTierCacheManagerProvider;
+    private volatile CacheInvalidationPublisher notFoundNewsPublisher;
+
+    public NewsCacheAspect(CacheFactory cacheFactory, ObjectProvider<TwoTierCacheManager> twoTierCacheManagerProvider) {
+        this.newsCache = cacheFactory.createCache("news", new NewsResponseWeigher());
+        this.commentSegmentCache = cacheFactory.createTaggedCache("news-comment-segments", new CommentSegmentWeigher(),
+                (key, segment) -> key.newsId());
+        this.notFoundNewsCache = cacheFactory.createNegativeCache(NOT_FOUND_NEWS_CACHE_NAME);
+        this.twoTierCacheManagerProvider = twoTierCacheManagerProvider;
+        this.notFoundNewsPublisher = CacheInvalidationPublisher.none();
+    }
 
-    public NewsCacheAspect(CacheFactory cacheFactory) {
-        this.newsCache = cacheFactory.createCache();
+    /**
+     * Registers the cache of the missing news in the two-tier cache manager if it is configured. The manager is
+     * looked up after all singletons are created, since the aspect is created before the beans it advises
+     * */
+    @Override
+    public void afterSingletonsInstantiated() {
+        twoTierCacheManagerProvider.ifAvailable(cacheManager -> notFoundNewsPublisher =
+                cacheManager.registerLocalCache(NOT_FOUND_NEWS_CACHE_NAME, notFoundNewsCache));
     }
 
     /**
-     * Caches the news when getting it by id. If the news is not in the cache then it is taken
-     * from the database and added to the cache. Otherwise, it is taken from the cache
+     * Caches the news body when getting it by id. If the news is not in the cache then it is taken
+     * from the database and added to the cache. Otherwise, it is taken from the cache. Concurrent
+     * requests of the same missing news wait for a single database query. If the news is not found,
+     * its id is remembered for a short time, and repeated requests fail with {@link NewsNotFoundException}
+     * without querying the database
      *
-     * @param joinPoint object of type {@link ProceedingJoinPoint} exposes findById method in order to support around advice
-     * @return object of type {@link CommentNewsResponse} which is a cached news
+     * @param joinPoint object of type {@link ProceedingJoinPoint} exposes findNewsById method in order to support around advice
+     * @return object of type {@link NewsResponse} which is a cached news body
      * */
-    @Around("execution(* ru.clevertec.newsservice.service.NewsService.findById(..))")
-    public CommentNewsResponse aroundFindById(ProceedingJoinPoint joinPoint) throws Throwable {
+    @Around("execution(* ru.clevertec.newsservice.service.CommentNewsReadModel.findNewsById(..))")
+    public NewsResponse aroundFindNewsById(ProceedingJoinPoint joinPoint) throws Throwable {
         Long id = (Long) joinPoint.getArgs()[0];
-        Optional<CommentNewsResponse> cachedNews = newsCache.get(id);
-
-        if (cachedNews.isEmpty()) {
-            CommentNewsResponse news = (CommentNewsResponse) joinPoint.proceed();
-            newsCache.put(id, news);
+        Optional<String> notFoundMessage = notFoundNewsCache.get(id);
 
-            return news;
+        if (notFoundMessage.isPresent()) {
+            throw new NewsNotFoundException(notFoundMessage.get());
         }
 
-        return cachedNews.get();
+        return newsCache.get(id, key -> {
+            try {
+                return (NewsResponse) joinPoint.proceed();
+            } catch (NewsNotFoundException e) {
+                notFoundNewsCache.put(key, e.getMessage());
+                throw e;
+            }
+        });
+    }
+
+    /**
+     * Caches the segment of the first news comments by the news id
+     *
+     * @param joinPoint object of type {@link ProceedingJoinPoint} exposes findCommentSegment method in order to support around advice
+     * @return list objects of type {@link CommentResponse} which is a cached comment segment
+     * */
+    @Around("execution(* ru.clevertec.newsservice.service.CommentNewsReadModel.findCommentSegment(..))")
+    @SuppressWarnings("unchecked")
+    public List<CommentResponse> aroundFindCommentSegment(ProceedingJoinPoint joinPoint) throws Throwable {
+        CommentSegmentKey segmentKey = new CommentSegmentKey((Long) joinPoint.getArgs()[0]);
+
+        return commentSegmentCache.get(segmentKey, key -> (List<CommentResponse>) joinPoint.proceed());
     }
 
     /**
-     * Caches the news when saving it. First a news insert to database and then in cache
+     * Evicts the segment of the first news comments changed by a comment
+     *
+     * @param joinPoint object of type {@link ProceedingJoinPoint} exposes evictCommentSegment method in order to support around advice
+     * @return object result of execution of the evict method
+     * */
+    @Around("execution(* ru.clevertec.newsservice.service.CommentNewsReadModel.evictCommentSegment(..))")
+    public Object aroundEvictCommentSegment(ProceedingJoinPoint joinPoint) throws Throwable {
+        Object object = joinPoint.proceed();
+        commentSegmentCache.remove(new CommentSegmentKey((Long) joinPoint.getArgs()[0]));
+
+        return object;
+    }
+
+    /**
+     * Evicts the news body
+     *
+     * @param joinPoint object of type {@link ProceedingJoinPoint} exposes evictNews method in order to support around advice
+     * @return object result of execution of the evict method
+     * */
+    @Around("execution(* ru.clevertec.newsservice.service.CommentNewsReadModel.evictNews(..))")
+    public Object aroundEvictNews(ProceedingJoinPoint joinPoint) throws Throwable {
+        Object object = joinPoint.proceed();
+        newsCache.remove((Long) joinPoint.getArgs()[0]);
+
+        return object;
+    }
+
+    /**
+     * Forgets the id of the saved news as not found by this and the other instances. The news body is cached
+     * on the first read
      *
      * @param joinPoint object of type {@link ProceedingJoinPoint} exposes save method in order to support around advice
-     * @return object of type {@link CommentNewsResponse} which is a cached news
+     * @return object of type {@link CommentNewsResponse} which is a saved news
      * */
     @Around("execution(* ru.clevertec.newsservice.service.NewsService.save(..))")
     public CommentNewsResponse aroundSave(ProceedingJoinPoint joinPoint) throws Throwable {
         CommentNewsResponse news = (CommentNewsResponse) joinPoint.proceed();
-        newsCache.put(news.getId(), news);
+        forgetNotFoundNews(news.getId());
 
         return news;
     }
 
     /**
-     * Caches the news when updating it. First a news updating in database and then in cache
+     * Forgets the ids of the news saved by a batch as not found by this and the other instances
+     *
+     * @param joinPoint object of type {@link ProceedingJoinPoint} exposes saveAll method in order to support around advice
+     * @return object of type {@link BatchResponse} which is the result of the batch
+     * */
+    @Around("execution(* ru.clevertec.newsservice.service.NewsService.saveAll(..))")
+    @SuppressWarnings("unchecked")
+    public BatchResponse<CommentNewsResponse> aroundSaveAll(ProceedingJoinPoint joinPoint) throws Throwable {
+        BatchResponse<CommentNewsResponse> batch = (BatchResponse<CommentNewsResponse>) joinPoint.proceed();
+        batch.getItems().stream()
+                .map(BatchItemResponse::getResult)
+                .filter(Objects::nonNull)
+                .forEach(news -> forgetNotFoundNews(news.getId()));
+
+        return batch;
+    }
+
+    /**
+     * Evicts the news body when updating it. First a news updating in database and then evicting from cache,
+     * the updated body is cached on the next read
      *
      * @param joinPoint object of type {@link ProceedingJoinPoint} exposes update method in order to support around advice
-     * @return object of type {@link CommentNewsResponse} which is a cached news
+     * @return object of type {@link CommentNewsResponse} which is an updated news
      * */
     @Around("execution(* ru.clevertec.newsservice.service.NewsService.update*(..))")
     public CommentNewsResponse aroundUpdate(ProceedingJoinPoint joinPoint) throws Throwable {
         Long id = (Long) joinPoint.getArgs()[0];
 
         CommentNewsResponse news = (CommentNewsResponse) joinPoint.proceed();
-        newsCache.put(id, news);
+        newsCache.remove(id);
 
         return news;
     }
 
     /**
-     * Caches the news when deleting it by id. First a news deleting in database and then in cache if it's there
+     * Caches the news when deleting it by id. First a news deleting in database and then in cache if it's there.
+     * The comment segment of the news is tagged by its id and removed together with it
      *
      * @param joinPoint object of type {@link ProceedingJoinPoint} exposes deleteById method in order to support around advice
      * @return object result of execution of the delete method
@@ -97,6 +206,13 @@ public class NewsCacheAspect {
             newsCache.remove(id);
         }
 
+        commentSegmentCache.invalidateTag(id);
+
         return object;
     }
+
+    private void forgetNotFoundNews(Long id) {
+        notFoundNewsCache.remove(id);
+        notFoundNewsPublisher.publish(NOT_FOUND_NEWS_CACHE_NAME, id);
+    }
 }
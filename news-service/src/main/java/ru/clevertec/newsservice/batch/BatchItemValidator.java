@@ -0,0 +1,66 @@
+package ru.clevertec.newsservice.batch;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import ru.clevertec.exceptionhandlingstarter.exception.InvalidBatchException;
+
+import java.util.List;
+
+/**
+ * Class for validating the items of a batch one by one, so an invalid item is reported in its own result instead
+ * of rejecting the whole batch. Only the batch as a whole is rejected, if it is empty or larger than batch.max-size
+ *
+ * @author Ruslan Kantsevich
+ */
+@Component
+public class BatchItemValidator {
+
+    private final Validator validator;
+    private final int maxSize;
+
+    public BatchItemValidator(Validator validator, @Value("${batch.max-size:1000}") int maxSize) {
+        this.validator = validator;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Checks the size of the batch
+     *
+     * @param items items of the batch
+     * @throws InvalidBatchException if the batch is null, empty or larger than the maximum size
+     */
+    public void checkSize(List<?> items) {
+        if (items == null || items.isEmpty()) {
+            throw new InvalidBatchException("Batch cannot be empty");
+        }
+
+        if (items.size() > maxSize) {
+            throw new InvalidBatchException("Batch size must not exceed %d items".formatted(maxSize));
+        }
+    }
+
+    /**
+     * Validates the item by its constraints
+     *
+     * @param item item of the batch
+     * @return sorted messages of the violated constraints, or empty list if the item is valid
+     */
+    public List<String> validate(Object item) {
+        if (item == null) {
+            return List.of("Batch item cannot be empty");
+        }
+
+        return validator.validate(item).stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .toList();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+}
@@ -19,4 +19,26 @@ public interface Cache<K, V> {
     int size();
     void clear();
 
+    /**
+     * Returns the value associated with the key. If there is no mapping for the key, the value is
+     * loaded by the loader and put in the cache
+     *
+     * @param key    the key whose mapping is to be retrieved from the cache
+     * @param loader loader of type {@link CacheLoader} computing the value on a miss
+     * @return the value associated with key
+     * @throws Throwable if the loader failed, in which case nothing is put in the cache
+     */
+    default V get(K key, CacheLoader<? super K, ? extends V> loader) throws Throwable {
+        Optional<V> cachedValue = get(key);
+
+        if (cachedValue.isPresent()) {
+            return cachedValue.get();
+        }
+
+        V value = loader.load(key);
+        put(key, value);
+
+        return value;
+    }
+
 }
@@ -0,0 +1,15 @@
+package ru.clevertec.newsservice.cache;
+
+/**
+ * Computes the value of a key missing in the {@link Cache}
+ *
+ * @param <K> the type of keys maintained by the cache
+ * @param <V> the type of mapped values
+ * @author Ruslan Kantsevich
+ */
+@FunctionalInterface
+public interface CacheLoader<K, V> {
+
+    V load(K key) throws Throwable;
+
+}
@@ -0,0 +1,25 @@
+package ru.clevertec.newsservice.cache;
+
+/**
+ * The reason why a key-value mapping was evicted from the cache by the cache itself
+ *
+ * @author Ruslan Kantsevich
+ */
+public enum EvictionCause {
+
+    /**
+     * The number of mappings exceeded the capacity of the cache
+     */
+    SIZE,
+
+    /**
+     * The total weight of mappings exceeded the maximum weight of the cache
+     */
+    WEIGHT,
+
+    /**
+     * The time-to-live of the mapping has elapsed
+     */
+    EXPIRED
+
+}
@@ -0,0 +1,23 @@
+package ru.clevertec.newsservice.cache;
+
+/**
+ * Listener notified when a key-value mapping is evicted from the {@link Cache} by its eviction policy.
+ * Explicit removals and clearing of the cache are not reported. The listener is called by the thread
+ * performing the operation that caused the eviction, while the cache may hold its lock, so it should
+ * be fast and must not call the cache
+ *
+ * @param <K> the type of keys maintained by the cache
+ * @param <V> the type of mapped values
+ * @author Ruslan Kantsevich
+ */
+@FunctionalInterface
+public interface EvictionListener<K, V> {
+
+    void onEviction(K key, V value, EvictionCause cause);
+
+    static <K, V> EvictionListener<K, V> none() {
+        return (key, value, cause) -> {
+        };
+    }
+
+}
@@ -0,0 +1,30 @@
+package ru.clevertec.newsservice.cache;
+
+import java.time.Duration;
+
+/**
+ * Calculates the time-to-live of a key-value mapping, so that every mapping may expire after its own
+ * duration since it was put in the cache
+ *
+ * @param <K> the type of keys maintained by the cache
+ * @param <V> the type of mapped values
+ * @author Ruslan Kantsevich
+ */
+@FunctionalInterface
+public interface Expiry<K, V> {
+
+    /**
+     * Returns the duration after which the mapping expires. A zero or negative duration means that the
+     * mapping has already expired
+     *
+     * @param key   the key of the mapping
+     * @param value the value of the mapping
+     * @return object of type {@link Duration} which is the time-to-live of the mapping
+     */
+    Duration expireAfterWrite(K key, V value);
+
+    static <K, V> Expiry<K, V> fixed(Duration timeToLive) {
+        return (key, value) -> timeToLive;
+    }
+
+}
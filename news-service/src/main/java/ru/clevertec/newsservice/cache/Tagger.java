@@ -0,0 +1,24 @@
+package ru.clevertec.newsservice.cache;
+
+/**
+ * Calculates the tag of a key-value mapping, which groups the mappings invalidated together, such as the
+ * comments of the same news
+ *
+ * @param <K> the type of keys maintained by the cache
+ * @param <V> the type of mapped values
+ * @param <T> the type of tags
+ * @author Ruslan Kantsevich
+ */
+@FunctionalInterface
+public interface Tagger<K, V, T> {
+
+    /**
+     * Returns the tag of the mapping. The tag is calculated when the mapping is put in the cache
+     *
+     * @param key   the key of the mapping
+     * @param value the value of the mapping
+     * @return the tag of the mapping, or null if the mapping is not tagged
+     */
+    T tag(K key, V value);
+
+}
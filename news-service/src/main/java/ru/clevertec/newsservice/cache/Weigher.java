@@ -0,0 +1,28 @@
+package ru.clevertec.newsservice.cache;
+
+/**
+ * Calculates the weight of a key-value mapping, which is used to bound the total weight of the cache
+ * instead of the number of its mappings
+ *
+ * @param <K> the type of keys maintained by the cache
+ * @param <V> the type of mapped values
+ * @author Ruslan Kantsevich
+ */
+@FunctionalInterface
+public interface Weigher<K, V> {
+
+    /**
+     * Returns the weight of the mapping. The weight is calculated once, when the mapping is put
+     * in the cache
+     *
+     * @param key   the key of the mapping
+     * @param value the value of the mapping
+     * @return non-negative weight of the mapping
+     */
+    int weigh(K key, V value);
+
+    static <K, V> Weigher<K, V> singleton() {
+        return (key, value) -> 1;
+    }
+
+}
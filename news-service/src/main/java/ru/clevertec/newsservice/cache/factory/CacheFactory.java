@@ -1,13 +1,38 @@
 package ru.clevertec.newsservice.cache.factory;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
 
 import ru.clevertec.exceptionhandlingstarter.exception.CacheNotDefinedException;
 import ru.clevertec.newsservice.cache.Cache;
+import ru.clevertec.newsservice.cache.EvictionListener;
+import ru.clevertec.newsservice.cache.Expiry;
+import ru.clevertec.newsservice.cache.Tagger;
+import ru.clevertec.newsservice.cache.Weigher;
+import ru.clevertec.newsservice.cache.impl.BoundedCache;
+import ru.clevertec.newsservice.cache.impl.ConcurrentLRUCache;
 import ru.clevertec.newsservice.cache.impl.LFUCache;
 import ru.clevertec.newsservice.cache.impl.LRUCache;
+import ru.clevertec.newsservice.cache.impl.LinkedLFUCache;
+import ru.clevertec.newsservice.cache.impl.SingleFlightCache;
+import ru.clevertec.newsservice.cache.impl.StatsCache;
+import ru.clevertec.newsservice.cache.impl.TaggedCache;
+import ru.clevertec.newsservice.cache.impl.TinyLFUCache;
+import ru.clevertec.newsservice.cache.metrics.CacheMetricsBinder;
+import ru.clevertec.newsservice.cache.metrics.MicrometerStatsCounter;
+import ru.clevertec.newsservice.cache.stats.ConcurrentStatsCounter;
+import ru.clevertec.newsservice.cache.stats.StatsCounter;
+
+import java.time.Duration;
+import java.util.function.Function;
 
 /**
  * Class for creating a cache based on properties in application.yml
@@ -15,27 +40,183 @@ import ru.clevertec.newsservice.cache.impl.LRUCache;
  * @author Ruslan Kantsevich
  * */
 @Component
+@RequiredArgsConstructor
 @ConditionalOnProperty(
         prefix = "cache",
         name = { "algorithm", "capacity" }
 )
 public class CacheFactory {
 
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+
     @Value("${cache.algorithm}")
     private String algorithm;
 
     @Value("${cache.capacity}")
     private int capacity;
 
+    @Value("${cache.concurrency-level:" + ConcurrentLRUCache.DEFAULT_CONCURRENCY_LEVEL + "}")
+    private int concurrencyLevel;
+
+    @Value("${cache.ttl:0s}")
+    private Duration ttl;
+
+    @Value("${cache.max-weight:0B}")
+    private DataSize maxWeight;
+
+    @Value("${cache.negative.capacity:1000}")
+    private int negativeCapacity;
+
+    @Value("${cache.negative.ttl:30s}")
+    private Duration negativeTtl;
+
     /**
-     * Creates LRU or LFU cache depending on properties in application.yml
+     * Creates LRU, LFU, constant time LFU, thread-safe lock-striped LRU or W-TinyLFU cache depending on properties
+     * in application.yml. If cache.ttl or cache.max-weight is set, the cache is decorated with {@link BoundedCache},
+     * which expires the mappings after the time-to-live and keeps their total weight within the maximum weight.
+     * Concurrent loads of the same key are coalesced by {@link SingleFlightCache}. The cache records its statistics,
+     * which are published as cache.* meters tagged by the cache name and the algorithm if a {@link MeterRegistry}
+     * is available
      *
+     * @param name    name of the cache used as the cache tag of its meters
+     * @param weigher weigher of type {@link Weigher} estimating the size of mappings in bytes
      * @return cache with type {@link K} key and type {@link V} value
      * */
-    public <K, V> Cache<K, V> createCache() {
+    public <K, V> Cache<K, V> createCache(String name, Weigher<K, V> weigher) {
+        return createCache(name, weigher, ttl);
+    }
+
+    /**
+     * Creates the cache as {@link #createCache(String, Weigher)} does, but with its own time-to-live instead
+     * of cache.ttl
+     *
+     * @param name    name of the cache used as the cache tag of its meters
+     * @param weigher weigher of type {@link Weigher} estimating the size of mappings in bytes
+     * @param ttl     time-to-live of the mappings, zero if the mappings do not expire
+     * @return cache with type {@link K} key and type {@link V} value
+     * */
+    public <K, V> Cache<K, V> createCache(String name, Weigher<K, V> weigher, Duration ttl) {
+        return createCache(name, weigher, ttl, EvictionListener.none());
+    }
+
+    /**
+     * Creates the cache as {@link #createCache(String, Weigher)} does, decorated with {@link TaggedCache}, which
+     * removes all mappings with the same tag in a single operation
+     *
+     * @param name    name of the cache used as the cache tag of its meters
+     * @param weigher weigher of type {@link Weigher} estimating the size of mappings in bytes
+     * @param tagger  tagger of type {@link Tagger} grouping the mappings invalidated together
+     * @return tagged cache with type {@link K} key, type {@link V} value and type {@link T} tag
+     * */
+    public <K, V, T> TaggedCache<K, V, T> createTaggedCache(String name, Weigher<K, V> weigher, Tagger<K, V, T> tagger) {
+        return createTaggedCache(name, weigher, ttl, tagger);
+    }
+
+    /**
+     * Creates the tagged cache as {@link #createTaggedCache(String, Weigher, Tagger)} does, but with its own
+     * time-to-live instead of cache.ttl
+     *
+     * @param name    name of the cache used as the cache tag of its meters
+     * @param weigher weigher of type {@link Weigher} estimating the size of mappings in bytes
+     * @param ttl     time-to-live of the mappings, zero if the mappings do not expire
+     * @param tagger  tagger of type {@link Tagger} grouping the mappings invalidated together
+     * @return tagged cache with type {@link K} key, type {@link V} value and type {@link T} tag
+     * */
+    public <K, V, T> TaggedCache<K, V, T> createTaggedCache(String name, Weigher<K, V> weigher, Duration ttl,
+                                                            Tagger<K, V, T> tagger) {
+        return new TaggedCache<>(evictionListener -> createCache(name, weigher, ttl, evictionListener), tagger);
+    }
+
+    private <K, V> Cache<K, V> createCache(String name, Weigher<K, V> weigher, Duration ttl,
+                                           EvictionListener<K, V> evictionListener) {
+        boolean expiring = ttl.compareTo(Duration.ZERO) > 0;
+        long maxWeightBytes = Math.max(maxWeight.toBytes(), 0);
+
+        return createStatsCache(name, algorithm, evictionListener, statsListener -> {
+            if (!expiring && maxWeightBytes == 0) {
+                return createAlgorithmCache(statsListener);
+            }
+
+            return new BoundedCache<>(
+                    this::createAlgorithmCache,
+                    weigher,
+                    maxWeightBytes,
+                    expiring ? Expiry.fixed(ttl) : null,
+                    System::nanoTime,
+                    statsListener
+            );
+        });
+    }
+
+    /**
+     * Creates the thread-safe cache of keys known to be missing in the database. The cache holds up to
+     * cache.negative.capacity keys for cache.negative.ttl, evicting the least recently used ones first. The cache
+     * is kept by each instance, so unless its removals are published through the two-tier cache manager, a key
+     * saved by another instance stays missing here for up to cache.negative.ttl, which should be kept short
+     *
+     * @param name name of the cache used as the cache tag of its meters
+     * @return cache with type {@link K} key and type {@link String} message of the not found exception
+     * */
+    public <K> Cache<K, String> createNegativeCache(String name) {
+        return createStatsCache(name, "CONCURRENT_LRU", EvictionListener.none(),
+                evictionListener -> new BoundedCache<>(
+                        listener -> new ConcurrentLRUCache<>(negativeCapacity, concurrencyLevel, listener),
+                        null,
+                        0,
+                        Expiry.fixed(negativeTtl),
+                        System::nanoTime,
+                        evictionListener
+                ));
+    }
+
+    private <K, V> Cache<K, V> createStatsCache(String name, String algorithm, EvictionListener<K, V> evictionListener,
+                                                Function<EvictionListener<K, V>, Cache<K, V>> cacheFactory) {
+        return createStatsCache(name, algorithm, meterRegistryProvider.getIfAvailable(), evictionListener, cacheFactory);
+    }
+
+    /**
+     * Creates the cache by the cache factory and decorates it with {@link SingleFlightCache}, which coalesces
+     * concurrent loads of the same key, and {@link StatsCache}, which records the statistics of the cache. The
+     * statistics are published as cache.* meters tagged by the cache name and the algorithm if the meter registry
+     * is given, so the caches created outside of the factory bean are published in the same way
+     *
+     * @param name             name of the cache used as the cache tag of its meters
+     * @param algorithm        algorithm of the cache used as the algorithm tag of its meters
+     * @param meterRegistry    registry of type {@link MeterRegistry} of the cache meters, or null if the meters are
+     *                         not published
+     * @param evictionListener listener of type {@link EvictionListener} notified of the evicted mappings
+     * @param cacheFactory     function creating the cache notifying the given eviction listener
+     * @return cache of type {@link StatsCache} with type {@link K} key and type {@link V} value
+     * */
+    public static <K, V> StatsCache<K, V> createStatsCache(String name, String algorithm, MeterRegistry meterRegistry,
+                                                           EvictionListener<K, V> evictionListener,
+                                                           Function<EvictionListener<K, V>, Cache<K, V>> cacheFactory) {
+        Tags tags = Tags.of("cache", name, "algorithm", algorithm);
+        StatsCounter statsCounter = meterRegistry == null
+                ? new ConcurrentStatsCounter()
+                : new MicrometerStatsCounter(meterRegistry, tags);
+
+        Cache<K, V> boundedCache = cacheFactory.apply((key, value, cause) -> {
+            statsCounter.recordEviction(cause);
+            evictionListener.onEviction(key, value, cause);
+        });
+        StatsCache<K, V> cache = new StatsCache<>(new SingleFlightCache<>(boundedCache), statsCounter);
+
+        if (meterRegistry != null) {
+            BoundedCache<?, ?> weightedCache = boundedCache instanceof BoundedCache<?, ?> bounded ? bounded : null;
+            new CacheMetricsBinder(cache, weightedCache, tags).bindTo(meterRegistry);
+        }
+
+        return cache;
+    }
+
+    private <K, V> Cache<K, V> createAlgorithmCache(EvictionListener<K, V> evictionListener) {
         return switch (algorithm) {
-            case "LRU" -> new LRUCache<>(capacity);
-            case "LFU" -> new LFUCache<>(capacity);
+            case "LRU" -> new LRUCache<>(capacity, evictionListener);
+            case "LFU" -> new LFUCache<>(capacity, evictionListener);
+            case "LINKED_LFU" -> new LinkedLFUCache<>(capacity, evictionListener);
+            case "CONCURRENT_LRU" -> new ConcurrentLRUCache<>(capacity, concurrencyLevel, evictionListener);
+            case "TINYLFU" -> new TinyLFUCache<>(capacity, evictionListener);
             default -> throw new CacheNotDefinedException("Cache algorithm not defined");
         };
     }
@@ -0,0 +1,360 @@
+package ru.clevertec.newsservice.cache.impl;
+
+import ru.clevertec.newsservice.cache.Cache;
+import ru.clevertec.newsservice.cache.EvictionCause;
+import ru.clevertec.newsservice.cache.EvictionListener;
+import ru.clevertec.newsservice.cache.Expiry;
+import ru.clevertec.newsservice.cache.Weigher;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Decorator of the {@link Cache} interface that adds time-to-live and maximum weight bounds to the
+ * eviction policy of the decorated cache. The decorated cache keeps the mappings and evicts them by its
+ * capacity, while this cache keeps the weight and the expiration time of every mapping:
+ * <ul>
+ *     <li>expiration times are tracked by a {@link TimerWheel}, which is advanced on every operation, so
+ *     expired mappings are removed without scanning the cache. A mapping is never returned after its
+ *     expiration time, but it may be counted by {@link #size()} for about a second longer</li>
+ *     <li>if the total weight exceeds the maximum weight, the mappings are evicted in the order they were
+ *     written until the weight fits again</li>
+ * </ul>
+ * All operations are guarded by a single {@link ReentrantLock}
+ *
+ * @param <K> the type of keys maintained by this cache
+ * @param <V> the type of mapped values
+ * @author Ruslan Kantsevich
+ */
+public class BoundedCache<K, V> implements Cache<K, V> {
+
+    /**
+     * Maximum time-to-live of a mapping, longer durations are treated as this one
+     */
+    private static final long MAX_EXPIRATION_NANOS = Long.MAX_VALUE >> 1;
+
+    private final Cache<K, V> cache;
+    private final Map<K, Entry<K>> entries;
+    private final Weigher<K, V> weigher;
+    private final long maxWeight;
+    private final Expiry<K, V> expiry;
+    private final LongSupplier ticker;
+    private final TimerWheel<K> timerWheel;
+    private final EvictionListener<K, V> evictionListener;
+    private final ReentrantLock lock;
+    private final Entry<K> writeOrder;
+    private long weight;
+
+    /**
+     * Creates the cache decorating the cache created by the factory
+     *
+     * @param cacheFactory     function creating the decorated cache with the given eviction listener
+     * @param weigher          weigher of the mappings, or null if the weight is not bounded
+     * @param maxWeight        maximum total weight of the mappings, zero if the weight is not bounded
+     * @param expiry           time-to-live of the mappings, or null if the mappings do not expire
+     * @param ticker           source of the current time in nanoseconds
+     * @param evictionListener listener notified when a mapping is evicted by any of the bounds
+     */
+    public BoundedCache(Function<EvictionListener<K, V>, Cache<K, V>> cacheFactory, Weigher<K, V> weigher,
+                        long maxWeight, Expiry<K, V> expiry, LongSupplier ticker,
+                        EvictionListener<K, V> evictionListener) {
+        if (maxWeight < 0) {
+            throw new IllegalArgumentException("Max weight must not be negative");
+        }
+
+        this.cache = cacheFactory.apply(this::onSizeEviction);
+        this.entries = new HashMap<>();
+        this.weigher = maxWeight == 0 ? null : Objects.requireNonNull(weigher, "Weigher must be set");
+        this.maxWeight = maxWeight;
+        this.expiry = expiry;
+        this.ticker = ticker;
+        this.timerWheel = new TimerWheel<>(ticker.getAsLong());
+        this.evictionListener = evictionListener;
+        this.lock = new ReentrantLock();
+        this.writeOrder = new Entry<>(null);
+        this.writeOrder.writePrev = writeOrder;
+        this.writeOrder.writeNext = writeOrder;
+    }
+
+    /**
+     * Returns key mapping as {@link Optional} from this cache, if present and not expired
+     *
+     * @param key the key whose mapping is to be retrieved from the cache
+     * @return the {@link Optional} value associated with key, or {@code Optional.empty()}
+     * if there was no mapping for key
+     */
+    @Override
+    public Optional<V> get(K key) {
+        lock.lock();
+        try {
+            long now = ticker.getAsLong();
+            expireEntries(now);
+
+            Entry<K> entry = entries.get(key);
+
+            if (entry == null || isExpired(entry, now)) {
+                return Optional.empty();
+            }
+
+            return cache.get(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Associates the specified value with the specified key in this cache. If the cache
+     * previously contained a mapping for the key, the old value is replaced with the
+     * specified value and its time-to-live starts again. Then the mappings are evicted by the
+     * decorated cache if it is full and by this cache if the maximum weight is exceeded
+     *
+     * @param key   key with which the specified value is to be associated
+     * @param value value to be associated with the specified key
+     * @return the {@link Optional} value associated with key, or {@code Optional.empty()}
+     * if there was no mapping for key
+     */
+    @Override
+    public Optional<V> put(K key, V value) {
+        lock.lock();
+        try {
+            long now = ticker.getAsLong();
+            expireEntries(now);
+
+            Entry<K> entry = entries.get(key);
+
+            if (entry == null) {
+                entry = new Entry<>(key);
+                entries.put(key, entry);
+            } else {
+                weight -= entry.weight;
+                unlinkWriteOrder(entry);
+            }
+
+            entry.weight = weigher == null ? 0 : weigher.weigh(key, value);
+            weight += entry.weight;
+            linkWriteOrder(entry);
+
+            if (expiry != null) {
+                entry.setExpirationTime(now + expirationNanos(key, value));
+                timerWheel.reschedule(entry);
+            }
+
+            Optional<V> putValue = cache.put(key, value);
+            evictByWeight();
+
+            return putValue;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the mapping for a key from this cache if it is present
+     *
+     * @param key key whose mapping is to be removed from the cache
+     * @return the {@link Optional} value associated with key, or {@code Optional.empty()}
+     * if there was no mapping for key
+     */
+    @Override
+    public Optional<V> remove(K key) {
+        lock.lock();
+        try {
+            Entry<K> entry = entries.get(key);
+
+            if (entry == null) {
+                return Optional.empty();
+            }
+
+            boolean expired = expiry != null && entry.getExpirationTime() - ticker.getAsLong() <= 0;
+
+            discard(entry);
+            Optional<V> removeValue = cache.remove(key);
+
+            return expired ? Optional.empty() : removeValue;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Checks if the value with the key is in the cache and not expired. If contained then returns true.
+     * Otherwise - false
+     *
+     * @param key whose mapping is to be checked in the cache
+     * @return variable containing information about the contained value by key in the cache
+     * */
+    @Override
+    public boolean containsKey(K key) {
+        lock.lock();
+        try {
+            long now = ticker.getAsLong();
+            expireEntries(now);
+
+            Entry<K> entry = entries.get(key);
+
+            return entry != null && !isExpired(entry, now);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of key-value mappings in this cache. Mappings expired less than about a second
+     * ago may be included
+     *
+     * @return the number of key-value mappings in this cache
+     */
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            expireEntries(ticker.getAsLong());
+
+            return cache.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes all key-value mappings from this cache. The cache will be empty after this
+     * call returns
+     */
+    @Override
+    public void clear() {
+        lock.lock();
+        try {
+            cache.clear();
+            entries.clear();
+            timerWheel.clear();
+            writeOrder.writePrev = writeOrder;
+            writeOrder.writeNext = writeOrder;
+            weight = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the total weight of the mappings in this cache
+     *
+     * @return the total weight, zero if the weight is not bounded
+     */
+    public long getWeight() {
+        lock.lock();
+        try {
+            return weight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getMaxWeight() {
+        return maxWeight;
+    }
+
+    private void expireEntries(long now) {
+        if (expiry != null) {
+            timerWheel.advance(now, timer -> expire((Entry<K>) timer));
+        }
+    }
+
+    private boolean isExpired(Entry<K> entry, long now) {
+        if (expiry == null || entry.getExpirationTime() - now > 0) {
+            return false;
+        }
+
+        expire(entry);
+
+        return true;
+    }
+
+    private void expire(Entry<K> entry) {
+        discard(entry);
+        cache.remove(entry.getKey())
+                .ifPresent(value -> evictionListener.onEviction(entry.getKey(), value, EvictionCause.EXPIRED));
+    }
+
+    /**
+     * Evicts the mappings in the order they were written while the total weight exceeds the maximum weight
+     */
+    private void evictByWeight() {
+        while (maxWeight > 0 && weight > maxWeight && writeOrder.writeNext != writeOrder) {
+            Entry<K> eldest = writeOrder.writeNext;
+
+            discard(eldest);
+            cache.remove(eldest.getKey())
+                    .ifPresent(value -> evictionListener.onEviction(eldest.getKey(), value, EvictionCause.WEIGHT));
+        }
+    }
+
+    /**
+     * Forgets the weight and the expiration time of the mapping evicted by the decorated cache
+     *
+     * @param key   the key of the evicted mapping
+     * @param value the value of the evicted mapping
+     * @param cause the cause of the eviction
+     */
+    private void onSizeEviction(K key, V value, EvictionCause cause) {
+        Entry<K> entry = entries.get(key);
+
+        if (entry != null) {
+            discard(entry);
+        }
+
+        evictionListener.onEviction(key, value, cause);
+    }
+
+    private void discard(Entry<K> entry) {
+        entries.remove(entry.getKey());
+        timerWheel.deschedule(entry);
+        unlinkWriteOrder(entry);
+        weight -= entry.weight;
+    }
+
+    private long expirationNanos(K key, V value) {
+        Duration timeToLive = expiry.expireAfterWrite(key, value);
+
+        if (timeToLive.compareTo(Duration.ofNanos(MAX_EXPIRATION_NANOS)) >= 0) {
+            return MAX_EXPIRATION_NANOS;
+        }
+
+        return Math.max(timeToLive.toNanos(), 0);
+    }
+
+    private void linkWriteOrder(Entry<K> entry) {
+        entry.writePrev = writeOrder.writePrev;
+        entry.writeNext = writeOrder;
+        writeOrder.writePrev.writeNext = entry;
+        writeOrder.writePrev = entry;
+    }
+
+    private void unlinkWriteOrder(Entry<K> entry) {
+        if (entry.writeNext != null) {
+            entry.writePrev.writeNext = entry.writeNext;
+            entry.writeNext.writePrev = entry.writePrev;
+            entry.writePrev = null;
+            entry.writeNext = null;
+        }
+    }
+
+    /**
+     * Weight, expiration time and position in the write order of a mapping
+     */
+    private static final class Entry<K> extends TimerWheel.Timer<K> {
+
+        private int weight;
+        private Entry<K> writePrev;
+        private Entry<K> writeNext;
+
+        private Entry(K key) {
+            super(key);
+        }
+    }
+}
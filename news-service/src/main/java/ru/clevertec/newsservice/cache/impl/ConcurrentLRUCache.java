@@ -0,0 +1,230 @@
+package ru.clevertec.newsservice.cache.impl;
+
+import ru.clevertec.newsservice.cache.Cache;
+import ru.clevertec.newsservice.cache.EvictionCause;
+import ru.clevertec.newsservice.cache.EvictionListener;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A thread-safe implementation of the {@link Cache} interface that uses the least recently used (LRU)
+ * algorithm. The key space is split into lock-striped segments: each key is routed by its hash to one
+ * segment, and each segment is an access-ordered {@link LinkedHashMap} guarded by its own
+ * {@link ReentrantLock}. Threads working with keys of different segments never contend, and the
+ * least recently used item is evicted per segment, so the eviction order is an approximation of a
+ * global LRU order. The total number of mappings never exceeds the capacity
+ *
+ * @param <K> the type of keys maintained by this cache
+ * @param <V> the type of mapped values
+ * @author Ruslan Kantsevich
+ */
+public class ConcurrentLRUCache<K, V> implements Cache<K, V> {
+
+    public static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+
+    private final int capacity;
+    private final Segment<K, V>[] segments;
+    private final int segmentMask;
+
+    public ConcurrentLRUCache(int capacity) {
+        this(capacity, DEFAULT_CONCURRENCY_LEVEL);
+    }
+
+    public ConcurrentLRUCache(int capacity, int concurrencyLevel) {
+        this(capacity, concurrencyLevel, EvictionListener.none());
+    }
+
+    /**
+     * Creates the cache with the number of segments equal to the largest power of two not greater than
+     * concurrency level and capacity, so that every segment can hold at least one mapping
+     *
+     * @param capacity         maximum number of mappings in this cache
+     * @param concurrencyLevel estimated number of concurrently updating threads
+     * @param evictionListener listener notified under the lock of the segment when a mapping is evicted
+     */
+    @SuppressWarnings("unchecked")
+    public ConcurrentLRUCache(int capacity, int concurrencyLevel, EvictionListener<K, V> evictionListener) {
+        if (capacity <= 0 || concurrencyLevel <= 0) {
+            throw new IllegalArgumentException("Capacity and concurrency level must be positive");
+        }
+
+        int segmentCount = Integer.highestOneBit(Math.min(capacity, concurrencyLevel));
+
+        this.capacity = capacity;
+        this.segments = new Segment[segmentCount];
+        this.segmentMask = segmentCount - 1;
+
+        for (int i = 0; i < segmentCount; i++) {
+            int segmentCapacity = capacity / segmentCount + (i < capacity % segmentCount ? 1 : 0);
+            segments[i] = new Segment<>(segmentCapacity, evictionListener);
+        }
+    }
+
+    /**
+     * Returns key mapping as {@link Optional} from this cache, if present
+     *
+     * @param key the key whose mapping is to be retrieved from the cache
+     * @return the {@link Optional} value associated with key, or {@code Optional.empty()}
+     * if there was no mapping for key
+     */
+    @Override
+    public Optional<V> get(K key) {
+        Segment<K, V> segment = segmentFor(key);
+
+        segment.lock();
+        try {
+            return Optional.ofNullable(segment.entries.get(key));
+        } finally {
+            segment.unlock();
+        }
+    }
+
+    /**
+     * Associates the specified value with the specified key in this cache. If the cache
+     * previously contained a mapping for the key, the old value is replaced with the
+     * specified value. If the segment of the key is full, its least recently used mapping is evicted
+     *
+     * @param key   key with which the specified value is to be associated
+     * @param value value to be associated with the specified key
+     * @return the {@link Optional} value associated with key, or {@code Optional.empty()}
+     * if there was no mapping for key
+     */
+    @Override
+    public Optional<V> put(K key, V value) {
+        Segment<K, V> segment = segmentFor(key);
+
+        segment.lock();
+        try {
+            segment.entries.put(key, value);
+            segment.count = segment.entries.size();
+
+            return Optional.ofNullable(value);
+        } finally {
+            segment.unlock();
+        }
+    }
+
+    /**
+     * Removes the mapping for a key from this cache if it is present
+     *
+     * @param key key whose mapping is to be removed from the cache
+     * @return the {@link Optional} value associated with key, or {@code Optional.empty()}
+     * if there was no mapping for key
+     */
+    @Override
+    public Optional<V> remove(K key) {
+        Segment<K, V> segment = segmentFor(key);
+
+        segment.lock();
+        try {
+            V removeValue = segment.entries.remove(key);
+            segment.count = segment.entries.size();
+
+            return Optional.ofNullable(removeValue);
+        } finally {
+            segment.unlock();
+        }
+    }
+
+    /**
+     * Checks if the value with the key is in the cache. If contained then returns true.
+     * Otherwise - false. Unlike {@link #get(Object)}, it does not affect the eviction order
+     *
+     * @param key whose mapping is to be checked in the cache
+     * @return variable containing information about the contained value by key in the cache
+     * */
+    @Override
+    public boolean containsKey(K key) {
+        Segment<K, V> segment = segmentFor(key);
+
+        segment.lock();
+        try {
+            return segment.entries.containsKey(key);
+        } finally {
+            segment.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of key-value mappings in this cache. The segments are not locked, so under
+     * concurrent updates the result is an estimate that never exceeds the capacity
+     *
+     * @return the number of key-value mappings in this cache
+     */
+    @Override
+    public int size() {
+        int size = 0;
+
+        for (Segment<K, V> segment : segments) {
+            size += segment.count;
+        }
+
+        return size;
+    }
+
+    /**
+     * Removes all key-value mappings from this cache. Segments are cleared one by one, so mappings
+     * added concurrently to an already cleared segment stay in the cache
+     */
+    @Override
+    public void clear() {
+        for (Segment<K, V> segment : segments) {
+            segment.lock();
+            try {
+                segment.entries.clear();
+                segment.count = 0;
+            } finally {
+                segment.unlock();
+            }
+        }
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    int getSegmentCount() {
+        return segments.length;
+    }
+
+    /**
+     * Finds the segment the key belongs to. The high bits of the hash code are spread to the low ones,
+     * since only the low bits are used to select the segment
+     *
+     * @param key the key whose segment is to be found
+     * @return segment of type {@link Segment} responsible for the key
+     */
+    private Segment<K, V> segmentFor(K key) {
+        int hash = Objects.hashCode(key);
+        return segments[(hash ^ (hash >>> 16)) & segmentMask];
+    }
+
+    /**
+     * Part of the cache guarded by its own lock. The mappings are stored in access order, so the
+     * eldest mapping is the least recently used one and is evicted when the segment overflows
+     */
+    private static final class Segment<K, V> extends ReentrantLock {
+
+        private final Map<K, V> entries;
+        private volatile int count;
+
+        private Segment(int capacity, EvictionListener<K, V> evictionListener) {
+            this.entries = new LinkedHashMap<>(capacity, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                    if (size() <= capacity) {
+                        return false;
+                    }
+
+                    evictionListener.onEviction(eldest.getKey(), eldest.getValue(), EvictionCause.SIZE);
+
+                    return true;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package ru.clevertec.newsservice.cache.impl;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Count-min sketch estimating how often keys were accessed recently. Each key is mapped to one 4-bit
+ * counter in each of four rows, and its frequency is the minimum of these counters, so the estimate may
+ * be too high because of collisions but is never too low. Counters are packed sixteen to a {@code long}
+ * and saturate at 15. After the number of increments reaches the sample size all counters are halved,
+ * so the popularity of keys that are no longer accessed decays over time
+ *
+ * @param <K> the type of keys whose frequency is estimated
+ * @author Ruslan Kantsevich
+ */
+final class FrequencySketch<K> {
+
+    private static final long[] SEEDS = {
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+    };
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final long ONE_MASK = 0x1111111111111111L;
+    private static final int MAX_FREQUENCY = 15;
+
+    private final long[] table;
+    private final int tableMask;
+    private final int sampleSize;
+    private int size;
+
+    /**
+     * Creates the sketch sized for the cache capacity. The table holds at least as many counters per
+     * row as the capacity, and aging is performed every ten times the capacity increments
+     *
+     * @param capacity maximum number of mappings in the cache using this sketch
+     */
+    FrequencySketch(int capacity) {
+        int maximum = Math.max(capacity, 16);
+        int tableLength = Integer.highestOneBit(maximum - 1) << 1;
+
+        this.table = new long[tableLength];
+        this.tableMask = tableLength - 1;
+        this.sampleSize = 10 * maximum;
+    }
+
+    /**
+     * Returns the estimated number of accesses of the key since the last aging
+     *
+     * @param key key whose frequency is to be estimated
+     * @return estimated frequency of the key in range from 0 to 15
+     */
+    int frequency(K key) {
+        int hash = spread(Objects.hashCode(key));
+        int start = (hash & 3) << 2;
+        int frequency = MAX_FREQUENCY;
+
+        for (int i = 0; i < SEEDS.length; i++) {
+            int offset = (start + i) << 2;
+            int count = (int) ((table[indexOf(hash, i)] >>> offset) & 0xfL);
+            frequency = Math.min(frequency, count);
+        }
+
+        return frequency;
+    }
+
+    /**
+     * Increments the counters of the key if they are not saturated and halves all counters when
+     * the sample size is reached
+     *
+     * @param key key whose access is to be recorded
+     */
+    void increment(K key) {
+        int hash = spread(Objects.hashCode(key));
+        int start = (hash & 3) << 2;
+        boolean added = false;
+
+        for (int i = 0; i < SEEDS.length; i++) {
+            added |= incrementAt(indexOf(hash, i), start + i);
+        }
+
+        if (added && ++size == sampleSize) {
+            reset();
+        }
+    }
+
+    /**
+     * Clears all counters
+     */
+    void clear() {
+        Arrays.fill(table, 0L);
+        size = 0;
+    }
+
+    private boolean incrementAt(int index, int counter) {
+        int offset = counter << 2;
+        long mask = 0xfL << offset;
+
+        if ((table[index] & mask) != mask) {
+            table[index] += 1L << offset;
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Halves every counter. The number of odd counters is used to correct the size, since halving
+     * an odd counter loses one increment
+     */
+    private void reset() {
+        int oddCounters = 0;
+
+        for (int i = 0; i < table.length; i++) {
+            oddCounters += Long.bitCount(table[i] & ONE_MASK);
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+
+        size = (size - (oddCounters >>> 2)) >>> 1;
+    }
+
+    private int indexOf(int hash, int row) {
+        long rowHash = (hash + SEEDS[row]) * SEEDS[row];
+        rowHash += rowHash >>> 32;
+
+        return ((int) rowHash) & tableMask;
+    }
+
+    private static int spread(int hash) {
+        hash = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+        hash = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+
+        return (hash >>> 16) ^ hash;
+    }
+}
@@ -3,6 +3,8 @@ package ru.clevertec.newsservice.cache.impl;
 import lombok.Data;
 
 import ru.clevertec.newsservice.cache.Cache;
+import ru.clevertec.newsservice.cache.EvictionCause;
+import ru.clevertec.newsservice.cache.EvictionListener;
 
 import java.util.HashMap;
 import java.util.LinkedHashSet;
@@ -28,10 +30,16 @@ public class LFUCache<K, V> implements Cache<K, V> {
     private final Map<K, V> cache;
     private final Map<K, Integer> keyFreq;
     private final Map<Integer, LinkedHashSet<K>> orderKeyFreq;
+    private final EvictionListener<K, V> evictionListener;
     private int minKeyFreq;
 
     public LFUCache(int capacity) {
+        this(capacity, EvictionListener.none());
+    }
+
+    public LFUCache(int capacity, EvictionListener<K, V> evictionListener) {
         this.capacity = capacity;
+        this.evictionListener = evictionListener;
         this.cache = new HashMap<>(capacity);
         this.keyFreq = new HashMap<>();
         this.orderKeyFreq = new HashMap<>();
@@ -82,7 +90,8 @@ public class LFUCache<K, V> implements Cache<K, V> {
 
             setFreq.remove(leastUsedKey);
             keyFreq.remove(leastUsedKey);
-            cache.remove(leastUsedKey);
+            V evictedValue = cache.remove(leastUsedKey);
+            evictionListener.onEviction(leastUsedKey, evictedValue, EvictionCause.SIZE);
         }
 
         keyFreq.put(key, 1);
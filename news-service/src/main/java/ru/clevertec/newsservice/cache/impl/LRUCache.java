@@ -3,6 +3,8 @@ package ru.clevertec.newsservice.cache.impl;
 import lombok.Data;
 
 import ru.clevertec.newsservice.cache.Cache;
+import ru.clevertec.newsservice.cache.EvictionCause;
+import ru.clevertec.newsservice.cache.EvictionListener;
 
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -23,10 +25,16 @@ public class LRUCache<K, V> implements Cache<K, V> {
 
     private final int capacity;
     private final Map<K, V> cache;
+    private final EvictionListener<K, V> evictionListener;
 
     public LRUCache(int capacity) {
+        this(capacity, EvictionListener.none());
+    }
+
+    public LRUCache(int capacity, EvictionListener<K, V> evictionListener) {
         this.capacity = capacity;
         this.cache = new LinkedHashMap<>(capacity);
+        this.evictionListener = evictionListener;
     }
 
     /**
@@ -52,7 +60,7 @@ public class LRUCache<K, V> implements Cache<K, V> {
     /**
      * Associates the specified value with the specified key in this cache. If the cache
      * previously contained a mapping for the key, the old value is replaced with the
-     * specified value
+     * specified value. If the cache is full, the least recently used mapping is evicted
      *
      * @param key   key with which the specified value is to be associated
      * @param value value to be associated with the specified key
@@ -68,7 +76,8 @@ public class LRUCache<K, V> implements Cache<K, V> {
                     .iterator()
                     .next();
 
-            cache.remove(firstKey);
+            V evictedValue = cache.remove(firstKey);
+            evictionListener.onEviction(firstKey, evictedValue, EvictionCause.SIZE);
         }
 
         cache.put(key, value);
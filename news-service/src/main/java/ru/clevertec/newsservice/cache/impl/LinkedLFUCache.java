@@ -0,0 +1,401 @@
+package ru.clevertec.newsservice.cache.impl;
+
+import ru.clevertec.newsservice.cache.Cache;
+import ru.clevertec.newsservice.cache.EvictionCause;
+import ru.clevertec.newsservice.cache.EvictionListener;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * An implementation of the {@link Cache} interface that uses the least frequently used (LFU) algorithm
+ * with constant time operations. Frequencies are stored in a doubly-linked list of frequency nodes sorted
+ * in ascending order, and every node holds an intrusive list of the entries with its frequency in order of
+ * their arrival to the node. On access the entry moves to the node with the next frequency, so the least
+ * frequently used entry is always the first entry of the first node. Nodes that become empty are unlinked
+ * and kept in a pool for reuse, so the list never holds more nodes than entries and, once the pool is warm,
+ * an access allocates no objects. The eviction order is the same as in {@link LFUCache}: among the least
+ * frequently used entries the one that reached this frequency earliest is evicted. All operations are
+ * guarded by a single {@link ReentrantLock}
+ *
+ * @param <K> the type of keys maintained by this cache
+ * @param <V> the type of mapped values
+ * @author Ruslan Kantsevich
+ */
+public class LinkedLFUCache<K, V> implements Cache<K, V> {
+
+    private final int capacity;
+    private final Map<K, Entry<K, V>> cache;
+    private final ReentrantLock lock;
+    private final EvictionListener<K, V> evictionListener;
+    private FrequencyNode<K, V> head;
+    private FrequencyNode<K, V> pool;
+
+    public LinkedLFUCache(int capacity) {
+        this(capacity, EvictionListener.none());
+    }
+
+    public LinkedLFUCache(int capacity, EvictionListener<K, V> evictionListener) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+
+        this.capacity = capacity;
+        this.cache = new HashMap<>(capacity);
+        this.lock = new ReentrantLock();
+        this.evictionListener = evictionListener;
+    }
+
+    /**
+     * Returns key mapping as {@link Optional} from this cache, if present, and increments its frequency
+     *
+     * @param key the key whose mapping is to be retrieved from the cache
+     * @return the {@link Optional} value associated with key, or {@code Optional.empty()}
+     * if there was no mapping for key
+     */
+    @Override
+    public Optional<V> get(K key) {
+        lock.lock();
+        try {
+            Entry<K, V> entry = cache.get(key);
+
+            if (entry == null) {
+                return Optional.empty();
+            }
+
+            incrementFrequency(entry);
+
+            return Optional.ofNullable(entry.value);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Associates the specified value with the specified key in this cache. If the cache
+     * previously contained a mapping for the key, the old value is replaced with the
+     * specified value and the frequency is incremented. If the cache is full, the least
+     * frequently used mapping is evicted
+     *
+     * @param key   key with which the specified value is to be associated
+     * @param value value to be associated with the specified key
+     * @return the {@link Optional} value associated with key, or {@code Optional.empty()}
+     * if there was no mapping for key
+     */
+    @Override
+    public Optional<V> put(K key, V value) {
+        lock.lock();
+        try {
+            Entry<K, V> entry = cache.get(key);
+
+            if (entry != null) {
+                entry.value = value;
+                incrementFrequency(entry);
+
+                return Optional.ofNullable(value);
+            }
+
+            if (cache.size() == capacity) {
+                Entry<K, V> leastUsed = head.first;
+                unlink(leastUsed);
+                cache.remove(leastUsed.key);
+                evictionListener.onEviction(leastUsed.key, leastUsed.value, EvictionCause.SIZE);
+            }
+
+            entry = new Entry<>(key, value);
+            cache.put(key, entry);
+
+            FrequencyNode<K, V> node = head != null && head.frequency == 1 ? head : insertAfter(null, 1);
+            node.addLast(entry);
+
+            return Optional.ofNullable(value);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the mapping for a key from this cache if it is present
+     *
+     * @param key key whose mapping is to be removed from the cache
+     * @return the {@link Optional} value associated with key, or {@code Optional.empty()}
+     * if there was no mapping for key
+     */
+    @Override
+    public Optional<V> remove(K key) {
+        lock.lock();
+        try {
+            Entry<K, V> entry = cache.remove(key);
+
+            if (entry == null) {
+                return Optional.empty();
+            }
+
+            unlink(entry);
+
+            return Optional.ofNullable(entry.value);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Checks if the value with the key is in the cache. If contained then returns true.
+     * Otherwise - false. The check does not change the frequency
+     *
+     * @param key whose mapping is to be checked in the cache
+     * @return variable containing information about the contained value by key in the cache
+     * */
+    @Override
+    public boolean containsKey(K key) {
+        lock.lock();
+        try {
+            return cache.containsKey(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of key-value mappings in this cache
+     *
+     * @return the number of key-value mappings in this cache
+     */
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return cache.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes all key-value mappings from this cache. The cache will be empty after this
+     * call returns
+     */
+    @Override
+    public void clear() {
+        lock.lock();
+        try {
+            cache.clear();
+            head = null;
+            pool = null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the minimum frequency of use of the cache keys
+     *
+     * @return the frequency of the least frequently used key, or 0 if the cache is empty
+     */
+    public int getMinKeyFreq() {
+        lock.lock();
+        try {
+            return head == null ? 0 : head.frequency;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the frequency of use of the cache key
+     *
+     * @param key the key whose frequency is to be returned
+     * @return the frequency of the key, or 0 if there was no mapping for key
+     */
+    int getKeyFreq(K key) {
+        lock.lock();
+        try {
+            Entry<K, V> entry = cache.get(key);
+            return entry == null ? 0 : entry.node.frequency;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of frequency nodes linked in the list
+     *
+     * @return the number of distinct frequencies of the cache keys
+     */
+    int getFrequencyNodeCount() {
+        lock.lock();
+        try {
+            int count = 0;
+
+            for (FrequencyNode<K, V> node = head; node != null; node = node.next) {
+                count++;
+            }
+
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Moves the entry to the node with the next frequency. If the entry is the only one in its node and
+     * there is no node with the next frequency, the frequency of the node is incremented in place.
+     * The frequency saturates at {@link Integer#MAX_VALUE}
+     *
+     * @param entry the entry whose frequency of use needs to be updated
+     */
+    private void incrementFrequency(Entry<K, V> entry) {
+        FrequencyNode<K, V> node = entry.node;
+
+        if (node.frequency == Integer.MAX_VALUE) {
+            node.remove(entry);
+            node.addLast(entry);
+            return;
+        }
+
+        int nextFrequency = node.frequency + 1;
+        FrequencyNode<K, V> next = node.next;
+
+        if (next != null && next.frequency == nextFrequency) {
+            node.remove(entry);
+            next.addLast(entry);
+            reclaimIfEmpty(node);
+        } else if (node.first == node.last) {
+            node.frequency = nextFrequency;
+        } else {
+            node.remove(entry);
+            insertAfter(node, nextFrequency).addLast(entry);
+        }
+    }
+
+    /**
+     * Removes the entry from its frequency node and reclaims the node if it becomes empty
+     *
+     * @param entry the entry to be unlinked
+     */
+    private void unlink(Entry<K, V> entry) {
+        FrequencyNode<K, V> node = entry.node;
+
+        node.remove(entry);
+        reclaimIfEmpty(node);
+    }
+
+    /**
+     * Links a node with the frequency after the specified node, or at the head of the list if the
+     * specified node is null. The node is taken from the pool if it is not empty
+     *
+     * @param prev      the node after which the new node is linked, or null
+     * @param frequency the frequency of the new node
+     * @return the linked node
+     */
+    private FrequencyNode<K, V> insertAfter(FrequencyNode<K, V> prev, int frequency) {
+        FrequencyNode<K, V> node = pool;
+
+        if (node == null) {
+            node = new FrequencyNode<>();
+        } else {
+            pool = node.next;
+        }
+
+        node.frequency = frequency;
+        node.prev = prev;
+        node.next = prev == null ? head : prev.next;
+
+        if (node.next != null) {
+            node.next.prev = node;
+        }
+
+        if (prev == null) {
+            head = node;
+        } else {
+            prev.next = node;
+        }
+
+        return node;
+    }
+
+    private void reclaimIfEmpty(FrequencyNode<K, V> node) {
+        if (node.first != null) {
+            return;
+        }
+
+        if (node.prev == null) {
+            head = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+
+        if (node.next != null) {
+            node.next.prev = node.prev;
+        }
+
+        node.prev = null;
+        node.next = pool;
+        pool = node;
+    }
+
+    private static final class Entry<K, V> {
+
+        private final K key;
+        private V value;
+        private FrequencyNode<K, V> node;
+        private Entry<K, V> prev;
+        private Entry<K, V> next;
+
+        private Entry(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    /**
+     * Node of the frequency list holding the entries with the same frequency, the entry that
+     * reached the frequency earliest is the first
+     */
+    private static final class FrequencyNode<K, V> {
+
+        private int frequency;
+        private FrequencyNode<K, V> prev;
+        private FrequencyNode<K, V> next;
+        private Entry<K, V> first;
+        private Entry<K, V> last;
+
+        private void addLast(Entry<K, V> entry) {
+            entry.node = this;
+            entry.prev = last;
+            entry.next = null;
+
+            if (last == null) {
+                first = entry;
+            } else {
+                last.next = entry;
+            }
+
+            last = entry;
+        }
+
+        private void remove(Entry<K, V> entry) {
+            if (entry.prev == null) {
+                first = entry.next;
+            } else {
+                entry.prev.next = entry.next;
+            }
+
+            if (entry.next == null) {
+                last = entry.prev;
+            } else {
+                entry.next.prev = entry.prev;
+            }
+
+            entry.node = null;
+            entry.prev = null;
+            entry.next = null;
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package ru.clevertec.newsservice.cache.impl;
+
+import ru.clevertec.newsservice.cache.Cache;
+import ru.clevertec.newsservice.cache.CacheLoader;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Decorator of the {@link Cache} interface that coalesces concurrent loads of the same key. On a miss
+ * the first caller becomes the leader and runs the loader, while the other callers missing the same key
+ * wait for the future of the leader and get its value or its exception. A {@link #put(Object, Object)} or
+ * {@link #remove(Object)} of the key during the load invalidates the loaded value, so the value read before
+ * an update of the database never overwrites the newer one. The decorated cache must be thread-safe
+ *
+ * @param <K> the type of keys maintained by this cache
+ * @param <V> the type of mapped values
+ * @author Ruslan Kantsevich
+ */
+public class SingleFlightCache<K, V> implements Cache<K, V> {
+
+    private final Cache<K, V> cache;
+    private final ConcurrentMap<K, CompletableFuture<V>> flights;
+
+    public SingleFlightCache(Cache<K, V> cache) {
+        this.cache = cache;
+        this.flights = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public Optional<V> get(K key) {
+        return cache.get(key);
+    }
+
+    /**
+     * Returns the value associated with the key. On a miss the value is loaded once for all concurrent
+     * callers and put in the cache unless the key was put or removed during the load
+     *
+     * @param key    the key whose mapping is to be retrieved from the cache
+     * @param loader loader of type {@link CacheLoader} computing the value on a miss
+     * @return the value associated with key
+     * @throws Throwable if the loader of the leader failed
+     */
+    @Override
+    public V get(K key, CacheLoader<? super K, ? extends V> loader) throws Throwable {
+        Optional<V> cachedValue = cache.get(key);
+
+        if (cachedValue.isPresent()) {
+            return cachedValue.get();
+        }
+
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> leaderFlight = flights.putIfAbsent(key, flight);
+
+        if (leaderFlight != null) {
+            return await(leaderFlight);
+        }
+
+        try {
+            V value = load(key, loader, flight);
+            flight.complete(value);
+
+            return value;
+        } catch (Throwable e) {
+            flight.completeExceptionally(e);
+            flights.remove(key, flight);
+            throw e;
+        }
+    }
+
+    /**
+     * Associates the specified value with the specified key in this cache and invalidates the value
+     * being loaded for the key
+     *
+     * @param key   key with which the specified value is to be associated
+     * @param value value to be associated with the specified key
+     * @return the {@link Optional} value associated with key, or {@code Optional.empty()}
+     * if there was no mapping for key
+     */
+    @Override
+    public Optional<V> put(K key, V value) {
+        flights.remove(key);
+        return cache.put(key, value);
+    }
+
+    /**
+     * Removes the mapping for a key from this cache if it is present and invalidates the value being
+     * loaded for the key
+     *
+     * @param key key whose mapping is to be removed from the cache
+     * @return the {@link Optional} value associated with key, or {@code Optional.empty()}
+     * if there was no mapping for key
+     */
+    @Override
+    public Optional<V> remove(K key) {
+        flights.remove(key);
+        return cache.remove(key);
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return cache.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return cache.size();
+    }
+
+    @Override
+    public void clear() {
+        flights.clear();
+        cache.clear();
+    }
+
+    /**
+     * Returns the number of keys being loaded
+     *
+     * @return the number of loads in progress
+     */
+    int getFlightCount() {
+        return flights.size();
+    }
+
+    /**
+     * Returns the estimated number of callers waiting for the load of the key
+     *
+     * @param key the key being loaded
+     * @return the number of waiting callers, or 0 if the key is not being loaded
+     */
+    int getWaiterCount(K key) {
+        CompletableFuture<V> flight = flights.get(key);
+        return flight == null ? 0 : flight.getNumberOfDependents();
+    }
+
+    /**
+     * Loads the value as the leader. The cache is checked again, since a previous leader could put the
+     * value after the miss of this caller. The value is put in the cache atomically with the removal of
+     * the flight, and only if the flight was not invalidated by a put or remove of the key
+     *
+     * @param key    the key whose value is to be loaded
+     * @param loader loader of type {@link CacheLoader} computing the value
+     * @param flight the future of this leader registered for the key
+     * @return the loaded value
+     * @throws Throwable if the loader failed
+     */
+    private V load(K key, CacheLoader<? super K, ? extends V> loader, CompletableFuture<V> flight)
+            throws Throwable {
+        Optional<V> cachedValue = cache.get(key);
+
+        if (cachedValue.isPresent()) {
+            flights.remove(key, flight);
+            return cachedValue.get();
+        }
+
+        V value = loader.load(key);
+
+        flights.computeIfPresent(key, (k, currentFlight) -> {
+            if (currentFlight != flight) {
+                return currentFlight;
+            }
+
+            cache.put(key, value);
+
+            return null;
+        });
+
+        return value;
+    }
+
+    private V await(CompletableFuture<V> flight) throws Throwable {
+        try {
+            return flight.get();
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package ru.clevertec.newsservice.cache.impl;
+
+import ru.clevertec.newsservice.cache.Cache;
+import ru.clevertec.newsservice.cache.CacheLoader;
+import ru.clevertec.newsservice.cache.stats.CacheStats;
+import ru.clevertec.newsservice.cache.stats.StatsCounter;
+
+import java.util.Optional;
+
+/**
+ * Decorator of the {@link Cache} interface that records hits, misses, puts and load times of the
+ * decorated cache in a {@link StatsCounter}. Evictions are recorded by the eviction listener the
+ * decorated cache was created with. {@link #containsKey(Object)} is not recorded as a request
+ *
+ * @param <K> the type of keys maintained by this cache
+ * @param <V> the type of mapped values
+ * @author Ruslan Kantsevich
+ */
+public class StatsCache<K, V> implements Cache<K, V> {
+
+    private final Cache<K, V> cache;
+    private final StatsCounter statsCounter;
+
+    public StatsCache(Cache<K, V> cache, StatsCounter statsCounter) {
+        this.cache = cache;
+        this.statsCounter = statsCounter;
+    }
+
+    @Override
+    public Optional<V> get(K key) {
+        Optional<V> value = cache.get(key);
+
+        if (value.isPresent()) {
+            statsCounter.recordHit();
+        } else {
+            statsCounter.recordMiss();
+        }
+
+        return value;
+    }
+
+    /**
+     * Returns the value associated with the key, loading it by the decorated cache on a miss. The call is
+     * recorded as a miss only if this caller's loader was run, so callers that got a value loaded
+     * concurrently by another caller are recorded as hits. The time spent by the loader is recorded
+     * whether it succeeds or fails
+     *
+     * @param key    the key whose mapping is to be retrieved from the cache
+     * @param loader loader of type {@link CacheLoader} computing the value on a miss
+     * @return the value associated with key
+     * @throws Throwable if the loader failed
+     */
+    @Override
+    public V get(K key, CacheLoader<? super K, ? extends V> loader) throws Throwable {
+        boolean[] missed = new boolean[1];
+
+        V value = cache.get(key, missedKey -> {
+            missed[0] = true;
+            statsCounter.recordMiss();
+
+            return load(missedKey, loader);
+        });
+
+        if (!missed[0]) {
+            statsCounter.recordHit();
+        }
+
+        return value;
+    }
+
+    @Override
+    public Optional<V> put(K key, V value) {
+        statsCounter.recordPut();
+        return cache.put(key, value);
+    }
+
+    @Override
+    public Optional<V> remove(K key) {
+        return cache.remove(key);
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return cache.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return cache.size();
+    }
+
+    @Override
+    public void clear() {
+        cache.clear();
+    }
+
+    public CacheStats getStats() {
+        return statsCounter.snapshot();
+    }
+
+    private V load(K key, CacheLoader<? super K, ? extends V> loader) throws Throwable {
+        long startTime = System.nanoTime();
+        V value;
+
+        try {
+            value = loader.load(key);
+        } catch (Throwable e) {
+            statsCounter.recordLoadFailure(System.nanoTime() - startTime);
+            throw e;
+        }
+
+        statsCounter.recordLoadSuccess(System.nanoTime() - startTime);
+        statsCounter.recordPut();
+
+        return value;
+    }
+}
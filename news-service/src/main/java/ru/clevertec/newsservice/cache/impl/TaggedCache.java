@@ -0,0 +1,165 @@
+package ru.clevertec.newsservice.cache.impl;
+
+import ru.clevertec.newsservice.cache.Cache;
+import ru.clevertec.newsservice.cache.CacheLoader;
+import ru.clevertec.newsservice.cache.EvictionCause;
+import ru.clevertec.newsservice.cache.EvictionListener;
+import ru.clevertec.newsservice.cache.Tagger;
+
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Decorator of the {@link Cache} interface that groups the keys by the tags of their mappings, so all mappings
+ * with the same tag are removed by a single {@link #invalidateTag(Object)}. The keys of every tag are kept in
+ * an index, which is updated on every put and load, removal and eviction of the decorated cache, so the
+ * invalidation removes only the keys of the tag without scanning the cache. The tag of a key is not expected
+ * to change: a key put again with another tag stays in the index of the previous tag, and its invalidation
+ * removes the key once more. The key sets of the index are changed only inside the atomic operations of the
+ * index map. The decorated cache must be thread-safe
+ *
+ * @param <K> the type of keys maintained by this cache
+ * @param <V> the type of mapped values
+ * @param <T> the type of tags
+ * @author Ruslan Kantsevich
+ */
+public class TaggedCache<K, V, T> implements Cache<K, V> {
+
+    private final Cache<K, V> cache;
+    private final Tagger<K, V, T> tagger;
+    private final ConcurrentMap<T, Set<K>> keysByTag;
+
+    /**
+     * Creates the cache decorating the cache created by the factory
+     *
+     * @param cacheFactory function creating the decorated cache with the given eviction listener
+     * @param tagger       tagger of the mappings
+     */
+    public TaggedCache(Function<EvictionListener<K, V>, Cache<K, V>> cacheFactory, Tagger<K, V, T> tagger) {
+        this.cache = cacheFactory.apply(this::onEviction);
+        this.tagger = tagger;
+        this.keysByTag = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public Optional<V> get(K key) {
+        return cache.get(key);
+    }
+
+    /**
+     * Returns the value associated with the key. On a miss the value is loaded by the decorated cache and
+     * its key is added to the index of its tag
+     *
+     * @param key    the key whose mapping is to be retrieved from the cache
+     * @param loader loader of type {@link CacheLoader} computing the value on a miss
+     * @return the value associated with key
+     * @throws Throwable if the loader failed
+     */
+    @Override
+    public V get(K key, CacheLoader<? super K, ? extends V> loader) throws Throwable {
+        return cache.get(key, missedKey -> {
+            V value = loader.load(missedKey);
+            index(missedKey, value);
+
+            return value;
+        });
+    }
+
+    @Override
+    public Optional<V> put(K key, V value) {
+        index(key, value);
+        return cache.put(key, value);
+    }
+
+    @Override
+    public Optional<V> remove(K key) {
+        Optional<V> value = cache.remove(key);
+        value.ifPresent(removedValue -> unindex(key, removedValue));
+
+        return value;
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return cache.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return cache.size();
+    }
+
+    @Override
+    public void clear() {
+        cache.clear();
+        keysByTag.clear();
+    }
+
+    /**
+     * Removes all mappings with the tag from this cache. The index of the tag is detached first, so the
+     * mappings of the tag put during the invalidation are indexed again and kept
+     *
+     * @param tag the tag whose mappings are to be removed
+     * @return the number of keys removed from the cache
+     */
+    public int invalidateTag(T tag) {
+        Set<K> keys = keysByTag.remove(tag);
+
+        if (keys == null) {
+            return 0;
+        }
+
+        int removed = 0;
+
+        for (K key : keys) {
+            if (cache.remove(key).isPresent()) {
+                removed++;
+            }
+        }
+
+        return removed;
+    }
+
+    /**
+     * Returns the number of indexed keys with the tag
+     *
+     * @param tag the tag whose keys are to be counted
+     * @return the number of keys, or 0 if the tag is not indexed
+     */
+    int getTagSize(T tag) {
+        Set<K> keys = keysByTag.get(tag);
+        return keys == null ? 0 : keys.size();
+    }
+
+    private void index(K key, V value) {
+        T tag = tagger.tag(key, value);
+
+        if (tag != null) {
+            keysByTag.compute(tag, (currentTag, keys) -> {
+                Set<K> tagKeys = keys == null ? new HashSet<>() : keys;
+                tagKeys.add(key);
+
+                return tagKeys;
+            });
+        }
+    }
+
+    private void unindex(K key, V value) {
+        T tag = tagger.tag(key, value);
+
+        if (tag != null) {
+            keysByTag.computeIfPresent(tag, (currentTag, keys) -> {
+                keys.remove(key);
+                return keys.isEmpty() ? null : keys;
+            });
+        }
+    }
+
+    private void onEviction(K key, V value, EvictionCause cause) {
+        unindex(key, value);
+    }
+}
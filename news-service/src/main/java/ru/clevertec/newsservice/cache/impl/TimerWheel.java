@@ -0,0 +1,231 @@
+package ru.clevertec.newsservice.cache.impl;
+
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timer wheel for expiring cache mappings in amortized constant time. Timers are placed in
+ * buckets of several wheels by their expiration time: the first wheel has buckets of about one second,
+ * the next ones of about a minute, an hour and a day, and the last wheel holds the timers expiring
+ * later. When the time advances, only the buckets whose time span has passed are visited: the expired
+ * timers of them are reported and the others are moved to the buckets of a finer wheel. Timers are
+ * reported with the resolution of the first wheel, so a timer may be reported up to about a second after
+ * its expiration time. The class is not thread-safe
+ *
+ * @param <K> the type of keys of the timers
+ * @author Ruslan Kantsevich
+ */
+final class TimerWheel<K> {
+
+    private static final int[] BUCKETS = {64, 64, 32, 4, 1};
+    private static final long[] SPANS = {
+            1L << 30, // 1.07 seconds
+            1L << 36, // 1.15 minutes
+            1L << 42, // 1.22 hours
+            1L << 46, // 0.81 days
+            1L << 48, // 3.26 days
+            1L << 48
+    };
+    private static final int[] SHIFTS = {
+            Long.numberOfTrailingZeros(SPANS[0]),
+            Long.numberOfTrailingZeros(SPANS[1]),
+            Long.numberOfTrailingZeros(SPANS[2]),
+            Long.numberOfTrailingZeros(SPANS[3]),
+            Long.numberOfTrailingZeros(SPANS[4])
+    };
+
+    private final Timer<K>[][] wheel;
+    private long nanos;
+
+    /**
+     * Creates the timer wheel
+     *
+     * @param nanos current time in nanoseconds of the ticker used to calculate expiration times
+     */
+    @SuppressWarnings("unchecked")
+    TimerWheel(long nanos) {
+        this.wheel = new Timer[BUCKETS.length][];
+        this.nanos = nanos;
+
+        for (int i = 0; i < BUCKETS.length; i++) {
+            wheel[i] = new Timer[BUCKETS[i]];
+
+            for (int j = 0; j < BUCKETS[i]; j++) {
+                wheel[i][j] = Timer.sentinel();
+            }
+        }
+    }
+
+    /**
+     * Adds the timer to the bucket matching its expiration time. A timer that has already expired is
+     * added to the bucket of the current time
+     *
+     * @param timer the timer to be scheduled
+     */
+    void schedule(Timer<K> timer) {
+        long time = timer.expirationTime - nanos < 0 ? nanos : timer.expirationTime;
+        Timer<K> sentinel = findBucket(time);
+
+        timer.prev = sentinel.prev;
+        timer.next = sentinel;
+        sentinel.prev.next = timer;
+        sentinel.prev = timer;
+    }
+
+    /**
+     * Moves the timer to the bucket matching its new expiration time
+     *
+     * @param timer the timer whose expiration time has changed
+     */
+    void reschedule(Timer<K> timer) {
+        deschedule(timer);
+        schedule(timer);
+    }
+
+    /**
+     * Removes the timer from the wheel if it is scheduled
+     *
+     * @param timer the timer to be removed
+     */
+    void deschedule(Timer<K> timer) {
+        if (timer.next != null) {
+            timer.prev.next = timer.next;
+            timer.next.prev = timer.prev;
+            timer.prev = null;
+            timer.next = null;
+        }
+    }
+
+    /**
+     * Advances the time of the wheel and reports the expired timers. Reported timers are already removed
+     * from the wheel
+     *
+     * @param currentNanos current time in nanoseconds
+     * @param expired      consumer of the expired timers
+     */
+    void advance(long currentNanos, Consumer<Timer<K>> expired) {
+        long previousNanos = nanos;
+        nanos = currentNanos;
+
+        for (int i = 0; i < SHIFTS.length; i++) {
+            long previousTicks = previousNanos >> SHIFTS[i];
+            long delta = (currentNanos >> SHIFTS[i]) - previousTicks;
+
+            if (delta <= 0) {
+                break;
+            }
+
+            expire(i, previousTicks, delta, expired);
+        }
+    }
+
+    /**
+     * Removes all timers from the wheel
+     */
+    void clear() {
+        for (Timer<K>[] buckets : wheel) {
+            for (Timer<K> sentinel : buckets) {
+                sentinel.prev = sentinel;
+                sentinel.next = sentinel;
+            }
+        }
+    }
+
+    /**
+     * Visits the buckets of the wheel whose time span has passed. Expired timers are reported, and the
+     * others are scheduled again, which moves them to a finer wheel
+     *
+     * @param index         index of the wheel
+     * @param previousTicks number of buckets of the wheel passed before the previous advance
+     * @param delta         number of buckets of the wheel passed since the previous advance
+     * @param expired       consumer of the expired timers
+     */
+    private void expire(int index, long previousTicks, long delta, Consumer<Timer<K>> expired) {
+        Timer<K>[] buckets = wheel[index];
+        int mask = buckets.length - 1;
+        int steps = (int) Math.min(delta + 1, buckets.length);
+        int start = (int) (previousTicks & mask);
+
+        for (int i = start; i < start + steps; i++) {
+            Timer<K> sentinel = buckets[i & mask];
+            Timer<K> timer = sentinel.next;
+
+            sentinel.prev = sentinel;
+            sentinel.next = sentinel;
+
+            while (timer != sentinel) {
+                Timer<K> next = timer.next;
+                timer.prev = null;
+                timer.next = null;
+
+                if (timer.expirationTime - nanos <= 0) {
+                    expired.accept(timer);
+                } else {
+                    schedule(timer);
+                }
+
+                timer = next;
+            }
+        }
+    }
+
+    /**
+     * Finds the bucket of the finest wheel whose time span covers the time
+     *
+     * @param time expiration time in nanoseconds
+     * @return sentinel of the bucket
+     */
+    private Timer<K> findBucket(long time) {
+        long duration = time - nanos;
+        int last = wheel.length - 1;
+
+        for (int i = 0; i < last; i++) {
+            if (duration < SPANS[i + 1]) {
+                long ticks = time >> SHIFTS[i];
+                return wheel[i][(int) (ticks & (wheel[i].length - 1))];
+            }
+        }
+
+        return wheel[last][0];
+    }
+
+    /**
+     * Node of the bucket list holding the key and the expiration time of a cache mapping
+     *
+     * @param <K> the type of the key
+     */
+    static class Timer<K> {
+
+        private final K key;
+        private long expirationTime;
+        private Timer<K> prev;
+        private Timer<K> next;
+
+        Timer(K key) {
+            this.key = key;
+        }
+
+        K getKey() {
+            return key;
+        }
+
+        long getExpirationTime() {
+            return expirationTime;
+        }
+
+        void setExpirationTime(long expirationTime) {
+            this.expirationTime = expirationTime;
+        }
+
+        boolean isScheduled() {
+            return next != null;
+        }
+
+        private static <K> Timer<K> sentinel() {
+            Timer<K> sentinel = new Timer<>(null);
+            sentinel.prev = sentinel;
+            sentinel.next = sentinel;
+
+            return sentinel;
+        }
+    }
+}
@@ -0,0 +1,353 @@
+package ru.clevertec.newsservice.cache.impl;
+
+import ru.clevertec.newsservice.cache.Cache;
+import ru.clevertec.newsservice.cache.EvictionCause;
+import ru.clevertec.newsservice.cache.EvictionListener;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * An implementation of the {@link Cache} interface that uses the Window TinyLFU (W-TinyLFU) algorithm.
+ * New mappings are added to a small LRU admission window (1% of the capacity). A mapping leaving the
+ * window becomes a candidate for the main region and is admitted only if its estimated frequency is
+ * higher than the frequency of the mapping the main region would evict, so a scan of keys accessed
+ * once cannot flush popular mappings. The main region is a segmented LRU: mappings enter the probation
+ * segment and are promoted to the protected segment (80% of the main region) on their next access.
+ * Frequencies are estimated by a {@link FrequencySketch} whose counters are periodically halved, so
+ * mappings that were popular long ago are eventually evicted. All operations are guarded by a single
+ * {@link ReentrantLock}
+ *
+ * @param <K> the type of keys maintained by this cache
+ * @param <V> the type of mapped values
+ * @author Ruslan Kantsevich
+ */
+public class TinyLFUCache<K, V> implements Cache<K, V> {
+
+    private static final double WINDOW_PERCENTAGE = 0.01;
+    private static final double PROTECTED_PERCENTAGE = 0.8;
+
+    private final int capacity;
+    private final int windowCapacity;
+    private final int protectedCapacity;
+    private final Map<K, Node<K, V>> cache;
+    private final FrequencySketch<K> sketch;
+    private final NodeDeque<K, V> window;
+    private final NodeDeque<K, V> probation;
+    private final NodeDeque<K, V> protectedSegment;
+    private final ReentrantLock lock;
+    private final EvictionListener<K, V> evictionListener;
+
+    public TinyLFUCache(int capacity) {
+        this(capacity, EvictionListener.none());
+    }
+
+    public TinyLFUCache(int capacity, EvictionListener<K, V> evictionListener) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+
+        int mainCapacity = capacity - Math.max(1, (int) (capacity * WINDOW_PERCENTAGE));
+
+        this.capacity = capacity;
+        this.windowCapacity = capacity - mainCapacity;
+        this.protectedCapacity = (int) (mainCapacity * PROTECTED_PERCENTAGE);
+        this.cache = new HashMap<>(capacity);
+        this.sketch = new FrequencySketch<>(capacity);
+        this.window = new NodeDeque<>();
+        this.probation = new NodeDeque<>();
+        this.protectedSegment = new NodeDeque<>();
+        this.lock = new ReentrantLock();
+        this.evictionListener = evictionListener;
+    }
+
+    /**
+     * Returns key mapping as {@link Optional} from this cache, if present, and records the access
+     *
+     * @param key the key whose mapping is to be retrieved from the cache
+     * @return the {@link Optional} value associated with key, or {@code Optional.empty()}
+     * if there was no mapping for key
+     */
+    @Override
+    public Optional<V> get(K key) {
+        lock.lock();
+        try {
+            Node<K, V> node = cache.get(key);
+
+            if (node == null) {
+                return Optional.empty();
+            }
+
+            onAccess(node);
+
+            return Optional.ofNullable(node.value);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Associates the specified value with the specified key in this cache. If the cache
+     * previously contained a mapping for the key, the old value is replaced with the
+     * specified value. A new mapping is added to the admission window, and the mapping leaving
+     * the window competes with the eviction victim of the main region
+     *
+     * @param key   key with which the specified value is to be associated
+     * @param value value to be associated with the specified key
+     * @return the {@link Optional} value associated with key, or {@code Optional.empty()}
+     * if there was no mapping for key
+     */
+    @Override
+    public Optional<V> put(K key, V value) {
+        lock.lock();
+        try {
+            Node<K, V> node = cache.get(key);
+
+            if (node != null) {
+                node.value = value;
+                onAccess(node);
+
+                return Optional.ofNullable(value);
+            }
+
+            node = new Node<>(key, value, Region.WINDOW);
+            cache.put(key, node);
+            window.addLast(node);
+            sketch.increment(key);
+
+            evict();
+
+            return Optional.ofNullable(value);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the mapping for a key from this cache if it is present
+     *
+     * @param key key whose mapping is to be removed from the cache
+     * @return the {@link Optional} value associated with key, or {@code Optional.empty()}
+     * if there was no mapping for key
+     */
+    @Override
+    public Optional<V> remove(K key) {
+        lock.lock();
+        try {
+            Node<K, V> node = cache.remove(key);
+
+            if (node == null) {
+                return Optional.empty();
+            }
+
+            dequeOf(node).remove(node);
+
+            return Optional.ofNullable(node.value);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Checks if the value with the key is in the cache. If contained then returns true.
+     * Otherwise - false. The check is not recorded as an access
+     *
+     * @param key whose mapping is to be checked in the cache
+     * @return variable containing information about the contained value by key in the cache
+     * */
+    @Override
+    public boolean containsKey(K key) {
+        lock.lock();
+        try {
+            return cache.containsKey(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of key-value mappings in this cache
+     *
+     * @return the number of key-value mappings in this cache
+     */
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return cache.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes all key-value mappings and access frequencies from this cache. The cache will be
+     * empty after this call returns
+     */
+    @Override
+    public void clear() {
+        lock.lock();
+        try {
+            cache.clear();
+            window.clear();
+            probation.clear();
+            protectedSegment.clear();
+            sketch.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Records the access of the mapping in the sketch and moves it according to its region: inside
+     * the window and the protected segment to the most recently used position, from the probation to
+     * the protected segment. If the protected segment overflows, its least recently used mapping is
+     * demoted to the probation segment
+     *
+     * @param node the accessed mapping
+     */
+    private void onAccess(Node<K, V> node) {
+        sketch.increment(node.key);
+
+        switch (node.region) {
+            case WINDOW -> window.moveToLast(node);
+            case PROTECTED -> protectedSegment.moveToLast(node);
+            case PROBATION -> {
+                probation.remove(node);
+                node.region = Region.PROTECTED;
+                protectedSegment.addLast(node);
+
+                if (protectedSegment.size > protectedCapacity) {
+                    Node<K, V> demoted = protectedSegment.pollFirst();
+                    demoted.region = Region.PROBATION;
+                    probation.addLast(demoted);
+                }
+            }
+        }
+    }
+
+    /**
+     * Moves the overflow of the window to the probation segment and, while the cache exceeds its
+     * capacity, evicts either the candidate from the window or the least recently used mapping of the
+     * main region, whichever has the lower estimated frequency. On a tie the candidate is evicted
+     */
+    private void evict() {
+        while (window.size > windowCapacity) {
+            Node<K, V> candidate = window.pollFirst();
+            candidate.region = Region.PROBATION;
+            probation.addLast(candidate);
+
+            if (cache.size() <= capacity) {
+                continue;
+            }
+
+            Node<K, V> victim = probation.first != candidate ? probation.first : protectedSegment.first;
+
+            if (victim == null || sketch.frequency(candidate.key) <= sketch.frequency(victim.key)) {
+                victim = candidate;
+            }
+
+            dequeOf(victim).remove(victim);
+            cache.remove(victim.key);
+            evictionListener.onEviction(victim.key, victim.value, EvictionCause.SIZE);
+        }
+    }
+
+    private NodeDeque<K, V> dequeOf(Node<K, V> node) {
+        return switch (node.region) {
+            case WINDOW -> window;
+            case PROBATION -> probation;
+            case PROTECTED -> protectedSegment;
+        };
+    }
+
+    private enum Region {
+        WINDOW, PROBATION, PROTECTED
+    }
+
+    private static final class Node<K, V> {
+
+        private final K key;
+        private V value;
+        private Region region;
+        private Node<K, V> prev;
+        private Node<K, V> next;
+
+        private Node(K key, V value, Region region) {
+            this.key = key;
+            this.value = value;
+            this.region = region;
+        }
+    }
+
+    /**
+     * Doubly-linked list of mappings in access order, the least recently used mapping is the first
+     */
+    private static final class NodeDeque<K, V> {
+
+        private Node<K, V> first;
+        private Node<K, V> last;
+        private int size;
+
+        private void addLast(Node<K, V> node) {
+            node.prev = last;
+            node.next = null;
+
+            if (last == null) {
+                first = node;
+            } else {
+                last.next = node;
+            }
+
+            last = node;
+            size++;
+        }
+
+        private Node<K, V> pollFirst() {
+            Node<K, V> node = first;
+
+            if (node != null) {
+                remove(node);
+            }
+
+            return node;
+        }
+
+        private void moveToLast(Node<K, V> node) {
+            if (node != last) {
+                remove(node);
+                addLast(node);
+            }
+        }
+
+        private void remove(Node<K, V> node) {
+            if (node.prev == null) {
+                first = node.next;
+            } else {
+                node.prev.next = node.next;
+            }
+
+            if (node.next == null) {
+                last = node.prev;
+            } else {
+                node.next.prev = node.prev;
+            }
+
+            node.prev = null;
+            node.next = null;
+            size--;
+        }
+
+        private void clear() {
+            first = null;
+            last = null;
+            size = 0;
+        }
+    }
+}
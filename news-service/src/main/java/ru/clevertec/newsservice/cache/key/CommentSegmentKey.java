@@ -0,0 +1,16 @@
+package ru.clevertec.newsservice.cache.key;
+
+/**
+ * Key of the cached segment of the first news comments. The string form of the key is the id of the news, which
+ * is the key of the segment in the redis cache and in the invalidation messages of the two-tier cache
+ *
+ * @param newsId id of news the comments belong to
+ * @author Ruslan Kantsevich
+ */
+public record CommentSegmentKey(Long newsId) {
+
+    @Override
+    public String toString() {
+        return String.valueOf(newsId);
+    }
+}
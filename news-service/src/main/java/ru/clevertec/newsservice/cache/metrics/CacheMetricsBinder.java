@@ -0,0 +1,90 @@
+package ru.clevertec.newsservice.cache.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import ru.clevertec.newsservice.cache.EvictionCause;
+import ru.clevertec.newsservice.cache.impl.BoundedCache;
+import ru.clevertec.newsservice.cache.impl.StatsCache;
+
+import java.util.Locale;
+
+/**
+ * Binds the statistics of a {@link StatsCache} to a {@link MeterRegistry}: requests by result, puts,
+ * evictions by cause, size, weight and hit ratio. All meters are tagged with the given tags, which
+ * identify the cache
+ *
+ * @author Ruslan Kantsevich
+ */
+public class CacheMetricsBinder implements MeterBinder {
+
+    private final StatsCache<?, ?> cache;
+    private final BoundedCache<?, ?> boundedCache;
+    private final Tags tags;
+
+    public CacheMetricsBinder(StatsCache<?, ?> cache, Tags tags) {
+        this(cache, null, tags);
+    }
+
+    /**
+     * Creates the binder also publishing the weight of the cache
+     *
+     * @param cache        the cache whose statistics are published
+     * @param boundedCache the cache decorated by the cache keeping the weight, or null if the weight is not bounded
+     * @param tags         tags identifying the cache
+     */
+    public CacheMetricsBinder(StatsCache<?, ?> cache, BoundedCache<?, ?> boundedCache, Tags tags) {
+        this.cache = cache;
+        this.boundedCache = boundedCache;
+        this.tags = tags;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        FunctionCounter.builder("cache.gets", cache, c -> c.getStats().getHitCount())
+                .description("The number of times cache lookup methods have returned a cached value")
+                .tags(tags)
+                .tag("result", "hit")
+                .register(meterRegistry);
+
+        FunctionCounter.builder("cache.gets", cache, c -> c.getStats().getMissCount())
+                .description("The number of times cache lookup methods have not found a cached value")
+                .tags(tags)
+                .tag("result", "miss")
+                .register(meterRegistry);
+
+        FunctionCounter.builder("cache.puts", cache, c -> c.getStats().getPutCount())
+                .description("The number of entries added to the cache")
+                .tags(tags)
+                .register(meterRegistry);
+
+        for (EvictionCause cause : EvictionCause.values()) {
+            FunctionCounter.builder("cache.evictions", cache, c -> c.getStats().getEvictionCount(cause))
+                    .description("The number of entries evicted from the cache")
+                    .tags(tags)
+                    .tag("cause", cause.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry);
+        }
+
+        Gauge.builder("cache.size", cache, StatsCache::size)
+                .description("The number of entries in the cache")
+                .tags(tags)
+                .register(meterRegistry);
+
+        Gauge.builder("cache.hit.ratio", cache, c -> c.getStats().getHitRatio())
+                .description("The ratio of cache requests which were hits")
+                .tags(tags)
+                .register(meterRegistry);
+
+        if (boundedCache != null && boundedCache.getMaxWeight() > 0) {
+            Gauge.builder("cache.weight", boundedCache, BoundedCache::getWeight)
+                    .description("The estimated size of the entries in the cache")
+                    .tags(tags)
+                    .baseUnit("bytes")
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package ru.clevertec.newsservice.cache.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import ru.clevertec.newsservice.cache.stats.ConcurrentStatsCounter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ConcurrentStatsCounter} that also records load times in the cache.load timer, tagged with the
+ * result of the load, with a percentile histogram
+ *
+ * @author Ruslan Kantsevich
+ */
+public class MicrometerStatsCounter extends ConcurrentStatsCounter {
+
+    private final Timer loadSuccessTimer;
+    private final Timer loadFailureTimer;
+
+    public MicrometerStatsCounter(MeterRegistry meterRegistry, Tags tags) {
+        this.loadSuccessTimer = loadTimer(meterRegistry, tags, "success");
+        this.loadFailureTimer = loadTimer(meterRegistry, tags, "failure");
+    }
+
+    @Override
+    public void recordLoadSuccess(long loadTime) {
+        super.recordLoadSuccess(loadTime);
+        loadSuccessTimer.record(loadTime, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordLoadFailure(long loadTime) {
+        super.recordLoadFailure(loadTime);
+        loadFailureTimer.record(loadTime, TimeUnit.NANOSECONDS);
+    }
+
+    private static Timer loadTimer(MeterRegistry meterRegistry, Tags tags, String result) {
+        return Timer.builder("cache.load")
+                .description("The time the cache spent loading missing values")
+                .tags(tags)
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
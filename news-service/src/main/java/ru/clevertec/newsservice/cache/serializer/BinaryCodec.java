@@ -0,0 +1,16 @@
+package ru.clevertec.newsservice.cache.serializer;
+
+/**
+ * Schema of a type in the binary format of {@link BinaryRedisSerializer}: the fields are written in a fixed
+ * order without names or type descriptors, so the writer and the reader must agree on the order
+ *
+ * @param <T> the type of the encoded values
+ * @author Ruslan Kantsevich
+ */
+interface BinaryCodec<T> {
+
+    void write(BinaryWriter writer, T value);
+
+    T read(BinaryReader reader);
+
+}
@@ -0,0 +1,142 @@
+package ru.clevertec.newsservice.cache.serializer;
+
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+/**
+ * Reader of the values written by {@link BinaryWriter}
+ *
+ * @author Ruslan Kantsevich
+ */
+final class BinaryReader {
+
+    private final byte[] buffer;
+    private final int limit;
+    private final int version;
+    private int position;
+
+    /**
+     * Creates the reader
+     *
+     * @param buffer  buffer holding the values
+     * @param offset  position of the first value
+     * @param limit   position following the last value
+     * @param version format version the values were written by, which decides the fields of the schemas
+     */
+    BinaryReader(byte[] buffer, int offset, int limit, int version) {
+        this.buffer = buffer;
+        this.position = offset;
+        this.limit = limit;
+        this.version = version;
+    }
+
+    int version() {
+        return version;
+    }
+
+    int readByte() {
+        checkAvailable(1);
+        return buffer[position++] & 0xFF;
+    }
+
+    int readVarInt() {
+        int value = 0;
+
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = readByte();
+            value |= (b & 0x7F) << shift;
+
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+
+        throw new SerializationException("Malformed variable-length integer");
+    }
+
+    long readVarLong() {
+        long value = 0;
+
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+
+        throw new SerializationException("Malformed variable-length long");
+    }
+
+    Long readLong() {
+        if (readByte() == 0) {
+            return null;
+        }
+
+        long value = readVarLong();
+
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    String readString() {
+        int length = readVarInt() - 1;
+
+        if (length < 0) {
+            return null;
+        }
+
+        checkAvailable(length);
+        String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+        position += length;
+
+        return value;
+    }
+
+    LocalDateTime readTime() {
+        if (readByte() == 0) {
+            return null;
+        }
+
+        long value = readVarLong();
+        long seconds = (value >>> 1) ^ -(value & 1);
+
+        return LocalDateTime.ofEpochSecond(seconds, readVarInt(), ZoneOffset.UTC);
+    }
+
+    /**
+     * Reads the length of a nullable list
+     *
+     * @return the number of elements, or -1 if the list is null
+     */
+    int readLength() {
+        int length = readVarInt() - 1;
+
+        if (length > limit - position) {
+            throw new SerializationException("List length exceeds the payload");
+        }
+
+        return length;
+    }
+
+    byte[] readRemaining() {
+        byte[] bytes = Arrays.copyOfRange(buffer, position, limit);
+        position = limit;
+
+        return bytes;
+    }
+
+    int position() {
+        return position;
+    }
+
+    private void checkAvailable(int length) {
+        if (length > limit - position) {
+            throw new SerializationException("Unexpected end of the payload");
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package ru.clevertec.newsservice.cache.serializer;
+
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Exception;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import ru.clevertec.newsservice.dto.response.comment.CommentResponse;
+import ru.clevertec.newsservice.dto.response.comment.NewsCommentResponse;
+import ru.clevertec.newsservice.dto.response.news.CommentNewsResponse;
+import ru.clevertec.newsservice.dto.response.news.NewsResponse;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Implementation of the {@link RedisSerializer} interface writing the cached responses in a compact binary
+ * format instead of the JDK serialization. A payload consists of:
+ * <ul>
+ *     <li>header byte holding the format version in the high 4 bits and the compression flag in the low bit</li>
+ *     <li>length of the uncompressed body as a variable-length integer, if the body is compressed</li>
+ *     <li>body, possibly compressed by LZ4: a type tag byte and the fields of the value in the order defined by
+ *     its schema in {@link ResponseCodecs}</li>
+ * </ul>
+ * Lists of comments, such as the cached comment segments, have their own tag.
+ * Values of other types, such as the null value of the Spring cache, are written with the tag 0 followed by
+ * their JDK serialization. Payloads written by the JDK serialization before the switch to this format are
+ * recognized by their stream magic and still read, so the entries cached before a deployment stay readable
+ * until they expire. Bodies of at least the compression threshold are compressed, unless the compression
+ * does not make them smaller. Payloads of the previous format versions are read with the fields their schemas
+ * had then
+ *
+ * @author Ruslan Kantsevich
+ */
+public class BinaryRedisSerializer implements RedisSerializer<Object> {
+
+    private static final byte[] EMPTY_ARRAY = new byte[0];
+    private static final int VERSION = 3;
+    private static final int MIN_VERSION = 1;
+    private static final int COMPRESSED = 1;
+    private static final int JDK_STREAM_MAGIC = 0xAC;
+    private static final int MAX_HEADER_LENGTH = 6;
+
+    private static final int JDK_TAG = 0;
+    private static final int COMMENT_NEWS_TAG = 1;
+    private static final int NEWS_COMMENT_TAG = 2;
+    private static final int NEWS_TAG = 3;
+    private static final int COMMENT_TAG = 4;
+    private static final int COMMENT_LIST_TAG = 5;
+
+    private final int compressionThreshold;
+    private final RedisSerializer<Object> jdkSerializer;
+    private final LZ4Compressor compressor;
+    private final LZ4FastDecompressor decompressor;
+
+    public BinaryRedisSerializer() {
+        this(0);
+    }
+
+    /**
+     * Creates the serializer
+     *
+     * @param compressionThreshold minimum length in bytes of the body to be compressed, zero if bodies are
+     *                             never compressed
+     */
+    public BinaryRedisSerializer(int compressionThreshold) {
+        if (compressionThreshold < 0) {
+            throw new IllegalArgumentException("Compression threshold must not be negative");
+        }
+
+        LZ4Factory factory = LZ4Factory.fastestInstance();
+
+        this.compressionThreshold = compressionThreshold;
+        this.jdkSerializer = RedisSerializer.java();
+        this.compressor = factory.fastCompressor();
+        this.decompressor = factory.fastDecompressor();
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return EMPTY_ARRAY;
+        }
+
+        BinaryWriter writer = new BinaryWriter(256);
+        writer.writeByte(VERSION << 4);
+        writeBody(writer, value);
+
+        int bodyLength = writer.position() - 1;
+
+        if (compressionThreshold == 0 || bodyLength < compressionThreshold) {
+            return writer.toByteArray();
+        }
+
+        return compress(writer.buffer(), bodyLength);
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+
+        int header = bytes[0] & 0xFF;
+
+        if (header == JDK_STREAM_MAGIC) {
+            return jdkSerializer.deserialize(bytes);
+        }
+
+        int version = header >>> 4;
+
+        if (version < MIN_VERSION || version > VERSION) {
+            throw new SerializationException("Unsupported binary format version " + version);
+        }
+
+        BinaryReader reader = new BinaryReader(bytes, 1, bytes.length, version);
+
+        if ((header & COMPRESSED) != 0) {
+            int bodyLength = reader.readVarInt();
+            byte[] body = decompress(bytes, reader.position(), bodyLength);
+            reader = new BinaryReader(body, 0, body.length, version);
+        }
+
+        return readBody(reader);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void writeBody(BinaryWriter writer, Object value) {
+        if (value instanceof CommentNewsResponse news) {
+            writer.writeByte(COMMENT_NEWS_TAG);
+            ResponseCodecs.COMMENT_NEWS.write(writer, news);
+        } else if (value instanceof NewsCommentResponse comment) {
+            writer.writeByte(NEWS_COMMENT_TAG);
+            ResponseCodecs.NEWS_COMMENT.write(writer, comment);
+        } else if (value instanceof NewsResponse news) {
+            writer.writeByte(NEWS_TAG);
+            ResponseCodecs.NEWS.write(writer, news);
+        } else if (value instanceof CommentResponse comment) {
+            writer.writeByte(COMMENT_TAG);
+            ResponseCodecs.COMMENT.write(writer, comment);
+        } else if (isCommentList(value)) {
+            writer.writeByte(COMMENT_LIST_TAG);
+            ResponseCodecs.COMMENT_LIST.write(writer, (List<CommentResponse>) value);
+        } else {
+            byte[] bytes = jdkSerializer.serialize(value);
+            writer.writeByte(JDK_TAG);
+            writer.writeBytes(bytes, 0, bytes.length);
+        }
+    }
+
+    private Object readBody(BinaryReader reader) {
+        int tag = reader.readByte();
+
+        return switch (tag) {
+            case COMMENT_NEWS_TAG -> ResponseCodecs.COMMENT_NEWS.read(reader);
+            case NEWS_COMMENT_TAG -> ResponseCodecs.NEWS_COMMENT.read(reader);
+            case NEWS_TAG -> ResponseCodecs.NEWS.read(reader);
+            case COMMENT_TAG -> ResponseCodecs.COMMENT.read(reader);
+            case COMMENT_LIST_TAG -> ResponseCodecs.COMMENT_LIST.read(reader);
+            case JDK_TAG -> jdkSerializer.deserialize(reader.readRemaining());
+            default -> throw new SerializationException("Unknown type tag " + tag);
+        };
+    }
+
+    private boolean isCommentList(Object value) {
+        return value instanceof List<?> list && list.stream().allMatch(CommentResponse.class::isInstance);
+    }
+
+    /**
+     * Compresses the body following the header byte of the buffer. The uncompressed payload is returned if
+     * the compressed one is not smaller
+     *
+     * @param buffer     buffer holding the header byte and the body
+     * @param bodyLength length of the body
+     * @return the payload
+     */
+    private byte[] compress(byte[] buffer, int bodyLength) {
+        int maxCompressedLength = compressor.maxCompressedLength(bodyLength);
+        BinaryWriter writer = new BinaryWriter(MAX_HEADER_LENGTH + maxCompressedLength);
+        writer.writeByte(VERSION << 4 | COMPRESSED);
+        writer.writeVarInt(bodyLength);
+
+        int offset = writer.position();
+        int compressedLength = compressor.compress(buffer, 1, bodyLength, writer.buffer(), offset,
+                maxCompressedLength);
+
+        if (offset + compressedLength > bodyLength) {
+            return Arrays.copyOf(buffer, bodyLength + 1);
+        }
+
+        return Arrays.copyOf(writer.buffer(), offset + compressedLength);
+    }
+
+    private byte[] decompress(byte[] bytes, int offset, int bodyLength) {
+        if (bodyLength < 0) {
+            throw new SerializationException("Malformed compressed payload length");
+        }
+
+        try {
+            byte[] body = new byte[bodyLength];
+            decompressor.decompress(bytes, offset, body, 0, bodyLength);
+
+            return body;
+        } catch (LZ4Exception e) {
+            throw new SerializationException("Malformed compressed payload", e);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package ru.clevertec.newsservice.cache.serializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+/**
+ * Growable buffer writing values in the compact binary format of {@link BinaryRedisSerializer}. Integers are
+ * written as variable-length quantities of 7 bits per byte, signed ones in zigzag encoding, so small ids and
+ * lengths take one or two bytes. Nullable values are prefixed with a presence flag, and the length of a
+ * nullable string or list is written incremented by one, zero meaning null
+ *
+ * @author Ruslan Kantsevich
+ */
+final class BinaryWriter {
+
+    private byte[] buffer;
+    private int position;
+
+    BinaryWriter(int initialCapacity) {
+        this.buffer = new byte[Math.max(initialCapacity, 16)];
+    }
+
+    void writeByte(int value) {
+        ensureCapacity(1);
+        buffer[position++] = (byte) value;
+    }
+
+    void writeVarInt(int value) {
+        ensureCapacity(5);
+
+        while ((value & ~0x7F) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+
+        buffer[position++] = (byte) value;
+    }
+
+    void writeVarLong(long value) {
+        ensureCapacity(10);
+
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+
+        buffer[position++] = (byte) value;
+    }
+
+    void writeLong(Long value) {
+        if (value == null) {
+            writeByte(0);
+            return;
+        }
+
+        writeByte(1);
+        writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    void writeString(String value) {
+        if (value == null) {
+            writeVarInt(0);
+            return;
+        }
+
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(bytes.length + 1);
+        writeBytes(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Writes the time as seconds of the epoch in UTC and nanoseconds of the second
+     *
+     * @param value the time to be written, or null
+     */
+    void writeTime(LocalDateTime value) {
+        if (value == null) {
+            writeByte(0);
+            return;
+        }
+
+        long seconds = value.toEpochSecond(ZoneOffset.UTC);
+
+        writeByte(1);
+        writeVarLong((seconds << 1) ^ (seconds >> 63));
+        writeVarInt(value.getNano());
+    }
+
+    /**
+     * Writes the length of a nullable list
+     *
+     * @param length the number of elements, or -1 if the list is null
+     */
+    void writeLength(int length) {
+        writeVarInt(length + 1);
+    }
+
+    void writeBytes(byte[] bytes, int offset, int length) {
+        ensureCapacity(length);
+        System.arraycopy(bytes, offset, buffer, position, length);
+        position += length;
+    }
+
+    int position() {
+        return position;
+    }
+
+    byte[] buffer() {
+        return buffer;
+    }
+
+    byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+
+    private void ensureCapacity(int length) {
+        if (position + length > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length << 1, position + length));
+        }
+    }
+}
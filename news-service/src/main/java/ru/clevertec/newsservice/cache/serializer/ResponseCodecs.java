@@ -0,0 +1,200 @@
+package ru.clevertec.newsservice.cache.serializer;
+
+import ru.clevertec.newsservice.dto.response.comment.CommentResponse;
+import ru.clevertec.newsservice.dto.response.comment.NewsCommentResponse;
+import ru.clevertec.newsservice.dto.response.news.CommentNewsResponse;
+import ru.clevertec.newsservice.dto.response.news.NewsResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Schemas of the cached responses. A field may only be appended to the end of a schema together with a new
+ * format version of {@link BinaryRedisSerializer}, since values written by the previous version do not have it
+ *
+ * @author Ruslan Kantsevich
+ */
+final class ResponseCodecs {
+
+    /**
+     * id, title, text, time, username, since version 2 commentCount, lastCommentAt
+     */
+    static final BinaryCodec<NewsResponse> NEWS = new BinaryCodec<>() {
+
+        @Override
+        public void write(BinaryWriter writer, NewsResponse news) {
+            writer.writeLong(news.getId());
+            writer.writeString(news.getTitle());
+            writer.writeString(news.getText());
+            writer.writeTime(news.getTime());
+            writer.writeString(news.getUsername());
+            writer.writeLong(news.getCommentCount());
+            writer.writeTime(news.getLastCommentAt());
+        }
+
+        @Override
+        public NewsResponse read(BinaryReader reader) {
+            NewsResponse news = NewsResponse.builder()
+                    .id(reader.readLong())
+                    .title(reader.readString())
+                    .text(reader.readString())
+                    .time(reader.readTime())
+                    .username(reader.readString())
+                    .build();
+
+            if (reader.version() >= 2) {
+                news.setCommentCount(reader.readLong());
+                news.setLastCommentAt(reader.readTime());
+            }
+
+            return news;
+        }
+    };
+
+    /**
+     * id, text, time, username
+     */
+    static final BinaryCodec<CommentResponse> COMMENT = new BinaryCodec<>() {
+
+        @Override
+        public void write(BinaryWriter writer, CommentResponse comment) {
+            writer.writeLong(comment.getId());
+            writer.writeString(comment.getText());
+            writer.writeTime(comment.getTime());
+            writer.writeString(comment.getUsername());
+        }
+
+        @Override
+        public CommentResponse read(BinaryReader reader) {
+            return CommentResponse.builder()
+                    .id(reader.readLong())
+                    .text(reader.readString())
+                    .time(reader.readTime())
+                    .username(reader.readString())
+                    .build();
+        }
+    };
+
+    /**
+     * length, comments
+     */
+    static final BinaryCodec<List<CommentResponse>> COMMENT_LIST = new BinaryCodec<>() {
+
+        @Override
+        public void write(BinaryWriter writer, List<CommentResponse> comments) {
+            writeList(writer, comments, COMMENT);
+        }
+
+        @Override
+        public List<CommentResponse> read(BinaryReader reader) {
+            return readList(reader, COMMENT);
+        }
+    };
+
+    /**
+     * id, title, text, time, username, comments, since version 3 nextCommentsCursor
+     */
+    static final BinaryCodec<CommentNewsResponse> COMMENT_NEWS = new BinaryCodec<>() {
+
+        @Override
+        public void write(BinaryWriter writer, CommentNewsResponse news) {
+            writer.writeLong(news.getId());
+            writer.writeString(news.getTitle());
+            writer.writeString(news.getText());
+            writer.writeTime(news.getTime());
+            writer.writeString(news.getUsername());
+            writeList(writer, news.getComments(), COMMENT);
+            writer.writeString(news.getNextCommentsCursor());
+        }
+
+        @Override
+        public CommentNewsResponse read(BinaryReader reader) {
+            CommentNewsResponse news = CommentNewsResponse.builder()
+                    .id(reader.readLong())
+                    .title(reader.readString())
+                    .text(reader.readString())
+                    .time(reader.readTime())
+                    .username(reader.readString())
+                    .comments(readList(reader, COMMENT))
+                    .build();
+
+            if (reader.version() >= 3) {
+                news.setNextCommentsCursor(reader.readString());
+            }
+
+            return news;
+        }
+    };
+
+    /**
+     * id, text, time, username, news
+     */
+    static final BinaryCodec<NewsCommentResponse> NEWS_COMMENT = new BinaryCodec<>() {
+
+        @Override
+        public void write(BinaryWriter writer, NewsCommentResponse comment) {
+            writer.writeLong(comment.getId());
+            writer.writeString(comment.getText());
+            writer.writeTime(comment.getTime());
+            writer.writeString(comment.getUsername());
+            writeNullable(writer, comment.getNews(), NEWS);
+        }
+
+        @Override
+        public NewsCommentResponse read(BinaryReader reader) {
+            return NewsCommentResponse.builder()
+                    .id(reader.readLong())
+                    .text(reader.readString())
+                    .time(reader.readTime())
+                    .username(reader.readString())
+                    .news(readNullable(reader, NEWS))
+                    .build();
+        }
+    };
+
+    private ResponseCodecs() {
+    }
+
+    private static <T> void writeNullable(BinaryWriter writer, T value, BinaryCodec<T> codec) {
+        if (value == null) {
+            writer.writeByte(0);
+            return;
+        }
+
+        writer.writeByte(1);
+        codec.write(writer, value);
+    }
+
+    private static <T> T readNullable(BinaryReader reader, BinaryCodec<T> codec) {
+        return reader.readByte() == 0 ? null : codec.read(reader);
+    }
+
+    private static <T> void writeList(BinaryWriter writer, List<T> values, BinaryCodec<T> codec) {
+        if (values == null) {
+            writer.writeLength(-1);
+            return;
+        }
+
+        writer.writeLength(values.size());
+
+        for (T value : values) {
+            writeNullable(writer, value, codec);
+        }
+    }
+
+    private static <T> List<T> readList(BinaryReader reader, BinaryCodec<T> codec) {
+        int length = reader.readLength();
+
+        if (length < 0) {
+            return null;
+        }
+
+        List<T> values = new ArrayList<>(length);
+
+        for (int i = 0; i < length; i++) {
+            values.add(readNullable(reader, codec));
+        }
+
+        return values;
+    }
+}
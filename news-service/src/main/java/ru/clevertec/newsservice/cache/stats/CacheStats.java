@@ -0,0 +1,61 @@
+package ru.clevertec.newsservice.cache.stats;
+
+import lombok.Builder;
+import lombok.Value;
+
+import ru.clevertec.newsservice.cache.EvictionCause;
+
+import java.util.Map;
+
+/**
+ * Immutable snapshot of the statistics of a cache
+ *
+ * @author Ruslan Kantsevich
+ */
+@Value
+@Builder
+public class CacheStats {
+
+    long hitCount;
+    long missCount;
+    long putCount;
+    long loadSuccessCount;
+    long loadFailureCount;
+    long totalLoadTime;
+    Map<EvictionCause, Long> evictionCounts;
+
+    public long getRequestCount() {
+        return hitCount + missCount;
+    }
+
+    /**
+     * Returns the ratio of requests which were hits. If there were no requests, the ratio is 1
+     *
+     * @return the hit ratio in range from 0 to 1
+     */
+    public double getHitRatio() {
+        long requestCount = getRequestCount();
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+
+    public long getEvictionCount(EvictionCause cause) {
+        return evictionCounts.getOrDefault(cause, 0L);
+    }
+
+    public long getEvictionCount() {
+        return evictionCounts.values()
+                .stream()
+                .mapToLong(Long::longValue)
+                .sum();
+    }
+
+    /**
+     * Returns the average time spent loading new values
+     *
+     * @return the average load time in nanoseconds, or 0 if nothing was loaded
+     */
+    public double getAverageLoadPenalty() {
+        long loadCount = loadSuccessCount + loadFailureCount;
+        return loadCount == 0 ? 0.0 : (double) totalLoadTime / loadCount;
+    }
+}
@@ -0,0 +1,78 @@
+package ru.clevertec.newsservice.cache.stats;
+
+import ru.clevertec.newsservice.cache.EvictionCause;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe implementation of the {@link StatsCounter} interface. Counters are {@link LongAdder}s, so
+ * concurrent recording does not contend, while a snapshot may be slightly inconsistent under updates
+ *
+ * @author Ruslan Kantsevich
+ */
+public class ConcurrentStatsCounter implements StatsCounter {
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder putCount = new LongAdder();
+    private final LongAdder loadSuccessCount = new LongAdder();
+    private final LongAdder loadFailureCount = new LongAdder();
+    private final LongAdder totalLoadTime = new LongAdder();
+    private final Map<EvictionCause, LongAdder> evictionCounts = new EnumMap<>(EvictionCause.class);
+
+    public ConcurrentStatsCounter() {
+        for (EvictionCause cause : EvictionCause.values()) {
+            evictionCounts.put(cause, new LongAdder());
+        }
+    }
+
+    @Override
+    public void recordHit() {
+        hitCount.increment();
+    }
+
+    @Override
+    public void recordMiss() {
+        missCount.increment();
+    }
+
+    @Override
+    public void recordPut() {
+        putCount.increment();
+    }
+
+    @Override
+    public void recordLoadSuccess(long loadTime) {
+        loadSuccessCount.increment();
+        totalLoadTime.add(loadTime);
+    }
+
+    @Override
+    public void recordLoadFailure(long loadTime) {
+        loadFailureCount.increment();
+        totalLoadTime.add(loadTime);
+    }
+
+    @Override
+    public void recordEviction(EvictionCause cause) {
+        evictionCounts.get(cause).increment();
+    }
+
+    @Override
+    public CacheStats snapshot() {
+        Map<EvictionCause, Long> evictions = new EnumMap<>(EvictionCause.class);
+        evictionCounts.forEach((cause, count) -> evictions.put(cause, count.sum()));
+
+        return CacheStats.builder()
+                .hitCount(hitCount.sum())
+                .missCount(missCount.sum())
+                .putCount(putCount.sum())
+                .loadSuccessCount(loadSuccessCount.sum())
+                .loadFailureCount(loadFailureCount.sum())
+                .totalLoadTime(totalLoadTime.sum())
+                .evictionCounts(evictions)
+                .build();
+    }
+}
@@ -0,0 +1,20 @@
+package ru.clevertec.newsservice.cache.stats;
+
+import ru.clevertec.newsservice.cache.EvictionCause;
+
+/**
+ * Accumulates the statistics of a cache. Implementations must be thread-safe
+ *
+ * @author Ruslan Kantsevich
+ */
+public interface StatsCounter {
+
+    void recordHit();
+    void recordMiss();
+    void recordPut();
+    void recordLoadSuccess(long loadTime);
+    void recordLoadFailure(long loadTime);
+    void recordEviction(EvictionCause cause);
+    CacheStats snapshot();
+
+}
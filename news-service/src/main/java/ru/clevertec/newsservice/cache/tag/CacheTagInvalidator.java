@@ -0,0 +1,68 @@
+package ru.clevertec.newsservice.cache.tag;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Removes the mappings with the tag from the Spring caches supporting tags. Caches without tag support and
+ * missing cache manager are ignored
+ *
+ * @author Ruslan Kantsevich
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheTagInvalidator {
+
+    private final ObjectProvider<CacheManager> cacheManagerProvider;
+
+    /**
+     * Removes the mappings with the tag from the caches after the transaction commits, so a mapping read before
+     * the commit is not left in the caches. Without an active transaction the mappings are removed immediately
+     *
+     * @param tag        the tag whose mappings are to be removed
+     * @param cacheNames names of the caches
+     */
+    public void invalidateAfterCommit(Object tag, String... cacheNames) {
+        CacheManager cacheManager = cacheManagerProvider.getIfAvailable();
+
+        if (cacheManager == null) {
+            return;
+        }
+
+        afterCommit(() -> {
+            for (String cacheName : cacheNames) {
+                Cache cache = cacheManager.getCache(cacheName);
+
+                if (cache instanceof TagInvalidatingCache taggedCache) {
+                    taggedCache.invalidateTag(tag);
+                }
+            }
+        });
+    }
+
+    /**
+     * Runs the invalidation after the transaction commits, so a mapping read before the commit is not left
+     * in the caches. Without an active transaction the invalidation is run immediately
+     *
+     * @param invalidation the invalidation of the cached mappings changed by the transaction
+     */
+    public void afterCommit(Runnable invalidation) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidation.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidation.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,18 @@
+package ru.clevertec.newsservice.cache.tag;
+
+/**
+ * Spring cache that removes all mappings with the same tag in a single operation, such as all comments
+ * of the deleted news
+ *
+ * @author Ruslan Kantsevich
+ */
+public interface TagInvalidatingCache {
+
+    /**
+     * Removes all mappings with the tag from the cache
+     *
+     * @param tag the tag whose mappings are to be removed
+     */
+    void invalidateTag(Object tag);
+
+}
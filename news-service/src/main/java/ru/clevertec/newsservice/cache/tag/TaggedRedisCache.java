@@ -0,0 +1,114 @@
+package ru.clevertec.newsservice.cache.tag;
+
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+import ru.clevertec.newsservice.cache.Tagger;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * {@link RedisCache} that keeps the keys of every tag in a redis set stored next to the mappings of the cache.
+ * Every put adds the key of the mapping to the set of its tag, and {@link #invalidateTag(Object)} pops the keys
+ * from the set in batches and unlinks them, so the invalidation takes a round trip per batch instead of per key
+ * and never scans the keyspace. If the cache has a time-to-live, the set expires after the last mapping put in
+ * it. Keys of the mappings evicted by key or expired stay in the set until the invalidation of the tag, which
+ * unlinks them as missing keys
+ *
+ * @author Ruslan Kantsevich
+ */
+public class TaggedRedisCache extends RedisCache implements TagInvalidatingCache {
+
+    /**
+     * Prefix of the keys of the tag sets, which can not collide with the string form of a cache key
+     */
+    private static final String TAG_KEY_PREFIX = "#tag:";
+    private static final int INVALIDATION_BATCH_SIZE = 1000;
+
+    private final RedisConnectionFactory connectionFactory;
+    private final Tagger<Object, Object, ?> tagger;
+
+    /**
+     * Creates the cache
+     *
+     * @param name               name of the cache
+     * @param cacheWriter        writer of the cached mappings
+     * @param cacheConfiguration configuration of the cache
+     * @param connectionFactory  factory of the connections maintaining the tag sets
+     * @param tagger             tagger of the mappings
+     */
+    public TaggedRedisCache(String name, RedisCacheWriter cacheWriter, RedisCacheConfiguration cacheConfiguration,
+                            RedisConnectionFactory connectionFactory, Tagger<Object, Object, ?> tagger) {
+        super(name, cacheWriter, cacheConfiguration);
+        this.connectionFactory = connectionFactory;
+        this.tagger = tagger;
+    }
+
+    public Tagger<Object, Object, ?> getTagger() {
+        return tagger;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        super.put(key, value);
+        tag(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existingValue = super.putIfAbsent(key, value);
+
+        if (existingValue == null) {
+            tag(key, value);
+        }
+
+        return existingValue;
+    }
+
+    /**
+     * Removes all mappings with the tag from redis. The keys are popped from the tag set, so a key added to the
+     * set during the invalidation is popped and unlinked too
+     *
+     * @param tag the tag whose mappings are to be removed
+     */
+    @Override
+    public void invalidateTag(Object tag) {
+        byte[] tagKey = tagKey(tag);
+
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            List<byte[]> keys = connection.setCommands().sPop(tagKey, INVALIDATION_BATCH_SIZE);
+
+            while (keys != null && !keys.isEmpty()) {
+                connection.keyCommands().unlink(keys.toArray(byte[][]::new));
+                keys = connection.setCommands().sPop(tagKey, INVALIDATION_BATCH_SIZE);
+            }
+        }
+    }
+
+    private void tag(Object key, Object value) {
+        Object tag = tagger.tag(key, value);
+
+        if (tag == null) {
+            return;
+        }
+
+        byte[] tagKey = tagKey(tag);
+        Duration ttl = getCacheConfiguration().getTtl();
+
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.setCommands().sAdd(tagKey, serializeCacheKey(createCacheKey(key)));
+
+            if (!ttl.isZero() && !ttl.isNegative()) {
+                connection.keyCommands().pExpire(tagKey, ttl.toMillis());
+            }
+        }
+    }
+
+    private byte[] tagKey(Object tag) {
+        return serializeCacheKey(createCacheKey(TAG_KEY_PREFIX + convertKey(tag)));
+    }
+}
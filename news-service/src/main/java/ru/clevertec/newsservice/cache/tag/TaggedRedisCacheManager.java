@@ -0,0 +1,64 @@
+package ru.clevertec.newsservice.cache.tag;
+
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+import ru.clevertec.newsservice.cache.Tagger;
+
+import java.util.Map;
+
+/**
+ * {@link RedisCacheManager} creating a {@link TaggedRedisCache} for every cache with a tagger, and a plain
+ * {@link RedisCache} for the other caches
+ *
+ * @author Ruslan Kantsevich
+ */
+public class TaggedRedisCacheManager extends RedisCacheManager {
+
+    private final RedisCacheWriter cacheWriter;
+    private final RedisConnectionFactory connectionFactory;
+    private final RedisCacheConfiguration defaultCacheConfiguration;
+    private final Map<String, Tagger<Object, Object, ?>> taggers;
+
+    /**
+     * Creates the cache manager
+     *
+     * @param connectionFactory           factory of the redis connections
+     * @param defaultCacheConfiguration   configuration of the caches created on demand
+     * @param initialCacheConfigurations  configurations of the caches created on startup by their names
+     * @param taggers                     taggers of the tagged caches by their names
+     */
+    public TaggedRedisCacheManager(RedisConnectionFactory connectionFactory,
+                                   RedisCacheConfiguration defaultCacheConfiguration,
+                                   Map<String, RedisCacheConfiguration> initialCacheConfigurations,
+                                   Map<String, Tagger<Object, Object, ?>> taggers) {
+        this(RedisCacheWriter.nonLockingRedisCacheWriter(connectionFactory), connectionFactory,
+                defaultCacheConfiguration, initialCacheConfigurations, taggers);
+    }
+
+    private TaggedRedisCacheManager(RedisCacheWriter cacheWriter, RedisConnectionFactory connectionFactory,
+                                    RedisCacheConfiguration defaultCacheConfiguration,
+                                    Map<String, RedisCacheConfiguration> initialCacheConfigurations,
+                                    Map<String, Tagger<Object, Object, ?>> taggers) {
+        super(cacheWriter, defaultCacheConfiguration, initialCacheConfigurations);
+        this.cacheWriter = cacheWriter;
+        this.connectionFactory = connectionFactory;
+        this.defaultCacheConfiguration = defaultCacheConfiguration;
+        this.taggers = taggers;
+    }
+
+    @Override
+    protected RedisCache createRedisCache(String name, RedisCacheConfiguration cacheConfiguration) {
+        Tagger<Object, Object, ?> tagger = taggers.get(name);
+
+        if (tagger == null) {
+            return super.createRedisCache(name, cacheConfiguration);
+        }
+
+        return new TaggedRedisCache(name, cacheWriter,
+                cacheConfiguration == null ? defaultCacheConfiguration : cacheConfiguration, connectionFactory, tagger);
+    }
+}
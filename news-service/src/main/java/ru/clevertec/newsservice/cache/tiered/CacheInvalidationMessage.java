@@ -0,0 +1,31 @@
+package ru.clevertec.newsservice.cache.tiered;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * Message published to the other instances of the service when a mapping of a two-tier cache changes,
+ * so that they drop the mapping from their local caches. A message with a tag drops all mappings with the tag.
+ * The message is sent as JSON with the keys in their string form. A key or a tag of a type not supported by
+ * {@link InvalidationKey} is sent as the cleared cache, which drops its mappings too
+ *
+ * @param origin    identifier of the {@link TwoTierCacheManager} that changed the mapping
+ * @param cacheName name of the cache
+ * @param key       key of the changed mapping, or null if the cache was cleared or the tag was invalidated
+ * @param tag       tag of the invalidated mappings, or null if a single mapping changed or the cache was cleared
+ * @author Ruslan Kantsevich
+ */
+public record CacheInvalidationMessage(String origin, String cacheName, InvalidationKey key, InvalidationKey tag) {
+
+    public static CacheInvalidationMessage ofKey(String origin, String cacheName, Object key) {
+        return new CacheInvalidationMessage(origin, cacheName, InvalidationKey.of(key), null);
+    }
+
+    public static CacheInvalidationMessage ofTag(String origin, String cacheName, Object tag) {
+        return new CacheInvalidationMessage(origin, cacheName, null, InvalidationKey.of(tag));
+    }
+
+    @JsonIgnore
+    public boolean isClear() {
+        return key == null && tag == null;
+    }
+}
@@ -0,0 +1,35 @@
+package ru.clevertec.newsservice.cache.tiered;
+
+/**
+ * Notifies the other instances of the service that a mapping of a two-tier cache has changed
+ *
+ * @author Ruslan Kantsevich
+ */
+@FunctionalInterface
+public interface CacheInvalidationPublisher {
+
+    /**
+     * Publishes the invalidation of the mapping
+     *
+     * @param cacheName name of the cache
+     * @param key       key of the changed mapping, or null if the cache was cleared
+     */
+    void publish(String cacheName, Object key);
+
+    /**
+     * Publishes the invalidation of the mappings with the tag. The publishers not sending the tags publish
+     * the cache as cleared, which drops the mappings of the tag too
+     *
+     * @param cacheName name of the cache
+     * @param tag       tag of the invalidated mappings
+     */
+    default void publishTag(String cacheName, Object tag) {
+        publish(cacheName, null);
+    }
+
+    static CacheInvalidationPublisher none() {
+        return (cacheName, key) -> {
+        };
+    }
+
+}
@@ -0,0 +1,60 @@
+package ru.clevertec.newsservice.cache.tiered;
+
+import ru.clevertec.newsservice.cache.key.CommentSegmentKey;
+
+/**
+ * Key or tag of the mappings in the {@link CacheInvalidationMessage}, sent as its type and string form, so the
+ * message is read from redis without deserializing arbitrary classes. Only the key types of the caches of the
+ * service are supported
+ *
+ * @param type  type of the key
+ * @param value string form of the key
+ * @author Ruslan Kantsevich
+ */
+public record InvalidationKey(Type type, String value) {
+
+    public enum Type {
+        LONG,
+        STRING,
+        COMMENT_SEGMENT
+    }
+
+    /**
+     * Creates the key of the message from the key of the mapping
+     *
+     * @param key key or tag of the mapping
+     * @return the key of the message, or null if the key is null or its type is not supported
+     */
+    public static InvalidationKey of(Object key) {
+        if (key instanceof Long id) {
+            return new InvalidationKey(Type.LONG, id.toString());
+        }
+        if (key instanceof String string) {
+            return new InvalidationKey(Type.STRING, string);
+        }
+        if (key instanceof CommentSegmentKey segmentKey) {
+            return new InvalidationKey(Type.COMMENT_SEGMENT, segmentKey.newsId().toString());
+        }
+
+        return null;
+    }
+
+    /**
+     * Restores the key of the mapping from its string form
+     *
+     * @return the key or tag of the mapping
+     * @throws IllegalArgumentException if the type or the value is absent, or the string form of a numeric key
+     *                                  is not a number
+     */
+    public Object toKey() {
+        if (type == null || value == null) {
+            throw new IllegalArgumentException("Invalidation key is malformed");
+        }
+
+        return switch (type) {
+            case LONG -> Long.valueOf(value);
+            case STRING -> value;
+            case COMMENT_SEGMENT -> new CommentSegmentKey(Long.valueOf(value));
+        };
+    }
+}
@@ -0,0 +1,222 @@
+package ru.clevertec.newsservice.cache.tiered;
+
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import ru.clevertec.newsservice.cache.Cache;
+import ru.clevertec.newsservice.cache.impl.TaggedCache;
+import ru.clevertec.newsservice.cache.tag.TagInvalidatingCache;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Implementation of the Spring {@link org.springframework.cache.Cache} interface that keeps a bounded local
+ * cache (L1) in front of a shared remote cache (L2). Reads are served from the local cache and fall back to
+ * the remote cache on a miss, the value read from the remote cache is put in the local cache. Writes go to
+ * the remote cache first, then to the local cache, and are published by the {@link CacheInvalidationPublisher},
+ * so the other instances drop the mapping from their local caches and read the new value from the remote
+ * cache. Concurrent misses of the same key wait for a single read of the remote cache, and a mapping
+ * invalidated during the read is not put in the local cache with the value read before the invalidation.
+ * A miss of the remote cache is recorded as a load failure in the statistics of the local cache. If the local
+ * cache is a {@link TaggedCache}, the invalidation of a tag drops only the mappings of the tag from the local
+ * caches of all instances, otherwise the local caches are cleared
+ *
+ * @author Ruslan Kantsevich
+ */
+public class TwoTierCache extends AbstractValueAdaptingCache implements TagInvalidatingCache {
+
+    private final String name;
+    private final Cache<Object, Object> localCache;
+    private final org.springframework.cache.Cache remoteCache;
+    private final CacheInvalidationPublisher invalidationPublisher;
+
+    /**
+     * Creates the two-tier cache
+     *
+     * @param name                  name of the cache
+     * @param localCache            local cache of type {@link Cache} holding the store values
+     * @param remoteCache           remote cache shared by all instances of the service
+     * @param invalidationPublisher publisher of the changed mappings
+     * @param allowNullValues       whether to accept and convert null values, must match the remote cache
+     */
+    public TwoTierCache(String name, Cache<Object, Object> localCache, org.springframework.cache.Cache remoteCache,
+                        CacheInvalidationPublisher invalidationPublisher, boolean allowNullValues) {
+        super(allowNullValues);
+        this.name = name;
+        this.localCache = localCache;
+        this.remoteCache = remoteCache;
+        this.invalidationPublisher = invalidationPublisher;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return localCache;
+    }
+
+    /**
+     * Returns the store value from the local cache, or reads it from the remote cache and puts it in the
+     * local cache
+     *
+     * @param key the key whose store value is to be returned
+     * @return the store value, or null if the key is in neither of the caches
+     */
+    @Override
+    protected Object lookup(Object key) {
+        try {
+            return localCache.get(key, this::loadRemote);
+        } catch (RemoteMissException e) {
+            return null;
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns the value from the local or the remote cache. If the key is in neither of them, the value is
+     * computed by the value loader once for all concurrent callers of this instance and put in both caches
+     *
+     * @param key         the key whose value is to be returned
+     * @param valueLoader loader computing the value on a miss
+     * @return the value associated with key
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        try {
+            return (T) fromStoreValue(localCache.get(key, k -> {
+                ValueWrapper valueWrapper = remoteCache.get(k);
+
+                if (valueWrapper != null) {
+                    return toStoreValue(valueWrapper.get());
+                }
+
+                T value = valueLoader.call();
+                remoteCache.put(k, value);
+
+                return toStoreValue(value);
+            }));
+        } catch (Throwable e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        Object storeValue = toStoreValue(value);
+
+        remoteCache.put(key, value);
+        localCache.put(key, storeValue);
+        invalidationPublisher.publish(name, key);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        Object storeValue = toStoreValue(value);
+        ValueWrapper existingValue = remoteCache.putIfAbsent(key, value);
+
+        if (existingValue != null) {
+            localCache.put(key, toStoreValue(existingValue.get()));
+            return existingValue;
+        }
+
+        localCache.put(key, storeValue);
+        invalidationPublisher.publish(name, key);
+
+        return null;
+    }
+
+    @Override
+    public void evict(Object key) {
+        remoteCache.evict(key);
+        localCache.remove(key);
+        invalidationPublisher.publish(name, key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean present = remoteCache.evictIfPresent(key);
+        localCache.remove(key);
+        invalidationPublisher.publish(name, key);
+
+        return present;
+    }
+
+    @Override
+    public void clear() {
+        remoteCache.clear();
+        localCache.clear();
+        invalidationPublisher.publish(name, null);
+    }
+
+    /**
+     * Removes the mappings with the tag from the remote cache if it supports tags and from the local cache,
+     * and publishes the tag, so the other instances drop the mappings of the tag from their local caches
+     *
+     * @param tag the tag whose mappings are to be removed
+     */
+    @Override
+    public void invalidateTag(Object tag) {
+        if (remoteCache instanceof TagInvalidatingCache taggedCache) {
+            taggedCache.invalidateTag(tag);
+        }
+
+        invalidateLocalTag(tag);
+        invalidationPublisher.publishTag(name, tag);
+    }
+
+    /**
+     * Drops the mapping changed by another instance from the local cache only
+     *
+     * @param key key of the changed mapping, or null if the cache was cleared
+     */
+    void invalidateLocal(Object key) {
+        if (key == null) {
+            localCache.clear();
+        } else {
+            localCache.remove(key);
+        }
+    }
+
+    /**
+     * Drops the mappings with the tag invalidated by another instance from the local cache only. The local
+     * cache without the tags is cleared
+     *
+     * @param tag tag of the invalidated mappings
+     */
+    @SuppressWarnings("unchecked")
+    void invalidateLocalTag(Object tag) {
+        if (localCache instanceof TaggedCache<?, ?, ?> taggedCache) {
+            ((TaggedCache<Object, Object, Object>) taggedCache).invalidateTag(tag);
+        } else {
+            localCache.clear();
+        }
+    }
+
+    private Object loadRemote(Object key) {
+        ValueWrapper valueWrapper = remoteCache.get(key);
+
+        if (valueWrapper == null) {
+            throw RemoteMissException.INSTANCE;
+        }
+
+        return toStoreValue(valueWrapper.get());
+    }
+
+    /**
+     * Signals the miss of the remote cache to the local cache, so nothing is put in it
+     */
+    private static final class RemoteMissException extends RuntimeException {
+
+        private static final RemoteMissException INSTANCE = new RemoteMissException();
+
+        private RemoteMissException() {
+            super("Remote cache miss", null, false, false);
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package ru.clevertec.newsservice.cache.tiered;
+
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import ru.clevertec.newsservice.cache.Cache;
+import ru.clevertec.newsservice.cache.Tagger;
+import ru.clevertec.newsservice.cache.tag.TaggedRedisCache;
+
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiFunction;
+
+/**
+ * {@link CacheManager} creating a {@link TwoTierCache} for every cache of the remote cache manager. The local
+ * caches of all instances of the service are kept coherent by invalidation messages sent over Redis pub/sub:
+ * every change of a mapping is published to the channel, and every instance except the one that published
+ * the message drops the mapping from its local cache. Pub/sub does not guarantee delivery, so the local
+ * caches should expire their mappings after a short time-to-live, which bounds the time a lost message
+ * leaves a stale mapping. The local cache of a {@link TaggedRedisCache} is created with the same tagger, so
+ * the invalidation of a tag drops only the mappings of the tag from the local caches. The caches kept only by
+ * the instances, such as the caches of the missing keys, can be registered to be kept coherent by the same messages
+ *
+ * @author Ruslan Kantsevich
+ */
+public class TwoTierCacheManager implements CacheManager, MessageListener {
+
+    private final CacheManager remoteCacheManager;
+    private final BiFunction<String, Tagger<Object, Object, Object>, Cache<Object, Object>> localCacheFactory;
+    private final RedisOperations<String, CacheInvalidationMessage> redisOperations;
+    private final ChannelTopic topic;
+    private final String origin;
+    private final ConcurrentMap<String, TwoTierCache> caches;
+    private final ConcurrentMap<String, Cache<Object, Object>> localCaches;
+    private final CacheInvalidationPublisher invalidationPublisher;
+
+    /**
+     * Creates the cache manager. The manager must be registered as the listener of the topic
+     *
+     * @param remoteCacheManager cache manager of the remote caches
+     * @param localCacheFactory  function creating the local cache by the name of the cache and the tagger of
+     *                           the remote cache, or null tagger if the remote cache is not tagged
+     * @param redisOperations    operations publishing the invalidation messages, its value serializer writes
+     *                           and reads {@link CacheInvalidationMessage} only
+     * @param topic              channel of the invalidation messages
+     */
+    public TwoTierCacheManager(CacheManager remoteCacheManager,
+                               BiFunction<String, Tagger<Object, Object, Object>, Cache<Object, Object>> localCacheFactory,
+                               RedisOperations<String, CacheInvalidationMessage> redisOperations,
+                               ChannelTopic topic) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.localCacheFactory = localCacheFactory;
+        this.redisOperations = redisOperations;
+        this.topic = topic;
+        this.origin = UUID.randomUUID().toString();
+        this.caches = new ConcurrentHashMap<>();
+        this.localCaches = new ConcurrentHashMap<>();
+        this.invalidationPublisher = new CacheInvalidationPublisher() {
+            @Override
+            public void publish(String cacheName, Object key) {
+                send(CacheInvalidationMessage.ofKey(origin, cacheName, key));
+            }
+
+            @Override
+            public void publishTag(String cacheName, Object tag) {
+                send(CacheInvalidationMessage.ofTag(origin, cacheName, tag));
+            }
+        };
+    }
+
+    @Override
+    public org.springframework.cache.Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remoteCacheManager.getCacheNames();
+    }
+
+    /**
+     * Registers the cache kept only by the instances, so the mappings changed by another instance are dropped
+     * from it by the invalidation messages. The changes of its mappings are published by the returned publisher
+     *
+     * @param name       name of the cache, which differs from the names of the two-tier caches
+     * @param localCache the cache of this instance
+     * @return publisher of type {@link CacheInvalidationPublisher} notifying the other instances of the changes
+     */
+    @SuppressWarnings("unchecked")
+    public CacheInvalidationPublisher registerLocalCache(String name, Cache<?, ?> localCache) {
+        localCaches.put(name, (Cache<Object, Object>) localCache);
+
+        return invalidationPublisher;
+    }
+
+    /**
+     * Drops the mapping changed or the mappings of the tag invalidated by another instance from the local
+     * cache. Messages published by this instance, messages for caches not used by this instance and messages
+     * which are not read as {@link CacheInvalidationMessage} are ignored. If the key or the tag of the message
+     * cannot be restored, the local cache is cleared. The mappings of the tag are dropped from the registered local
+     * caches by clearing them
+     *
+     * @param message message with the serialized {@link CacheInvalidationMessage}
+     * @param pattern pattern matching the channel, not used
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        CacheInvalidationMessage invalidation;
+
+        try {
+            invalidation = (CacheInvalidationMessage) redisOperations.getValueSerializer()
+                    .deserialize(message.getBody());
+        } catch (SerializationException e) {
+            return;
+        }
+
+        if (invalidation == null || origin.equals(invalidation.origin())) {
+            return;
+        }
+
+        Cache<Object, Object> localCache = localCaches.get(invalidation.cacheName());
+
+        if (localCache != null) {
+            invalidateLocalCache(localCache, invalidation);
+            return;
+        }
+
+        TwoTierCache cache = caches.get(invalidation.cacheName());
+
+        if (cache == null) {
+            return;
+        }
+
+        try {
+            if (invalidation.tag() != null) {
+                cache.invalidateLocalTag(invalidation.tag().toKey());
+            } else {
+                cache.invalidateLocal(invalidation.key() == null ? null : invalidation.key().toKey());
+            }
+        } catch (IllegalArgumentException e) {
+            cache.invalidateLocal(null);
+        }
+    }
+
+    public String getOrigin() {
+        return origin;
+    }
+
+    private TwoTierCache createCache(String name) {
+        org.springframework.cache.Cache remoteCache = remoteCacheManager.getCache(name);
+
+        if (remoteCache == null) {
+            return null;
+        }
+
+        boolean allowNullValues = !(remoteCache instanceof AbstractValueAdaptingCache adaptingCache)
+                || adaptingCache.isAllowNullValues();
+
+        return new TwoTierCache(name, localCacheFactory.apply(name, taggerOf(remoteCache)), remoteCache,
+                invalidationPublisher, allowNullValues);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Tagger<Object, Object, Object> taggerOf(org.springframework.cache.Cache remoteCache) {
+        return remoteCache instanceof TaggedRedisCache taggedCache
+                ? (Tagger<Object, Object, Object>) taggedCache.getTagger()
+                : null;
+    }
+
+    private static void invalidateLocalCache(Cache<Object, Object> localCache, CacheInvalidationMessage invalidation) {
+        try {
+            if (invalidation.key() == null) {
+                localCache.clear();
+            } else {
+                localCache.remove(invalidation.key().toKey());
+            }
+        } catch (IllegalArgumentException e) {
+            localCache.clear();
+        }
+    }
+
+    private void send(CacheInvalidationMessage invalidation) {
+        redisOperations.convertAndSend(topic.getTopic(), invalidation);
+    }
+}
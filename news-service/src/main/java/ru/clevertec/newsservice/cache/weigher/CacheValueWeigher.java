@@ -0,0 +1,41 @@
+package ru.clevertec.newsservice.cache.weigher;
+
+import ru.clevertec.newsservice.cache.Weigher;
+import ru.clevertec.newsservice.dto.response.comment.CommentResponse;
+import ru.clevertec.newsservice.dto.response.comment.NewsCommentResponse;
+import ru.clevertec.newsservice.dto.response.news.NewsResponse;
+
+import java.util.List;
+
+/**
+ * Weighs the values of the Spring caches, whose keys and values are not typed, by the estimated heap size
+ * in bytes. Responses and comment segments are weighed by their weighers, and other values count as
+ * a single object
+ *
+ * @author Ruslan Kantsevich
+ */
+public class CacheValueWeigher implements Weigher<Object, Object> {
+
+    private final NewsResponseWeigher newsWeigher = new NewsResponseWeigher();
+    private final NewsCommentResponseWeigher commentWeigher = new NewsCommentResponseWeigher();
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public int weigh(Object key, Object value) {
+        Long id = key instanceof Long longKey ? longKey : null;
+
+        if (value instanceof NewsResponse news) {
+            return newsWeigher.weigh(id, news);
+        }
+
+        if (value instanceof NewsCommentResponse comment) {
+            return commentWeigher.weigh(id, comment);
+        }
+
+        if (value instanceof List<?> list && list.stream().allMatch(CommentResponse.class::isInstance)) {
+            return MemoryFootprint.toWeight(MemoryFootprint.of((List<CommentResponse>) list));
+        }
+
+        return MemoryFootprint.OBJECT_HEADER + MemoryFootprint.REFERENCE;
+    }
+}
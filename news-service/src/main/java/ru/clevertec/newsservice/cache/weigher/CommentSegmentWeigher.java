@@ -0,0 +1,24 @@
+package ru.clevertec.newsservice.cache.weigher;
+
+import ru.clevertec.newsservice.cache.Weigher;
+import ru.clevertec.newsservice.cache.key.CommentSegmentKey;
+import ru.clevertec.newsservice.dto.response.comment.CommentResponse;
+
+import java.util.List;
+
+/**
+ * Weighs the cached segment of the first news comments by the estimated heap size in bytes
+ *
+ * @author Ruslan Kantsevich
+ */
+public class CommentSegmentWeigher implements Weigher<CommentSegmentKey, List<CommentResponse>> {
+
+    private static final int KEY = MemoryFootprint.OBJECT_HEADER + MemoryFootprint.REFERENCE + MemoryFootprint.LONG;
+
+    @Override
+    public int weigh(CommentSegmentKey key, List<CommentResponse> comments) {
+        long size = KEY + MemoryFootprint.of(comments);
+
+        return MemoryFootprint.toWeight(size);
+    }
+}
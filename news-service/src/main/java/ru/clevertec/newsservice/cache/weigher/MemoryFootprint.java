@@ -0,0 +1,78 @@
+package ru.clevertec.newsservice.cache.weigher;
+
+import ru.clevertec.newsservice.dto.response.comment.CommentResponse;
+import ru.clevertec.newsservice.dto.response.news.NewsResponse;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Estimates of the heap size in bytes of response objects on a 64-bit JVM with compressed references.
+ * Strings are counted as two bytes per character, since texts in cyrillic are not compacted
+ *
+ * @author Ruslan Kantsevich
+ */
+final class MemoryFootprint {
+
+    static final int OBJECT_HEADER = 16;
+    static final int REFERENCE = 4;
+    static final int LONG = 16;
+    static final int LOCAL_DATE_TIME = 72;
+
+    private static final int STRING = 40;
+    private static final int ARRAY_LIST = 40;
+
+    private MemoryFootprint() {
+    }
+
+    static long of(String string) {
+        return string == null ? 0 : STRING + 2L * string.length();
+    }
+
+    static long of(Long value) {
+        return value == null ? 0 : LONG;
+    }
+
+    static long of(LocalDateTime time) {
+        return time == null ? 0 : LOCAL_DATE_TIME;
+    }
+
+    static long of(NewsResponse news) {
+        if (news == null) {
+            return 0;
+        }
+
+        return OBJECT_HEADER + 7 * REFERENCE
+                + of(news.getId()) + of(news.getTitle()) + of(news.getText())
+                + of(news.getTime()) + of(news.getUsername())
+                + of(news.getCommentCount()) + of(news.getLastCommentAt());
+    }
+
+    static long of(CommentResponse comment) {
+        if (comment == null) {
+            return 0;
+        }
+
+        return OBJECT_HEADER + 4 * REFERENCE
+                + of(comment.getId()) + of(comment.getText())
+                + of(comment.getTime()) + of(comment.getUsername());
+    }
+
+    static long of(List<CommentResponse> comments) {
+        if (comments == null) {
+            return 0;
+        }
+
+        long size = ARRAY_LIST + (long) REFERENCE * comments.size();
+
+        for (CommentResponse comment : comments) {
+            size += of(comment);
+        }
+
+        return size;
+    }
+
+    static int toWeight(long size) {
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+}
@@ -0,0 +1,25 @@
+package ru.clevertec.newsservice.cache.weigher;
+
+import ru.clevertec.newsservice.cache.Weigher;
+import ru.clevertec.newsservice.dto.response.comment.NewsCommentResponse;
+
+/**
+ * Weighs the cached comment with its news by the estimated heap size in bytes
+ *
+ * @author Ruslan Kantsevich
+ */
+public class NewsCommentResponseWeigher implements Weigher<Long, NewsCommentResponse> {
+
+    @Override
+    public int weigh(Long key, NewsCommentResponse comment) {
+        long size = MemoryFootprint.of(key)
+                + MemoryFootprint.OBJECT_HEADER + 5 * MemoryFootprint.REFERENCE
+                + MemoryFootprint.of(comment.getId())
+                + MemoryFootprint.of(comment.getText())
+                + MemoryFootprint.of(comment.getTime())
+                + MemoryFootprint.of(comment.getUsername())
+                + MemoryFootprint.of(comment.getNews());
+
+        return MemoryFootprint.toWeight(size);
+    }
+}
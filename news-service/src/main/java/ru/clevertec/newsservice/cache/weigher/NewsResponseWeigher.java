@@ -0,0 +1,19 @@
+package ru.clevertec.newsservice.cache.weigher;
+
+import ru.clevertec.newsservice.cache.Weigher;
+import ru.clevertec.newsservice.dto.response.news.NewsResponse;
+
+/**
+ * Weighs the cached news body by the estimated heap size in bytes
+ *
+ * @author Ruslan Kantsevich
+ */
+public class NewsResponseWeigher implements Weigher<Long, NewsResponse> {
+
+    @Override
+    public int weigh(Long key, NewsResponse news) {
+        long size = MemoryFootprint.of(key) + MemoryFootprint.of(news);
+
+        return MemoryFootprint.toWeight(size);
+    }
+}
@@ -4,6 +4,7 @@ import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestHeader;
 
+import ru.clevertec.newsservice.dto.response.jwk.JwksResponse;
 import ru.clevertec.newsservice.dto.response.user.UserResponse;
 
 /**
@@ -24,4 +25,12 @@ public interface AuthFeignClient {
     @GetMapping("api/v1/auth/validate")
     UserResponse validate(@RequestHeader("Authorization") String authorizationHeader);
 
+    /**
+     * Gets the public keys verifying the JSON Web Tokens signed by the auth-service
+     *
+     * @return object of type {@link JwksResponse} containing JSON Web Key Set
+     * */
+    @GetMapping(".well-known/jwks.json")
+    JwksResponse getJwks();
+
 }
@@ -0,0 +1,72 @@
+package ru.clevertec.newsservice.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import ru.clevertec.newsservice.client.AuthFeignClient;
+import ru.clevertec.newsservice.security.jwt.TokenValidation;
+import ru.clevertec.newsservice.security.jwt.TokenValidator;
+import ru.clevertec.newsservice.security.jwt.impl.CachingTokenValidator;
+import ru.clevertec.newsservice.security.jwt.impl.LocalTokenValidator;
+import ru.clevertec.newsservice.security.jwt.impl.RemoteTokenValidator;
+import ru.clevertec.newsservice.security.jwt.key.JwksKeyResolver;
+
+import java.time.Duration;
+
+/**
+ * Class for JSON Web Token validation configuration. The token is verified locally by the keys published by
+ * auth-service, which are cached by {@link JwksKeyResolver} for security.jwt.jwks.ttl. The validation falls back
+ * to auth-service if security.jwt.validation is REMOTE. The users of the tokens validated by auth-service are
+ * cached by {@link CachingTokenValidator} unless security.jwt.cache.enabled is false, and the cached tokens are
+ * revoked through {@link ru.clevertec.newsservice.controller.TokenController}
+ *
+ * @author Ruslan Kantsevich
+ * */
+@Configuration
+public class JwtValidationConfig {
+
+    /**
+     * Condition of the validation by auth-service with the cache of the validated tokens, which exposes
+     * the validator as {@link CachingTokenValidator}, so its tokens can be revoked
+     * */
+    public static final String CACHING_VALIDATION =
+            "'${security.jwt.validation:LOCAL}'.equalsIgnoreCase('REMOTE') and ${security.jwt.cache.enabled:true}";
+
+    @Value("${security.jwt.validation:LOCAL}")
+    private TokenValidation validation;
+
+    @Value("${security.jwt.jwks.ttl:10m}")
+    private Duration jwksTtl;
+
+    @Value("${security.jwt.jwks.min-refresh-interval:30s}")
+    private Duration jwksMinRefreshInterval;
+
+    @Value("${security.jwt.cache.capacity:10000}")
+    private int cacheCapacity;
+
+    @Value("${security.jwt.cache.max-ttl:5m}")
+    private Duration cacheMaxTtl;
+
+    @Bean
+    @ConditionalOnExpression(CACHING_VALIDATION)
+    public CachingTokenValidator cachingTokenValidator(AuthFeignClient authFeignClient,
+                                                       ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        return new CachingTokenValidator(new RemoteTokenValidator(authFeignClient), cacheCapacity, cacheMaxTtl,
+                meterRegistryProvider.getIfAvailable());
+    }
+
+    @Bean
+    @ConditionalOnExpression("!(" + CACHING_VALIDATION + ")")
+    public TokenValidator tokenValidator(AuthFeignClient authFeignClient) {
+        if (validation == TokenValidation.LOCAL) {
+            return new LocalTokenValidator(new JwksKeyResolver(authFeignClient, jwksTtl, jwksMinRefreshInterval));
+        }
+
+        return new RemoteTokenValidator(authFeignClient);
+    }
+}
@@ -1,11 +1,24 @@
 package ru.clevertec.newsservice.config;
 
-import org.springframework.boot.autoconfigure.cache.RedisCacheManagerBuilderCustomizer;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.util.unit.DataSize;
+
+import ru.clevertec.exceptionhandlingstarter.exception.CacheNotDefinedException;
+import ru.clevertec.newsservice.cache.key.CommentSegmentKey;
+import ru.clevertec.newsservice.cache.serializer.BinaryRedisSerializer;
+import ru.clevertec.newsservice.cache.tag.TaggedRedisCacheManager;
+import ru.clevertec.newsservice.dto.response.comment.NewsCommentResponse;
+
+import java.util.Map;
 
 import static org.springframework.data.redis.cache.RedisCacheConfiguration.defaultCacheConfig;
 
@@ -23,11 +36,57 @@ import static org.springframework.data.redis.cache.RedisCacheConfiguration.defau
 )
 public class RedisCacheConfig {
 
+    @Value("${cache.redis.serializer:BINARY}")
+    private String serializer;
+
+    @Value("${cache.redis.compression-threshold:1KB}")
+    private DataSize compressionThreshold;
+
+    /**
+     * Creates the redis cache manager. The comments and the comment segments are tagged by the id of their news,
+     * so the deletion of the news removes all of them from redis without scanning the keyspace
+     *
+     * @param connectionFactory factory of the redis connections
+     * @return cache manager of type {@link TaggedRedisCacheManager}
+     * */
     @Bean
     @ConditionalOnBean(RedisCacheConfig.class)
-    public RedisCacheManagerBuilderCustomizer redisCacheManagerBuilderCustomizer() {
-        return redisCacheBuilder -> redisCacheBuilder
-                .withCacheConfiguration("newsCache", defaultCacheConfig())
-                .withCacheConfiguration("commentsCache", defaultCacheConfig());
+    public TaggedRedisCacheManager redisCacheManager(RedisConnectionFactory connectionFactory) {
+        RedisCacheConfiguration cacheConfiguration = defaultCacheConfig()
+                .serializeValuesWith(SerializationPair.fromSerializer(cacheValueSerializer()));
+
+        return new TaggedRedisCacheManager(
+                connectionFactory,
+                cacheConfiguration,
+                Map.of("newsCache", cacheConfiguration, "commentsCache", cacheConfiguration),
+                Map.of("comment", RedisCacheConfig::tagByNewsOfComment,
+                        "commentSegments", RedisCacheConfig::tagByNewsOfSegment)
+        );
+    }
+
+    /**
+     * Creates the serializer of the cached values depending on properties in application.yml: the compact
+     * binary format compressed by LZ4 above cache.redis.compression-threshold, or the JDK serialization
+     *
+     * @return serializer of type {@link RedisSerializer} of the cached values
+     * */
+    private RedisSerializer<Object> cacheValueSerializer() {
+        int threshold = (int) Math.min(compressionThreshold.toBytes(), Integer.MAX_VALUE);
+
+        return switch (serializer) {
+            case "BINARY" -> new BinaryRedisSerializer(threshold);
+            case "JDK" -> RedisSerializer.java();
+            default -> throw new CacheNotDefinedException("Cache serializer not defined");
+        };
+    }
+
+    private static Object tagByNewsOfComment(Object key, Object value) {
+        return value instanceof NewsCommentResponse comment && comment.getNews() != null
+                ? comment.getNews().getId()
+                : null;
+    }
+
+    private static Object tagByNewsOfSegment(Object key, Object value) {
+        return key instanceof CommentSegmentKey segmentKey ? segmentKey.newsId() : null;
     }
 }
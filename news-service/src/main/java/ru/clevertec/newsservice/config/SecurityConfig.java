@@ -41,10 +41,13 @@ public class SecurityConfig {
                 .csrf(AbstractHttpConfigurer::disable)
                 .httpBasic(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(auth -> auth
+                        .requestMatchers(HttpMethod.GET, "api/v1/news/export").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.GET, "api/v1/news/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "api/v1/comments/**").permitAll()
+                        .requestMatchers(HttpMethod.GET, "actuator/health/**", "actuator/metrics/**").permitAll()
                         .requestMatchers("api/v1/news/**").hasAnyRole("ADMIN", "JOURNALIST")
                         .requestMatchers("api/v1/comments/**").hasAnyRole("ADMIN", "SUBSCRIBER")
+                        .requestMatchers("api/v1/tokens/**").hasRole("ADMIN")
                         .anyRequest().authenticated()
                 )
                 .sessionManagement(sessionManagement -> sessionManagement.sessionCreationPolicy(STATELESS))
@@ -0,0 +1,86 @@
+package ru.clevertec.newsservice.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import ru.clevertec.newsservice.cache.factory.CacheFactory;
+import ru.clevertec.newsservice.cache.tiered.CacheInvalidationMessage;
+import ru.clevertec.newsservice.cache.tiered.TwoTierCacheManager;
+import ru.clevertec.newsservice.cache.weigher.CacheValueWeigher;
+
+import java.time.Duration;
+
+/**
+ * Class for two-tier cache configuration. If the redis cache and the custom cache are both configured, the
+ * redis caches are fronted by local caches created by {@link CacheFactory}, which are kept coherent across
+ * the instances of the service by invalidation messages over redis pub/sub. The local caches of the tagged redis
+ * caches are tagged by the same taggers, so the deletion of the news drops only its comments from them. The
+ * invalidation messages are sent as JSON read into {@link CacheInvalidationMessage} only
+ *
+ * @author Ruslan Kantsevich
+ * */
+@Configuration
+@ConditionalOnBean({ RedisCacheConfig.class, CacheFactory.class })
+@ConditionalOnProperty(
+        prefix = "cache.near",
+        name = "enabled",
+        havingValue = "true",
+        matchIfMissing = true
+)
+public class TwoTierCacheConfig {
+
+    @Value("${cache.near.ttl:1m}")
+    private Duration ttl;
+
+    @Value("${cache.near.channel:news-service:cache-invalidation}")
+    private String channel;
+
+    @Bean
+    public RedisTemplate<String, CacheInvalidationMessage> cacheInvalidationRedisTemplate(
+            RedisConnectionFactory connectionFactory) {
+        RedisTemplate<String, CacheInvalidationMessage> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(RedisSerializer.string());
+        redisTemplate.setValueSerializer(new Jackson2JsonRedisSerializer<>(CacheInvalidationMessage.class));
+
+        return redisTemplate;
+    }
+
+    @Bean
+    @Primary
+    public TwoTierCacheManager cacheManager(RedisCacheManager redisCacheManager, CacheFactory cacheFactory,
+                                            RedisTemplate<String, CacheInvalidationMessage>
+                                                    cacheInvalidationRedisTemplate) {
+        CacheValueWeigher weigher = new CacheValueWeigher();
+
+        return new TwoTierCacheManager(
+                redisCacheManager,
+                (name, tagger) -> tagger == null
+                        ? cacheFactory.createCache(name + "-near", weigher, ttl)
+                        : cacheFactory.createTaggedCache(name + "-near", weigher, ttl, tagger),
+                cacheInvalidationRedisTemplate,
+                new ChannelTopic(channel)
+        );
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                            TwoTierCacheManager cacheManager) {
+        RedisMessageListenerContainer listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(connectionFactory);
+        listenerContainer.addMessageListener(cacheManager, new ChannelTopic(channel));
+
+        return listenerContainer;
+    }
+}
@@ -21,8 +21,11 @@ import ru.clevertec.loggingstarter.annotation.Loggable;
 import ru.clevertec.newsservice.dto.filter.CommentFilter;
 import ru.clevertec.newsservice.dto.request.comment.CommentRequest;
 import ru.clevertec.newsservice.dto.request.comment.NewsCommentRequest;
+import ru.clevertec.newsservice.dto.response.batch.BatchResponse;
 import ru.clevertec.newsservice.dto.response.comment.CommentResponse;
 import ru.clevertec.newsservice.dto.response.comment.NewsCommentResponse;
+import ru.clevertec.newsservice.dto.response.page.CursorPageResponse;
+import ru.clevertec.newsservice.dto.response.page.SlicePageResponse;
 import ru.clevertec.newsservice.service.impl.CommentServiceImpl;
 
 import java.security.Principal;
@@ -42,6 +45,20 @@ public class CommentController {
         return ResponseEntity.ok(commentResponses);
     }
 
+    @GetMapping(params = "slice")
+    public ResponseEntity<SlicePageResponse<CommentResponse>> getAllBySlice(CommentFilter commentFilter,
+                                                                            Pageable pageable, boolean withTotal) {
+        SlicePageResponse<CommentResponse> commentResponses = commentService.findAllBySlice(commentFilter, pageable,
+                withTotal);
+        return ResponseEntity.ok(commentResponses);
+    }
+
+    @GetMapping(params = "cursor")
+    public ResponseEntity<CursorPageResponse<CommentResponse>> getAllByCursor(String cursor, Pageable pageable) {
+        CursorPageResponse<CommentResponse> commentResponses = commentService.findAllByCursor(cursor, pageable);
+        return ResponseEntity.ok(commentResponses);
+    }
+
     @GetMapping("{id}")
     public ResponseEntity<NewsCommentResponse> getById(@PathVariable Long id) {
         NewsCommentResponse newsCommentResponse = commentService.findById(id);
@@ -56,6 +73,15 @@ public class CommentController {
         return ResponseEntity.status(HttpStatus.CREATED).body(newsCommentResponse);
     }
 
+    @PostMapping("batch")
+    @PreAuthorize("hasAnyRole('ADMIN', 'SUBSCRIBER')")
+    public ResponseEntity<BatchResponse<NewsCommentResponse>> saveAll(@RequestBody List<CommentRequest> commentRequests,
+                                                                      Principal principal) {
+        BatchResponse<NewsCommentResponse> batchResponse = commentService.saveAll(commentRequests, principal);
+        HttpStatus status = batchResponse.getFailed() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+        return ResponseEntity.status(status).body(batchResponse);
+    }
+
     @PutMapping("{id}")
     @PreAuthorize("hasAnyRole('ADMIN', 'SUBSCRIBER')")
     public ResponseEntity<NewsCommentResponse> update(@PathVariable Long id,
@@ -5,7 +5,9 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -16,22 +18,31 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import ru.clevertec.loggingstarter.annotation.Loggable;
 import ru.clevertec.newsservice.dto.filter.NewsFilter;
 import ru.clevertec.newsservice.dto.request.news.NewsRequest;
 import ru.clevertec.newsservice.dto.request.news.NewsTextRequest;
+import ru.clevertec.newsservice.dto.response.batch.BatchResponse;
 import ru.clevertec.newsservice.dto.response.comment.CommentResponse;
 import ru.clevertec.newsservice.dto.response.comment.NewsCommentResponse;
 import ru.clevertec.newsservice.dto.response.news.CommentNewsResponse;
 import ru.clevertec.newsservice.dto.response.news.NewsResponse;
+import ru.clevertec.newsservice.dto.response.news.NewsSearchResponse;
+import ru.clevertec.newsservice.dto.response.page.CursorPageResponse;
+import ru.clevertec.newsservice.dto.response.page.SlicePageResponse;
 import ru.clevertec.newsservice.service.impl.CommentServiceImpl;
 import ru.clevertec.newsservice.service.impl.NewsServiceImpl;
 
 import java.security.Principal;
+import java.time.LocalDateTime;
 import java.util.List;
 
+import static org.springframework.format.annotation.DateTimeFormat.ISO.DATE_TIME;
+
 @Loggable
 @RestController
 @RequiredArgsConstructor
@@ -47,6 +58,25 @@ public class NewsController {
         return ResponseEntity.ok(newsResponses);
     }
 
+    @GetMapping(params = "slice")
+    public ResponseEntity<SlicePageResponse<NewsResponse>> getAllBySlice(NewsFilter newsFilter, Pageable pageable,
+                                                                         boolean withTotal) {
+        SlicePageResponse<NewsResponse> newsResponses = newsService.findAllBySlice(newsFilter, pageable, withTotal);
+        return ResponseEntity.ok(newsResponses);
+    }
+
+    @GetMapping(params = "cursor")
+    public ResponseEntity<CursorPageResponse<NewsResponse>> getAllByCursor(String cursor, Pageable pageable) {
+        CursorPageResponse<NewsResponse> newsResponses = newsService.findAllByCursor(cursor, pageable);
+        return ResponseEntity.ok(newsResponses);
+    }
+
+    @GetMapping("search")
+    public ResponseEntity<List<NewsSearchResponse>> search(String query, Pageable pageable) {
+        List<NewsSearchResponse> newsSearchResponses = newsService.search(query, pageable);
+        return ResponseEntity.ok(newsSearchResponses);
+    }
+
     @GetMapping(params = "commentText")
     public ResponseEntity<List<NewsResponse>> getAllByCommentsText(String commentText, Pageable pageable) {
         List<NewsResponse> newsResponses = newsService.findAllByCommentsText(commentText, pageable);
@@ -59,6 +89,14 @@ public class NewsController {
         return ResponseEntity.ok(newsResponses);
     }
 
+    @GetMapping("export")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(required = false)
+                                                        @DateTimeFormat(iso = DATE_TIME) LocalDateTime since) {
+        StreamingResponseBody news = outputStream -> newsService.export(since, outputStream);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(news);
+    }
+
     @GetMapping("{id}")
     public ResponseEntity<CommentNewsResponse> getById(@PathVariable Long id) {
         CommentNewsResponse commentNewsResponse = newsService.findById(id);
@@ -71,6 +109,15 @@ public class NewsController {
         return ResponseEntity.ok(commentResponses);
     }
 
+    @GetMapping(value = "{id}/comments", params = "cursor")
+    public ResponseEntity<CursorPageResponse<CommentResponse>> getAllCommentsByIdAndCursor(@PathVariable Long id,
+                                                                                           String cursor,
+                                                                                           Pageable pageable) {
+        CursorPageResponse<CommentResponse> commentResponses = commentService.findAllByNewsIdAndCursor(id, cursor,
+                pageable);
+        return ResponseEntity.ok(commentResponses);
+    }
+
     @GetMapping("{newsId}/comments/{commentId}")
     public ResponseEntity<NewsCommentResponse> getCommentById(@PathVariable Long newsId,
                                                               @PathVariable Long commentId) {
@@ -86,6 +133,15 @@ public class NewsController {
         return ResponseEntity.status(HttpStatus.CREATED).body(commentNewsResponse);
     }
 
+    @PostMapping("batch")
+    @PreAuthorize("hasAnyRole('ADMIN', 'JOURNALIST')")
+    public ResponseEntity<BatchResponse<CommentNewsResponse>> saveAll(@RequestBody List<NewsRequest> newsRequests,
+                                                                      Principal principal) {
+        BatchResponse<CommentNewsResponse> batchResponse = newsService.saveAll(newsRequests, principal);
+        HttpStatus status = batchResponse.getFailed() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+        return ResponseEntity.status(status).body(batchResponse);
+    }
+
     @PutMapping("{id}")
     @PreAuthorize("hasAnyRole('ADMIN', 'JOURNALIST')")
     public ResponseEntity<CommentNewsResponse> update(@PathVariable Long id,
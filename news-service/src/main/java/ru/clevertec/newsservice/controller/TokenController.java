@@ -0,0 +1,42 @@
+package ru.clevertec.newsservice.controller;
+
+import jakarta.validation.Valid;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import ru.clevertec.loggingstarter.annotation.Loggable;
+import ru.clevertec.newsservice.config.JwtValidationConfig;
+import ru.clevertec.newsservice.dto.request.token.TokenRevocationRequest;
+import ru.clevertec.newsservice.security.jwt.impl.CachingTokenValidator;
+
+@Loggable
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("api/v1/tokens")
+@ConditionalOnExpression(JwtValidationConfig.CACHING_VALIDATION)
+public class TokenController {
+
+    private final CachingTokenValidator cachingTokenValidator;
+
+    @PostMapping("revoke")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> revoke(@RequestBody @Valid TokenRevocationRequest tokenRevocationRequest) {
+        cachingTokenValidator.revoke(tokenRevocationRequest.getToken());
+        return ResponseEntity.ok().build();
+    }
+
+    @PostMapping("revoke-all")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> revokeAll() {
+        cachingTokenValidator.revokeAll();
+        return ResponseEntity.ok().build();
+    }
+}
@@ -0,0 +1,19 @@
+package ru.clevertec.newsservice.dto.request.token;
+
+import jakarta.validation.constraints.NotBlank;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenRevocationRequest {
+
+    @NotBlank(message = "Token cannot be empty")
+    private String token;
+
+}
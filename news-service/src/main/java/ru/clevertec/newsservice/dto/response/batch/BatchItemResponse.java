@@ -0,0 +1,36 @@
+package ru.clevertec.newsservice.dto.response.batch;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import org.springframework.http.HttpStatus;
+
+import java.util.List;
+
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(NON_NULL)
+public class BatchItemResponse<T> {
+
+    private int index;
+    private int status;
+    private T result;
+    private List<String> errors;
+
+    public static <T> BatchItemResponse<T> created(int index, T result) {
+        return new BatchItemResponse<>(index, HttpStatus.CREATED.value(), result, null);
+    }
+
+    public static <T> BatchItemResponse<T> failed(int index, HttpStatus status, List<String> errors) {
+        return new BatchItemResponse<>(index, status.value(), null, errors);
+    }
+
+}
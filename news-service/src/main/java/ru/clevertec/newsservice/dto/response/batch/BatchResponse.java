@@ -0,0 +1,30 @@
+package ru.clevertec.newsservice.dto.response.batch;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import org.springframework.http.HttpStatus;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchResponse<T> {
+
+    private int created;
+    private int failed;
+    private List<BatchItemResponse<T>> items;
+
+    public static <T> BatchResponse<T> of(List<BatchItemResponse<T>> items) {
+        int created = (int) items.stream()
+                .filter(item -> item.getStatus() == HttpStatus.CREATED.value())
+                .count();
+
+        return new BatchResponse<>(created, items.size() - created, items);
+    }
+
+}
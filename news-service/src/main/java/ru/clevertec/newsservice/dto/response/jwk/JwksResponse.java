@@ -0,0 +1,18 @@
+package ru.clevertec.newsservice.dto.response.jwk;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JwksResponse {
+
+    private List<JwkResponse> keys;
+
+}
@@ -37,5 +37,6 @@ public class CommentNewsResponse implements Serializable {
 
     @Builder.Default
     private List<CommentResponse> comments = new ArrayList<>();
+    private String nextCommentsCursor;
 
 }
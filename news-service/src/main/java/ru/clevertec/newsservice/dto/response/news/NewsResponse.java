@@ -30,5 +30,10 @@ public class NewsResponse implements Serializable {
     @JsonFormat(shape = STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
     private LocalDateTime time;
     private String username;
+    private Long commentCount;
+
+    @DateTimeFormat(iso = DATE_TIME)
+    @JsonFormat(shape = STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime lastCommentAt;
 
 }
@@ -0,0 +1,43 @@
+package ru.clevertec.newsservice.dto.response.news;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+import static com.fasterxml.jackson.annotation.JsonFormat.Shape.STRING;
+
+import static org.springframework.format.annotation.DateTimeFormat.ISO.DATE_TIME;
+
+/**
+ * Response DTO of the news found by the full-text search. The highlight fields are HTML fragments: the title and
+ * the texts are HTML-escaped and the matches are wrapped in {@code <mark>} tags, so they must be rendered as HTML
+ * and not escaped once more
+ *
+ * @author Ruslan Kantsevich
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NewsSearchResponse {
+
+    private Long id;
+    private String title;
+
+    @DateTimeFormat(iso = DATE_TIME)
+    @JsonFormat(shape = STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime time;
+    private String username;
+    private Double rank;
+    private String titleHighlight;
+    private String textHighlight;
+    private String commentHighlight;
+
+}
@@ -0,0 +1,20 @@
+package ru.clevertec.newsservice.dto.response.page;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SlicePageResponse<T> {
+
+    private List<T> content;
+    private boolean hasNext;
+    private Long approximateTotal;
+
+}
@@ -9,6 +9,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 
 import lombok.AllArgsConstructor;
@@ -36,7 +37,8 @@ import java.util.List;
 public class News {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "news_id_seq")
+    @SequenceGenerator(name = "news_id_seq", sequenceName = "news_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -51,6 +53,13 @@ public class News {
     @Column(nullable = false)
     private String username;
 
+    @Builder.Default
+    @Column(nullable = false, insertable = false, updatable = false)
+    private Long commentCount = 0L;
+
+    @Column(insertable = false, updatable = false)
+    private LocalDateTime lastCommentAt;
+
     @Builder.Default
     @OneToMany(mappedBy = "news",
             fetch = FetchType.LAZY,
@@ -0,0 +1,40 @@
+package ru.clevertec.newsservice.job;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import ru.clevertec.newsservice.repository.NewsRepository;
+import ru.clevertec.newsservice.service.CommentNewsReadModel;
+
+import java.util.List;
+
+/**
+ * Job repairing the comment counters and the times of the last comments of news, which are maintained by the
+ * comment changes and may drift from the comments, for example after a comment is changed in the database
+ * directly. The counters of all news are recomputed in one statement by comment-counters.reconciliation.cron,
+ * and the cached bodies of the repaired news are evicted after it commits
+ *
+ * @author Ruslan Kantsevich
+ */
+@Component
+@RequiredArgsConstructor
+public class CommentCounterReconciliationJob {
+
+    private final NewsRepository newsRepository;
+    private final CommentNewsReadModel commentNewsReadModel;
+
+    /**
+     * Repairs the comment counters of news
+     *
+     * @return the number of the repaired news
+     */
+    @Scheduled(cron = "${comment-counters.reconciliation.cron:0 0 3 * * *}")
+    public int reconcile() {
+        List<Long> repairedIds = newsRepository.reconcileCommentCounters();
+        repairedIds.forEach(commentNewsReadModel::evictNews);
+
+        return repairedIds.size();
+    }
+}
@@ -1,6 +1,7 @@
 package ru.clevertec.newsservice.mapper;
 
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
 import org.mapstruct.ReportingPolicy;
 
@@ -12,8 +13,8 @@ import ru.clevertec.newsservice.dto.request.comment.NewsCommentRequest;
 import ru.clevertec.newsservice.dto.response.comment.CommentResponse;
 import ru.clevertec.newsservice.dto.response.comment.NewsCommentResponse;
 import ru.clevertec.newsservice.entity.Comment;
-
-import java.util.List;
+import ru.clevertec.newsservice.repository.projection.NewsCommentProjection;
+import ru.clevertec.newsservice.repository.projection.NewsExportRow;
 
 /**
  * Class that provides methods for mapping object storing comments data
@@ -55,13 +56,32 @@ public interface CommentMapper {
     NewsCommentResponse mapToNewsCommentResponse(Comment comment);
 
     /**
-     * Mappings list objects of type {@link Comment} storing comment data to list
-     * object of type {@link CommentResponse} that does not contain news
+     * Mappings object of type {@link NewsCommentProjection} storing comment data with the flattened news data to
+     * object of type {@link NewsCommentResponse} containing news
+     *
+     * @param comment object of type {@link NewsCommentProjection} containing comment information with news
+     * @return object of type {@link NewsCommentResponse} containing comment information with news
+     */
+    @Mapping(target = "news.id", source = "newsId")
+    @Mapping(target = "news.title", source = "newsTitle")
+    @Mapping(target = "news.text", source = "newsText")
+    @Mapping(target = "news.time", source = "newsTime")
+    @Mapping(target = "news.username", source = "newsUsername")
+    @Mapping(target = "news.commentCount", source = "newsCommentCount")
+    @Mapping(target = "news.lastCommentAt", source = "newsLastCommentAt")
+    NewsCommentResponse mapToNewsCommentResponse(NewsCommentProjection comment);
+
+    /**
+     * Mappings the comment fields of object of type {@link NewsExportRow} to object of type {@link CommentResponse}
      *
-     * @param comments list objects of type {@link Comment} containing comment information
-     * @return object of type {@link CommentResponse} containing comment information without news
+     * @param row object of type {@link NewsExportRow} containing news information with one of its comments
+     * @return object of type {@link CommentResponse} containing comment information
      */
-    List<CommentResponse> mapToCommentResponses(List<Comment> comments);
+    @Mapping(target = "id", source = "commentId")
+    @Mapping(target = "text", source = "commentText")
+    @Mapping(target = "time", source = "commentTime")
+    @Mapping(target = "username", source = "commentUsername")
+    CommentResponse mapToCommentResponse(NewsExportRow row);
 
     /**
      * Updates the text field of object of type {@link Comment} to text field from object of type {@link NewsCommentRequest}
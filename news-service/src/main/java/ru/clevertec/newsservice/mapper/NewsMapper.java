@@ -1,6 +1,7 @@
 package ru.clevertec.newsservice.mapper;
 
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
 import org.mapstruct.ReportingPolicy;
 
@@ -9,9 +10,14 @@ import org.springframework.stereotype.Component;
 import ru.clevertec.newsservice.dto.filter.NewsFilter;
 import ru.clevertec.newsservice.dto.request.news.NewsRequest;
 import ru.clevertec.newsservice.dto.request.news.NewsTextRequest;
+import ru.clevertec.newsservice.dto.response.comment.CommentResponse;
 import ru.clevertec.newsservice.dto.response.news.CommentNewsResponse;
 import ru.clevertec.newsservice.dto.response.news.NewsResponse;
+import ru.clevertec.newsservice.dto.response.news.NewsSearchResponse;
+import ru.clevertec.newsservice.dto.response.page.CursorPageResponse;
 import ru.clevertec.newsservice.entity.News;
+import ru.clevertec.newsservice.repository.projection.NewsExportRow;
+import ru.clevertec.newsservice.repository.projection.NewsSearchHit;
 
 import java.util.List;
 
@@ -48,21 +54,54 @@ public interface NewsMapper {
 
     /**
      * Mappings object of type {@link News} storing news data to
-     * object of type {@link CommentNewsResponse} containing comments
+     * object of type {@link CommentNewsResponse} without comments. The lazy comments of the news are not
+     * touched, so the mapping never loads them
      *
      * @param news object of type {@link News} containing news information
-     * @return object of type {@link CommentNewsResponse} containing news information with comments
+     * @return object of type {@link CommentNewsResponse} containing news information with no comments
      */
+    @Mapping(target = "comments", ignore = true)
     CommentNewsResponse mapToCommentNewsResponse(News news);
 
     /**
-     * Mappings list objects of type {@link News} storing news data to list
+     * Mappings the news fields of object of type {@link NewsExportRow} to object of type
+     * {@link CommentNewsResponse} with no comments, which are added by the following rows of the news
+     *
+     * @param row object of type {@link NewsExportRow} containing news information with one of its comments
+     * @return object of type {@link CommentNewsResponse} containing news information with no comments
+     */
+    @Mapping(target = "comments", ignore = true)
+    CommentNewsResponse mapToCommentNewsResponse(NewsExportRow row);
+
+    /**
+     * Mappings object of type {@link News} storing news data to
      * object of type {@link NewsResponse} that does not contain comments
      *
-     * @param news list objects of type {@link News} containing news information
+     * @param news object of type {@link News} containing news information
      * @return object of type {@link NewsResponse} containing news information without comments
      */
-    List<NewsResponse> mapToNewsResponses(List<News> news);
+    NewsResponse mapToNewsResponse(News news);
+
+    /**
+     * Assembles object of type {@link CommentNewsResponse} from the news body and the preview of its comments
+     *
+     * @param news     object of type {@link NewsResponse} containing news information
+     * @param comments object of type {@link CursorPageResponse} containing the first comments of the news and
+     *                 the token of the following ones
+     * @return object of type {@link CommentNewsResponse} containing news information with comments
+     */
+    @Mapping(target = "comments", source = "comments.content")
+    @Mapping(target = "nextCommentsCursor", source = "comments.nextCursor")
+    CommentNewsResponse mapToCommentNewsResponse(NewsResponse news, CursorPageResponse<CommentResponse> comments);
+
+    /**
+     * Mappings list objects of type {@link NewsSearchHit} found by the full-text search to list
+     * objects of type {@link NewsSearchResponse} containing the highlighted fragments
+     *
+     * @param newsSearchHits list objects of type {@link NewsSearchHit} containing found news information
+     * @return list objects of type {@link NewsSearchResponse} containing found news information
+     */
+    List<NewsSearchResponse> mapToNewsSearchResponses(List<NewsSearchHit> newsSearchHits);
 
     /**
      * Updates the fields of object of type {@link News} to fields from object of type {@link NewsRequest}
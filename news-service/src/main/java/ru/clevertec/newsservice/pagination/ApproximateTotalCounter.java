@@ -0,0 +1,55 @@
+package ru.clevertec.newsservice.pagination;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import ru.clevertec.newsservice.cache.Cache;
+import ru.clevertec.newsservice.cache.EvictionListener;
+import ru.clevertec.newsservice.cache.Expiry;
+import ru.clevertec.newsservice.cache.impl.BoundedCache;
+import ru.clevertec.newsservice.cache.impl.LRUCache;
+import ru.clevertec.newsservice.cache.impl.SingleFlightCache;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Class for the approximate number of rows of a table, given with a listing instead of an exact total, whose count
+ * query scans the whole table. The estimate is the row count kept by the database statistics, and the exact count
+ * is taken only if the table has no statistics yet. Estimates are cached for pagination.approximate-total.ttl,
+ * and concurrent requests of an expired estimate wait for a single query
+ *
+ * @author Ruslan Kantsevich
+ */
+@Component
+public class ApproximateTotalCounter {
+
+    private final Cache<String, Long> totals;
+
+    public ApproximateTotalCounter(@Value("${pagination.approximate-total.ttl:1m}") Duration ttl) {
+        this.totals = new SingleFlightCache<>(new BoundedCache<>(listener -> new LRUCache<>(16, listener), null, 0,
+                Expiry.fixed(ttl), System::nanoTime, EvictionListener.none()));
+    }
+
+    /**
+     * Returns the cached approximate number of rows of the table, or estimates it if it is not cached
+     *
+     * @param table        name of the table
+     * @param estimator    supplier of the row count of the database statistics, negative if the table has
+     *                     no statistics
+     * @param exactCounter supplier of the exact row count
+     * @return the approximate number of rows
+     */
+    public long count(String table, LongSupplier estimator, LongSupplier exactCounter) {
+        try {
+            return totals.get(table, key -> {
+                long estimate = estimator.getAsLong();
+                return estimate < 0 ? exactCounter.getAsLong() : estimate;
+            });
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
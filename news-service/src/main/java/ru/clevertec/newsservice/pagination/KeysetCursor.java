@@ -0,0 +1,82 @@
+package ru.clevertec.newsservice.pagination;
+
+import ru.clevertec.exceptionhandlingstarter.exception.InvalidCursorException;
+import ru.clevertec.newsservice.dto.response.page.CursorPageResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Position of a row in a listing ordered by time and id, which is the continuation token of keyset pagination.
+ * The next page is read as the rows following this position, so it costs the same at any depth, needs no count
+ * query and neither skips nor repeats rows when new rows are inserted. The token is opaque to the clients: it is
+ * the URL-safe Base64 form of the time and the id of the last row of the previous page
+ *
+ * @param time time of the last row of the previous page
+ * @param id   id of the last row of the previous page
+ * @author Ruslan Kantsevich
+ */
+public record KeysetCursor(LocalDateTime time, Long id) {
+
+    private static final char SEPARATOR = '_';
+
+    /**
+     * Decodes the continuation token
+     *
+     * @param token the token returned with the previous page, or null or blank for the first page
+     * @return the decoded cursor, or null for the first page
+     * @throws InvalidCursorException if the token is malformed
+     */
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String position = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = position.lastIndexOf(SEPARATOR);
+
+            return new KeysetCursor(LocalDateTime.parse(position.substring(0, separator)),
+                    Long.parseLong(position.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new InvalidCursorException("Cursor = [%s] is invalid".formatted(token));
+        }
+    }
+
+    /**
+     * Builds the page from the rows read with one extra row. The extra row only signals that the next page exists
+     * and is not returned
+     *
+     * @param rows     rows following the cursor, at most one more than the page size
+     * @param size     size of the page
+     * @param cursorOf function returning the position of a row
+     * @param mapper   function mapping the rows of the page to the responses
+     * @return object of type {@link CursorPageResponse} with the token of the next page, or null token if the page
+     * is the last one
+     */
+    public static <E, R> CursorPageResponse<R> page(List<E> rows, int size, Function<E, KeysetCursor> cursorOf,
+                                                    Function<List<E>, List<R>> mapper) {
+        if (rows.size() <= size) {
+            return new CursorPageResponse<>(mapper.apply(rows), null);
+        }
+
+        List<E> pageRows = rows.subList(0, size);
+        String nextCursor = cursorOf.apply(pageRows.get(size - 1)).encode();
+
+        return new CursorPageResponse<>(mapper.apply(pageRows), nextCursor);
+    }
+
+    /**
+     * Encodes the cursor to the continuation token
+     *
+     * @return the opaque token
+     */
+    public String encode() {
+        String position = time.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,37 +1,177 @@
 package ru.clevertec.newsservice.repository;
 
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import ru.clevertec.newsservice.dto.response.comment.CommentResponse;
 import ru.clevertec.newsservice.entity.Comment;
+import ru.clevertec.newsservice.repository.projection.NewsCommentProjection;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 /**
- * Interface to perform operations with object of type {@link Comment}
+ * Interface to perform operations with object of type {@link Comment}. The read queries select
+ * {@link CommentResponse} or {@link NewsCommentProjection} by their constructors, so the read comments are neither
+ * loaded into the persistence context nor copied from entities
  *
  * @author Ruslan Kantsevich
  */
-public interface CommentRepository extends JpaRepository<Comment, Long> {
+public interface CommentRepository extends JpaRepository<Comment, Long>, SliceExecutor<Comment> {
 
     /**
-     * Finds all objects of type {@link Comment} by news id with the possibility of pagination
+     * Selection of {@link CommentResponse} from the comments aliased as c
+     */
+    String SELECT_COMMENT_RESPONSE = """
+            select new ru.clevertec.newsservice.dto.response.comment.CommentResponse(c.id, c.text, c.time, c.username)
+            from Comment c
+            """;
+
+    /**
+     * Selection of {@link NewsCommentProjection} from the comments aliased as c joined with their news aliased as n
+     */
+    String SELECT_NEWS_COMMENT = """
+            select new ru.clevertec.newsservice.repository.projection.NewsCommentProjection(
+                c.id, c.text, c.time, c.username,
+                n.id, n.title, n.text, n.time, n.username, n.commentCount, n.lastCommentAt)
+            from Comment c
+            join c.news n
+            """;
+
+    /**
+     * Finds a slice of comments matching the specification projected to {@link CommentResponse}
+     *
+     * @param specification object of type {@link Specification} to be matched, or null to match all comments
+     * @param pageable      object of type {@link Pageable} containing pagination and sorting parameters
+     *                      (page, size and sort)
+     * @return object of type {@link Slice} with objects of type {@link CommentResponse}
+     */
+    default Slice<CommentResponse> findResponseSlice(Specification<Comment> specification, Pageable pageable) {
+        return findSlice(specification, pageable, CommentResponse.class, "id", "text", "time", "username");
+    }
+
+    /**
+     * Finds all comments by news id with the possibility of pagination
      *
      * @param id       id of news the comments belong to
      * @param pageable object of type {@link Pageable} containing pagination and sorting parameters
      *                 (page, size and sort)
-     * @return list objects of type {@link Comment}
+     * @return list objects of type {@link CommentResponse}
+     */
+    @Query(SELECT_COMMENT_RESPONSE + "where c.news.id = :newsId")
+    List<CommentResponse> findAllByNewsId(@Param("newsId") Long id, Pageable pageable);
+
+    /**
+     * Finds object of type {@link Comment} by id together with its news in one query
+     *
+     * @param id comment id
+     * @return object of type {@link Optional<Comment>}
      */
-    List<Comment> findAllByNewsId(Long id, Pageable pageable);
+    @Override
+    @EntityGraph(attributePaths = "news")
+    Optional<Comment> findById(Long id);
 
     /**
-     * Finds news comment object of type {@link Comment}
+     * Finds comment by id together with its news in one query
+     *
+     * @param id comment id
+     * @return object of type {@link Optional<NewsCommentProjection>}
+     */
+    @Query(SELECT_NEWS_COMMENT + "where c.id = :id")
+    Optional<NewsCommentProjection> findNewsCommentById(@Param("id") Long id);
+
+    /**
+     * Finds news comment by id together with its news in one query
      *
      * @param commentId comment id
      * @param newsId    news id
-     * @return object of type {@link Optional<Comment>}
+     * @return object of type {@link Optional<NewsCommentProjection>}
+     */
+    @Query(SELECT_NEWS_COMMENT + "where c.id = :commentId and n.id = :newsId")
+    Optional<NewsCommentProjection> findNewsCommentByIdAndNewsId(@Param("commentId") Long commentId,
+                                                                 @Param("newsId") Long newsId);
+
+    /**
+     * Finds ids of the first comments of the news preceding the given position in the order by time and id.
+     * The ids are read by the index on the comments of the news up to the page size, so the position is probed
+     * without counting all comments before it
+     *
+     * @param newsId   id of news the comments belong to
+     * @param time     time of the comment at the position
+     * @param id       id of the comment at the position
+     * @param pageable object of type {@link Pageable} containing the maximum number of ids
+     * @return list ids of comments of the news ordered before the position, no longer than the page
+     */
+    @Query("""
+            select c.id from Comment c
+            where c.news.id = :newsId and c.time <= :time and (c.time < :time or c.id < :id)
+            order by c.time, c.id""")
+    List<Long> findIdsByNewsIdBefore(@Param("newsId") Long newsId, @Param("time") LocalDateTime time,
+                                     @Param("id") Long id, Pageable pageable);
+
+    /**
+     * Finds the first comments ordered by time and id, the newest first
+     *
+     * @param pageable object of type {@link Pageable} containing the number of comments
+     * @return list objects of type {@link CommentResponse}
+     */
+    @Query(SELECT_COMMENT_RESPONSE + "order by c.time desc, c.id desc")
+    List<CommentResponse> findAllByOrderByTimeDescIdDesc(Pageable pageable);
+
+    /**
+     * Finds comments following the given position in the order by time and id, the newest first
+     *
+     * @param time     time of the comment at the position
+     * @param id       id of the comment at the position
+     * @param pageable object of type {@link Pageable} containing the number of comments
+     * @return list objects of type {@link CommentResponse}
+     */
+    @Query(SELECT_COMMENT_RESPONSE + """
+            where c.time <= :time and (c.time < :time or c.id < :id)
+            order by c.time desc, c.id desc""")
+    List<CommentResponse> findAllBefore(@Param("time") LocalDateTime time, @Param("id") Long id, Pageable pageable);
+
+    /**
+     * Finds the first comments of the news ordered by time and id, the oldest first
+     *
+     * @param newsId   id of news the comments belong to
+     * @param pageable object of type {@link Pageable} containing the number of comments
+     * @return list objects of type {@link CommentResponse}
+     */
+    @Query(SELECT_COMMENT_RESPONSE + """
+            where c.news.id = :newsId
+            order by c.time, c.id""")
+    List<CommentResponse> findAllByNewsIdOrderByTimeAscIdAsc(@Param("newsId") Long newsId, Pageable pageable);
+
+    /**
+     * Finds comments of the news following the given position in the order by time and id, the oldest first
+     *
+     * @param newsId   id of news the comments belong to
+     * @param time     time of the comment at the position
+     * @param id       id of the comment at the position
+     * @param pageable object of type {@link Pageable} containing the number of comments
+     * @return list objects of type {@link CommentResponse}
+     */
+    @Query(SELECT_COMMENT_RESPONSE + """
+            where c.news.id = :newsId and c.time >= :time and (c.time > :time or c.id > :id)
+            order by c.time, c.id""")
+    List<CommentResponse> findAllByNewsIdAfter(@Param("newsId") Long newsId, @Param("time") LocalDateTime time,
+                                               @Param("id") Long id, Pageable pageable);
+
+    /**
+     * Returns the number of comments estimated by the statistics of the database, which is read without scanning
+     * the table and is refreshed by vacuum and analyze
+     *
+     * @return the estimated number of comments, or -1 if the table has not been analyzed yet
      */
-    Optional<Comment> findByIdAndNewsId(Long commentId, Long newsId);
+    @Query(value = "select cast(reltuples as bigint) from pg_class where oid = cast('comments' as regclass)",
+            nativeQuery = true)
+    long estimateCount();
 
 }
@@ -1,37 +1,289 @@
 package ru.clevertec.newsservice.repository;
 
+import jakarta.persistence.QueryHint;
+
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import ru.clevertec.newsservice.dto.response.news.NewsResponse;
 import ru.clevertec.newsservice.entity.News;
+import ru.clevertec.newsservice.repository.projection.NewsExportRow;
+import ru.clevertec.newsservice.repository.projection.NewsSearchHit;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+
+import static ru.clevertec.newsservice.repository.specification.SubstringSpecifications.containing;
 
 /**
- * Interface to perform operations with object of type {@link News}
+ * Interface to perform operations with object of type {@link News}. The read queries select {@link NewsResponse}
+ * by its constructor, so the read news are neither loaded into the persistence context nor copied from entities
  *
  * @author Ruslan Kantsevich
  */
-public interface NewsRepository extends JpaRepository<News, Long> {
+public interface NewsRepository extends JpaRepository<News, Long>, SliceExecutor<News> {
+
+    /**
+     * Selection of {@link NewsResponse} from the news aliased as n
+     */
+    String SELECT_NEWS_RESPONSE = """
+            select new ru.clevertec.newsservice.dto.response.news.NewsResponse(
+                n.id, n.title, n.text, n.time, n.username, n.commentCount, n.lastCommentAt)
+            from News n
+            """;
+
+    /**
+     * Selection of {@link NewsExportRow} from the news aliased as n joined with their comments aliased as c
+     */
+    String SELECT_NEWS_EXPORT_ROW = """
+            select new ru.clevertec.newsservice.repository.projection.NewsExportRow(
+                n.id, n.title, n.text, n.time, n.username, c.id, c.text, c.time, c.username)
+            from News n
+            left join n.comments c
+            """;
+
+    /**
+     * Number of rows of the export read from the database by one round trip
+     */
+    String EXPORT_FETCH_SIZE = "1000";
+
+    /**
+     * Finds news by id projected to {@link NewsResponse}
+     *
+     * @param id news id
+     * @return object of type {@link Optional<NewsResponse>}
+     */
+    @Query(SELECT_NEWS_RESPONSE + "where n.id = :id")
+    Optional<NewsResponse> findResponseById(@Param("id") Long id);
+
+    /**
+     * Finds a slice of news matching the specification projected to {@link NewsResponse}
+     *
+     * @param specification object of type {@link Specification} to be matched, or null to match all news
+     * @param pageable      object of type {@link Pageable} containing pagination and sorting parameters
+     *                      (page, size and sort)
+     * @return object of type {@link Slice} with objects of type {@link NewsResponse}
+     */
+    default Slice<NewsResponse> findResponseSlice(Specification<News> specification, Pageable pageable) {
+        return findSlice(specification, pageable, NewsResponse.class,
+                "id", "title", "text", "time", "username", "commentCount", "lastCommentAt");
+    }
 
     /**
-     * Finds all objects of type {@link News} by comment text with the possibility of pagination
+     * Finds all news by comment text with the possibility of pagination
      *
      * @param commentText news comment text
      * @param pageable    object of type {@link Pageable} containing pagination and sorting parameters
      *                    (page, size and sort)
-     * @return list objects of type {@link News}
+     * @return list objects of type {@link NewsResponse}
      */
-    List<News> findAllByCommentsTextContainingIgnoreCase(String commentText, Pageable pageable);
+    default List<NewsResponse> findAllByCommentsTextContainingIgnoreCase(String commentText, Pageable pageable) {
+        return findAllByCommentsTextLike(containing(commentText), pageable);
+    }
 
     /**
-     * Finds all objects of type {@link News} by comment username with the possibility of pagination
+     * Finds all news by comment username with the possibility of pagination
      *
      * @param commentUsername news comment username
      * @param pageable        object of type {@link Pageable} containing pagination and sorting parameters
      *                        (page, size and sort)
-     * @return list objects of type {@link News}
+     * @return list objects of type {@link NewsResponse}
+     */
+    default List<NewsResponse> findAllByCommentsUsernameContainingIgnoreCase(String commentUsername,
+                                                                             Pageable pageable) {
+        return findAllByCommentsUsernameLike(containing(commentUsername), pageable);
+    }
+
+    /**
+     * Finds all news having a comment whose text matches the pattern ignoring case, assisted by the trigram index
+     * of the comment text. The comments are matched by a semi-join, so a news with several matching comments is
+     * found once
+     *
+     * @param pattern  the ILIKE pattern escaped by the backslash
+     * @param pageable object of type {@link Pageable} containing pagination and sorting parameters
+     *                 (page, size and sort)
+     * @return list objects of type {@link NewsResponse}
+     */
+    @Query(SELECT_NEWS_RESPONSE + """
+            where exists (select c.id from Comment c where c.news.id = n.id and c.text ilike :pattern escape '\\')""")
+    List<NewsResponse> findAllByCommentsTextLike(@Param("pattern") String pattern, Pageable pageable);
+
+    /**
+     * Finds all news having a comment whose username matches the pattern ignoring case, assisted by the trigram
+     * index of the comment username. The comments are matched by a semi-join, so a news with several matching
+     * comments is found once
+     *
+     * @param pattern  the ILIKE pattern escaped by the backslash
+     * @param pageable object of type {@link Pageable} containing pagination and sorting parameters
+     *                 (page, size and sort)
+     * @return list objects of type {@link NewsResponse}
+     */
+    @Query(SELECT_NEWS_RESPONSE + """
+            where exists (select c.id from Comment c where c.news.id = n.id and c.username ilike :pattern escape '\\')""")
+    List<NewsResponse> findAllByCommentsUsernameLike(@Param("pattern") String pattern, Pageable pageable);
+
+    /**
+     * Finds the first news ordered by time and id, the newest first
+     *
+     * @param pageable object of type {@link Pageable} containing the number of news
+     * @return list objects of type {@link NewsResponse}
+     */
+    @Query(SELECT_NEWS_RESPONSE + "order by n.time desc, n.id desc")
+    List<NewsResponse> findAllByOrderByTimeDescIdDesc(Pageable pageable);
+
+    /**
+     * Finds news following the given position in the order by time and id, the newest first. The redundant bound
+     * on time lets the database start the index scan at the position
+     *
+     * @param time     time of the news at the position
+     * @param id       id of the news at the position
+     * @param pageable object of type {@link Pageable} containing the number of news
+     * @return list objects of type {@link NewsResponse}
+     */
+    @Query(SELECT_NEWS_RESPONSE + """
+            where n.time <= :time and (n.time < :time or n.id < :id)
+            order by n.time desc, n.id desc""")
+    List<NewsResponse> findAllBefore(@Param("time") LocalDateTime time, @Param("id") Long id, Pageable pageable);
+
+    /**
+     * Streams all news joined with their comments, ordered by the news id and then by the time and id of the
+     * comments, so the rows of every news follow one another. The rows are read by a forward-only cursor of
+     * {@link #EXPORT_FETCH_SIZE} rows, which keeps only the current rows in memory, so the stream must be consumed
+     * and closed in a transaction
+     *
+     * @return stream objects of type {@link NewsExportRow}
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE))
+    @Query(SELECT_NEWS_EXPORT_ROW + "order by n.id, c.time, c.id")
+    Stream<NewsExportRow> streamExport();
+
+    /**
+     * Streams the news changed since the given time joined with all their comments, ordered as
+     * {@link #streamExport()}. A news is changed if it was saved or updated, or its comments were saved or updated
+     * since the time
+     *
+     * @param since the time of the previous export
+     * @return stream objects of type {@link NewsExportRow}
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE))
+    @Query(SELECT_NEWS_EXPORT_ROW + """
+            where n.time >= :since or n.lastCommentAt >= :since
+            order by n.id, c.time, c.id""")
+    Stream<NewsExportRow> streamExportSince(@Param("since") LocalDateTime since);
+
+    /**
+     * Returns the number of news estimated by the statistics of the database, which is read without scanning
+     * the table and is refreshed by vacuum and analyze
+     *
+     * @return the estimated number of news, or -1 if the table has not been analyzed yet
+     */
+    @Query(value = "select cast(reltuples as bigint) from pg_class where oid = cast('news' as regclass)",
+            nativeQuery = true)
+    long estimateCount();
+
+    /**
+     * Adds the delta to the comment counter of the news and sets the time of its last comment to the latest time of
+     * its comments, which is read by the index on the comments of the news. The row of the news stays locked until
+     * the end of the transaction, so concurrent changes of its comments are counted one after another. The pending
+     * changes of the comments are flushed first
+     *
+     * @param id    id of the news
+     * @param delta 1 for a saved comment, -1 for a deleted comment or 0 for an updated comment
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update News n
+            set n.commentCount = n.commentCount + :delta,
+                n.lastCommentAt = (select max(c.time) from Comment c where c.news.id = n.id)
+            where n.id = :id""")
+    void updateCommentCounters(@Param("id") Long id, @Param("delta") long delta);
+
+    /**
+     * Repairs the comment counters of all news which differ from their comments in one statement
+     *
+     * @return ids of the repaired news
+     */
+    @Transactional
+    @Query(value = """
+            update news n
+            set comment_count = actual.comment_count, last_comment_at = actual.last_comment_at
+            from (select m.id, count(c.id) as comment_count, max(c.time) as last_comment_at
+                  from news m
+                  left join comments c on c.news_id = m.id
+                  group by m.id) actual
+            where n.id = actual.id
+              and (n.comment_count <> actual.comment_count or n.last_comment_at is distinct from actual.last_comment_at)
+            returning n.id""", nativeQuery = true)
+    List<Long> reconcileCommentCounters();
+
+    /**
+     * Finds news by the full-text search of the query in the title and the text of news and in the text of their
+     * comments, ordered by relevance. The search vectors of the news and the comments are matched through their
+     * GIN indexes, a news matched by several comments is ranked by the best of them, and a comment match weighs half
+     * of the news text match. The fragments are highlighted only for the news of the requested page. The title
+     * and the texts are HTML-escaped before the highlighting, so the only tags of the fragments are the
+     * {@code <mark>} tags of the matches
+     *
+     * @param query  the search query in the web search syntax: words, "quoted phrases", or and -excluded words
+     * @param limit  maximum number of news
+     * @param offset number of the best ranked news to skip
+     * @return list objects of type {@link NewsSearchHit}
      */
-    List<News> findAllByCommentsUsernameContainingIgnoreCase(String commentUsername, Pageable pageable);
+    @Query(value = """
+            with q as (select websearch_to_tsquery('english', :query) as query),
+            hits as (
+                select n.id, ts_rank_cd(n.search_vector, q.query) as rank
+                from news n, q
+                where n.search_vector @@ q.query
+                union all
+                select c.news_id, ts_rank_cd(c.search_vector, q.query) / 2
+                from comments c, q
+                where c.search_vector @@ q.query
+            ),
+            ranked as (
+                select id, max(rank) as rank
+                from hits
+                group by id
+                order by rank desc, id desc
+                limit :limit offset :offset
+            )
+            select n.id as id, n.title as title, n.time as time, n.username as username,
+                   cast(r.rank as double precision) as rank,
+                   ts_headline('english', e.title, q.query,
+                               'HighlightAll=true, StartSel=<mark>, StopSel=</mark>') as "titleHighlight",
+                   ts_headline('english', e.text, q.query,
+                               'MaxFragments=2, MaxWords=30, MinWords=10, StartSel=<mark>, StopSel=</mark>')
+                       as "textHighlight",
+                   ts_headline('english', e.comment_text, q.query,
+                               'MaxFragments=1, MaxWords=30, MinWords=10, StartSel=<mark>, StopSel=</mark>')
+                       as "commentHighlight"
+            from ranked r
+            join news n on n.id = r.id
+            cross join q
+            left join lateral (
+                select c.text
+                from comments c
+                where c.news_id = n.id and c.search_vector @@ q.query
+                order by ts_rank_cd(c.search_vector, q.query) desc, c.id
+                limit 1
+            ) c on true
+            cross join lateral (
+                select replace(replace(replace(n.title, '&', '&amp;'), '<', '&lt;'), '>', '&gt;') as title,
+                       replace(replace(replace(n.text, '&', '&amp;'), '<', '&lt;'), '>', '&gt;') as text,
+                       replace(replace(replace(c.text, '&', '&amp;'), '<', '&lt;'), '>', '&gt;') as comment_text
+            ) e
+            order by r.rank desc, n.id desc""", nativeQuery = true)
+    List<NewsSearchHit> search(@Param("query") String query, @Param("limit") int limit, @Param("offset") long offset);
 
 }
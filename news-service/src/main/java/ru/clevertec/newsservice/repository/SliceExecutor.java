@@ -0,0 +1,44 @@
+package ru.clevertec.newsservice.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+import ru.clevertec.newsservice.repository.support.SliceJpaRepository;
+
+/**
+ * Interface to find objects by {@link Specification} without counting them. Implemented by
+ * {@link SliceJpaRepository}, the base class of the repositories
+ *
+ * @param <T> the type of the entities
+ * @author Ruslan Kantsevich
+ */
+public interface SliceExecutor<T> {
+
+    /**
+     * Finds a slice of objects matching the specification. One more object than the page size is read to find out
+     * whether the next slice exists, instead of the count query of {@link org.springframework.data.domain.Page}
+     *
+     * @param specification object of type {@link Specification} to be matched, or null to match all objects
+     * @param pageable      object of type {@link Pageable} containing pagination and sorting parameters
+     *                      (page, size and sort)
+     * @return object of type {@link Slice} with the matching objects
+     */
+    Slice<T> findSlice(Specification<T> specification, Pageable pageable);
+
+    /**
+     * Finds a slice of objects matching the specification projected to the type by its constructor, which takes
+     * the values of the attributes in the given order. Only the attributes are selected, so no entities are loaded
+     * into the persistence context
+     *
+     * @param specification object of type {@link Specification} to be matched, or null to match all objects
+     * @param pageable      object of type {@link Pageable} containing pagination and sorting parameters
+     *                      (page, size and sort)
+     * @param type          the type of the projection
+     * @param attributes    names of the attributes passed to the constructor of the projection
+     * @param <R>           the type of the projection
+     * @return object of type {@link Slice} with the projections of the matching objects
+     */
+    <R> Slice<R> findSlice(Specification<T> specification, Pageable pageable, Class<R> type, String... attributes);
+
+}
@@ -0,0 +1,33 @@
+package ru.clevertec.newsservice.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of the comment with the flattened fields of its news, selected by one join instead of loading
+ * the comment and the news entities
+ *
+ * @param id                id of the comment
+ * @param text              text of the comment
+ * @param time              time of the comment
+ * @param username          username of the comment author
+ * @param newsId            id of the news
+ * @param newsTitle         title of the news
+ * @param newsText          text of the news
+ * @param newsTime          time of the news
+ * @param newsUsername      username of the news author
+ * @param newsCommentCount  number of comments of the news
+ * @param newsLastCommentAt time of the last comment of the news
+ * @author Ruslan Kantsevich
+ */
+public record NewsCommentProjection(Long id,
+                                    String text,
+                                    LocalDateTime time,
+                                    String username,
+                                    Long newsId,
+                                    String newsTitle,
+                                    String newsText,
+                                    LocalDateTime newsTime,
+                                    String newsUsername,
+                                    Long newsCommentCount,
+                                    LocalDateTime newsLastCommentAt) {
+}
@@ -0,0 +1,29 @@
+package ru.clevertec.newsservice.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Row of the export of news with their comments, which is the news joined with one of its comments. A news without
+ * comments is exported by one row with null comment fields
+ *
+ * @param id              id of the news
+ * @param title           title of the news
+ * @param text            text of the news
+ * @param time            time of the news
+ * @param username        username of the news author
+ * @param commentId       id of the comment, or null if the news has no comments
+ * @param commentText     text of the comment
+ * @param commentTime     time of the comment
+ * @param commentUsername username of the comment author
+ * @author Ruslan Kantsevich
+ */
+public record NewsExportRow(Long id,
+                            String title,
+                            String text,
+                            LocalDateTime time,
+                            String username,
+                            Long commentId,
+                            String commentText,
+                            LocalDateTime commentTime,
+                            String commentUsername) {
+}
@@ -0,0 +1,21 @@
+package ru.clevertec.newsservice.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of the news found by the full-text search with its relevance rank and highlighted HTML fragments
+ *
+ * @author Ruslan Kantsevich
+ */
+public interface NewsSearchHit {
+
+    Long getId();
+    String getTitle();
+    LocalDateTime getTime();
+    String getUsername();
+    Double getRank();
+    String getTitleHighlight();
+    String getTextHighlight();
+    String getCommentHighlight();
+
+}
@@ -0,0 +1,71 @@
+package ru.clevertec.newsservice.repository.specification;
+
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.EscapeCharacter;
+
+import ru.clevertec.newsservice.entity.Comment;
+import ru.clevertec.newsservice.entity.News;
+
+import static org.springframework.util.StringUtils.hasLength;
+
+/**
+ * Class of the specifications filtering news and comments by substrings of their fields. The substrings are
+ * matched by case-insensitive ILIKE on the columns themselves, so the filters are assisted by the trigram indexes
+ * of the columns, unlike the lower(column) like predicates of the query by example
+ *
+ * @author Ruslan Kantsevich
+ */
+public final class SubstringSpecifications {
+
+    private static final EscapeCharacter ESCAPE = EscapeCharacter.DEFAULT;
+
+    private SubstringSpecifications() {
+    }
+
+    /**
+     * Creates the specification of the news containing the title, the text and the username of the probe.
+     * Empty fields of the probe are not filtered
+     *
+     * @param probe object of type {@link News} containing the substrings of title, text and username
+     * @return object of type {@link Specification} matching the news
+     */
+    public static Specification<News> newsContaining(News probe) {
+        return Specification.<News>where(contains("title", probe.getTitle()))
+                .and(contains("text", probe.getText()))
+                .and(contains("username", probe.getUsername()));
+    }
+
+    /**
+     * Creates the specification of the comments containing the text and the username of the probe.
+     * Empty fields of the probe are not filtered
+     *
+     * @param probe object of type {@link Comment} containing the substrings of text and username
+     * @return object of type {@link Specification} matching the comments
+     */
+    public static Specification<Comment> commentsContaining(Comment probe) {
+        return Specification.<Comment>where(contains("text", probe.getText()))
+                .and(contains("username", probe.getUsername()));
+    }
+
+    /**
+     * Creates the ILIKE pattern matching the value at any position. The wildcards of the value are escaped by
+     * {@link EscapeCharacter#DEFAULT}, so they are matched literally
+     *
+     * @param value the substring to be matched
+     * @return the pattern
+     */
+    public static String containing(String value) {
+        return "%" + ESCAPE.escape(value) + "%";
+    }
+
+    private static <T> Specification<T> contains(String attribute, String value) {
+        if (!hasLength(value)) {
+            return null;
+        }
+
+        return (root, query, criteriaBuilder) -> ((HibernateCriteriaBuilder) criteriaBuilder)
+                .ilike(root.get(attribute), containing(value), ESCAPE.getEscapeCharacter());
+    }
+}
@@ -0,0 +1,108 @@
+package ru.clevertec.newsservice.repository.support;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.jpa.repository.support.JpaEntityInformation;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+
+import ru.clevertec.newsservice.repository.SliceExecutor;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Base class of the repositories extending {@link SimpleJpaRepository} with the {@link SliceExecutor} methods
+ *
+ * @param <T>  the type of the entities
+ * @param <ID> the type of the entity ids
+ * @author Ruslan Kantsevich
+ */
+public class SliceJpaRepository<T, ID> extends SimpleJpaRepository<T, ID> implements SliceExecutor<T> {
+
+    private final EntityManager entityManager;
+
+    public SliceJpaRepository(JpaEntityInformation<T, ?> entityInformation, EntityManager entityManager) {
+        super(entityInformation, entityManager);
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Finds a slice of objects matching the specification by the same query as
+     * {@link SimpleJpaRepository#findAll(Specification, Pageable)}, but limits it to one more object than the page
+     * size instead of running the count query
+     *
+     * @param specification object of type {@link Specification} to be matched, or null to match all objects
+     * @param pageable      object of type {@link Pageable} containing pagination and sorting parameters
+     *                      (page, size and sort)
+     * @return object of type {@link Slice} with the matching objects
+     */
+    @Override
+    public Slice<T> findSlice(Specification<T> specification, Pageable pageable) {
+        return slice(getQuery(specification, pageable), pageable);
+    }
+
+    /**
+     * Finds a slice of objects matching the specification by a criteria query selecting the constructor of the
+     * projection with the attributes of the entity. The query is sorted and limited like
+     * {@link #findSlice(Specification, Pageable)}
+     *
+     * @param specification object of type {@link Specification} to be matched, or null to match all objects
+     * @param pageable      object of type {@link Pageable} containing pagination and sorting parameters
+     *                      (page, size and sort)
+     * @param type          the type of the projection
+     * @param attributes    names of the attributes passed to the constructor of the projection
+     * @param <R>           the type of the projection
+     * @return object of type {@link Slice} with the projections of the matching objects
+     */
+    @Override
+    public <R> Slice<R> findSlice(Specification<T> specification, Pageable pageable, Class<R> type,
+                                  String... attributes) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<R> query = builder.createQuery(type);
+        Root<T> root = query.from(getDomainClass());
+
+        if (specification != null) {
+            Predicate predicate = specification.toPredicate(root, query, builder);
+
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+
+        Selection<?>[] selections = Arrays.stream(attributes)
+                .map(root::get)
+                .toArray(Selection<?>[]::new);
+        query.select(builder.construct(type, selections));
+
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, builder));
+        }
+
+        return slice(entityManager.createQuery(query), pageable);
+    }
+
+    private static <R> Slice<R> slice(TypedQuery<R> query, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(query.getResultList());
+        }
+
+        query.setFirstResult((int) pageable.getOffset());
+        query.setMaxResults(pageable.getPageSize() + 1);
+
+        List<R> content = query.getResultList();
+        boolean hasNext = content.size() > pageable.getPageSize();
+
+        return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+    }
+}
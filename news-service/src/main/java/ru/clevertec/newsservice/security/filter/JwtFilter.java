@@ -10,21 +10,28 @@ import lombok.RequiredArgsConstructor;
 
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
+import org.springframework.security.web.context.SecurityContextRepository;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import ru.clevertec.newsservice.client.AuthFeignClient;
 import ru.clevertec.newsservice.dto.response.user.UserResponse;
 import ru.clevertec.newsservice.mapper.UserMapper;
+import ru.clevertec.newsservice.security.jwt.TokenValidator;
+import ru.clevertec.newsservice.security.jwt.util.JwtUtil;
 
 import java.io.IOException;
 
 import static org.springframework.http.HttpHeaders.AUTHORIZATION;
 
 /**
- * Filter class for JSON Web Token validation and user authentication
+ * Filter class for JSON Web Token validation and user authentication. The token is validated by
+ * {@link TokenValidator} configured by security.jwt.validation. Every request with a bearer token is authenticated,
+ * a GET request without it is left anonymous. The authentication is saved in the request attributes, so it is
+ * restored on the asynchronous dispatch of a streamed response
  *
  * @author Ruslan Kantsevich
  * */
@@ -33,25 +40,28 @@ import static org.springframework.http.HttpHeaders.AUTHORIZATION;
 public class JwtFilter extends OncePerRequestFilter {
 
     private final UserMapper userMapper;
-    private final AuthFeignClient authFeignClient;
+    private final TokenValidator tokenValidator;
+    private final SecurityContextRepository securityContextRepository = new RequestAttributeSecurityContextRepository();
 
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request,
                                     @NonNull HttpServletResponse response,
                                     @NonNull FilterChain filterChain) throws ServletException, IOException {
-        if (HttpMethod.GET.matches(request.getMethod())) {
+        String authorizationHeader = request.getHeader(AUTHORIZATION);
+
+        if (HttpMethod.GET.matches(request.getMethod()) && !JwtUtil.hasJwt(authorizationHeader)) {
             filterChain.doFilter(request, response);
             return;
         }
 
-        String authorizationHeader = request.getHeader(AUTHORIZATION);
-
-        UserResponse userResponse = authFeignClient.validate(authorizationHeader);
+        UserResponse userResponse = tokenValidator.validate(authorizationHeader);
 
         UserDetails userDetails = userMapper.mapToUserDetails(userResponse);
         UsernamePasswordAuthenticationToken authentication =
                 new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-        SecurityContextHolder.getContext().setAuthentication(authentication);
+        SecurityContext securityContext = SecurityContextHolder.getContext();
+        securityContext.setAuthentication(authentication);
+        securityContextRepository.saveContext(securityContext, request, response);
 
         filterChain.doFilter(request, response);
     }
@@ -0,0 +1,21 @@
+package ru.clevertec.newsservice.security.jwt;
+
+/**
+ * Mode of JSON Web Token validation set by security.jwt.validation
+ *
+ * @author Ruslan Kantsevich
+ * */
+public enum TokenValidation {
+
+    /**
+     * The signature and the expiration of the token are verified by the service itself with the keys
+     * published by auth-service, and the authorities are taken from the token
+     * */
+    LOCAL,
+
+    /**
+     * The token is validated by auth-service, which also loads the user
+     * */
+    REMOTE
+
+}
@@ -0,0 +1,20 @@
+package ru.clevertec.newsservice.security.jwt;
+
+import ru.clevertec.newsservice.dto.response.user.UserResponse;
+
+/**
+ * Interface for validating JSON Web Token of the authorization header and providing the user data for authentication
+ *
+ * @author Ruslan Kantsevich
+ * */
+public interface TokenValidator {
+
+    /**
+     * Validates JSON Web Token of the authorization header
+     *
+     * @param authorizationHeader authorization header of HTTP request
+     * @return object of type {@link UserResponse} containing information about username and authorities of user
+     * */
+    UserResponse validate(String authorizationHeader);
+
+}
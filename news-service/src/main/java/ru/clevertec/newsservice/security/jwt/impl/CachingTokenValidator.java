@@ -0,0 +1,171 @@
+package ru.clevertec.newsservice.security.jwt.impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.jsonwebtoken.io.Decoders;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import ru.clevertec.newsservice.cache.EvictionListener;
+import ru.clevertec.newsservice.cache.factory.CacheFactory;
+import ru.clevertec.newsservice.cache.impl.BoundedCache;
+import ru.clevertec.newsservice.cache.impl.ConcurrentLRUCache;
+import ru.clevertec.newsservice.cache.impl.StatsCache;
+import ru.clevertec.newsservice.cache.stats.CacheStats;
+import ru.clevertec.newsservice.dto.response.user.UserResponse;
+import ru.clevertec.newsservice.security.jwt.TokenValidator;
+import ru.clevertec.newsservice.security.jwt.util.JwtUtil;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.function.LongSupplier;
+
+/**
+ * Decorator of the {@link TokenValidator} interface that caches the users of the validated tokens, so a token
+ * is validated by the decorated validator once instead of on every request. The users are cached by the SHA-256
+ * hash of the token, which keeps the tokens themselves out of the memory of the cache. A user is cached until
+ * the expiration of the token or for the maximum time-to-live, whichever comes first, and the cache holds up
+ * to the capacity of the least recently used tokens. Concurrent validations of the same token wait for a single
+ * validation, and failed validations are not cached. The statistics of the cache are published as cache.* meters
+ * tagged by cache jwt-validations if a {@link MeterRegistry} is given. The cached tokens are revoked by the
+ * administrators through {@link ru.clevertec.newsservice.controller.TokenController}, so a token of a blocked user
+ * or a changed role is validated by auth-service again
+ *
+ * @author Ruslan Kantsevich
+ * */
+public class CachingTokenValidator implements TokenValidator {
+
+    private static final String CACHE_NAME = "jwt-validations";
+    private static final String EXPIRATION_CLAIM = "exp";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final TokenValidator tokenValidator;
+    private final Clock clock;
+    private final StatsCache<String, ValidatedToken> validatedTokens;
+
+    /**
+     * Creates the validator
+     *
+     * @param tokenValidator validator of type {@link TokenValidator} validating the tokens missing in the cache
+     * @param capacity       maximum number of cached tokens
+     * @param maxTtl         maximum time-to-live of a cached token
+     * @param meterRegistry  registry of type {@link MeterRegistry} of the cache meters, or null if the meters are
+     *                       not published
+     * */
+    public CachingTokenValidator(TokenValidator tokenValidator, int capacity, Duration maxTtl,
+                                 MeterRegistry meterRegistry) {
+        this(tokenValidator, capacity, maxTtl, meterRegistry, Clock.systemUTC(), System::nanoTime);
+    }
+
+    CachingTokenValidator(TokenValidator tokenValidator, int capacity, Duration maxTtl, MeterRegistry meterRegistry,
+                          Clock clock, LongSupplier ticker) {
+        this.tokenValidator = tokenValidator;
+        this.clock = clock;
+        this.validatedTokens = CacheFactory.createStatsCache(CACHE_NAME, "CONCURRENT_LRU", meterRegistry,
+                EvictionListener.none(), evictionListener -> new BoundedCache<>(
+                        listener -> new ConcurrentLRUCache<>(capacity, ConcurrentLRUCache.DEFAULT_CONCURRENCY_LEVEL,
+                                listener),
+                        null,
+                        0,
+                        (hash, validatedToken) -> timeToLive(validatedToken, maxTtl),
+                        ticker,
+                        evictionListener
+                ));
+    }
+
+    /**
+     * Returns the cached user of the token of the authorization header, or validates the token by the decorated
+     * validator if it is not cached
+     *
+     * @param authorizationHeader authorization header of HTTP request
+     * @return object of type {@link UserResponse} containing information about username and authorities of user
+     * @throws ru.clevertec.exceptionhandlingstarter.exception.JwtNotFoundException if the header does not contain
+     *                                                                              a bearer token
+     * @throws RuntimeException if the decorated validator failed
+     * */
+    @Override
+    public UserResponse validate(String authorizationHeader) {
+        String jwt = JwtUtil.extractJwt(authorizationHeader);
+
+        try {
+            return validatedTokens.get(hash(jwt), key -> new ValidatedToken(
+                    tokenValidator.validate(authorizationHeader),
+                    extractExpirationMillis(jwt)
+            )).userResponse();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Revokes the token, so the next request with it is validated by the decorated validator again
+     *
+     * @param jwt JSON Web Token
+     * */
+    public void revoke(String jwt) {
+        validatedTokens.remove(hash(jwt));
+    }
+
+    /**
+     * Revokes all cached tokens
+     * */
+    public void revokeAll() {
+        validatedTokens.clear();
+    }
+
+    public CacheStats getStats() {
+        return validatedTokens.getStats();
+    }
+
+    private Duration timeToLive(ValidatedToken validatedToken, Duration maxTtl) {
+        if (validatedToken.expirationMillis() == null) {
+            return maxTtl;
+        }
+
+        Duration untilExpiration = Duration.ofMillis(validatedToken.expirationMillis() - clock.millis());
+
+        return untilExpiration.compareTo(maxTtl) < 0 ? untilExpiration : maxTtl;
+    }
+
+    /**
+     * Reads the expiration claim of the token without verifying it, since the token has already been validated
+     * by the decorated validator
+     *
+     * @param jwt JSON Web Token
+     * @return the expiration time in milliseconds since the epoch, or null if the token has no expiration claim
+     * */
+    private static Long extractExpirationMillis(String jwt) {
+        String[] parts = jwt.split("\\.");
+
+        if (parts.length < 2) {
+            return null;
+        }
+
+        try {
+            JsonNode expiration = OBJECT_MAPPER.readTree(Decoders.BASE64URL.decode(parts[1])).get(EXPIRATION_CLAIM);
+            return expiration != null && expiration.canConvertToLong() ? expiration.asLong() * 1000 : null;
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static String hash(String jwt) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(messageDigest.digest(jwt.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record ValidatedToken(UserResponse userResponse, Long expirationMillis) {
+    }
+}
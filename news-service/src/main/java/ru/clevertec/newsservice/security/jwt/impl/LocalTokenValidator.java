@@ -0,0 +1,93 @@
+package ru.clevertec.newsservice.security.jwt.impl;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SigningKeyResolver;
+
+import ru.clevertec.exceptionhandlingstarter.exception.InvalidJwtException;
+import ru.clevertec.newsservice.dto.response.user.UserResponse;
+import ru.clevertec.newsservice.security.jwt.TokenValidator;
+import ru.clevertec.newsservice.security.jwt.util.JwtUtil;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Class implementing {@link TokenValidator} that verifies the signature and the expiration of JSON Web Token
+ * without a request to auth-service. The user data are taken from the subject and the authorities claim, which
+ * auth-service puts in the token when generating it. The parser is built once and shared by the requests, and
+ * the key verifying the signature is resolved by the kid header of the token
+ *
+ * @author Ruslan Kantsevich
+ * */
+public class LocalTokenValidator implements TokenValidator {
+
+    private static final String AUTHORITIES_CLAIM = "authorities";
+
+    private final JwtParser jwtParser;
+
+    /**
+     * Creates the validator
+     *
+     * @param signingKeyResolver resolver of type {@link SigningKeyResolver} of the key verifying the signature
+     * */
+    public LocalTokenValidator(SigningKeyResolver signingKeyResolver) {
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKeyResolver(signingKeyResolver)
+                .build();
+    }
+
+    /**
+     * Verifies JSON Web Token of the authorization header
+     *
+     * @param authorizationHeader authorization header of HTTP request
+     * @return object of type {@link UserResponse} containing information about username and authorities of user
+     * @throws ru.clevertec.exceptionhandlingstarter.exception.JwtNotFoundException if the header does not contain
+     *                                                                              a bearer token
+     * @throws InvalidJwtException if the token is expired, its signature is wrong or signed by an unknown key,
+     *                             or it has no subject
+     * */
+    @Override
+    public UserResponse validate(String authorizationHeader) {
+        Claims claims = parseClaims(JwtUtil.extractJwt(authorizationHeader));
+
+        if (Objects.isNull(claims.getSubject())) {
+            throw new InvalidJwtException("Jwt doesn't contain subject");
+        }
+
+        return UserResponse.builder()
+                .username(claims.getSubject())
+                .authorities(extractAuthorities(claims))
+                .build();
+    }
+
+    private Claims parseClaims(String jwt) {
+        try {
+            return jwtParser.parseClaimsJws(jwt).getBody();
+        } catch (ExpiredJwtException e) {
+            throw new InvalidJwtException("Jwt expired");
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new InvalidJwtException("Jwt token is not valid");
+        }
+    }
+
+    private List<String> extractAuthorities(Claims claims) {
+        Object authorities = claims.get(AUTHORITIES_CLAIM);
+
+        if (Objects.isNull(authorities)) {
+            return Collections.emptyList();
+        }
+
+        if (!(authorities instanceof List<?> authorityList)) {
+            throw new InvalidJwtException("Jwt token is not valid");
+        }
+
+        return authorityList.stream()
+                .map(String::valueOf)
+                .toList();
+    }
+}
@@ -0,0 +1,23 @@
+package ru.clevertec.newsservice.security.jwt.impl;
+
+import lombok.RequiredArgsConstructor;
+
+import ru.clevertec.newsservice.client.AuthFeignClient;
+import ru.clevertec.newsservice.dto.response.user.UserResponse;
+import ru.clevertec.newsservice.security.jwt.TokenValidator;
+
+/**
+ * Class implementing {@link TokenValidator} that validates JSON Web Token by a request to auth-service
+ *
+ * @author Ruslan Kantsevich
+ * */
+@RequiredArgsConstructor
+public class RemoteTokenValidator implements TokenValidator {
+
+    private final AuthFeignClient authFeignClient;
+
+    @Override
+    public UserResponse validate(String authorizationHeader) {
+        return authFeignClient.validate(authorizationHeader);
+    }
+}
@@ -0,0 +1,166 @@
+package ru.clevertec.newsservice.security.jwt.key;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.SignatureException;
+
+import ru.clevertec.newsservice.client.AuthFeignClient;
+import ru.clevertec.newsservice.dto.response.jwk.JwkResponse;
+import ru.clevertec.newsservice.dto.response.jwk.JwksResponse;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+/**
+ * Class resolving the key verifying the RS256 signature of JSON Web Token by its kid header. The keys are taken
+ * from JSON Web Key Set published by auth-service, which is cached and verifies the tokens without requests to
+ * auth-service. The key set is reloaded after the time-to-live, and earlier if a token is signed by an unknown key
+ * after a rotation, but not more often than once in the minimum refresh interval. If the key set cannot be
+ * reloaded, the cached keys are used until the next attempt
+ *
+ * @author Ruslan Kantsevich
+ * */
+public class JwksKeyResolver extends SigningKeyResolverAdapter {
+
+    private static final String KEY_TYPE = "RSA";
+    private static final String SIGNATURE_USE = "sig";
+
+    private final AuthFeignClient authFeignClient;
+    private final long ttlNanos;
+    private final long minRefreshIntervalNanos;
+    private final LongSupplier ticker;
+    private final Object refreshLock;
+
+    private volatile Map<String, PublicKey> keys;
+    private volatile long fetchedAt;
+    private volatile long refreshedAt;
+
+    /**
+     * Creates the resolver
+     *
+     * @param authFeignClient    client of type {@link AuthFeignClient} loading the key set
+     * @param ttl                time-to-live of the loaded key set
+     * @param minRefreshInterval minimum time between two loads of the key set
+     * */
+    public JwksKeyResolver(AuthFeignClient authFeignClient, Duration ttl, Duration minRefreshInterval) {
+        this(authFeignClient, ttl, minRefreshInterval, System::nanoTime);
+    }
+
+    JwksKeyResolver(AuthFeignClient authFeignClient, Duration ttl, Duration minRefreshInterval, LongSupplier ticker) {
+        this.authFeignClient = authFeignClient;
+        this.ttlNanos = ttl.toNanos();
+        this.minRefreshIntervalNanos = minRefreshInterval.toNanos();
+        this.ticker = ticker;
+        this.refreshLock = new Object();
+    }
+
+    /**
+     * Resolves the key verifying the signature of JSON Web Token
+     *
+     * @param header object of type {@link JwsHeader} containing the algorithm and the key id of the token
+     * @param claims object of type {@link Claims} of the token
+     * @return object of type {@link PublicKey} verifying the signature
+     * @throws UnsupportedJwtException if the token is not signed by RS256
+     * @throws SignatureException if the key set has no key with the id
+     * */
+    @Override
+    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+        if (!SignatureAlgorithm.RS256.getValue().equals(header.getAlgorithm())) {
+            throw new UnsupportedJwtException("Jwt algorithm [%s] is not supported".formatted(header.getAlgorithm()));
+        }
+
+        return getKey(header.getKeyId());
+    }
+
+    /**
+     * Gets the key with the id from the cached key set, reloading the key set if it is expired or has no such key
+     *
+     * @param keyId id of the key
+     * @return object of type {@link PublicKey} with the id
+     * @throws SignatureException if the key set has no key with the id
+     * */
+    public PublicKey getKey(String keyId) {
+        long now = ticker.getAsLong();
+
+        if (Objects.isNull(keys) || now - fetchedAt >= ttlNanos) {
+            refresh(now);
+        }
+
+        PublicKey key = Objects.isNull(keyId) ? null : keys.get(keyId);
+
+        if (Objects.isNull(key) && Objects.nonNull(keyId)) {
+            refresh(now);
+            key = keys.get(keyId);
+        }
+
+        if (Objects.isNull(key)) {
+            throw new SignatureException("Jwt key id [%s] is unknown".formatted(keyId));
+        }
+
+        return key;
+    }
+
+    /**
+     * Loads the key set unless it was loaded or attempted to be loaded within the minimum refresh interval.
+     * Concurrent callers wait for a single load
+     *
+     * @param now the current time of the ticker in nanoseconds
+     * @throws RuntimeException if the key set cannot be loaded and no key set has been loaded before
+     * */
+    private void refresh(long now) {
+        synchronized (refreshLock) {
+            if (Objects.nonNull(keys) && now - refreshedAt < minRefreshIntervalNanos) {
+                return;
+            }
+
+            refreshedAt = now;
+
+            try {
+                keys = mapToKeys(authFeignClient.getJwks());
+                fetchedAt = now;
+            } catch (RuntimeException e) {
+                if (Objects.isNull(keys)) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private static Map<String, PublicKey> mapToKeys(JwksResponse jwksResponse) {
+        Map<String, PublicKey> keys = new HashMap<>();
+
+        try {
+            KeyFactory keyFactory = KeyFactory.getInstance(KEY_TYPE);
+
+            for (JwkResponse jwk : jwksResponse.getKeys()) {
+                if (isSignatureKey(jwk)) {
+                    keys.put(jwk.getKid(), keyFactory.generatePublic(new RSAPublicKeySpec(
+                            new BigInteger(1, Decoders.BASE64URL.decode(jwk.getN())),
+                            new BigInteger(1, Decoders.BASE64URL.decode(jwk.getE())))));
+                }
+            }
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Jwk set cannot be decoded", e);
+        }
+
+        return Collections.unmodifiableMap(keys);
+    }
+
+    private static boolean isSignatureKey(JwkResponse jwk) {
+        return KEY_TYPE.equals(jwk.getKty()) && (Objects.isNull(jwk.getUse()) || SIGNATURE_USE.equals(jwk.getUse()));
+    }
+}
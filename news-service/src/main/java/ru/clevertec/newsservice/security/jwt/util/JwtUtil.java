@@ -0,0 +1,40 @@
+package ru.clevertec.newsservice.security.jwt.util;
+
+import ru.clevertec.exceptionhandlingstarter.exception.JwtNotFoundException;
+
+import java.util.Objects;
+
+/**
+ * Utility class that provides methods for working with JSON Web Token
+ *
+ * @author Ruslan Kantsevich
+ * */
+public class JwtUtil {
+
+    public static final String BEARER_PREFIX = "Bearer";
+
+    /**
+     * Checks if authorization header of HTTP request contains JSON Web Token
+     *
+     * @param authorizationHeader authorization header of HTTP request
+     * @return true if the header contains a bearer token, otherwise false
+     * */
+    public static boolean hasJwt(String authorizationHeader) {
+        return Objects.nonNull(authorizationHeader) && authorizationHeader.startsWith(BEARER_PREFIX + " ");
+    }
+
+    /**
+     * Extracts JSON Web Token from authorization header of HTTP request
+     *
+     * @param authorizationHeader authorization header of HTTP request
+     * @return JSON Web Token
+     * @throws JwtNotFoundException if the header is absent or does not contain a bearer token
+     * */
+    public static String extractJwt(String authorizationHeader) {
+        if (!hasJwt(authorizationHeader)) {
+            throw new JwtNotFoundException("Jwt not found");
+        }
+
+        return authorizationHeader.substring(BEARER_PREFIX.length() + 1);
+    }
+}
@@ -0,0 +1,27 @@
+package ru.clevertec.newsservice.service;
+
+import ru.clevertec.newsservice.dto.response.comment.CommentResponse;
+import ru.clevertec.newsservice.dto.response.news.CommentNewsResponse;
+import ru.clevertec.newsservice.dto.response.news.NewsResponse;
+
+import java.util.List;
+
+/**
+ * Interface for reading the parts of {@link CommentNewsResponse}, which are cached separately: the news body
+ * and the segment of its first comments given as the preview. Comments of the news are ordered by time and id,
+ * the oldest first, as in the keyset pages of the news comments, and the segment holds one comment more than
+ * the preview, which tells whether more comments follow it. A new comment is the newest, while an updated comment
+ * moves to the end and a deleted comment leaves, so a comment changes the segment only at a position inside it
+ *
+ * @author Ruslan Kantsevich
+ * */
+public interface CommentNewsReadModel {
+
+    NewsResponse findNewsById(Long id);
+    List<CommentResponse> findCommentSegment(Long newsId);
+    void evictNews(Long id);
+    void evictCommentSegment(Long newsId);
+    int getPreviewSize();
+    boolean isInCommentSegment(long position);
+
+}
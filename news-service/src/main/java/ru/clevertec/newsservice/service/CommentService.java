@@ -5,8 +5,11 @@ import org.springframework.data.domain.Pageable;
 import ru.clevertec.newsservice.dto.filter.CommentFilter;
 import ru.clevertec.newsservice.dto.request.comment.CommentRequest;
 import ru.clevertec.newsservice.dto.request.comment.NewsCommentRequest;
+import ru.clevertec.newsservice.dto.response.batch.BatchResponse;
 import ru.clevertec.newsservice.dto.response.comment.CommentResponse;
 import ru.clevertec.newsservice.dto.response.comment.NewsCommentResponse;
+import ru.clevertec.newsservice.dto.response.page.CursorPageResponse;
+import ru.clevertec.newsservice.dto.response.page.SlicePageResponse;
 import ru.clevertec.newsservice.entity.Comment;
 
 import java.security.Principal;
@@ -20,10 +23,15 @@ import java.util.List;
 public interface CommentService {
 
     List<CommentResponse> findAll(CommentFilter commentFilter, Pageable pageable);
+    SlicePageResponse<CommentResponse> findAllBySlice(CommentFilter commentFilter, Pageable pageable,
+                                                      boolean withTotal);
+    CursorPageResponse<CommentResponse> findAllByCursor(String cursor, Pageable pageable);
     List<CommentResponse> findAllByNewsId(Long id, Pageable pageable);
+    CursorPageResponse<CommentResponse> findAllByNewsIdAndCursor(Long id, String cursor, Pageable pageable);
     NewsCommentResponse findById(Long id);
     NewsCommentResponse findByIdAndNewsId(Long commentId, Long newsId);
     NewsCommentResponse save(CommentRequest commentRequest, Principal principal);
+    BatchResponse<NewsCommentResponse> saveAll(List<CommentRequest> commentRequests, Principal principal);
     NewsCommentResponse update(Long id, NewsCommentRequest newsCommentRequest);
     void deleteById(Long id);
 
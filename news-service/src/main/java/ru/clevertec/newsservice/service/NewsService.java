@@ -5,11 +5,18 @@ import org.springframework.data.domain.Pageable;
 import ru.clevertec.newsservice.dto.filter.NewsFilter;
 import ru.clevertec.newsservice.dto.request.news.NewsRequest;
 import ru.clevertec.newsservice.dto.request.news.NewsTextRequest;
+import ru.clevertec.newsservice.dto.response.batch.BatchResponse;
 import ru.clevertec.newsservice.dto.response.news.CommentNewsResponse;
 import ru.clevertec.newsservice.dto.response.news.NewsResponse;
+import ru.clevertec.newsservice.dto.response.news.NewsSearchResponse;
+import ru.clevertec.newsservice.dto.response.page.CursorPageResponse;
+import ru.clevertec.newsservice.dto.response.page.SlicePageResponse;
 import ru.clevertec.newsservice.entity.News;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.security.Principal;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -20,10 +27,15 @@ import java.util.List;
 public interface NewsService {
 
     List<NewsResponse> findAll(NewsFilter newsFilter, Pageable pageable);
+    SlicePageResponse<NewsResponse> findAllBySlice(NewsFilter newsFilter, Pageable pageable, boolean withTotal);
+    CursorPageResponse<NewsResponse> findAllByCursor(String cursor, Pageable pageable);
+    List<NewsSearchResponse> search(String query, Pageable pageable);
     List<NewsResponse> findAllByCommentsText(String commentText, Pageable pageable);
     List<NewsResponse> findAllByCommentsUsername(String commentUsername, Pageable pageable);
     CommentNewsResponse findById(Long id);
+    void export(LocalDateTime since, OutputStream outputStream) throws IOException;
     CommentNewsResponse save(NewsRequest newsRequest, Principal principal);
+    BatchResponse<CommentNewsResponse> saveAll(List<NewsRequest> newsRequests, Principal principal);
     CommentNewsResponse update(Long id, NewsRequest newsRequest);
     CommentNewsResponse updateText(Long id, NewsTextRequest newsTextRequest);
     void deleteById(Long id);
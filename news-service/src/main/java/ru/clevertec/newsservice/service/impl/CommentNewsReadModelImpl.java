@@ -0,0 +1,92 @@
+package ru.clevertec.newsservice.service.impl;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import ru.clevertec.exceptionhandlingstarter.exception.NewsNotFoundException;
+import ru.clevertec.newsservice.dto.response.comment.CommentResponse;
+import ru.clevertec.newsservice.dto.response.news.NewsResponse;
+import ru.clevertec.newsservice.repository.CommentRepository;
+import ru.clevertec.newsservice.repository.NewsRepository;
+import ru.clevertec.newsservice.service.CommentNewsReadModel;
+
+import java.util.List;
+
+/**
+ * An implementation of the {@link CommentNewsReadModel} interface reading the news body and the segment
+ * of its first comments from the database. The results are cached by the news cache aspect or by the Spring cache
+ *
+ * @author Ruslan Kantsevich
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CommentNewsReadModelImpl implements CommentNewsReadModel {
+
+    private final NewsRepository newsRepository;
+    private final CommentRepository commentRepository;
+
+    @Value("${cache.comment-preview-size:10}")
+    private int previewSize;
+
+    /**
+     * Finds the news body by id or throws a {@link NewsNotFoundException}
+     * if the news with the given id is not found in the database
+     *
+     * @param id the news id
+     * @return object of type {@link NewsResponse} with given id
+     * @throws NewsNotFoundException if the news with the given id is not found in the database
+     */
+    @Override
+    @Cacheable(key = "#id", value = "news")
+    public NewsResponse findNewsById(Long id) {
+        return newsRepository.findResponseById(id)
+                .orElseThrow(() -> new NewsNotFoundException("News with id = [%d] not found".formatted(id)));
+    }
+
+    /**
+     * Finds the segment of the first news comments, which holds one comment more than the preview
+     *
+     * @param newsId id of news the comments belong to, which is the key of the cached segment
+     * @return list objects of type {@link CommentResponse} ordered by time and id, no longer than the preview
+     * if no more comments follow it
+     */
+    @Override
+    @Cacheable(key = "new ru.clevertec.newsservice.cache.key.CommentSegmentKey(#newsId)", value = "commentSegments")
+    public List<CommentResponse> findCommentSegment(Long newsId) {
+        return commentRepository.findAllByNewsIdOrderByTimeAscIdAsc(newsId, PageRequest.ofSize(previewSize + 1));
+    }
+
+    @Override
+    @CacheEvict(key = "#id", value = "news")
+    public void evictNews(Long id) {
+    }
+
+    @Override
+    @CacheEvict(key = "new ru.clevertec.newsservice.cache.key.CommentSegmentKey(#newsId)", value = "commentSegments")
+    public void evictCommentSegment(Long newsId) {
+    }
+
+    @Override
+    public int getPreviewSize() {
+        return previewSize;
+    }
+
+    /**
+     * Checks whether the comment at the position is held by the segment. The comment after the preview is held
+     * too, since it tells whether more comments follow the preview
+     *
+     * @param position zero-based position of the comment among the news comments ordered by time and id
+     * @return true if the comment at the position is held by the segment
+     */
+    @Override
+    public boolean isInCommentSegment(long position) {
+        return position <= previewSize;
+    }
+}
@@ -6,32 +6,52 @@ import org.springframework.cache.annotation.CacheConfig;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.data.domain.Example;
-import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import ru.clevertec.exceptionhandlingstarter.exception.CommentNotFoundException;
 import ru.clevertec.exceptionhandlingstarter.exception.NewsNotFoundException;
+import ru.clevertec.newsservice.batch.BatchItemValidator;
+import ru.clevertec.newsservice.cache.tag.CacheTagInvalidator;
 import ru.clevertec.newsservice.dto.filter.CommentFilter;
 import ru.clevertec.newsservice.dto.request.comment.CommentRequest;
 import ru.clevertec.newsservice.dto.request.comment.NewsCommentRequest;
+import ru.clevertec.newsservice.dto.response.batch.BatchItemResponse;
+import ru.clevertec.newsservice.dto.response.batch.BatchResponse;
 import ru.clevertec.newsservice.dto.response.comment.CommentResponse;
 import ru.clevertec.newsservice.dto.response.comment.NewsCommentResponse;
+import ru.clevertec.newsservice.dto.response.page.CursorPageResponse;
+import ru.clevertec.newsservice.dto.response.page.SlicePageResponse;
 import ru.clevertec.newsservice.entity.Comment;
 import ru.clevertec.newsservice.entity.News;
 import ru.clevertec.newsservice.mapper.CommentMapper;
+import ru.clevertec.newsservice.pagination.ApproximateTotalCounter;
+import ru.clevertec.newsservice.pagination.KeysetCursor;
 import ru.clevertec.newsservice.repository.CommentRepository;
 import ru.clevertec.newsservice.repository.NewsRepository;
+import ru.clevertec.newsservice.repository.projection.NewsCommentProjection;
+import ru.clevertec.newsservice.service.CommentNewsReadModel;
 import ru.clevertec.newsservice.service.CommentService;
 
 import java.security.Principal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
-import static org.springframework.data.domain.ExampleMatcher.GenericPropertyMatchers.contains;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.util.StringUtils.hasText;
 
+import static ru.clevertec.newsservice.repository.specification.SubstringSpecifications.commentsContaining;
 import static ru.clevertec.newsservice.security.util.SecurityUtil.isAccessRole;
 import static ru.clevertec.newsservice.security.util.SecurityUtil.isAccessUsername;
 
@@ -49,6 +69,10 @@ public class CommentServiceImpl implements CommentService {
     private final CommentMapper commentMapper;
     private final NewsRepository newsRepository;
     private final CommentRepository commentRepository;
+    private final CommentNewsReadModel commentNewsReadModel;
+    private final ApproximateTotalCounter approximateTotalCounter;
+    private final BatchItemValidator batchItemValidator;
+    private final CacheTagInvalidator cacheTagInvalidator;
 
     /**
      * Finds all objects of type {@link Comment} with the possibility of filtering and pagination
@@ -61,16 +85,59 @@ public class CommentServiceImpl implements CommentService {
      */
     @Override
     public List<CommentResponse> findAll(CommentFilter commentFilter, Pageable pageable) {
-        ExampleMatcher commentMatcher = ExampleMatcher.matching()
-                .withMatcher("text", contains().ignoreCase())
-                .withMatcher("username", contains().ignoreCase());
+        Comment filteredComment = commentMapper.mapToComment(commentFilter);
+        Specification<Comment> commentSpecification = commentsContaining(filteredComment);
+
+        return commentRepository.findResponseSlice(commentSpecification, pageable).getContent();
+    }
 
+    /**
+     * Finds a slice of objects of type {@link Comment} with the possibility of filtering and pagination. One more
+     * comment than the page size is read to find out whether the next slice exists, so the listing is not slowed
+     * down by counting the table. The approximate total of comments is given only for the unfiltered listing
+     *
+     * @param commentFilter object of type {@link CommentFilter} containing information about
+     *                      text and username of news for filtering
+     * @param pageable      object of type {@link Pageable} containing pagination and sorting parameters
+     *                      (page, size and sort)
+     * @param withTotal     whether the approximate total of comments is requested
+     * @return object of type {@link SlicePageResponse} with objects of type {@link CommentResponse}
+     */
+    @Override
+    public SlicePageResponse<CommentResponse> findAllBySlice(CommentFilter commentFilter, Pageable pageable,
+                                                             boolean withTotal) {
         Comment filteredComment = commentMapper.mapToComment(commentFilter);
-        Example<Comment> commentExample = Example.of(filteredComment, commentMatcher);
+        Specification<Comment> commentSpecification = commentsContaining(filteredComment);
+
+        Slice<CommentResponse> comments = commentRepository.findResponseSlice(commentSpecification, pageable);
+        Long approximateTotal = withTotal && isUnfiltered(commentFilter)
+                ? approximateTotalCounter.count("comments", commentRepository::estimateCount, commentRepository::count)
+                : null;
+
+        return new SlicePageResponse<>(comments.getContent(), comments.hasNext(), approximateTotal);
+    }
+
+    /**
+     * Finds a page of objects of type {@link Comment} ordered by time and id, the newest first, following the
+     * position of the cursor. One more comment than the page size is read to find out whether the next page exists
+     *
+     * @param cursor   the token of the page returned with the previous page, or null or blank for the first page
+     * @param pageable object of type {@link Pageable} containing the page size, other parameters are ignored
+     * @return object of type {@link CursorPageResponse} with objects of type {@link CommentResponse} and the token
+     * of the next page
+     * @throws ru.clevertec.exceptionhandlingstarter.exception.InvalidCursorException if the cursor is malformed
+     */
+    @Override
+    public CursorPageResponse<CommentResponse> findAllByCursor(String cursor, Pageable pageable) {
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+        Pageable probe = PageRequest.ofSize(pageable.getPageSize() + 1);
 
-        List<Comment> comments = commentRepository.findAll(commentExample, pageable).getContent();
+        List<CommentResponse> comments = keysetCursor == null
+                ? commentRepository.findAllByOrderByTimeDescIdDesc(probe)
+                : commentRepository.findAllBefore(keysetCursor.time(), keysetCursor.id(), probe);
 
-        return commentMapper.mapToCommentResponses(comments);
+        return KeysetCursor.page(comments, pageable.getPageSize(), c -> new KeysetCursor(c.getTime(), c.getId()),
+                Function.identity());
     }
 
     /**
@@ -83,8 +150,32 @@ public class CommentServiceImpl implements CommentService {
      */
     @Override
     public List<CommentResponse> findAllByNewsId(Long id, Pageable pageable) {
-        List<Comment> comments = commentRepository.findAllByNewsId(id, pageable);
-        return commentMapper.mapToCommentResponses(comments);
+        return commentRepository.findAllByNewsId(id, pageable);
+    }
+
+    /**
+     * Finds a page of objects of type {@link Comment} of the news ordered by time and id, the oldest first,
+     * following the position of the cursor. One more comment than the page size is read to find out whether
+     * the next page exists
+     *
+     * @param id       id of news the comments belong to
+     * @param cursor   the token of the page returned with the previous page, or null or blank for the first page
+     * @param pageable object of type {@link Pageable} containing the page size, other parameters are ignored
+     * @return object of type {@link CursorPageResponse} with objects of type {@link CommentResponse} and the token
+     * of the next page
+     * @throws ru.clevertec.exceptionhandlingstarter.exception.InvalidCursorException if the cursor is malformed
+     */
+    @Override
+    public CursorPageResponse<CommentResponse> findAllByNewsIdAndCursor(Long id, String cursor, Pageable pageable) {
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+        Pageable probe = PageRequest.ofSize(pageable.getPageSize() + 1);
+
+        List<CommentResponse> comments = keysetCursor == null
+                ? commentRepository.findAllByNewsIdOrderByTimeAscIdAsc(id, probe)
+                : commentRepository.findAllByNewsIdAfter(id, keysetCursor.time(), keysetCursor.id(), probe);
+
+        return KeysetCursor.page(comments, pageable.getPageSize(), c -> new KeysetCursor(c.getTime(), c.getId()),
+                Function.identity());
     }
 
     /**
@@ -98,7 +189,7 @@ public class CommentServiceImpl implements CommentService {
     @Override
     @Cacheable(key = "#id", value = "comment")
     public NewsCommentResponse findById(Long id) {
-        Comment comment = commentRepository.findById(id)
+        NewsCommentProjection comment = commentRepository.findNewsCommentById(id)
                 .orElseThrow(() -> new CommentNotFoundException("Comment with id = [%d] not found".formatted(id)));
 
         return commentMapper.mapToNewsCommentResponse(comment);
@@ -116,14 +207,14 @@ public class CommentServiceImpl implements CommentService {
     @Override
     @Cacheable(key = "#commentId", value = "comment")
     public NewsCommentResponse findByIdAndNewsId(Long commentId, Long newsId) {
-        Comment comment = commentRepository.findByIdAndNewsId(commentId, newsId)
+        NewsCommentProjection comment = commentRepository.findNewsCommentByIdAndNewsId(commentId, newsId)
                 .orElseThrow(() -> new CommentNotFoundException("Comment with id = [%d] news with id = [%d] not found".formatted(commentId, newsId)));
 
         return commentMapper.mapToNewsCommentResponse(comment);
     }
 
     /**
-     * Saves the comment in the database
+     * Saves the comment in the database and counts it in the comment counter of the news
      *
      * @param commentRequest object of type {@link CommentRequest} to save
      * @param principal   object of type {@link Principal} containing information about authenticated username
@@ -141,10 +232,71 @@ public class CommentServiceImpl implements CommentService {
         comment.setNews(news);
 
         Comment savedComment = commentRepository.save(comment);
+        updateCommentCounters(news.getId(), 1);
+        evictCommentSegment(news.getId(), savedComment);
 
         return commentMapper.mapToNewsCommentResponse(savedComment);
     }
 
+    /**
+     * Saves the batch of comments in the database in one transaction and counts them in the comment counters of
+     * their news. Every comment is validated on its own, and the invalid comments and the comments of missing news
+     * are reported in their results while the other ones are saved. The news of the batch are read by one query,
+     * the ids of the comments are taken from the pooled sequence in advance, so the comments are inserted by JDBC
+     * batches when the transaction is flushed, and the counters and the cached segment are updated once per news
+     *
+     * @param commentRequests list objects of type {@link CommentRequest} to save
+     * @param principal       object of type {@link Principal} containing information about authenticated username
+     * @return object of type {@link BatchResponse} with the result of every comment in the order of the batch
+     * @throws ru.clevertec.exceptionhandlingstarter.exception.InvalidBatchException if the batch is empty or too
+     * large
+     */
+    @Override
+    @Transactional
+    public BatchResponse<NewsCommentResponse> saveAll(List<CommentRequest> commentRequests, Principal principal) {
+        batchItemValidator.checkSize(commentRequests);
+
+        List<BatchItemResponse<NewsCommentResponse>> items = new ArrayList<>(commentRequests.size());
+        List<Comment> comments = new ArrayList<>(commentRequests.size());
+        Map<Long, News> news = findNewsOf(commentRequests);
+
+        for (int index = 0; index < commentRequests.size(); index++) {
+            CommentRequest commentRequest = commentRequests.get(index);
+            List<String> errors = batchItemValidator.validate(commentRequest);
+
+            if (!errors.isEmpty()) {
+                items.add(BatchItemResponse.failed(index, BAD_REQUEST, errors));
+            } else if (!news.containsKey(commentRequest.getNewsId())) {
+                items.add(BatchItemResponse.failed(index, NOT_FOUND,
+                        List.of("News with id = [%d] not found".formatted(commentRequest.getNewsId()))));
+            } else {
+                Comment comment = commentMapper.mapToComment(commentRequest, principal.getName());
+                comment.setNews(news.get(commentRequest.getNewsId()));
+                comments.add(comment);
+                items.add(null);
+            }
+        }
+
+        List<Comment> savedComments = commentRepository.saveAll(comments);
+
+        savedComments.stream()
+                .collect(Collectors.groupingBy(comment -> comment.getNews().getId(), LinkedHashMap::new,
+                        Collectors.toList()))
+                .forEach((newsId, newsComments) -> {
+                    updateCommentCounters(newsId, newsComments.size());
+                    evictCommentSegment(newsId, newsComments.get(0));
+                });
+
+        for (int index = 0, saved = 0; index < items.size(); index++) {
+            if (items.get(index) == null) {
+                items.set(index, BatchItemResponse.created(index,
+                        commentMapper.mapToNewsCommentResponse(savedComments.get(saved++))));
+            }
+        }
+
+        return BatchResponse.of(items);
+    }
+
     /**
      * Updates the comment with the given id in the database or throws a {@link CommentNotFoundException}
      * if the comment with the given id is not found or throws a {@link AccessDeniedException}
@@ -167,8 +319,10 @@ public class CommentServiceImpl implements CommentService {
             throw new AccessDeniedException("Subscriber can only update his comments");
         }
 
+        evictCommentSegment(comment.getNews().getId(), comment);
         commentMapper.mapUpdateFieldsToComment(newsCommentRequest, comment);
         Comment updatedComment = commentRepository.save(comment);
+        updateCommentCounters(comment.getNews().getId(), 0);
 
         return commentMapper.mapToNewsCommentResponse(updatedComment);
     }
@@ -176,7 +330,7 @@ public class CommentServiceImpl implements CommentService {
     /**
      * Deletes the comment with the given id from the database or throws a {@link CommentNotFoundException}
      * if the comment with the given id is not found or throws a {@link AccessDeniedException}
-     * if the user tries to delete not his comment
+     * if the user tries to delete not his comment. The comment is discounted from the comment counter of the news
      *
      * @param id the id of the comment to be deleted
      * @throws CommentNotFoundException if the comment with the given id is not found in the database
@@ -193,6 +347,68 @@ public class CommentServiceImpl implements CommentService {
             throw new AccessDeniedException("Subscriber can only delete his comments");
         }
 
+        evictCommentSegment(comment.getNews().getId(), comment);
         commentRepository.deleteById(id);
+        updateCommentCounters(comment.getNews().getId(), -1);
+    }
+
+    /**
+     * Evicts the cached comment segment of the news after the transaction commits if the changed comment is inside
+     * it, so a segment read before the commit is not left in the cache. A new comment is appended, an updated one
+     * moves to the end and a deleted one leaves, so only the comments following it are changed, and a comment
+     * after the segment never changes it. New comments of a batch are appended one after another, so the first of
+     * them is checked. The position of an updated comment is taken before the update changes its time. The position
+     * is probed by reading at most the ids of the segment, so it costs the same for any number of news comments
+     *
+     * @param newsId  id of news the comment belongs to
+     * @param comment the changed comment
+     */
+    private void evictCommentSegment(Long newsId, Comment comment) {
+        Pageable segment = PageRequest.ofSize(commentNewsReadModel.getPreviewSize() + 1);
+        long position = commentRepository.findIdsByNewsIdBefore(newsId, comment.getTime(), comment.getId(), segment)
+                .size();
+
+        if (commentNewsReadModel.isInCommentSegment(position)) {
+            cacheTagInvalidator.afterCommit(() -> commentNewsReadModel.evictCommentSegment(newsId));
+        }
+    }
+
+    /**
+     * Updates the comment counter and the time of the last comment of the news in the transaction of the comment
+     * change and evicts the cached news body after the commit. An updated comment keeps the counter and moves
+     * the time of the last comment, since its time is the time of the update
+     *
+     * @param newsId id of news the comment belongs to
+     * @param delta  change of the number of the news comments
+     */
+    private void updateCommentCounters(Long newsId, long delta) {
+        newsRepository.updateCommentCounters(newsId, delta);
+        cacheTagInvalidator.afterCommit(() -> commentNewsReadModel.evictNews(newsId));
+    }
+
+    /**
+     * Reads the news of the valid comment requests by one query
+     *
+     * @param commentRequests list objects of type {@link CommentRequest}
+     * @return the found news by their ids
+     */
+    private Map<Long, News> findNewsOf(List<CommentRequest> commentRequests) {
+        List<Long> newsIds = commentRequests.stream()
+                .filter(Objects::nonNull)
+                .map(CommentRequest::getNewsId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+
+        if (newsIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return newsRepository.findAllById(newsIds).stream()
+                .collect(Collectors.toMap(News::getId, Function.identity()));
+    }
+
+    private static boolean isUnfiltered(CommentFilter commentFilter) {
+        return !hasText(commentFilter.getText()) && !hasText(commentFilter.getUsername());
     }
 }
@@ -1,34 +1,60 @@
 package ru.clevertec.newsservice.service.impl;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.cache.annotation.CacheConfig;
 import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.CachePut;
-import org.springframework.cache.annotation.Cacheable;
-import org.springframework.data.domain.Example;
-import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import ru.clevertec.exceptionhandlingstarter.exception.NewsNotFoundException;
+import ru.clevertec.newsservice.batch.BatchItemValidator;
+import ru.clevertec.newsservice.cache.tag.CacheTagInvalidator;
 import ru.clevertec.newsservice.dto.filter.NewsFilter;
 import ru.clevertec.newsservice.dto.request.news.NewsRequest;
 import ru.clevertec.newsservice.dto.request.news.NewsTextRequest;
+import ru.clevertec.newsservice.dto.response.batch.BatchItemResponse;
+import ru.clevertec.newsservice.dto.response.batch.BatchResponse;
+import ru.clevertec.newsservice.dto.response.comment.CommentResponse;
 import ru.clevertec.newsservice.dto.response.news.CommentNewsResponse;
 import ru.clevertec.newsservice.dto.response.news.NewsResponse;
+import ru.clevertec.newsservice.dto.response.news.NewsSearchResponse;
+import ru.clevertec.newsservice.dto.response.page.CursorPageResponse;
+import ru.clevertec.newsservice.dto.response.page.SlicePageResponse;
 import ru.clevertec.newsservice.entity.News;
+import ru.clevertec.newsservice.mapper.CommentMapper;
 import ru.clevertec.newsservice.mapper.NewsMapper;
+import ru.clevertec.newsservice.pagination.ApproximateTotalCounter;
+import ru.clevertec.newsservice.pagination.KeysetCursor;
 import ru.clevertec.newsservice.repository.NewsRepository;
+import ru.clevertec.newsservice.repository.projection.NewsExportRow;
+import ru.clevertec.newsservice.repository.projection.NewsSearchHit;
+import ru.clevertec.newsservice.service.CommentNewsReadModel;
 import ru.clevertec.newsservice.service.NewsService;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.security.Principal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
-import static org.springframework.data.domain.ExampleMatcher.GenericPropertyMatchers.contains;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.util.StringUtils.hasText;
 
+import static ru.clevertec.newsservice.repository.specification.SubstringSpecifications.newsContaining;
 import static ru.clevertec.newsservice.security.util.SecurityUtil.isAccessRole;
 import static ru.clevertec.newsservice.security.util.SecurityUtil.isAccessUsername;
 
@@ -44,7 +70,13 @@ import static ru.clevertec.newsservice.security.util.SecurityUtil.isAccessUserna
 public class NewsServiceImpl implements NewsService {
 
     private final NewsMapper newsMapper;
+    private final CommentMapper commentMapper;
     private final NewsRepository newsRepository;
+    private final CommentNewsReadModel commentNewsReadModel;
+    private final CacheTagInvalidator cacheTagInvalidator;
+    private final ApproximateTotalCounter approximateTotalCounter;
+    private final BatchItemValidator batchItemValidator;
+    private final ObjectMapper objectMapper;
 
     /**
      * Finds all objects of type {@link News} with the possibility of filtering and pagination
@@ -57,17 +89,83 @@ public class NewsServiceImpl implements NewsService {
      */
     @Override
     public List<NewsResponse> findAll(NewsFilter newsFilter, Pageable pageable) {
-        ExampleMatcher newsMatcher = ExampleMatcher.matching()
-                .withMatcher("title", contains().ignoreCase())
-                .withMatcher("text", contains().ignoreCase())
-                .withMatcher("username", contains().ignoreCase());
+        News filteredNews = newsMapper.mapToNews(newsFilter);
+        Specification<News> newsSpecification = newsContaining(filteredNews);
 
+        return newsRepository.findResponseSlice(newsSpecification, pageable).getContent();
+    }
+
+    /**
+     * Finds a slice of objects of type {@link News} with the possibility of filtering and pagination. One more news
+     * than the page size is read to find out whether the next slice exists, so the listing is not slowed down by
+     * counting the table. The approximate total of news is given only for the unfiltered listing
+     *
+     * @param newsFilter object of type {@link NewsFilter} containing information about
+     *                   title, text and username of news for filtering
+     * @param pageable   object of type {@link Pageable} containing pagination and sorting parameters
+     *                   (page, size and sort)
+     * @param withTotal  whether the approximate total of news is requested
+     * @return object of type {@link SlicePageResponse} with objects of type {@link NewsResponse}
+     */
+    @Override
+    public SlicePageResponse<NewsResponse> findAllBySlice(NewsFilter newsFilter, Pageable pageable,
+                                                          boolean withTotal) {
         News filteredNews = newsMapper.mapToNews(newsFilter);
-        Example<News> newsExample = Example.of(filteredNews, newsMatcher);
+        Specification<News> newsSpecification = newsContaining(filteredNews);
 
-        List<News> news = newsRepository.findAll(newsExample, pageable).getContent();
+        Slice<NewsResponse> news = newsRepository.findResponseSlice(newsSpecification, pageable);
+        Long approximateTotal = withTotal && isUnfiltered(newsFilter)
+                ? approximateTotalCounter.count("news", newsRepository::estimateCount, newsRepository::count)
+                : null;
 
-        return newsMapper.mapToNewsResponses(news);
+        return new SlicePageResponse<>(news.getContent(), news.hasNext(), approximateTotal);
+    }
+
+    /**
+     * Finds a page of objects of type {@link News} ordered by time and id, the newest first, following the position
+     * of the cursor. One more news than the page size is read to find out whether the next page exists
+     *
+     * @param cursor   the token of the page returned with the previous page, or null or blank for the first page
+     * @param pageable object of type {@link Pageable} containing the page size, other parameters are ignored
+     * @return object of type {@link CursorPageResponse} with objects of type {@link NewsResponse} and the token of
+     * the next page
+     * @throws ru.clevertec.exceptionhandlingstarter.exception.InvalidCursorException if the cursor is malformed
+     */
+    @Override
+    public CursorPageResponse<NewsResponse> findAllByCursor(String cursor, Pageable pageable) {
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+        Pageable probe = PageRequest.ofSize(pageable.getPageSize() + 1);
+
+        List<NewsResponse> news = keysetCursor == null
+                ? newsRepository.findAllByOrderByTimeDescIdDesc(probe)
+                : newsRepository.findAllBefore(keysetCursor.time(), keysetCursor.id(), probe);
+
+        return KeysetCursor.page(news, pageable.getPageSize(), n -> new KeysetCursor(n.getTime(), n.getId()),
+                Function.identity());
+    }
+
+    /**
+     * Finds objects of type {@link News} by the full-text search of the query in the title and the text of news
+     * and in the text of their comments. The news are ordered by relevance and contain the fragments of the title,
+     * the text and the best matching comment with the found words highlighted by the mark tags. The text of
+     * the fragments is HTML-escaped, only the mark tags are raw markup
+     *
+     * @param query    the search query in the web search syntax: words, "quoted phrases", or and -excluded words
+     * @param pageable object of type {@link Pageable} containing pagination parameters (page and size),
+     *                 the sorting is ignored
+     * @return list objects of type {@link NewsSearchResponse}, or empty list if the query is blank
+     */
+    @Override
+    public List<NewsSearchResponse> search(String query, Pageable pageable) {
+        if (!hasText(query)) {
+            return Collections.emptyList();
+        }
+
+        List<NewsSearchHit> newsSearchHits = pageable.isPaged()
+                ? newsRepository.search(query, pageable.getPageSize(), pageable.getOffset())
+                : newsRepository.search(query, Integer.MAX_VALUE, 0);
+
+        return newsMapper.mapToNewsSearchResponses(newsSearchHits);
     }
 
     /**
@@ -80,8 +178,7 @@ public class NewsServiceImpl implements NewsService {
      */
     @Override
     public List<NewsResponse> findAllByCommentsText(String commentText, Pageable pageable) {
-        List<News> news = newsRepository.findAllByCommentsTextContainingIgnoreCase(commentText, pageable);
-        return newsMapper.mapToNewsResponses(news);
+        return newsRepository.findAllByCommentsTextContainingIgnoreCase(commentText, pageable);
     }
 
     /**
@@ -94,25 +191,61 @@ public class NewsServiceImpl implements NewsService {
      */
     @Override
     public List<NewsResponse> findAllByCommentsUsername(String commentUsername, Pageable pageable) {
-        List<News> news = newsRepository.findAllByCommentsUsernameContainingIgnoreCase(commentUsername, pageable);
-        return newsMapper.mapToNewsResponses(news);
+        return newsRepository.findAllByCommentsUsernameContainingIgnoreCase(commentUsername, pageable);
     }
 
     /**
      * Finds news by id or throws a {@link NewsNotFoundException}
-     * if the news with the given id is not found in the database
+     * if the news with the given id is not found in the database. The news body and the first segment of its
+     * comments are read from {@link CommentNewsReadModel}, and only the preview of the first comments is returned
+     * with the token of the keyset page of the following comments
      *
      * @param id the news id
      * @return object of type {@link CommentNewsResponse} with given id
      * @throws NewsNotFoundException if the news with the given id is not found in the database
      */
     @Override
-    @Cacheable(key = "#id", value = "news")
     public CommentNewsResponse findById(Long id) {
-        News news = newsRepository.findById(id)
-                .orElseThrow(() -> new NewsNotFoundException("News with id = [%d] not found".formatted(id)));
+        NewsResponse news = commentNewsReadModel.findNewsById(id);
+
+        return newsMapper.mapToCommentNewsResponse(news, findCommentPreview(id));
+    }
+
+    /**
+     * Exports the news with all their comments to the output stream as newline delimited JSON, one news of type
+     * {@link CommentNewsResponse} per line in the order of the news ids. The news are read by a forward-only cursor
+     * and every news is written as soon as its last comment is read, so the memory used does not depend on the
+     * number of news. The rows are projected, so neither the persistence context nor the caches are filled
+     *
+     * @param since        the time of the previous export to export only the news changed since then, or null to
+     *                     export all news
+     * @param outputStream the stream to write the news to, which is flushed but not closed
+     * @throws IOException if writing to the output stream failed
+     */
+    @Override
+    public void export(LocalDateTime since, OutputStream outputStream) throws IOException {
+        try (Stream<NewsExportRow> rows = since == null
+                ? newsRepository.streamExport()
+                : newsRepository.streamExportSince(since);
+             JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+
+            CommentNewsResponse news = null;
+
+            for (NewsExportRow row : (Iterable<NewsExportRow>) rows::iterator) {
+                if (news == null || !news.getId().equals(row.id())) {
+                    writeLine(generator, news);
+                    news = newsMapper.mapToCommentNewsResponse(row);
+                }
 
-        return newsMapper.mapToCommentNewsResponse(news);
+                if (row.commentId() != null) {
+                    news.getComments().add(commentMapper.mapToCommentResponse(row));
+                }
+            }
+
+            writeLine(generator, news);
+        }
     }
 
     /**
@@ -124,7 +257,6 @@ public class NewsServiceImpl implements NewsService {
      */
     @Override
     @Transactional
-    @CachePut(key = "#result.id", value = "news")
     public CommentNewsResponse save(NewsRequest newsRequest, Principal principal) {
         News news = newsMapper.mapToNews(newsRequest, principal.getName());
 
@@ -133,6 +265,46 @@ public class NewsServiceImpl implements NewsService {
         return newsMapper.mapToCommentNewsResponse(savedNews);
     }
 
+    /**
+     * Saves the batch of news in the database in one transaction. Every news is validated on its own, and the
+     * invalid news are reported in their results while the valid ones are saved. The ids of the news are taken
+     * from the pooled sequence in advance, so the news are inserted by JDBC batches when the transaction is flushed
+     *
+     * @param newsRequests list objects of type {@link NewsRequest} to save
+     * @param principal    object of type {@link Principal} containing information about authenticated username
+     * @return object of type {@link BatchResponse} with the result of every news in the order of the batch
+     * @throws ru.clevertec.exceptionhandlingstarter.exception.InvalidBatchException if the batch is empty or too large
+     */
+    @Override
+    @Transactional
+    public BatchResponse<CommentNewsResponse> saveAll(List<NewsRequest> newsRequests, Principal principal) {
+        batchItemValidator.checkSize(newsRequests);
+
+        List<BatchItemResponse<CommentNewsResponse>> items = new ArrayList<>(newsRequests.size());
+        List<News> news = new ArrayList<>(newsRequests.size());
+
+        for (int index = 0; index < newsRequests.size(); index++) {
+            List<String> errors = batchItemValidator.validate(newsRequests.get(index));
+
+            if (errors.isEmpty()) {
+                news.add(newsMapper.mapToNews(newsRequests.get(index), principal.getName()));
+                items.add(null);
+            } else {
+                items.add(BatchItemResponse.failed(index, BAD_REQUEST, errors));
+            }
+        }
+
+        Iterator<News> savedNews = newsRepository.saveAll(news).iterator();
+
+        for (int index = 0; index < items.size(); index++) {
+            if (items.get(index) == null) {
+                items.set(index, BatchItemResponse.created(index, newsMapper.mapToCommentNewsResponse(savedNews.next())));
+            }
+        }
+
+        return BatchResponse.of(items);
+    }
+
     /**
      * Updates the news with the given id in the database or throws a {@link NewsNotFoundException}
      * if the news with the given id is not found or throws a {@link AccessDeniedException}
@@ -146,7 +318,7 @@ public class NewsServiceImpl implements NewsService {
      */
     @Override
     @Transactional
-    @CachePut(key = "#id", value = "news")
+    @CacheEvict(key = "#id", value = "news")
     public CommentNewsResponse update(Long id, NewsRequest newsRequest) {
         News news = newsRepository.findById(id)
                 .orElseThrow(() -> new NewsNotFoundException("News with id = [%d] not found".formatted(id)));
@@ -158,7 +330,7 @@ public class NewsServiceImpl implements NewsService {
         newsMapper.mapUpdateFieldsToNews(newsRequest, news);
         News updatedNews = newsRepository.save(news);
 
-        return newsMapper.mapToCommentNewsResponse(updatedNews);
+        return newsMapper.mapToCommentNewsResponse(newsMapper.mapToNewsResponse(updatedNews), findCommentPreview(id));
     }
 
     /**
@@ -174,7 +346,7 @@ public class NewsServiceImpl implements NewsService {
      */
     @Override
     @Transactional
-    @CachePut(key = "#id", value = "news")
+    @CacheEvict(key = "#id", value = "news")
     public CommentNewsResponse updateText(Long id, NewsTextRequest newsTextRequest) {
         News news = newsRepository.findById(id)
                 .orElseThrow(() -> new NewsNotFoundException("News with id = [%d] not found".formatted(id)));
@@ -186,13 +358,14 @@ public class NewsServiceImpl implements NewsService {
         newsMapper.mapUpdateTextFieldToNews(newsTextRequest, news);
         News updatedNews = newsRepository.save(news);
 
-        return newsMapper.mapToCommentNewsResponse(updatedNews);
+        return newsMapper.mapToCommentNewsResponse(newsMapper.mapToNewsResponse(updatedNews), findCommentPreview(id));
     }
 
     /**
      * Deletes the news with the given id from the database or throws a {@link NewsNotFoundException}
      * if the news with the given id is not found or throws a {@link AccessDeniedException}
-     * if the user tries to delete not his news
+     * if the user tries to delete not his news. The comments of the news are deleted with it, so the cached
+     * comments tagged by the news id are removed after the commit
      *
      * @param id the id of the news to be deleted
      * @throws NewsNotFoundException if the news with the given id is not found in the database
@@ -210,5 +383,32 @@ public class NewsServiceImpl implements NewsService {
         }
 
         newsRepository.deleteById(id);
+        cacheTagInvalidator.invalidateAfterCommit(id, "comment", "commentSegments");
+    }
+
+    /**
+     * Reads the preview of the news comments from their cached segment. The segment holds one comment more than
+     * the preview, so it tells whether more comments follow the preview
+     *
+     * @param newsId id of news the comments belong to
+     * @return object of type {@link CursorPageResponse} with the first comments of the news and the token of the
+     * following ones, or null token if there are no more comments
+     */
+    private CursorPageResponse<CommentResponse> findCommentPreview(Long newsId) {
+        List<CommentResponse> segment = commentNewsReadModel.findCommentSegment(newsId);
+
+        return KeysetCursor.page(segment, commentNewsReadModel.getPreviewSize(),
+                comment -> new KeysetCursor(comment.getTime(), comment.getId()), Function.identity());
+    }
+
+    private static void writeLine(JsonGenerator generator, CommentNewsResponse news) throws IOException {
+        if (news != null) {
+            generator.writeObject(news);
+            generator.writeRaw('\n');
+        }
+    }
+
+    private static boolean isUnfiltered(NewsFilter newsFilter) {
+        return !hasText(newsFilter.getTitle()) && !hasText(newsFilter.getText()) && !hasText(newsFilter.getUsername());
     }
 }
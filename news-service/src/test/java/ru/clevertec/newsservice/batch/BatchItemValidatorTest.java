@@ -0,0 +1,88 @@
+package ru.clevertec.newsservice.batch;
+
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import ru.clevertec.exceptionhandlingstarter.exception.InvalidBatchException;
+import ru.clevertec.newsservice.dto.request.comment.CommentRequest;
+import ru.clevertec.newsservice.util.request.CommentRequestTestBuilder;
+import ru.clevertec.newsservice.util.request.NewsRequestTestBuilder;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BatchItemValidatorTest {
+
+    private ValidatorFactory validatorFactory;
+    private BatchItemValidator batchItemValidator;
+
+    @BeforeEach
+    void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        batchItemValidator = new BatchItemValidator(validatorFactory.getValidator(), 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Test
+    void checkCheckSizeShouldAcceptBatchOfMaxSize() {
+        List<CommentRequest> commentRequests = List.of(
+                CommentRequestTestBuilder.commentRequest().build(),
+                CommentRequestTestBuilder.commentRequest().build()
+        );
+
+        assertThatNoException().isThrownBy(() -> batchItemValidator.checkSize(commentRequests));
+    }
+
+    @Test
+    void checkCheckSizeShouldThrowsInvalidBatchExceptionForEmptyBatch() {
+        assertThatThrownBy(() -> batchItemValidator.checkSize(Collections.emptyList()))
+                .isInstanceOf(InvalidBatchException.class)
+                .hasMessage("Batch cannot be empty");
+    }
+
+    @Test
+    void checkCheckSizeShouldThrowsInvalidBatchExceptionForTooLargeBatch() {
+        List<CommentRequest> commentRequests = Collections.nCopies(3, CommentRequestTestBuilder.commentRequest().build());
+
+        assertThatThrownBy(() -> batchItemValidator.checkSize(commentRequests))
+                .isInstanceOf(InvalidBatchException.class)
+                .hasMessage("Batch size must not exceed 2 items");
+    }
+
+    @Test
+    void checkValidateShouldReturnEmptyErrorsForValidItem() {
+        CommentRequest commentRequest = CommentRequestTestBuilder.commentRequest()
+                .withText("Great news")
+                .build();
+
+        List<String> actualErrors = batchItemValidator.validate(commentRequest);
+
+        assertThat(actualErrors).isEmpty();
+    }
+
+    @Test
+    void checkValidateShouldReturnSortedErrorsOfInvalidItem() {
+        List<String> actualErrors = batchItemValidator.validate(NewsRequestTestBuilder.newsRequest().build());
+
+        assertThat(actualErrors).containsExactly("News text cannot be empty", "News title cannot be empty");
+    }
+
+    @Test
+    void checkValidateShouldReturnErrorOfNullItem() {
+        List<String> actualErrors = batchItemValidator.validate(null);
+
+        assertThat(actualErrors).containsExactly("Batch item cannot be empty");
+    }
+}
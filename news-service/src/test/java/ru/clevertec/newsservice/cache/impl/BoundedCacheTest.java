@@ -0,0 +1,229 @@
+package ru.clevertec.newsservice.cache.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import ru.clevertec.newsservice.cache.EvictionCause;
+import ru.clevertec.newsservice.cache.EvictionListener;
+import ru.clevertec.newsservice.cache.Expiry;
+import ru.clevertec.newsservice.cache.Weigher;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class BoundedCacheTest {
+
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    private AtomicLong ticker;
+    private List<EvictionCause> evictions;
+
+    @BeforeEach
+    void setUp() {
+        ticker = new AtomicLong(System.nanoTime());
+        evictions = new ArrayList<>();
+    }
+
+    @Nested
+    class BoundedCacheExpiryTest {
+
+        private BoundedCache<Long, String> boundedCache;
+
+        @BeforeEach
+        void setUp() {
+            boundedCache = new BoundedCache<>(listener -> new LRUCache<>(3, listener), null, 0,
+                    Expiry.fixed(TTL), ticker::get, (key, value, cause) -> evictions.add(cause));
+        }
+
+        @Test
+        void checkGetShouldReturnStringBeforeExpiration() {
+            String expectedString = "One";
+
+            boundedCache.put(1L, expectedString);
+            advance(TTL.minusSeconds(1));
+
+            Optional<String> actualString = boundedCache.get(1L);
+
+            assertThat(actualString).contains(expectedString);
+        }
+
+        @Test
+        void checkGetShouldReturnNullStringAfterExpiration() {
+            boundedCache.put(1L, "One");
+            advance(TTL);
+
+            Optional<String> actualString = boundedCache.get(1L);
+
+            assertThat(actualString).isNotPresent();
+            assertThat(evictions).containsExactly(EvictionCause.EXPIRED);
+        }
+
+        @Test
+        void checkPutShouldRestartTimeToLive() {
+            boundedCache.put(1L, "One");
+            advance(TTL.minusMinutes(1));
+            boundedCache.put(1L, "Uno");
+            advance(TTL.minusMinutes(1));
+
+            Optional<String> actualString = boundedCache.get(1L);
+
+            assertThat(actualString).contains("Uno");
+        }
+
+        @Test
+        void checkSizeShouldReturn0AfterTimerWheelExpiration() {
+            boundedCache.put(1L, "One");
+            boundedCache.put(2L, "Two");
+            advance(TTL.plusSeconds(2));
+
+            int actualSize = boundedCache.size();
+
+            assertThat(actualSize).isZero();
+            assertThat(evictions).containsExactly(EvictionCause.EXPIRED, EvictionCause.EXPIRED);
+        }
+
+        @Test
+        void checkSizeShouldReturn1WhenOnlyEarlierMappingExpired() {
+            boundedCache.put(1L, "One");
+            advance(Duration.ofMinutes(5));
+            boundedCache.put(2L, "Two");
+            advance(Duration.ofMinutes(6));
+
+            int actualSize = boundedCache.size();
+
+            assertAll(
+                    () -> assertThat(actualSize).isEqualTo(1),
+                    () -> assertThat(boundedCache.containsKey(1L)).isFalse(),
+                    () -> assertThat(boundedCache.containsKey(2L)).isTrue()
+            );
+        }
+
+        @Test
+        void checkRemoveShouldReturnNullStringAfterExpiration() {
+            boundedCache.put(1L, "One");
+            advance(TTL);
+
+            Optional<String> actualString = boundedCache.remove(1L);
+
+            assertThat(actualString).isNotPresent();
+        }
+
+        @Test
+        void checkPutShouldReportSizeEvictionOfDecoratedCache() {
+            boundedCache.put(1L, "One");
+            boundedCache.put(2L, "Two");
+            boundedCache.put(3L, "Three");
+            boundedCache.put(4L, "Four");
+            advance(TTL.plusSeconds(2));
+
+            assertAll(
+                    () -> assertThat(boundedCache.size()).isZero(),
+                    () -> assertThat(evictions).containsExactly(EvictionCause.SIZE, EvictionCause.EXPIRED,
+                            EvictionCause.EXPIRED, EvictionCause.EXPIRED)
+            );
+        }
+
+        @Test
+        void checkClearShouldReturnSize0() {
+            boundedCache.put(1L, "One");
+            boundedCache.put(2L, "Two");
+
+            boundedCache.clear();
+            advance(TTL.plusSeconds(2));
+
+            assertThat(boundedCache.size()).isZero();
+            assertThat(evictions).isEmpty();
+        }
+    }
+
+    @Nested
+    class BoundedCacheWeightTest {
+
+        private static final long MAX_WEIGHT = 10;
+
+        private final Weigher<Long, String> weigher = (key, value) -> value.length();
+        private BoundedCache<Long, String> boundedCache;
+
+        @BeforeEach
+        void setUp() {
+            boundedCache = new BoundedCache<>(listener -> new LFUCache<>(100, listener), weigher, MAX_WEIGHT,
+                    null, ticker::get, (key, value, cause) -> evictions.add(cause));
+        }
+
+        @Test
+        void checkPutShouldEvictEarliestWrittenWhenMaxWeightExceeded() {
+            boundedCache.put(1L, "One");
+            boundedCache.put(2L, "Two");
+            boundedCache.put(3L, "Three");
+
+            assertAll(
+                    () -> assertThat(boundedCache.containsKey(1L)).isFalse(),
+                    () -> assertThat(boundedCache.containsKey(2L)).isTrue(),
+                    () -> assertThat(boundedCache.containsKey(3L)).isTrue(),
+                    () -> assertThat(boundedCache.getWeight()).isEqualTo(8),
+                    () -> assertThat(evictions).containsExactly(EvictionCause.WEIGHT)
+            );
+        }
+
+        @Test
+        void checkPutShouldUpdateWeightOfReplacedValue() {
+            boundedCache.put(1L, "One");
+            boundedCache.put(1L, "Eleven");
+
+            assertThat(boundedCache.getWeight()).isEqualTo(6);
+        }
+
+        @Test
+        void checkPutShouldEvictValueHeavierThanMaxWeight() {
+            boundedCache.put(1L, "One");
+            boundedCache.put(2L, "Twenty-three");
+
+            assertAll(
+                    () -> assertThat(boundedCache.size()).isZero(),
+                    () -> assertThat(boundedCache.getWeight()).isZero()
+            );
+        }
+
+        @Test
+        void checkRemoveShouldDecreaseWeight() {
+            boundedCache.put(1L, "One");
+            boundedCache.put(2L, "Two");
+
+            boundedCache.remove(1L);
+
+            assertThat(boundedCache.getWeight()).isEqualTo(3);
+        }
+
+        @Test
+        void checkSizeEvictionShouldDecreaseWeight() {
+            BoundedCache<Long, String> cache = new BoundedCache<>(listener -> new LRUCache<>(1, listener), weigher,
+                    MAX_WEIGHT, null, ticker::get, (key, value, cause) -> evictions.add(cause));
+
+            cache.put(1L, "One");
+            cache.put(2L, "Four");
+
+            assertThat(cache.getWeight()).isEqualTo(4);
+            assertThat(evictions).containsExactly(EvictionCause.SIZE);
+        }
+    }
+
+    @Test
+    void checkConstructorShouldThrowIllegalArgumentException() {
+        assertThatThrownBy(() -> new BoundedCache<Long, String>(listener -> new LRUCache<>(1, listener), null, -1,
+                null, ticker::get, EvictionListener.none()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void advance(Duration duration) {
+        ticker.addAndGet(duration.toNanos());
+    }
+}
@@ -0,0 +1,240 @@
+package ru.clevertec.newsservice.cache.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConcurrentLRUCacheTest {
+
+    private ConcurrentLRUCache<Long, String> concurrentLruCache;
+
+    @BeforeEach
+    void setUp() {
+        concurrentLruCache = new ConcurrentLRUCache<>(3, 1);
+    }
+
+    @Test
+    void checkGetShouldReturnString() {
+        Long key = 1L;
+        String expectedString = "One";
+
+        concurrentLruCache.put(key, expectedString);
+
+        Optional<String> actualString = concurrentLruCache.get(key);
+
+        assertThat(actualString).isPresent();
+        assertThat(actualString.get()).isEqualTo(expectedString);
+    }
+
+    @Test
+    void checkGetShouldReturnNullString() {
+        concurrentLruCache.put(1L, "One");
+        concurrentLruCache.put(3L, "Three");
+        concurrentLruCache.put(2L, "Two");
+        concurrentLruCache.put(4L, "Four");
+
+        Optional<String> actualString = concurrentLruCache.get(1L);
+
+        assertThat(actualString).isNotPresent();
+    }
+
+    @Test
+    void checkPutShouldReturnString() {
+        String expectedString = "One";
+
+        Optional<String> actualString = concurrentLruCache.put(1L, expectedString);
+
+        assertThat(actualString).isPresent();
+        assertThat(actualString.get()).isEqualTo(expectedString);
+    }
+
+    @Test
+    void checkPutShouldEvictLeastRecentlyUsed() {
+        concurrentLruCache.put(1L, "One");
+        concurrentLruCache.put(3L, "Three");
+        concurrentLruCache.put(2L, "Two");
+        concurrentLruCache.get(1L);
+        concurrentLruCache.put(4L, "Four");
+
+        assertThat(concurrentLruCache.containsKey(1L)).isTrue();
+        assertThat(concurrentLruCache.containsKey(3L)).isFalse();
+    }
+
+    @Test
+    void checkRemoveShouldReturnString() {
+        Long key = 1L;
+        String expectedString = "One";
+
+        concurrentLruCache.put(key, expectedString);
+
+        Optional<String> actualString = concurrentLruCache.remove(key);
+
+        assertThat(actualString).isPresent();
+        assertThat(actualString.get()).isEqualTo(expectedString);
+    }
+
+    @Test
+    void checkRemoveShouldReturnNullString() {
+        concurrentLruCache.put(1L, "One");
+
+        Optional<String> actualString = concurrentLruCache.remove(2L);
+
+        assertThat(actualString).isNotPresent();
+    }
+
+    @Test
+    void checkSizeShouldReturnSize3() {
+        int expectedSize = 3;
+
+        concurrentLruCache.put(1L, "One");
+        concurrentLruCache.put(2L, "Two");
+        concurrentLruCache.put(3L, "Three");
+        concurrentLruCache.put(4L, "Four");
+
+        int actualSize = concurrentLruCache.size();
+
+        assertThat(actualSize).isEqualTo(expectedSize);
+    }
+
+    @Test
+    void checkClearShouldReturnSize0() {
+        concurrentLruCache.put(1L, "One");
+        concurrentLruCache.put(2L, "Two");
+
+        concurrentLruCache.clear();
+        int actualSize = concurrentLruCache.size();
+
+        assertThat(actualSize).isZero();
+    }
+
+    @Test
+    void checkSegmentCountShouldNotExceedCapacity() {
+        ConcurrentLRUCache<Long, String> cache = new ConcurrentLRUCache<>(5, 16);
+
+        assertThat(cache.getSegmentCount()).isEqualTo(4);
+    }
+
+    @Test
+    void checkConstructorShouldThrowIllegalArgumentException() {
+        assertThatThrownBy(() -> new ConcurrentLRUCache<Long, String>(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Nested
+    class ConcurrentLRUCacheStressTest {
+
+        private static final int THREADS = 64;
+        private static final int OPERATIONS_PER_THREAD = 20_000;
+        private static final int CAPACITY = 256;
+        private static final int KEY_SPACE = 1_024;
+
+        @Test
+        void checkConcurrentOperationsShouldKeepCacheConsistent() throws Exception {
+            ConcurrentLRUCache<Long, String> cache = new ConcurrentLRUCache<>(CAPACITY);
+            AtomicInteger corruptedReads = new AtomicInteger();
+
+            runConcurrently(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+
+                for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                    long key = random.nextInt(KEY_SPACE);
+                    int operation = random.nextInt(10);
+
+                    if (operation < 6) {
+                        cache.get(key)
+                                .filter(value -> !value.equals(valueOf(key)))
+                                .ifPresent(value -> corruptedReads.incrementAndGet());
+                    } else if (operation < 9) {
+                        cache.put(key, valueOf(key));
+                    } else {
+                        cache.remove(key);
+                    }
+
+                    if (cache.size() > CAPACITY) {
+                        corruptedReads.incrementAndGet();
+                    }
+                }
+            });
+
+            long containedKeys = countContainedKeys(cache);
+
+            assertThat(corruptedReads).hasValue(0);
+            assertThat(cache.size()).isLessThanOrEqualTo(CAPACITY);
+            assertThat(containedKeys).isEqualTo(cache.size());
+        }
+
+        @Test
+        void checkConcurrentPutsShouldFillCacheToCapacity() throws Exception {
+            ConcurrentLRUCache<Long, String> cache = new ConcurrentLRUCache<>(CAPACITY);
+            AtomicInteger nextKey = new AtomicInteger();
+
+            runConcurrently(() -> {
+                for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                    long key = nextKey.getAndIncrement();
+                    cache.put(key, valueOf(key));
+                }
+            });
+
+            assertThat(cache.size()).isEqualTo(CAPACITY);
+            assertThat(countContainedKeys(cache, THREADS * OPERATIONS_PER_THREAD)).isEqualTo(CAPACITY);
+        }
+
+        private void runConcurrently(Runnable task) throws Exception {
+            ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+            CountDownLatch startGate = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+
+            try {
+                for (int i = 0; i < THREADS; i++) {
+                    futures.add(executor.submit(() -> {
+                        startGate.await();
+                        task.run();
+                        return null;
+                    }));
+                }
+
+                startGate.countDown();
+
+                for (Future<?> future : futures) {
+                    future.get(1, TimeUnit.MINUTES);
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        private long countContainedKeys(ConcurrentLRUCache<Long, String> cache) {
+            return countContainedKeys(cache, KEY_SPACE);
+        }
+
+        private long countContainedKeys(ConcurrentLRUCache<Long, String> cache, long keySpace) {
+            long containedKeys = 0;
+
+            for (long key = 0; key < keySpace; key++) {
+                if (cache.containsKey(key)) {
+                    containedKeys++;
+                }
+            }
+
+            return containedKeys;
+        }
+
+        private String valueOf(long key) {
+            return "value-" + key;
+        }
+    }
+}
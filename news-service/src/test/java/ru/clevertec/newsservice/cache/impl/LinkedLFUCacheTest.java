@@ -0,0 +1,304 @@
+package ru.clevertec.newsservice.cache.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import ru.clevertec.newsservice.cache.Cache;
+
+import java.lang.management.ManagementFactory;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class LinkedLFUCacheTest {
+
+    private LinkedLFUCache<Long, String> linkedLfuCache;
+
+    @BeforeEach
+    void setUp() {
+        linkedLfuCache = new LinkedLFUCache<>(3);
+    }
+
+    @Test
+    void checkGetShouldReturnString() {
+        Long key = 1L;
+        String expectedString = "One";
+
+        linkedLfuCache.put(key, expectedString);
+
+        Optional<String> actualString = linkedLfuCache.get(key);
+
+        assertThat(actualString).isPresent();
+        assertThat(actualString.get()).isEqualTo(expectedString);
+    }
+
+    @Test
+    void checkGetShouldReturnNullString() {
+        linkedLfuCache.put(1L, "One");
+        linkedLfuCache.put(3L, "Three");
+        linkedLfuCache.put(2L, "Two");
+        linkedLfuCache.put(4L, "Four");
+
+        Optional<String> actualString = linkedLfuCache.get(1L);
+
+        assertThat(actualString).isNotPresent();
+    }
+
+    @Test
+    void checkPutShouldReturnString() {
+        String expectedString = "One";
+
+        Optional<String> actualString = linkedLfuCache.put(1L, expectedString);
+
+        assertThat(actualString).isPresent();
+        assertThat(actualString.get()).isEqualTo(expectedString);
+    }
+
+    @Test
+    void checkPutShouldReturnCache() {
+        linkedLfuCache.put(1L, "One");
+        linkedLfuCache.put(3L, "Three");
+        linkedLfuCache.put(2L, "Two");
+        linkedLfuCache.get(3L);
+        linkedLfuCache.put(4L, "Four");
+        linkedLfuCache.put(5L, "Five");
+        linkedLfuCache.get(4L);
+        linkedLfuCache.remove(4L);
+        linkedLfuCache.put(6L, "Six");
+
+        assertAll(
+                () -> assertThat(linkedLfuCache.get(3L)).contains("Three"),
+                () -> assertThat(linkedLfuCache.get(5L)).contains("Five"),
+                () -> assertThat(linkedLfuCache.get(6L)).contains("Six")
+        );
+    }
+
+    @Test
+    void checkPutShouldReturnOrderedKeyFreqCache() {
+        linkedLfuCache.put(1L, "One");
+        linkedLfuCache.put(3L, "Three");
+        linkedLfuCache.put(2L, "Two");
+        linkedLfuCache.get(3L);
+        linkedLfuCache.put(4L, "Four");
+        linkedLfuCache.put(5L, "Five");
+        linkedLfuCache.get(4L);
+
+        assertAll(
+                () -> assertThat(linkedLfuCache.getFrequencyNodeCount()).isEqualTo(2),
+                () -> assertThat(linkedLfuCache.getKeyFreq(5L)).isEqualTo(1),
+                () -> assertThat(linkedLfuCache.getKeyFreq(3L)).isEqualTo(2),
+                () -> assertThat(linkedLfuCache.getKeyFreq(4L)).isEqualTo(2)
+        );
+    }
+
+    @Test
+    void checkPutShouldEvictEarliestOfLeastFrequentlyUsed() {
+        linkedLfuCache.put(1L, "One");
+        linkedLfuCache.put(2L, "Two");
+        linkedLfuCache.put(3L, "Three");
+        linkedLfuCache.get(1L);
+        linkedLfuCache.get(2L);
+        linkedLfuCache.get(3L);
+        linkedLfuCache.get(2L);
+        linkedLfuCache.put(4L, "Four");
+        linkedLfuCache.put(5L, "Five");
+
+        assertAll(
+                () -> assertThat(linkedLfuCache.containsKey(1L)).isFalse(),
+                () -> assertThat(linkedLfuCache.containsKey(4L)).isFalse(),
+                () -> assertThat(linkedLfuCache.containsKey(2L)).isTrue(),
+                () -> assertThat(linkedLfuCache.containsKey(3L)).isTrue(),
+                () -> assertThat(linkedLfuCache.containsKey(5L)).isTrue()
+        );
+    }
+
+    @Test
+    void checkRemoveShouldReturnString() {
+        Long key = 1L;
+        String expectedString = "One";
+
+        linkedLfuCache.put(key, expectedString);
+
+        Optional<String> actualString = linkedLfuCache.remove(key);
+
+        assertThat(actualString).isPresent();
+        assertThat(actualString.get()).isEqualTo(expectedString);
+    }
+
+    @Test
+    void checkRemoveShouldReturnNullString() {
+        linkedLfuCache.put(1L, "One");
+
+        Optional<String> actualString = linkedLfuCache.remove(2L);
+
+        assertThat(actualString).isNotPresent();
+    }
+
+    @Test
+    void checkRemoveShouldReturnMinKeyFreq2() {
+        int expectedMinKeyFreq = 2;
+
+        linkedLfuCache.put(1L, "One");
+        linkedLfuCache.put(3L, "Three");
+        linkedLfuCache.put(2L, "Two");
+        linkedLfuCache.get(3L);
+        linkedLfuCache.put(4L, "Four");
+        linkedLfuCache.put(5L, "Five");
+        linkedLfuCache.get(4L);
+
+        linkedLfuCache.remove(5L);
+        int actualMinKeyFreq = linkedLfuCache.getMinKeyFreq();
+
+        assertThat(actualMinKeyFreq).isEqualTo(expectedMinKeyFreq);
+    }
+
+    @Test
+    void checkGetShouldReclaimEmptyFrequencyNodes() {
+        linkedLfuCache.put(1L, "One");
+        linkedLfuCache.put(2L, "Two");
+
+        for (int i = 0; i < 1_000; i++) {
+            linkedLfuCache.get(1L);
+            linkedLfuCache.get(2L);
+        }
+
+        assertThat(linkedLfuCache.getFrequencyNodeCount()).isEqualTo(1);
+        assertThat(linkedLfuCache.getMinKeyFreq()).isEqualTo(1_001);
+    }
+
+    @Test
+    void checkContainsKeyShouldReturnTrue() {
+        Long key = 1L;
+        String expectedString = "One";
+
+        linkedLfuCache.put(key, expectedString);
+
+        boolean actualContainsKey = linkedLfuCache.containsKey(key);
+
+        assertThat(actualContainsKey).isTrue();
+    }
+
+    @Test
+    void checkContainsKeyShouldReturnFalse() {
+        Long key = 1L;
+
+        boolean actualContainsKey = linkedLfuCache.containsKey(key);
+
+        assertThat(actualContainsKey).isFalse();
+    }
+
+    @Test
+    void checkSizeShouldReturn2() {
+        int expectedSize = 2;
+
+        linkedLfuCache.put(1L, "One");
+        linkedLfuCache.put(2L, "Two");
+
+        int actualSize = linkedLfuCache.size();
+
+        assertThat(actualSize).isEqualTo(expectedSize);
+    }
+
+    @Test
+    void checkSizeShouldReturnSize3() {
+        int expectedSize = 3;
+
+        linkedLfuCache.put(1L, "One");
+        linkedLfuCache.put(2L, "Two");
+        linkedLfuCache.put(3L, "Three");
+        linkedLfuCache.put(4L, "Four");
+
+        int actualSize = linkedLfuCache.size();
+
+        assertThat(actualSize).isEqualTo(expectedSize);
+    }
+
+    @Test
+    void checkClearShouldReturnSize0() {
+        linkedLfuCache.put(1L, "One");
+        linkedLfuCache.put(2L, "Two");
+
+        linkedLfuCache.clear();
+        int actualSize = linkedLfuCache.size();
+
+        assertThat(actualSize).isZero();
+        assertThat(linkedLfuCache.getMinKeyFreq()).isZero();
+    }
+
+    @Test
+    void checkConstructorShouldThrowIllegalArgumentException() {
+        assertThatThrownBy(() -> new LinkedLFUCache<Long, String>(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Nested
+    class LinkedLFUCacheAllocationTest {
+
+        private static final int CAPACITY = 1_000;
+        private static final int HITS = 200_000;
+
+        /**
+         * The only object a hit may allocate is the {@link Optional} required by the {@link Cache}
+         * contract, which takes 16 bytes unless the JIT eliminates it
+         */
+        private static final long MAX_LINKED_LFU_BYTES_PER_HIT = 24;
+
+        @Test
+        void checkHitsShouldAllocateLessThanLfuCache() {
+            com.sun.management.ThreadMXBean threadMXBean = threadMXBean();
+            Long[] keys = keys();
+
+            long linkedLfuBytesPerHit = allocatedBytesPerHit(new LinkedLFUCache<>(CAPACITY), keys, threadMXBean);
+            long lfuBytesPerHit = allocatedBytesPerHit(new LFUCache<>(CAPACITY), keys, threadMXBean);
+
+            assertThat(linkedLfuBytesPerHit).isLessThanOrEqualTo(MAX_LINKED_LFU_BYTES_PER_HIT);
+            assertThat(lfuBytesPerHit).isGreaterThan(2 * MAX_LINKED_LFU_BYTES_PER_HIT);
+        }
+
+        private long allocatedBytesPerHit(Cache<Long, Long> cache, Long[] keys,
+                                          com.sun.management.ThreadMXBean threadMXBean) {
+            for (Long key : keys) {
+                cache.put(key, key);
+            }
+
+            hit(cache, keys);
+
+            long threadId = Thread.currentThread().getId();
+            long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+            hit(cache, keys);
+            long allocatedAfter = threadMXBean.getThreadAllocatedBytes(threadId);
+
+            return (allocatedAfter - allocatedBefore) / HITS;
+        }
+
+        private void hit(Cache<Long, Long> cache, Long[] keys) {
+            for (int i = 0; i < HITS; i++) {
+                cache.get(keys[i % keys.length]);
+            }
+        }
+
+        private Long[] keys() {
+            Long[] keys = new Long[CAPACITY];
+
+            for (int i = 0; i < CAPACITY; i++) {
+                keys[i] = (long) i;
+            }
+
+            return keys;
+        }
+
+        private com.sun.management.ThreadMXBean threadMXBean() {
+            boolean supported = ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                    && bean.isThreadAllocatedMemorySupported()
+                    && bean.isThreadAllocatedMemoryEnabled();
+            assumeTrue(supported, "Thread allocated memory measurement is not supported");
+
+            return (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package ru.clevertec.newsservice.cache.impl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import ru.clevertec.exceptionhandlingstarter.exception.NewsNotFoundException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightCacheTest {
+
+    private static final int THREADS = 32;
+
+    private SingleFlightCache<Long, String> singleFlightCache;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        singleFlightCache = new SingleFlightCache<>(new ConcurrentLRUCache<>(16));
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void checkGetWithLoaderShouldReturnCachedString() throws Throwable {
+        singleFlightCache.put(1L, "One");
+
+        String actualString = singleFlightCache.get(1L, key -> "Uno");
+
+        assertThat(actualString).isEqualTo("One");
+    }
+
+    @Test
+    void checkGetWithLoaderShouldLoadAndPutString() throws Throwable {
+        String actualString = singleFlightCache.get(1L, key -> "One");
+
+        assertThat(actualString).isEqualTo("One");
+        assertThat(singleFlightCache.get(1L)).contains("One");
+        assertThat(singleFlightCache.getFlightCount()).isZero();
+    }
+
+    @Test
+    void checkConcurrentGetWithLoaderShouldLoadOnce() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoad = new CountDownLatch(1);
+
+        List<Future<String>> futures = submitGets(() -> {
+            loads.incrementAndGet();
+            loadStarted.countDown();
+            releaseLoad.await();
+
+            return "One";
+        }, loadStarted);
+
+        releaseLoad.countDown();
+
+        for (Future<String> future : futures) {
+            assertThat(future.get(1, TimeUnit.MINUTES)).isEqualTo("One");
+        }
+
+        assertThat(loads).hasValue(1);
+        assertThat(singleFlightCache.get(1L)).contains("One");
+    }
+
+    @Test
+    void checkConcurrentGetWithLoaderShouldShareException() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoad = new CountDownLatch(1);
+
+        List<Future<String>> futures = submitGets(() -> {
+            loads.incrementAndGet();
+            loadStarted.countDown();
+            releaseLoad.await();
+
+            throw new NewsNotFoundException("News with id = [1] not found");
+        }, loadStarted);
+
+        releaseLoad.countDown();
+
+        for (Future<String> future : futures) {
+            assertThatThrownBy(() -> future.get(1, TimeUnit.MINUTES))
+                    .hasCauseInstanceOf(NewsNotFoundException.class);
+        }
+
+        assertThat(loads).hasValue(1);
+        assertThat(singleFlightCache.containsKey(1L)).isFalse();
+        assertThat(singleFlightCache.getFlightCount()).isZero();
+    }
+
+    @Test
+    void checkGetWithLoaderShouldNotPutValueLoadedBeforeUpdate() throws Throwable {
+        String actualString = singleFlightCache.get(1L, key -> {
+            singleFlightCache.put(key, "Updated");
+            return "Stale";
+        });
+
+        assertThat(actualString).isEqualTo("Stale");
+        assertThat(singleFlightCache.get(1L)).contains("Updated");
+    }
+
+    @Test
+    void checkGetWithLoaderShouldNotPutValueLoadedBeforeRemove() throws Throwable {
+        singleFlightCache.get(1L, key -> {
+            singleFlightCache.remove(key);
+            return "Stale";
+        });
+
+        assertThat(singleFlightCache.containsKey(1L)).isFalse();
+    }
+
+    private List<Future<String>> submitGets(Loader loader, CountDownLatch loadStarted) throws InterruptedException {
+        List<Future<String>> futures = new ArrayList<>();
+        futures.add(executor.submit(() -> getOrLoad(loader)));
+        loadStarted.await(1, TimeUnit.MINUTES);
+
+        for (int i = 1; i < THREADS; i++) {
+            futures.add(executor.submit(() -> getOrLoad(loader)));
+        }
+
+        while (singleFlightCache.getWaiterCount(1L) < THREADS - 1) {
+            Thread.onSpinWait();
+        }
+
+        return futures;
+    }
+
+    private String getOrLoad(Loader loader) throws Exception {
+        try {
+            return singleFlightCache.get(1L, key -> loader.load());
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Loader {
+
+        String load() throws Exception;
+
+    }
+}
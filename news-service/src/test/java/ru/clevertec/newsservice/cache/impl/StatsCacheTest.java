@@ -0,0 +1,125 @@
+package ru.clevertec.newsservice.cache.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import ru.clevertec.newsservice.cache.CacheLoader;
+import ru.clevertec.newsservice.cache.EvictionCause;
+import ru.clevertec.newsservice.cache.stats.CacheStats;
+import ru.clevertec.newsservice.cache.stats.ConcurrentStatsCounter;
+import ru.clevertec.newsservice.cache.stats.StatsCounter;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class StatsCacheTest {
+
+    private StatsCache<Long, String> statsCache;
+
+    @BeforeEach
+    void setUp() {
+        StatsCounter statsCounter = new ConcurrentStatsCounter();
+        statsCache = new StatsCache<>(new LRUCache<>(2, (key, value, cause) -> statsCounter.recordEviction(cause)),
+                statsCounter);
+    }
+
+    @Test
+    void checkGetShouldRecordHitsAndMisses() {
+        statsCache.put(1L, "One");
+
+        statsCache.get(1L);
+        statsCache.get(1L);
+        statsCache.get(2L);
+        CacheStats actualStats = statsCache.getStats();
+
+        assertAll(
+                () -> assertThat(actualStats.getHitCount()).isEqualTo(2),
+                () -> assertThat(actualStats.getMissCount()).isEqualTo(1),
+                () -> assertThat(actualStats.getHitRatio()).isEqualTo(2.0 / 3)
+        );
+    }
+
+    @Test
+    void checkGetWithLoaderShouldReturnCachedString() throws Throwable {
+        statsCache.put(1L, "One");
+
+        String actualString = statsCache.get(1L, key -> "Uno");
+
+        assertThat(actualString).isEqualTo("One");
+        assertThat(statsCache.getStats().getLoadSuccessCount()).isZero();
+    }
+
+    @Test
+    void checkGetWithLoaderShouldLoadAndPutString() throws Throwable {
+        String expectedString = "One";
+
+        String actualString = statsCache.get(1L, key -> expectedString);
+        CacheStats actualStats = statsCache.getStats();
+
+        assertAll(
+                () -> assertThat(actualString).isEqualTo(expectedString),
+                () -> assertThat(statsCache.get(1L)).contains(expectedString),
+                () -> assertThat(actualStats.getMissCount()).isEqualTo(1),
+                () -> assertThat(actualStats.getLoadSuccessCount()).isEqualTo(1),
+                () -> assertThat(actualStats.getPutCount()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    void checkGetWithLoaderShouldRecordLoadFailure() {
+        IllegalStateException exception = new IllegalStateException("Database is unavailable");
+
+        assertThatThrownBy(() -> statsCache.get(1L, key -> {
+            throw exception;
+        })).isSameAs(exception);
+
+        assertAll(
+                () -> assertThat(statsCache.getStats().getLoadFailureCount()).isEqualTo(1),
+                () -> assertThat(statsCache.containsKey(1L)).isFalse()
+        );
+    }
+
+    @Test
+    void checkPutShouldRecordSizeEviction() {
+        statsCache.put(1L, "One");
+        statsCache.put(2L, "Two");
+        statsCache.put(3L, "Three");
+
+        CacheStats actualStats = statsCache.getStats();
+
+        assertAll(
+                () -> assertThat(actualStats.getPutCount()).isEqualTo(3),
+                () -> assertThat(actualStats.getEvictionCount(EvictionCause.SIZE)).isEqualTo(1),
+                () -> assertThat(actualStats.getEvictionCount()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    void checkRemoveShouldReturnString() {
+        statsCache.put(1L, "One");
+
+        Optional<String> actualString = statsCache.remove(1L);
+
+        assertThat(actualString).contains("One");
+    }
+
+    @Test
+    void checkGetWithLoaderShouldRecordHitWhenValueLoadedByDecoratedCache() throws Throwable {
+        StatsCounter statsCounter = new ConcurrentStatsCounter();
+        StatsCache<Long, String> cache = new StatsCache<>(new LRUCache<Long, String>(2) {
+            @Override
+            public String get(Long key, CacheLoader<? super Long, ? extends String> loader) {
+                return "Loaded by another caller";
+            }
+        }, statsCounter);
+
+        cache.get(1L, key -> "One");
+
+        assertThat(cache.getStats().getHitCount()).isEqualTo(1);
+        assertThat(cache.getStats().getMissCount()).isZero();
+    }
+}
@@ -0,0 +1,120 @@
+package ru.clevertec.newsservice.cache.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import ru.clevertec.newsservice.cache.Tagger;
+
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class TaggedCacheTest {
+
+    private final Tagger<Long, String, Long> tagger = (key, value) -> key / 100;
+    private TaggedCache<Long, String, Long> taggedCache;
+
+    @BeforeEach
+    void setUp() {
+        taggedCache = new TaggedCache<>(listener -> new LRUCache<>(100_000, listener), tagger);
+    }
+
+    @Test
+    void checkInvalidateTagShouldRemoveOnlyMappingsWithTag() {
+        taggedCache.put(101L, "One hundred one");
+        taggedCache.put(102L, "One hundred two");
+        taggedCache.put(201L, "Two hundred one");
+
+        int actualRemoved = taggedCache.invalidateTag(1L);
+
+        assertAll(
+                () -> assertThat(actualRemoved).isEqualTo(2),
+                () -> assertThat(taggedCache.containsKey(101L)).isFalse(),
+                () -> assertThat(taggedCache.containsKey(102L)).isFalse(),
+                () -> assertThat(taggedCache.containsKey(201L)).isTrue(),
+                () -> assertThat(taggedCache.getTagSize(1L)).isZero()
+        );
+    }
+
+    @Test
+    void checkInvalidateTagShouldReturn0WhenTagUnknown() {
+        taggedCache.put(101L, "One hundred one");
+
+        int actualRemoved = taggedCache.invalidateTag(2L);
+
+        assertThat(actualRemoved).isZero();
+        assertThat(taggedCache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void checkInvalidateTagShouldRemoveAllMappingsOfLargeTag() {
+        TaggedCache<Long, String, Long> cache = new TaggedCache<>(listener -> new LRUCache<>(100_000, listener),
+                (key, value) -> key < 50_000 ? 1L : 2L);
+        LongStream.range(0, 50_010).forEach(key -> cache.put(key, "Comment"));
+
+        int actualRemoved = cache.invalidateTag(1L);
+
+        assertAll(
+                () -> assertThat(actualRemoved).isEqualTo(50_000),
+                () -> assertThat(cache.size()).isEqualTo(10),
+                () -> assertThat(cache.getTagSize(2L)).isEqualTo(10)
+        );
+    }
+
+    @Test
+    void checkGetWithLoaderShouldIndexLoadedMapping() throws Throwable {
+        taggedCache.get(101L, key -> "One hundred one");
+
+        taggedCache.invalidateTag(1L);
+
+        assertThat(taggedCache.containsKey(101L)).isFalse();
+    }
+
+    @Test
+    void checkRemoveShouldRemoveKeyFromIndex() {
+        taggedCache.put(101L, "One hundred one");
+
+        taggedCache.remove(101L);
+
+        assertThat(taggedCache.getTagSize(1L)).isZero();
+    }
+
+    @Test
+    void checkEvictionShouldRemoveKeyFromIndex() {
+        TaggedCache<Long, String, Long> cache = new TaggedCache<>(listener -> new LRUCache<>(2, listener), tagger);
+        cache.put(101L, "One hundred one");
+        cache.put(102L, "One hundred two");
+        cache.put(103L, "One hundred three");
+
+        assertAll(
+                () -> assertThat(cache.containsKey(101L)).isFalse(),
+                () -> assertThat(cache.getTagSize(1L)).isEqualTo(2)
+        );
+    }
+
+    @Test
+    void checkPutShouldNotIndexMappingWithoutTag() {
+        TaggedCache<Long, String, Long> cache = new TaggedCache<>(listener -> new LRUCache<>(2, listener),
+                (key, value) -> null);
+        cache.put(101L, "One hundred one");
+
+        assertThat(cache.getTagSize(1L)).isZero();
+        assertThat(cache.get(101L)).contains("One hundred one");
+    }
+
+    @Test
+    void checkClearShouldRemoveAllTags() {
+        taggedCache.put(101L, "One hundred one");
+        taggedCache.put(201L, "Two hundred one");
+
+        taggedCache.clear();
+
+        assertAll(
+                () -> assertThat(taggedCache.size()).isZero(),
+                () -> assertThat(taggedCache.getTagSize(1L)).isZero(),
+                () -> assertThat(taggedCache.getTagSize(2L)).isZero()
+        );
+    }
+}
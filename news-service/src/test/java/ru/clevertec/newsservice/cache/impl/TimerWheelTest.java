@@ -0,0 +1,91 @@
+package ru.clevertec.newsservice.cache.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimerWheelTest {
+
+    private static final long START = System.nanoTime();
+    private static final long RESOLUTION = 1L << 30;
+
+    @Test
+    void checkAdvanceShouldNotReportTimerBeforeExpiration() {
+        TimerWheel<Long> timerWheel = new TimerWheel<>(START);
+        List<Long> expired = new ArrayList<>();
+        timerWheel.schedule(timer(1L, START + Duration.ofMinutes(10).toNanos()));
+
+        timerWheel.advance(START + Duration.ofMinutes(9).toNanos(), timer -> expired.add(timer.getKey()));
+
+        assertThat(expired).isEmpty();
+    }
+
+    @Test
+    void checkAdvanceShouldReportTimerAfterExpiration() {
+        TimerWheel<Long> timerWheel = new TimerWheel<>(START);
+        List<Long> expired = new ArrayList<>();
+        TimerWheel.Timer<Long> timer = timer(1L, START + Duration.ofMinutes(10).toNanos());
+        timerWheel.schedule(timer);
+
+        timerWheel.advance(START + Duration.ofMinutes(10).toNanos() + RESOLUTION, t -> expired.add(t.getKey()));
+
+        assertThat(expired).containsExactly(1L);
+        assertThat(timer.isScheduled()).isFalse();
+    }
+
+    @Test
+    void checkAdvanceShouldNotReportDescheduledTimer() {
+        TimerWheel<Long> timerWheel = new TimerWheel<>(START);
+        List<Long> expired = new ArrayList<>();
+        TimerWheel.Timer<Long> timer = timer(1L, START + Duration.ofSeconds(5).toNanos());
+        timerWheel.schedule(timer);
+
+        timerWheel.deschedule(timer);
+        timerWheel.advance(START + Duration.ofMinutes(1).toNanos(), t -> expired.add(t.getKey()));
+
+        assertThat(expired).isEmpty();
+    }
+
+    @Test
+    void checkAdvanceShouldReportRandomTimersWithinResolution() {
+        TimerWheel<Long> timerWheel = new TimerWheel<>(START);
+        Random random = new Random(42L);
+        Map<Long, Long> expirationTimes = new HashMap<>();
+        Map<Long, Long> reportTimes = new HashMap<>();
+        long horizon = Duration.ofDays(5).toNanos();
+
+        for (long key = 0; key < 10_000; key++) {
+            long expirationTime = START + (long) (random.nextDouble() * horizon);
+            expirationTimes.put(key, expirationTime);
+            timerWheel.schedule(timer(key, expirationTime));
+        }
+
+        long step = Duration.ofMillis(500).toNanos();
+        long[] now = {START};
+
+        while (now[0] - START < horizon + 2 * RESOLUTION) {
+            now[0] += step + random.nextInt((int) step);
+            timerWheel.advance(now[0], timer -> reportTimes.put(timer.getKey(), now[0]));
+        }
+
+        assertThat(reportTimes).hasSameSizeAs(expirationTimes);
+        expirationTimes.forEach((key, expirationTime) -> {
+            long delay = reportTimes.get(key) - expirationTime;
+            assertThat(delay).isBetween(0L, RESOLUTION + 2 * step);
+        });
+    }
+
+    private TimerWheel.Timer<Long> timer(Long key, long expirationTime) {
+        TimerWheel.Timer<Long> timer = new TimerWheel.Timer<>(key);
+        timer.setExpirationTime(expirationTime);
+
+        return timer;
+    }
+}
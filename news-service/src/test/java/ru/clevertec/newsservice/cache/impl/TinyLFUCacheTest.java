@@ -0,0 +1,263 @@
+package ru.clevertec.newsservice.cache.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import ru.clevertec.newsservice.cache.Cache;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Random;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TinyLFUCacheTest {
+
+    private TinyLFUCache<Long, String> tinyLfuCache;
+
+    @BeforeEach
+    void setUp() {
+        tinyLfuCache = new TinyLFUCache<>(3);
+    }
+
+    @Test
+    void checkGetShouldReturnString() {
+        Long key = 1L;
+        String expectedString = "One";
+
+        tinyLfuCache.put(key, expectedString);
+
+        Optional<String> actualString = tinyLfuCache.get(key);
+
+        assertThat(actualString).isPresent();
+        assertThat(actualString.get()).isEqualTo(expectedString);
+    }
+
+    @Test
+    void checkGetShouldReturnNullString() {
+        Optional<String> actualString = tinyLfuCache.get(1L);
+
+        assertThat(actualString).isNotPresent();
+    }
+
+    @Test
+    void checkPutShouldReturnString() {
+        String expectedString = "One";
+
+        Optional<String> actualString = tinyLfuCache.put(1L, expectedString);
+
+        assertThat(actualString).isPresent();
+        assertThat(actualString.get()).isEqualTo(expectedString);
+    }
+
+    @Test
+    void checkPutShouldReplaceValue() {
+        String expectedString = "Uno";
+
+        tinyLfuCache.put(1L, "One");
+        tinyLfuCache.put(1L, expectedString);
+
+        assertThat(tinyLfuCache.get(1L)).contains(expectedString);
+        assertThat(tinyLfuCache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void checkPutShouldRejectCandidateWithEqualFrequency() {
+        tinyLfuCache.put(1L, "One");
+        tinyLfuCache.put(3L, "Three");
+        tinyLfuCache.put(2L, "Two");
+        tinyLfuCache.put(4L, "Four");
+
+        assertThat(tinyLfuCache.containsKey(1L)).isTrue();
+        assertThat(tinyLfuCache.containsKey(2L)).isFalse();
+        assertThat(tinyLfuCache.containsKey(4L)).isTrue();
+    }
+
+    @Test
+    void checkPutShouldAdmitMoreFrequentCandidate() {
+        tinyLfuCache.put(1L, "One");
+        tinyLfuCache.put(3L, "Three");
+        tinyLfuCache.put(2L, "Two");
+        tinyLfuCache.get(2L);
+        tinyLfuCache.put(4L, "Four");
+
+        assertThat(tinyLfuCache.containsKey(1L)).isFalse();
+        assertThat(tinyLfuCache.containsKey(2L)).isTrue();
+        assertThat(tinyLfuCache.containsKey(3L)).isTrue();
+    }
+
+    @Test
+    void checkRemoveShouldReturnString() {
+        Long key = 1L;
+        String expectedString = "One";
+
+        tinyLfuCache.put(key, expectedString);
+
+        Optional<String> actualString = tinyLfuCache.remove(key);
+
+        assertThat(actualString).isPresent();
+        assertThat(actualString.get()).isEqualTo(expectedString);
+        assertThat(tinyLfuCache.containsKey(key)).isFalse();
+    }
+
+    @Test
+    void checkRemoveShouldReturnNullString() {
+        tinyLfuCache.put(1L, "One");
+
+        Optional<String> actualString = tinyLfuCache.remove(2L);
+
+        assertThat(actualString).isNotPresent();
+    }
+
+    @Test
+    void checkSizeShouldReturnSize3() {
+        int expectedSize = 3;
+
+        tinyLfuCache.put(1L, "One");
+        tinyLfuCache.put(2L, "Two");
+        tinyLfuCache.put(3L, "Three");
+        tinyLfuCache.put(4L, "Four");
+
+        int actualSize = tinyLfuCache.size();
+
+        assertThat(actualSize).isEqualTo(expectedSize);
+    }
+
+    @Test
+    void checkClearShouldReturnSize0() {
+        tinyLfuCache.put(1L, "One");
+        tinyLfuCache.put(2L, "Two");
+
+        tinyLfuCache.clear();
+        int actualSize = tinyLfuCache.size();
+
+        assertThat(actualSize).isZero();
+    }
+
+    @Test
+    void checkCapacity1ShouldKeepLastValue() {
+        TinyLFUCache<Long, String> cache = new TinyLFUCache<>(1);
+
+        cache.put(1L, "One");
+        cache.put(2L, "Two");
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.get(2L)).contains("Two");
+    }
+
+    @Test
+    void checkConstructorShouldThrowIllegalArgumentException() {
+        assertThatThrownBy(() -> new TinyLFUCache<Long, String>(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Nested
+    class TinyLFUCacheHitRatioTest {
+
+        private static final int CAPACITY = 500;
+        private static final int KEY_SPACE = 10_000;
+        private static final int ACCESSES = 200_000;
+        private static final long SEED = 42L;
+
+        @Test
+        void checkZipfianTraceShouldNotBeWorseThanLru() {
+            ZipfGenerator zipf = new ZipfGenerator(KEY_SPACE, 0.9, new Random(SEED));
+            long[] trace = trace(zipf::next, ACCESSES);
+
+            double tinyLfuHitRatio = hitRatio(new TinyLFUCache<>(CAPACITY), trace);
+            double lruHitRatio = hitRatio(new LRUCache<>(CAPACITY), trace);
+
+            assertThat(tinyLfuHitRatio).isGreaterThan(lruHitRatio + 0.05);
+        }
+
+        @Test
+        void checkScanHeavyTraceShouldKeepHotKeys() {
+            Random random = new Random(SEED);
+            ZipfGenerator hotKeys = new ZipfGenerator(CAPACITY, 0.9, random);
+            long[] scanKey = {KEY_SPACE};
+            long[] trace = trace(() -> random.nextBoolean() ? hotKeys.next() : scanKey[0]++, ACCESSES);
+
+            double tinyLfuHitRatio = hitRatio(new TinyLFUCache<>(CAPACITY), trace);
+            double lruHitRatio = hitRatio(new LRUCache<>(CAPACITY), trace);
+
+            assertThat(tinyLfuHitRatio).isGreaterThan(lruHitRatio + 0.1);
+        }
+
+        @Test
+        void checkShiftedPopularityShouldBeForgottenUnlikeLfu() {
+            Random random = new Random(SEED);
+            ZipfGenerator zipf = new ZipfGenerator(KEY_SPACE, 0.9, random);
+            long[] oldTrace = trace(zipf::next, ACCESSES);
+            long[] newTrace = trace(() -> zipf.next() + KEY_SPACE, ACCESSES);
+
+            TinyLFUCache<Long, Long> tinyLfuCache = new TinyLFUCache<>(CAPACITY);
+            LFUCache<Long, Long> lfuCache = new LFUCache<>(CAPACITY);
+            hitRatio(tinyLfuCache, oldTrace);
+            hitRatio(lfuCache, oldTrace);
+
+            double tinyLfuHitRatio = hitRatio(tinyLfuCache, newTrace);
+            double lfuHitRatio = hitRatio(lfuCache, newTrace);
+
+            assertThat(tinyLfuHitRatio).isGreaterThan(lfuHitRatio + 0.1);
+        }
+
+        private long[] trace(LongSupplier keys, int length) {
+            long[] trace = new long[length];
+
+            for (int i = 0; i < length; i++) {
+                trace[i] = keys.getAsLong();
+            }
+
+            return trace;
+        }
+
+        private double hitRatio(Cache<Long, Long> cache, long[] trace) {
+            int hits = 0;
+
+            for (long key : trace) {
+                if (cache.get(key).isPresent()) {
+                    hits++;
+                } else {
+                    cache.put(key, key);
+                }
+            }
+
+            return (double) hits / trace.length;
+        }
+    }
+
+    /**
+     * Generates keys from {@code 0} to {@code size - 1} whose probabilities follow the Zipf law,
+     * so the key of rank {@code k} is requested with probability proportional to {@code 1 / k^exponent}
+     */
+    private static final class ZipfGenerator {
+
+        private final double[] cumulativeProbabilities;
+        private final Random random;
+
+        private ZipfGenerator(int size, double exponent, Random random) {
+            this.cumulativeProbabilities = new double[size];
+            this.random = random;
+
+            double sum = 0;
+
+            for (int i = 0; i < size; i++) {
+                sum += 1 / Math.pow(i + 1, exponent);
+                cumulativeProbabilities[i] = sum;
+            }
+
+            for (int i = 0; i < size; i++) {
+                cumulativeProbabilities[i] /= sum;
+            }
+        }
+
+        private long next() {
+            int index = Arrays.binarySearch(cumulativeProbabilities, random.nextDouble());
+
+            return index >= 0 ? index : Math.min(-index - 1, cumulativeProbabilities.length - 1);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package ru.clevertec.newsservice.cache.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import ru.clevertec.newsservice.cache.impl.LFUCache;
+import ru.clevertec.newsservice.cache.impl.StatsCache;
+import ru.clevertec.newsservice.cache.stats.StatsCounter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class CacheMetricsBinderTest {
+
+    private static final Tags TAGS = Tags.of("cache", "news", "algorithm", "LFU");
+
+    private MeterRegistry meterRegistry;
+    private StatsCache<Long, String> statsCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        StatsCounter statsCounter = new MicrometerStatsCounter(meterRegistry, TAGS);
+        statsCache = new StatsCache<>(new LFUCache<>(1, (key, value, cause) -> statsCounter.recordEviction(cause)),
+                statsCounter);
+
+        new CacheMetricsBinder(statsCache, TAGS).bindTo(meterRegistry);
+    }
+
+    @Test
+    void checkBindToShouldPublishCacheStatistics() throws Throwable {
+        statsCache.get(1L, key -> "One");
+        statsCache.get(1L, key -> "One");
+        statsCache.get(2L, key -> "Two");
+
+        assertAll(
+                () -> assertThat(counter("cache.gets", "result", "hit")).isEqualTo(1),
+                () -> assertThat(counter("cache.gets", "result", "miss")).isEqualTo(2),
+                () -> assertThat(counter("cache.puts")).isEqualTo(2),
+                () -> assertThat(counter("cache.evictions", "cause", "size")).isEqualTo(1),
+                () -> assertThat(counter("cache.evictions", "cause", "expired")).isZero(),
+                () -> assertThat(gauge("cache.size")).isEqualTo(1),
+                () -> assertThat(gauge("cache.hit.ratio")).isEqualTo(1.0 / 3),
+                () -> assertThat(meterRegistry.find("cache.weight").gauge()).isNull()
+        );
+    }
+
+    @Test
+    void checkLoadShouldBeRecordedInTimer() throws Throwable {
+        statsCache.get(1L, key -> "One");
+
+        Timer actualTimer = meterRegistry.get("cache.load")
+                .tags(TAGS)
+                .tag("result", "success")
+                .timer();
+
+        assertThat(actualTimer.count()).isEqualTo(1);
+    }
+
+    private double counter(String name, String... tags) {
+        return meterRegistry.get(name)
+                .tags(TAGS)
+                .tags(tags)
+                .functionCounter()
+                .count();
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name)
+                .tags(TAGS)
+                .gauge()
+                .value();
+    }
+}
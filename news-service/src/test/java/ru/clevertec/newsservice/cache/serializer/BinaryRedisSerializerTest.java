@@ -0,0 +1,219 @@
+package ru.clevertec.newsservice.cache.serializer;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import ru.clevertec.newsservice.dto.response.comment.CommentResponse;
+import ru.clevertec.newsservice.dto.response.comment.NewsCommentResponse;
+import ru.clevertec.newsservice.dto.response.news.CommentNewsResponse;
+import ru.clevertec.newsservice.dto.response.news.NewsResponse;
+import ru.clevertec.newsservice.util.response.CommentNewsResponseTestBuilder;
+import ru.clevertec.newsservice.util.response.CommentResponseTestBuilder;
+import ru.clevertec.newsservice.util.response.NewsCommentResponseTestBuilder;
+import ru.clevertec.newsservice.util.response.NewsResponseTestBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class BinaryRedisSerializerTest {
+
+    private static final LocalDateTime TIME = LocalDateTime.of(2023, 5, 28, 12, 30, 15, 123_456_789);
+
+    private final BinaryRedisSerializer serializer = new BinaryRedisSerializer();
+
+    @Test
+    void checkDeserializeShouldReturnEqualCommentNewsResponse() {
+        CommentNewsResponse expectedNews = CommentNewsResponseTestBuilder.commentNewsResponse()
+                .withTitle("Заголовок")
+                .withText("Текст новости")
+                .withTime(TIME)
+                .withUsername("admin")
+                .withComments(List.of(CommentResponseTestBuilder.commentResponse().withText("Comment").withTime(TIME).build()))
+                .build();
+
+        Object actualNews = serializer.deserialize(serializer.serialize(expectedNews));
+
+        assertThat(actualNews).isEqualTo(expectedNews);
+    }
+
+    @Test
+    void checkDeserializeShouldReturnEqualNewsCommentResponse() {
+        NewsCommentResponse expectedComment = NewsCommentResponseTestBuilder.newsCommentResponse()
+                .withId(-5L)
+                .withText("Comment")
+                .withTime(TIME)
+                .withNews(NewsResponseTestBuilder.newsResponse().withTitle("Title").withTime(TIME).build())
+                .build();
+
+        Object actualComment = serializer.deserialize(serializer.serialize(expectedComment));
+
+        assertThat(actualComment).isEqualTo(expectedComment);
+    }
+
+    @Test
+    void checkDeserializeShouldReturnEqualNewsResponseWithCommentCounters() {
+        NewsResponse expectedNews = NewsResponseTestBuilder.newsResponse()
+                .withTitle("Title")
+                .withTime(TIME)
+                .withCommentCount(42L)
+                .withLastCommentAt(TIME.plusDays(1))
+                .build();
+
+        Object actualNews = serializer.deserialize(serializer.serialize(expectedNews));
+
+        assertThat(actualNews).isEqualTo(expectedNews);
+    }
+
+    @Test
+    void checkDeserializeShouldReadNewsResponseOfVersion1WithoutCommentCounters() {
+        BinaryWriter writer = new BinaryWriter(64);
+        writer.writeByte(1 << 4);
+        writer.writeByte(3);
+        writer.writeLong(7L);
+        writer.writeString("Title");
+        writer.writeString("Text");
+        writer.writeTime(TIME);
+        writer.writeString("admin");
+        NewsResponse expectedNews = new NewsResponse(7L, "Title", "Text", TIME, "admin", null, null);
+
+        Object actualNews = serializer.deserialize(writer.toByteArray());
+
+        assertThat(actualNews).isEqualTo(expectedNews);
+    }
+
+    @Test
+    void checkDeserializeShouldReturnEqualCommentSegment() {
+        List<CommentResponse> expectedSegment = List.of(
+                CommentResponseTestBuilder.commentResponse().withId(1L).withText("First").withTime(TIME).build(),
+                CommentResponseTestBuilder.commentResponse().withId(2L).withText("Second").withTime(TIME).build()
+        );
+
+        Object actualSegment = serializer.deserialize(serializer.serialize(expectedSegment));
+
+        assertThat(actualSegment).isEqualTo(expectedSegment);
+    }
+
+    @Test
+    void checkDeserializeShouldReturnResponseWithNullFields() {
+        CommentNewsResponse expectedNews = new CommentNewsResponse(null, null, null, null, null, null, null);
+        NewsCommentResponse expectedComment = new NewsCommentResponse();
+
+        Object actualNews = serializer.deserialize(serializer.serialize(expectedNews));
+        Object actualComment = serializer.deserialize(serializer.serialize(expectedComment));
+
+        assertAll(
+                () -> assertThat(actualNews).isEqualTo(expectedNews),
+                () -> assertThat(actualComment).isEqualTo(expectedComment)
+        );
+    }
+
+    @Test
+    void checkDeserializeShouldReturnNullValueSerializedWithJdkFallback() {
+        Object actualValue = serializer.deserialize(serializer.serialize(NullValue.INSTANCE));
+
+        assertThat(actualValue).isEqualTo(NullValue.INSTANCE);
+    }
+
+    @Test
+    void checkDeserializeShouldReadJdkSerializedPayload() {
+        NewsResponse expectedNews = NewsResponseTestBuilder.newsResponse().withTitle("Title").withTime(TIME).build();
+        byte[] jdkPayload = RedisSerializer.java().serialize(expectedNews);
+
+        Object actualNews = serializer.deserialize(jdkPayload);
+
+        assertThat(actualNews).isEqualTo(expectedNews);
+    }
+
+    @Test
+    void checkSerializeShouldReturnPayloadSmallerThanJdkSerialization() {
+        CommentNewsResponse news = createNews(20);
+
+        int binaryLength = serializer.serialize(news).length;
+        int jdkLength = RedisSerializer.java().serialize(news).length;
+
+        assertThat(binaryLength).isLessThan(jdkLength);
+    }
+
+    @Test
+    void checkDeserializeShouldThrowSerializationExceptionWhenPayloadTruncated() {
+        byte[] payload = serializer.serialize(createNews(1));
+        byte[] truncatedPayload = Arrays.copyOf(payload, payload.length - 3);
+
+        assertThatThrownBy(() -> serializer.deserialize(truncatedPayload))
+                .isInstanceOf(SerializationException.class);
+    }
+
+    @Test
+    void checkDeserializeShouldThrowSerializationExceptionWhenVersionUnknown() {
+        byte[] payload = {(byte) 0x70, 1};
+
+        assertThatThrownBy(() -> serializer.deserialize(payload))
+                .isInstanceOf(SerializationException.class);
+    }
+
+    @Test
+    void checkDeserializeShouldReturnNullWhenPayloadEmpty() {
+        assertThat(serializer.deserialize(new byte[0])).isNull();
+    }
+
+    @Nested
+    class BinaryRedisSerializerCompressionTest {
+
+        private final BinaryRedisSerializer compressingSerializer = new BinaryRedisSerializer(512);
+
+        @Test
+        void checkSerializeShouldCompressPayloadAboveThreshold() {
+            CommentNewsResponse news = createNews(200);
+
+            byte[] compressedPayload = compressingSerializer.serialize(news);
+            byte[] plainPayload = serializer.serialize(news);
+
+            assertAll(
+                    () -> assertThat(compressedPayload.length).isLessThan(plainPayload.length),
+                    () -> assertThat(compressingSerializer.deserialize(compressedPayload)).isEqualTo(news),
+                    () -> assertThat(serializer.deserialize(compressedPayload)).isEqualTo(news)
+            );
+        }
+
+        @Test
+        void checkSerializeShouldNotCompressPayloadBelowThreshold() {
+            NewsCommentResponse comment = NewsCommentResponseTestBuilder.newsCommentResponse().withTime(TIME).build();
+
+            byte[] actualPayload = compressingSerializer.serialize(comment);
+
+            assertThat(actualPayload).isEqualTo(serializer.serialize(comment));
+        }
+    }
+
+    private static CommentNewsResponse createNews(int commentCount) {
+        List<CommentResponse> comments = new ArrayList<>();
+        LongStream.rangeClosed(1, commentCount)
+                .mapToObj(id -> CommentResponseTestBuilder.commentResponse()
+                        .withId(id)
+                        .withText("Comment number " + id + " to the news")
+                        .withUsername("subscriber")
+                        .withTime(TIME.plusMinutes(id))
+                        .build())
+                .forEach(comments::add);
+
+        return CommentNewsResponseTestBuilder.commentNewsResponse()
+                .withTitle("Title")
+                .withText("Text of the news")
+                .withTime(TIME)
+                .withUsername("journalist")
+                .withComments(comments)
+                .build();
+    }
+}
@@ -0,0 +1,66 @@
+package ru.clevertec.newsservice.cache.tiered;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import ru.clevertec.newsservice.cache.key.CommentSegmentKey;
+import ru.clevertec.newsservice.cache.tiered.InvalidationKey.Type;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+class InvalidationKeyTest {
+
+    @ParameterizedTest
+    @MethodSource("provideKeysAndInvalidationKeys")
+    void checkOfShouldReturnTypeAndStringFormOfKey(Object key, InvalidationKey expectedInvalidationKey) {
+        InvalidationKey actualInvalidationKey = InvalidationKey.of(key);
+
+        assertThat(actualInvalidationKey).isEqualTo(expectedInvalidationKey);
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideKeysAndInvalidationKeys")
+    void checkToKeyShouldReturnKey(Object expectedKey, InvalidationKey invalidationKey) {
+        Object actualKey = invalidationKey.toKey();
+
+        assertThat(actualKey).isEqualTo(expectedKey);
+    }
+
+    @Test
+    void checkOfShouldReturnNullWhenKeyTypeIsNotSupported() {
+        InvalidationKey actualInvalidationKey = InvalidationKey.of(1.5);
+
+        assertThat(actualInvalidationKey).isNull();
+    }
+
+    @Test
+    void checkToKeyShouldThrowIllegalArgumentExceptionWhenValueIsNotNumber() {
+        InvalidationKey invalidationKey = new InvalidationKey(Type.LONG, "one");
+
+        assertThatThrownBy(invalidationKey::toKey)
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void checkToKeyShouldThrowIllegalArgumentExceptionWhenTypeIsAbsent() {
+        InvalidationKey invalidationKey = new InvalidationKey(null, "1");
+
+        assertThatThrownBy(invalidationKey::toKey)
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Stream<Arguments> provideKeysAndInvalidationKeys() {
+        return Stream.of(
+                arguments(1L, new InvalidationKey(Type.LONG, "1")),
+                arguments("erik_gibson", new InvalidationKey(Type.STRING, "erik_gibson")),
+                arguments(new CommentSegmentKey(2L), new InvalidationKey(Type.COMMENT_SEGMENT, "2"))
+        );
+    }
+}
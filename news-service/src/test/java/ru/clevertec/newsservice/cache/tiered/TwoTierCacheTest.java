@@ -0,0 +1,376 @@
+package ru.clevertec.newsservice.cache.tiered;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cache.Cache.ValueWrapper;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import ru.clevertec.newsservice.cache.Cache;
+import ru.clevertec.newsservice.cache.impl.ConcurrentLRUCache;
+import ru.clevertec.newsservice.cache.impl.SingleFlightCache;
+import ru.clevertec.newsservice.cache.impl.TaggedCache;
+import ru.clevertec.newsservice.cache.key.CommentSegmentKey;
+import ru.clevertec.newsservice.cache.tag.TagInvalidatingCache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class TwoTierCacheTest {
+
+    private static final String CACHE_NAME = "news";
+
+    private ConcurrentMapCache remoteCache;
+    private Cache<Object, Object> localCache;
+    private List<Object> publishedKeys;
+    private TwoTierCache twoTierCache;
+
+    @BeforeEach
+    void setUp() {
+        remoteCache = new ConcurrentMapCache(CACHE_NAME);
+        localCache = new SingleFlightCache<>(new ConcurrentLRUCache<>(16));
+        publishedKeys = new ArrayList<>();
+        twoTierCache = new TwoTierCache(CACHE_NAME, localCache, remoteCache,
+                (cacheName, key) -> publishedKeys.add(key), true);
+    }
+
+    @Test
+    void checkGetShouldReturnStringFromRemoteCacheAndPutItInLocalCache() {
+        remoteCache.put(1L, "One");
+
+        ValueWrapper actualValue = twoTierCache.get(1L);
+
+        assertAll(
+                () -> assertThat(actualValue).isNotNull(),
+                () -> assertThat(actualValue.get()).isEqualTo("One"),
+                () -> assertThat(localCache.get(1L)).contains("One")
+        );
+    }
+
+    @Test
+    void checkGetShouldReturnStringFromLocalCacheWithoutRemoteRead() {
+        remoteCache.put(1L, "One");
+        twoTierCache.get(1L);
+        remoteCache.evict(1L);
+
+        ValueWrapper actualValue = twoTierCache.get(1L);
+
+        assertThat(actualValue.get()).isEqualTo("One");
+    }
+
+    @Test
+    void checkGetShouldReturnNullAndNotPutInLocalCacheWhenRemoteCacheMisses() {
+        ValueWrapper actualValue = twoTierCache.get(1L);
+
+        assertAll(
+                () -> assertThat(actualValue).isNull(),
+                () -> assertThat(localCache.containsKey(1L)).isFalse()
+        );
+    }
+
+    @Test
+    void checkGetShouldReturnNullValueWrapperWhenRemoteCacheHoldsNull() {
+        twoTierCache.put(1L, null);
+
+        ValueWrapper actualValue = twoTierCache.get(1L);
+
+        assertAll(
+                () -> assertThat(actualValue).isNotNull(),
+                () -> assertThat(actualValue.get()).isNull()
+        );
+    }
+
+    @Test
+    void checkPutShouldWriteBothCachesAndPublishKey() {
+        twoTierCache.put(1L, "One");
+
+        assertAll(
+                () -> assertThat(remoteCache.get(1L).get()).isEqualTo("One"),
+                () -> assertThat(localCache.get(1L)).contains("One"),
+                () -> assertThat(publishedKeys).containsExactly(1L)
+        );
+    }
+
+    @Test
+    void checkPutIfAbsentShouldReturnExistingValueAndNotPublish() {
+        remoteCache.put(1L, "One");
+
+        ValueWrapper actualValue = twoTierCache.putIfAbsent(1L, "Uno");
+
+        assertAll(
+                () -> assertThat(actualValue.get()).isEqualTo("One"),
+                () -> assertThat(localCache.get(1L)).contains("One"),
+                () -> assertThat(publishedKeys).isEmpty()
+        );
+    }
+
+    @Test
+    void checkEvictShouldRemoveFromBothCachesAndPublishKey() {
+        twoTierCache.put(1L, "One");
+
+        twoTierCache.evict(1L);
+
+        assertAll(
+                () -> assertThat(remoteCache.get(1L)).isNull(),
+                () -> assertThat(localCache.containsKey(1L)).isFalse(),
+                () -> assertThat(publishedKeys).containsExactly(1L, 1L)
+        );
+    }
+
+    @Test
+    void checkClearShouldPublishNullKey() {
+        twoTierCache.put(1L, "One");
+
+        twoTierCache.clear();
+
+        assertAll(
+                () -> assertThat(localCache.size()).isZero(),
+                () -> assertThat(publishedKeys).containsExactly(1L, null)
+        );
+    }
+
+    @Test
+    void checkInvalidateTagShouldInvalidateRemoteTagAndClearLocalCache() {
+        List<Object> invalidatedTags = new ArrayList<>();
+        TaggedMapCache taggedRemoteCache = new TaggedMapCache(invalidatedTags);
+        TwoTierCache cache = new TwoTierCache(CACHE_NAME, localCache, taggedRemoteCache,
+                (cacheName, key) -> publishedKeys.add(key), true);
+        cache.put(1L, "One");
+
+        cache.invalidateTag(5L);
+
+        assertAll(
+                () -> assertThat(invalidatedTags).containsExactly(5L),
+                () -> assertThat(localCache.size()).isZero(),
+                () -> assertThat(publishedKeys).containsExactly(1L, null)
+        );
+    }
+
+    @Test
+    void checkInvalidateTagShouldRemoveOnlyMappingsOfTagFromTaggedLocalCacheAndPublishTag() {
+        List<Object> publishedTags = new ArrayList<>();
+        TaggedCache<Object, Object, Object> taggedLocalCache = createTaggedLocalCache();
+        TwoTierCache cache = new TwoTierCache(CACHE_NAME, taggedLocalCache, remoteCache,
+                new CacheInvalidationPublisher() {
+                    @Override
+                    public void publish(String cacheName, Object key) {
+                        publishedKeys.add(key);
+                    }
+
+                    @Override
+                    public void publishTag(String cacheName, Object tag) {
+                        publishedTags.add(tag);
+                    }
+                }, true);
+        cache.put(11L, "Eleven");
+        cache.put(12L, "Twelve");
+        cache.put(21L, "Twenty one");
+
+        cache.invalidateTag(1L);
+
+        assertAll(
+                () -> assertThat(taggedLocalCache.containsKey(11L)).isFalse(),
+                () -> assertThat(taggedLocalCache.containsKey(12L)).isFalse(),
+                () -> assertThat(taggedLocalCache.containsKey(21L)).isTrue(),
+                () -> assertThat(publishedKeys).containsExactly(11L, 12L, 21L),
+                () -> assertThat(publishedTags).containsExactly(1L)
+        );
+    }
+
+    @Test
+    void checkGetWithValueLoaderShouldLoadOnceAndWriteRemoteCache() {
+        AtomicInteger loads = new AtomicInteger();
+
+        twoTierCache.get(1L, () -> "One" + loads.incrementAndGet());
+        String actualString = twoTierCache.get(1L, () -> "One" + loads.incrementAndGet());
+
+        assertAll(
+                () -> assertThat(actualString).isEqualTo("One1"),
+                () -> assertThat(loads).hasValue(1),
+                () -> assertThat(remoteCache.get(1L).get()).isEqualTo("One1")
+        );
+    }
+
+    @Test
+    void checkGetShouldNotPutValueInvalidatedDuringRemoteRead() {
+        ConcurrentMapCache racingRemoteCache = new ConcurrentMapCache(CACHE_NAME) {
+            @Override
+            public ValueWrapper get(Object key) {
+                ValueWrapper staleValue = super.get(key);
+                super.put(key, "Uno");
+                localCache.remove(key);
+
+                return staleValue;
+            }
+        };
+        racingRemoteCache.put(1L, "One");
+        TwoTierCache cache = new TwoTierCache(CACHE_NAME, localCache, racingRemoteCache,
+                CacheInvalidationPublisher.none(), true);
+
+        ValueWrapper actualValue = cache.get(1L);
+
+        assertAll(
+                () -> assertThat(actualValue.get()).isEqualTo("One"),
+                () -> assertThat(localCache.containsKey(1L)).isFalse()
+        );
+    }
+
+    @Nested
+    class TwoTierCacheReplicaTest {
+
+        private TwoTierCache firstReplica;
+        private TwoTierCache secondReplica;
+
+        @BeforeEach
+        void setUp() {
+            List<TwoTierCache> replicas = new ArrayList<>();
+            firstReplica = createReplica(replicas);
+            secondReplica = createReplica(replicas);
+        }
+
+        @Test
+        void checkPutShouldInvalidateLocalCacheOfOtherReplica() {
+            firstReplica.put(1L, "One");
+            secondReplica.get(1L);
+
+            firstReplica.put(1L, "Uno");
+            ValueWrapper actualValue = secondReplica.get(1L);
+
+            assertThat(actualValue.get()).isEqualTo("Uno");
+        }
+
+        @Test
+        void checkEvictShouldInvalidateLocalCacheOfOtherReplica() {
+            firstReplica.put(1L, "One");
+            secondReplica.get(1L);
+
+            firstReplica.evict(1L);
+            ValueWrapper actualValue = secondReplica.get(1L);
+
+            assertThat(actualValue).isNull();
+        }
+
+        @Test
+        void checkInvalidateTagShouldRemoveOnlyMappingsOfTagFromLocalCacheOfOtherReplica() {
+            firstReplica.put(11L, "Eleven");
+            firstReplica.put(21L, "Twenty one");
+            secondReplica.get(11L);
+            secondReplica.get(21L);
+
+            firstReplica.invalidateTag(1L);
+
+            assertAll(
+                    () -> assertThat(secondLocalCache().containsKey(11L)).isFalse(),
+                    () -> assertThat(secondLocalCache().containsKey(21L)).isTrue()
+            );
+        }
+
+        @Test
+        void checkEvictShouldInvalidateCommentSegmentInLocalCacheOfOtherReplica() {
+            CommentSegmentKey key = new CommentSegmentKey(1L);
+            firstReplica.put(key, "Segment");
+            secondReplica.get(key);
+
+            firstReplica.evict(key);
+            ValueWrapper actualValue = secondReplica.get(key);
+
+            assertThat(actualValue).isNull();
+        }
+
+        @Test
+        void checkEvictShouldClearLocalCacheOfOtherReplicaWhenKeyTypeIsNotSupported() {
+            firstReplica.put(1.5, "One and a half");
+            firstReplica.put(2L, "Two");
+            secondReplica.get(1.5);
+            secondReplica.get(2L);
+
+            firstReplica.evict(1.5);
+
+            assertAll(
+                    () -> assertThat(secondLocalCache().containsKey(1.5)).isFalse(),
+                    () -> assertThat(secondLocalCache().containsKey(2L)).isFalse()
+            );
+        }
+
+        @SuppressWarnings("unchecked")
+        private Cache<Object, Object> secondLocalCache() {
+            return (Cache<Object, Object>) secondReplica.getNativeCache();
+        }
+
+        /**
+         * Creates the replica whose invalidation messages are sent to the other replicas through the serializer
+         * of the invalidation messages in redis
+         */
+        private TwoTierCache createReplica(List<TwoTierCache> replicas) {
+            RedisSerializer<CacheInvalidationMessage> serializer =
+                    new Jackson2JsonRedisSerializer<>(CacheInvalidationMessage.class);
+            TwoTierCache[] self = new TwoTierCache[1];
+            self[0] = new TwoTierCache(CACHE_NAME, createTaggedLocalCache(), remoteCache,
+                    new CacheInvalidationPublisher() {
+                        @Override
+                        public void publish(String cacheName, Object key) {
+                            send(CacheInvalidationMessage.ofKey("origin", cacheName, key));
+                        }
+
+                        @Override
+                        public void publishTag(String cacheName, Object tag) {
+                            send(CacheInvalidationMessage.ofTag("origin", cacheName, tag));
+                        }
+
+                        private void send(CacheInvalidationMessage message) {
+                            CacheInvalidationMessage invalidation =
+                                    serializer.deserialize(serializer.serialize(message));
+                            replicas.stream()
+                                    .filter(replica -> replica != self[0])
+                                    .forEach(replica -> {
+                                        if (invalidation.tag() != null) {
+                                            replica.invalidateLocalTag(invalidation.tag().toKey());
+                                        } else if (invalidation.isClear()) {
+                                            replica.invalidateLocal(null);
+                                        } else {
+                                            replica.invalidateLocal(invalidation.key().toKey());
+                                        }
+                                    });
+                        }
+                    },
+                    true);
+            replicas.add(self[0]);
+
+            return self[0];
+        }
+    }
+
+    /**
+     * Creates the local cache tagging the long keys by their tens
+     */
+    private static TaggedCache<Object, Object, Object> createTaggedLocalCache() {
+        return new TaggedCache<>(
+                evictionListener -> new SingleFlightCache<>(
+                        new ConcurrentLRUCache<>(16, ConcurrentLRUCache.DEFAULT_CONCURRENCY_LEVEL, evictionListener)),
+                (key, value) -> key instanceof Long id ? id / 10 : null
+        );
+    }
+
+    private static class TaggedMapCache extends ConcurrentMapCache implements TagInvalidatingCache {
+
+        private final List<Object> invalidatedTags;
+
+        private TaggedMapCache(List<Object> invalidatedTags) {
+            super(CACHE_NAME);
+            this.invalidatedTags = invalidatedTags;
+        }
+
+        @Override
+        public void invalidateTag(Object tag) {
+            invalidatedTags.add(tag);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package ru.clevertec.newsservice.integration.cache;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import org.testcontainers.containers.GenericContainer;
+
+import ru.clevertec.newsservice.cache.tag.TagInvalidatingCache;
+import ru.clevertec.newsservice.cache.tag.TaggedRedisCacheManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import static org.springframework.data.redis.cache.RedisCacheConfiguration.defaultCacheConfig;
+
+class TaggedRedisCacheManagerTest {
+
+    private static final GenericContainer<?> container = new GenericContainer<>("redis:6").withExposedPorts(6379);
+    private static final String CACHE_NAME = "comment";
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private Cache cache;
+
+    @BeforeAll
+    static void init() {
+        container.start();
+    }
+
+    @AfterAll
+    static void stop() {
+        container.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(container.getHost(), container.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+
+        RedisCacheConfiguration cacheConfiguration = defaultCacheConfig().entryTtl(Duration.ofMinutes(10));
+        TaggedRedisCacheManager cacheManager = new TaggedRedisCacheManager(connectionFactory, cacheConfiguration,
+                Map.of(), Map.of(CACHE_NAME, (key, value) -> (Long) key / 100_000));
+        cacheManager.afterPropertiesSet();
+
+        cache = cacheManager.getCache(CACHE_NAME);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cache.clear();
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void checkInvalidateTagShouldRemoveOnlyMappingsWithTag() {
+        cache.put(100_001L, "First comment of the first news");
+        cache.put(100_002L, "Second comment of the first news");
+        cache.put(200_001L, "First comment of the second news");
+
+        ((TagInvalidatingCache) cache).invalidateTag(1L);
+
+        assertAll(
+                () -> assertThat(cache.get(100_001L)).isNull(),
+                () -> assertThat(cache.get(100_002L)).isNull(),
+                () -> assertThat(cache.get(200_001L).get()).isEqualTo("First comment of the second news"),
+                () -> assertThat(redisTemplate.hasKey("comment::#tag:1")).isFalse()
+        );
+    }
+
+    @Test
+    void checkInvalidateTagShouldRemoveAllMappingsOfLargeTag() {
+        LongStream.range(100_000, 125_000).forEach(key -> cache.put(key, "Comment"));
+
+        ((TagInvalidatingCache) cache).invalidateTag(1L);
+
+        assertThat(redisTemplate.keys("comment::*")).isEmpty();
+    }
+
+    @Test
+    void checkPutShouldExpireTagSetWithMappings() {
+        cache.put(100_001L, "First comment of the first news");
+
+        Long actualTtl = redisTemplate.getExpire("comment::#tag:1");
+
+        assertThat(actualTtl).isPositive();
+    }
+}
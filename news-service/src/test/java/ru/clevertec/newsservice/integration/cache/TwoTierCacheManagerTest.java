@@ -0,0 +1,220 @@
+package ru.clevertec.newsservice.integration.cache;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.Cache.ValueWrapper;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import org.testcontainers.containers.GenericContainer;
+
+import ru.clevertec.newsservice.cache.impl.ConcurrentLRUCache;
+import ru.clevertec.newsservice.cache.impl.SingleFlightCache;
+import ru.clevertec.newsservice.cache.impl.TaggedCache;
+import ru.clevertec.newsservice.cache.key.CommentSegmentKey;
+import ru.clevertec.newsservice.cache.tag.TagInvalidatingCache;
+import ru.clevertec.newsservice.cache.tag.TaggedRedisCacheManager;
+import ru.clevertec.newsservice.cache.tiered.CacheInvalidationMessage;
+import ru.clevertec.newsservice.cache.tiered.CacheInvalidationPublisher;
+import ru.clevertec.newsservice.cache.tiered.TwoTierCacheManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TwoTierCacheManagerTest {
+
+    private static final GenericContainer<?> container = new GenericContainer<>("redis:6").withExposedPorts(6379);
+    private static final ChannelTopic TOPIC = new ChannelTopic("news-service:cache-invalidation");
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final List<Runnable> shutdownHooks = new ArrayList<>();
+    private TwoTierCacheManager firstReplica;
+    private TwoTierCacheManager secondReplica;
+
+    @BeforeAll
+    static void init() {
+        container.start();
+    }
+
+    @AfterAll
+    static void stop() {
+        container.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        firstReplica = createReplica();
+        secondReplica = createReplica();
+    }
+
+    @AfterEach
+    void tearDown() {
+        firstReplica.getCache("news").clear();
+        firstReplica.getCache("commentSegments").clear();
+        shutdownHooks.forEach(Runnable::run);
+    }
+
+    @Test
+    void checkGetShouldReturnStringWrittenByOtherReplica() {
+        firstReplica.getCache("news").put(1L, "One");
+
+        ValueWrapper actualValue = secondReplica.getCache("news").get(1L);
+
+        assertThat(actualValue.get()).isEqualTo("One");
+    }
+
+    @Test
+    void checkPutShouldInvalidateLocalCacheOfOtherReplica() throws InterruptedException {
+        Cache firstCache = firstReplica.getCache("news");
+        Cache secondCache = secondReplica.getCache("news");
+        firstCache.put(1L, "One");
+        secondCache.get(1L);
+
+        firstCache.put(1L, "Uno");
+
+        assertThat(await(() -> secondCache.get(1L).get(), "Uno")).isEqualTo("Uno");
+    }
+
+    @Test
+    void checkEvictShouldInvalidateLocalCacheOfOtherReplica() throws InterruptedException {
+        Cache firstCache = firstReplica.getCache("news");
+        Cache secondCache = secondReplica.getCache("news");
+        firstCache.put(1L, "One");
+        secondCache.get(1L);
+
+        firstCache.evict(1L);
+
+        assertThat(await(() -> secondCache.get(1L), null)).isNull();
+    }
+
+    @Test
+    void checkInvalidateTagShouldDropOnlyCommentSegmentsOfTagFromLocalCacheOfOtherReplica()
+            throws InterruptedException {
+        CommentSegmentKey key = new CommentSegmentKey(1L);
+        CommentSegmentKey otherKey = new CommentSegmentKey(2L);
+        Cache firstCache = firstReplica.getCache("commentSegments");
+        Cache secondCache = secondReplica.getCache("commentSegments");
+        firstCache.put(key, "Segment");
+        firstCache.put(otherKey, "Other segment");
+        secondCache.get(key);
+        secondCache.get(otherKey);
+
+        ((TagInvalidatingCache) firstCache).invalidateTag(1L);
+
+        assertThat(await(() -> localCacheOf(secondCache).containsKey(key), false)).isFalse();
+        assertThat(localCacheOf(secondCache).containsKey(otherKey)).isTrue();
+    }
+
+    @Test
+    void checkEvictShouldInvalidateCommentSegmentInLocalCacheOfOtherReplica() throws InterruptedException {
+        CommentSegmentKey key = new CommentSegmentKey(1L);
+        Cache firstCache = firstReplica.getCache("commentSegments");
+        Cache secondCache = secondReplica.getCache("commentSegments");
+        firstCache.put(key, "Segment");
+        secondCache.get(key);
+
+        firstCache.evict(key);
+
+        assertThat(await(() -> secondCache.get(key), null)).isNull();
+    }
+
+    @Test
+    void checkPublishShouldRemoveKeyFromRegisteredLocalCacheOfOtherReplica() throws InterruptedException {
+        ConcurrentLRUCache<Long, String> firstNotFoundCache = new ConcurrentLRUCache<>(16);
+        ConcurrentLRUCache<Long, String> secondNotFoundCache = new ConcurrentLRUCache<>(16);
+        CacheInvalidationPublisher publisher = firstReplica.registerLocalCache("news-not-found", firstNotFoundCache);
+        secondReplica.registerLocalCache("news-not-found", secondNotFoundCache);
+        secondNotFoundCache.put(1L, "News with id = [1] not found");
+        secondNotFoundCache.put(2L, "News with id = [2] not found");
+
+        publisher.publish("news-not-found", 1L);
+
+        assertThat(await(() -> secondNotFoundCache.containsKey(1L), false)).isFalse();
+        assertThat(secondNotFoundCache.containsKey(2L)).isTrue();
+    }
+
+    @Test
+    void checkOnMessageShouldIgnoreMessageNotReadAsInvalidationMessage() {
+        Cache cache = firstReplica.getCache("news");
+        cache.put(1L, "One");
+        byte[] body = RedisSerializer.java().serialize("Not a message");
+
+        firstReplica.onMessage(new DefaultMessage(TOPIC.getTopic().getBytes(UTF_8), body), null);
+
+        assertThat(localCacheOf(cache).containsKey(1L)).isTrue();
+    }
+
+    private TwoTierCacheManager createReplica() {
+        LettuceConnectionFactory connectionFactory =
+                new LettuceConnectionFactory(container.getHost(), container.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+
+        RedisTemplate<String, CacheInvalidationMessage> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(RedisSerializer.string());
+        redisTemplate.setValueSerializer(new Jackson2JsonRedisSerializer<>(CacheInvalidationMessage.class));
+        redisTemplate.afterPropertiesSet();
+
+        TaggedRedisCacheManager redisCacheManager = new TaggedRedisCacheManager(connectionFactory,
+                RedisCacheConfiguration.defaultCacheConfig(), Map.of(),
+                Map.of("commentSegments", (key, value) -> key instanceof CommentSegmentKey segmentKey
+                        ? segmentKey.newsId()
+                        : null));
+        redisCacheManager.afterPropertiesSet();
+        TwoTierCacheManager cacheManager = new TwoTierCacheManager(redisCacheManager,
+                (name, tagger) -> tagger == null
+                        ? new SingleFlightCache<>(new ConcurrentLRUCache<>(16))
+                        : new TaggedCache<>(evictionListener -> new SingleFlightCache<>(new ConcurrentLRUCache<>(16,
+                                ConcurrentLRUCache.DEFAULT_CONCURRENCY_LEVEL, evictionListener)), tagger),
+                redisTemplate, TOPIC);
+
+        RedisMessageListenerContainer listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(connectionFactory);
+        listenerContainer.addMessageListener(cacheManager, TOPIC);
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+
+        shutdownHooks.add(() -> {
+            listenerContainer.stop();
+            connectionFactory.destroy();
+        });
+
+        return cacheManager;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ru.clevertec.newsservice.cache.Cache<Object, Object> localCacheOf(Cache cache) {
+        return (ru.clevertec.newsservice.cache.Cache<Object, Object>) cache.getNativeCache();
+    }
+
+    private static <T> T await(Supplier<T> supplier, T expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        T actual = supplier.get();
+
+        while (!Objects.equals(actual, expected) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            actual = supplier.get();
+        }
+
+        return actual;
+    }
+}
@@ -423,6 +423,50 @@ public class CommentControllerTest extends BaseIntegrationTest {
         }
     }
 
+    @Nested
+    @WireMockTest(httpPort = 8081)
+    class CommentControllerSaveAllTest {
+
+        @Test
+        void checkSaveAllShouldReturnStatusMultiStatusAndResultOfEveryComment() throws Exception {
+            List<CommentRequest> commentRequests = List.of(
+                    CommentRequestTestBuilder.commentRequest().withText("Good comment").withNewsId(1L).build(),
+                    CommentRequestTestBuilder.commentRequest().withText("").withNewsId(1L).build(),
+                    CommentRequestTestBuilder.commentRequest().withText("Lost comment").withNewsId(999L).build(),
+                    CommentRequestTestBuilder.commentRequest().withText("Nice comment").withNewsId(2L).build()
+            );
+            UserResponse userResponse = UserResponseTestBuilder.userResponse()
+                    .withUsername("debbie_garcia")
+                    .withAuthorities(Collections.singletonList("ROLE_SUBSCRIBER"))
+                    .build();
+            String commentRequestsBody = objectMapper.writeValueAsString(commentRequests);
+            String userResponseBody = objectMapper.writeValueAsString(userResponse);
+
+            stubFor(WireMock.get(urlEqualTo("/api/v1/auth/validate"))
+                    .willReturn(aResponse()
+                            .withStatus(200)
+                            .withBody(userResponseBody)
+                            .withHeader(CONTENT_TYPE, APPLICATION_JSON.toString())
+                    ));
+
+            mockMvc.perform(post("/api/v1/comments/batch")
+                            .accept(APPLICATION_JSON)
+                            .contentType(APPLICATION_JSON)
+                            .content(commentRequestsBody))
+                    .andExpect(status().isMultiStatus())
+                    .andExpect(jsonPath("$.created").value(2))
+                    .andExpect(jsonPath("$.failed").value(2))
+                    .andExpect(jsonPath("$.items[0].status").value(201))
+                    .andExpect(jsonPath("$.items[0].result.news.id").value(1))
+                    .andExpect(jsonPath("$.items[1].status").value(400))
+                    .andExpect(jsonPath("$.items[1].errors[0]").value("Comment text cannot be empty"))
+                    .andExpect(jsonPath("$.items[2].status").value(404))
+                    .andExpect(jsonPath("$.items[2].errors[0]").value("News with id = [999] not found"))
+                    .andExpect(jsonPath("$.items[3].status").value(201))
+                    .andExpect(jsonPath("$.items[3].result.username").value("debbie_garcia"));
+        }
+    }
+
     @Nested
     @WireMockTest(httpPort = 8081)
     class CommentControllerUpdateTest {
@@ -14,6 +14,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import ru.clevertec.newsservice.dto.request.news.NewsRequest;
 import ru.clevertec.newsservice.dto.request.news.NewsTextRequest;
@@ -35,14 +36,19 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
 import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @AutoConfigureMockMvc
@@ -530,6 +536,66 @@ public class NewsControllerTest extends BaseIntegrationTest {
         }
     }
 
+    @Nested
+    @WireMockTest(httpPort = 8081)
+    class NewsControllerExportTest {
+
+        @Test
+        void checkExportShouldReturnStatusOkAndNewsChangedSinceTimeAsLines() throws Exception {
+            UserResponse userResponse = UserResponseTestBuilder.userResponse()
+                    .withUsername("erik_gibson")
+                    .withAuthorities(Collections.singletonList("ROLE_ADMIN"))
+                    .build();
+            String userResponseBody = objectMapper.writeValueAsString(userResponse);
+
+            stubFor(WireMock.get(urlEqualTo("/api/v1/auth/validate"))
+                    .willReturn(aResponse()
+                            .withStatus(200)
+                            .withBody(userResponseBody)
+                            .withHeader(CONTENT_TYPE, APPLICATION_JSON.toString())
+                    ));
+
+            MvcResult mvcResult = mockMvc.perform(get("/api/v1/news/export")
+                            .header(AUTHORIZATION, "Bearer admin-token")
+                            .param("since", "2023-06-04T00:00:00"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            mockMvc.perform(asyncDispatch(mvcResult))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(APPLICATION_NDJSON))
+                    .andExpect(result -> assertThat(result.getResponse().getContentAsString().lines())
+                            .hasSize(3)
+                            .allSatisfy(line -> assertThat(line).startsWith("{\"id\":")));
+        }
+
+        @Test
+        void checkExportShouldReturnStatusForbiddenForJournalist() throws Exception {
+            UserResponse userResponse = UserResponseTestBuilder.userResponse()
+                    .withUsername("thomas_martinez")
+                    .withAuthorities(Collections.singletonList("ROLE_JOURNALIST"))
+                    .build();
+            String userResponseBody = objectMapper.writeValueAsString(userResponse);
+
+            stubFor(WireMock.get(urlEqualTo("/api/v1/auth/validate"))
+                    .willReturn(aResponse()
+                            .withStatus(200)
+                            .withBody(userResponseBody)
+                            .withHeader(CONTENT_TYPE, APPLICATION_JSON.toString())
+                    ));
+
+            mockMvc.perform(get("/api/v1/news/export")
+                            .header(AUTHORIZATION, "Bearer journalist-token"))
+                    .andExpect(status().isForbidden());
+        }
+
+        @Test
+        void checkExportShouldReturnStatusUnauthorizedWithoutToken() throws Exception {
+            mockMvc.perform(get("/api/v1/news/export"))
+                    .andExpect(status().isUnauthorized());
+        }
+    }
+
     @Nested
     @WireMockTest(httpPort = 8081)
     class NewsControllerSaveTest {
@@ -656,6 +722,91 @@ public class NewsControllerTest extends BaseIntegrationTest {
         }
     }
 
+    @Nested
+    @WireMockTest(httpPort = 8081)
+    class NewsControllerSaveAllTest {
+
+        @Test
+        void checkSaveAllShouldReturnStatusCreatedAndCreatedNews() throws Exception {
+            List<NewsRequest> newsRequests = List.of(
+                    NewsRequestTestBuilder.newsRequest().withTitle("First title").withText("First news").build(),
+                    NewsRequestTestBuilder.newsRequest().withTitle("Second title").withText("Second news").build()
+            );
+            String newsRequestsBody = objectMapper.writeValueAsString(newsRequests);
+
+            stubValidate("thomas_martinez", "ROLE_JOURNALIST");
+
+            mockMvc.perform(post("/api/v1/news/batch")
+                            .accept(APPLICATION_JSON)
+                            .contentType(APPLICATION_JSON)
+                            .content(newsRequestsBody))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.created").value(2))
+                    .andExpect(jsonPath("$.failed").value(0))
+                    .andExpect(jsonPath("$.items[1].result.title").value("Second title"))
+                    .andExpect(jsonPath("$.items[1].result.username").value("thomas_martinez"));
+        }
+
+        @Test
+        void checkSaveAllShouldReturnStatusMultiStatusAndErrorsOfInvalidNews() throws Exception {
+            List<NewsRequest> newsRequests = List.of(
+                    NewsRequestTestBuilder.newsRequest().withTitle("News title").withText("Good news").build(),
+                    NewsRequestTestBuilder.newsRequest().withText("Good news").build()
+            );
+            String newsRequestsBody = objectMapper.writeValueAsString(newsRequests);
+
+            stubValidate("thomas_martinez", "ROLE_JOURNALIST");
+
+            mockMvc.perform(post("/api/v1/news/batch")
+                            .accept(APPLICATION_JSON)
+                            .contentType(APPLICATION_JSON)
+                            .content(newsRequestsBody))
+                    .andExpect(status().isMultiStatus())
+                    .andExpect(jsonPath("$.created").value(1))
+                    .andExpect(jsonPath("$.failed").value(1))
+                    .andExpect(jsonPath("$.items[0].status").value(201))
+                    .andExpect(jsonPath("$.items[1].status").value(400))
+                    .andExpect(jsonPath("$.items[1].errors[0]").value("News title cannot be empty"));
+        }
+
+        @Test
+        void checkSaveAllShouldReturnStatusBadRequestAndMessageBatchEmpty() throws Exception {
+            stubValidate("thomas_martinez", "ROLE_JOURNALIST");
+
+            mockMvc.perform(post("/api/v1/news/batch")
+                            .accept(APPLICATION_JSON)
+                            .contentType(APPLICATION_JSON)
+                            .content("[]"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value("Batch cannot be empty"));
+        }
+
+        @Test
+        void checkSaveAllShouldReturnStatusForbiddenAndMessageAccessDenied() throws Exception {
+            stubValidate("debbie_garcia", "ROLE_SUBSCRIBER");
+
+            mockMvc.perform(post("/api/v1/news/batch")
+                            .accept(APPLICATION_JSON)
+                            .contentType(APPLICATION_JSON)
+                            .content("[]"))
+                    .andExpect(status().isForbidden());
+        }
+
+        private void stubValidate(String username, String authority) throws Exception {
+            UserResponse userResponse = UserResponseTestBuilder.userResponse()
+                    .withUsername(username)
+                    .withAuthorities(Collections.singletonList(authority))
+                    .build();
+
+            stubFor(WireMock.get(urlEqualTo("/api/v1/auth/validate"))
+                    .willReturn(aResponse()
+                            .withStatus(200)
+                            .withBody(objectMapper.writeValueAsString(userResponse))
+                            .withHeader(CONTENT_TYPE, APPLICATION_JSON.toString())
+                    ));
+        }
+    }
+
     @Nested
     @WireMockTest(httpPort = 8081)
     class NewsControllerUpdateTest {
@@ -0,0 +1,71 @@
+package ru.clevertec.newsservice.integration.controller;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+
+import ru.clevertec.newsservice.integration.BaseIntegrationTest;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Counts the statements prepared by Hibernate for the read endpoints, so a lazy association touched
+ * while mapping a response fails the test instead of adding a query per row
+ */
+@AutoConfigureMockMvc
+public class QueryCountTest extends BaseIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideUrisAndExpectedStatementCounts")
+    void checkGetShouldPrepareExpectedStatementCount(String uri, long expectedCount) throws Exception {
+        mockMvc.perform(get(uri)
+                        .accept(APPLICATION_JSON))
+                .andExpect(status().isOk());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(expectedCount);
+    }
+
+    private static Stream<Arguments> provideUrisAndExpectedStatementCounts() {
+        return Stream.of(
+                arguments("/api/v1/news/3", 2),
+                arguments("/api/v1/news?commentText=great", 1),
+                arguments("/api/v1/news?commentUsername=a", 1),
+                arguments("/api/v1/news/3/comments", 1),
+                arguments("/api/v1/news/3/comments/4", 1),
+                arguments("/api/v1/comments/4", 1),
+                arguments("/api/v1/comments", 1)
+        );
+    }
+}
@@ -0,0 +1,134 @@
+package ru.clevertec.newsservice.integration.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import ru.clevertec.newsservice.dto.request.token.TokenRevocationRequest;
+import ru.clevertec.newsservice.dto.response.user.UserResponse;
+import ru.clevertec.newsservice.integration.BaseIntegrationTest;
+import ru.clevertec.newsservice.util.request.TokenRevocationRequestTestBuilder;
+import ru.clevertec.newsservice.util.response.UserResponseTestBuilder;
+
+import java.util.Collections;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+@WireMockTest(httpPort = 8081)
+@TestPropertySource(properties = "security.jwt.cache.enabled=true")
+public class TokenControllerTest extends BaseIntegrationTest {
+
+    private static final String VALIDATE_URL = "/api/v1/auth/validate";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void checkRevokeShouldReturnStatusOkAndValidateRevokedTokenAgain() throws Exception {
+        TokenRevocationRequest tokenRevocationRequest = TokenRevocationRequestTestBuilder.tokenRevocationRequest()
+                .withToken("revoked-token")
+                .build();
+        String tokenRevocationRequestBody = objectMapper.writeValueAsString(tokenRevocationRequest);
+        stubValidate("erik_gibson", "ROLE_ADMIN");
+
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(post("/api/v1/tokens/revoke")
+                            .header(AUTHORIZATION, "Bearer revoked-token")
+                            .contentType(APPLICATION_JSON)
+                            .content(tokenRevocationRequestBody))
+                    .andExpect(status().isOk());
+        }
+
+        WireMock.verify(2, getRequestedFor(urlEqualTo(VALIDATE_URL)));
+    }
+
+    @Test
+    void checkRevokeShouldReturnStatusOkAndKeepOtherTokensCached() throws Exception {
+        TokenRevocationRequest tokenRevocationRequest = TokenRevocationRequestTestBuilder.tokenRevocationRequest()
+                .withToken("other-token")
+                .build();
+        String tokenRevocationRequestBody = objectMapper.writeValueAsString(tokenRevocationRequest);
+        stubValidate("erik_gibson", "ROLE_ADMIN");
+
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(post("/api/v1/tokens/revoke")
+                            .header(AUTHORIZATION, "Bearer cached-token")
+                            .contentType(APPLICATION_JSON)
+                            .content(tokenRevocationRequestBody))
+                    .andExpect(status().isOk());
+        }
+
+        WireMock.verify(1, getRequestedFor(urlEqualTo(VALIDATE_URL)));
+    }
+
+    @Test
+    void checkRevokeAllShouldReturnStatusOkAndValidateTokenAgain() throws Exception {
+        stubValidate("erik_gibson", "ROLE_ADMIN");
+
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(post("/api/v1/tokens/revoke-all")
+                            .header(AUTHORIZATION, "Bearer revoke-all-token"))
+                    .andExpect(status().isOk());
+        }
+
+        WireMock.verify(2, getRequestedFor(urlEqualTo(VALIDATE_URL)));
+    }
+
+    @Test
+    void checkRevokeShouldReturnStatusBadRequestWhenTokenIsBlank() throws Exception {
+        TokenRevocationRequest tokenRevocationRequest = TokenRevocationRequestTestBuilder.tokenRevocationRequest()
+                .withToken(" ")
+                .build();
+        stubValidate("erik_gibson", "ROLE_ADMIN");
+
+        mockMvc.perform(post("/api/v1/tokens/revoke")
+                        .header(AUTHORIZATION, "Bearer blank-token")
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(tokenRevocationRequest)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void checkRevokeAllShouldReturnStatusForbiddenForSubscriber() throws Exception {
+        stubValidate("debbie_garcia", "ROLE_SUBSCRIBER");
+
+        mockMvc.perform(post("/api/v1/tokens/revoke-all")
+                        .header(AUTHORIZATION, "Bearer subscriber-token"))
+                .andExpect(status().isForbidden());
+    }
+
+    private void stubValidate(String username, String authority) throws Exception {
+        UserResponse userResponse = UserResponseTestBuilder.userResponse()
+                .withUsername(username)
+                .withAuthorities(Collections.singletonList(authority))
+                .build();
+
+        stubFor(WireMock.get(urlEqualTo(VALIDATE_URL))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withBody(objectMapper.writeValueAsString(userResponse))
+                        .withHeader(CONTENT_TYPE, APPLICATION_JSON.toString())
+                ));
+    }
+}
@@ -9,23 +9,30 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 
+import ru.clevertec.newsservice.dto.response.comment.CommentResponse;
 import ru.clevertec.newsservice.entity.Comment;
 import ru.clevertec.newsservice.integration.BaseIntegrationTest;
 import ru.clevertec.newsservice.repository.CommentRepository;
+import ru.clevertec.newsservice.repository.projection.NewsCommentProjection;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
 import static org.springframework.data.domain.Sort.Direction.ASC;
 import static org.springframework.data.domain.Sort.Direction.DESC;
 
+import static ru.clevertec.newsservice.repository.specification.SubstringSpecifications.commentsContaining;
+
 class CommentRepositoryTest extends BaseIntegrationTest {
 
     @Autowired
@@ -39,7 +46,7 @@ class CommentRepositoryTest extends BaseIntegrationTest {
         void checkFindAllByNewsIdShouldReturnSize(Long newsId, int expectedSize) {
             Pageable pageable = Pageable.unpaged();
 
-            List<Comment> actualComments = commentRepository.findAllByNewsId(newsId, pageable);
+            List<CommentResponse> actualComments = commentRepository.findAllByNewsId(newsId, pageable);
 
             assertThat(actualComments).hasSize(expectedSize);
         }
@@ -49,9 +56,9 @@ class CommentRepositoryTest extends BaseIntegrationTest {
         void checkFindAllByNewsIdShouldReturnCommentIds(Long newsId, List<Long> expectedCommentIds) {
             Pageable pageable = Pageable.unpaged();
 
-            List<Comment> actualComments = commentRepository.findAllByNewsId(newsId, pageable);
+            List<CommentResponse> actualComments = commentRepository.findAllByNewsId(newsId, pageable);
             List<Long> actualCommentIds = actualComments.stream()
-                    .map(Comment::getId)
+                    .map(CommentResponse::getId)
                     .toList();
 
             assertThat(actualCommentIds).containsAll(expectedCommentIds);
@@ -60,7 +67,7 @@ class CommentRepositoryTest extends BaseIntegrationTest {
         @ParameterizedTest
         @MethodSource("provideNewsIdAndPaginationParamsAndExpectedSizes")
         void checkFindAllByNewsIdShouldReturnSizeByPaginationParams(Long newsId, Pageable pageable, int expectedSize) {
-            List<Comment> actualComments = commentRepository.findAllByNewsId(newsId, pageable);
+            List<CommentResponse> actualComments = commentRepository.findAllByNewsId(newsId, pageable);
 
             assertThat(actualComments).hasSize(expectedSize);
         }
@@ -68,9 +75,9 @@ class CommentRepositoryTest extends BaseIntegrationTest {
         @ParameterizedTest
         @MethodSource("provideNewsIdAndSortingParamsAndCommentIds")
         void checkFindAllByNewsIdShouldReturnCommentIdsBySortingParams(Long newsId, Pageable pageable, Long[] commentIds) {
-            List<Comment> actualComments = commentRepository.findAllByNewsId(newsId, pageable);
+            List<CommentResponse> actualComments = commentRepository.findAllByNewsId(newsId, pageable);
             List<Long> actualCommentIds = actualComments.stream()
-                    .map(Comment::getId)
+                    .map(CommentResponse::getId)
                     .toList();
 
             assertThat(actualCommentIds).containsExactly(commentIds);
@@ -79,7 +86,7 @@ class CommentRepositoryTest extends BaseIntegrationTest {
         @ParameterizedTest
         @MethodSource("provideNewsIdAndPaginationParamsEmptyComments")
         void checkFindAllByNewsIdShouldReturnEmptyCommentsByPaginationParams(Long newsId, Pageable pageable) {
-            List<Comment> actualComments = commentRepository.findAllByNewsId(newsId, pageable);
+            List<CommentResponse> actualComments = commentRepository.findAllByNewsId(newsId, pageable);
 
             assertThat(actualComments).isEmpty();
         }
@@ -89,7 +96,7 @@ class CommentRepositoryTest extends BaseIntegrationTest {
             Long newsId = 11L;
             Pageable pageable = Pageable.unpaged();
 
-            List<Comment> actualComments = commentRepository.findAllByNewsId(newsId, pageable);
+            List<CommentResponse> actualComments = commentRepository.findAllByNewsId(newsId, pageable);
 
             assertThat(actualComments).isEmpty();
         }
@@ -192,21 +199,24 @@ class CommentRepositoryTest extends BaseIntegrationTest {
     }
 
     @Nested
-    class CommentRepositoryFindByIdAndNewsIdTest {
+    class CommentRepositoryFindNewsCommentByIdAndNewsIdTest {
 
         @ParameterizedTest
         @MethodSource("provideCommentIdAndNewsIdComments")
-        void checkFindByIdAndNewsIdShouldReturnComment(Long commentId, Long newsId) {
-            Optional<Comment> actualComment = commentRepository.findByIdAndNewsId(commentId, newsId);
+        void checkFindNewsCommentByIdAndNewsIdShouldReturnComment(Long commentId, Long newsId) {
+            Optional<NewsCommentProjection> actualComment = commentRepository.findNewsCommentByIdAndNewsId(commentId,
+                    newsId);
 
             assertThat(actualComment).isPresent();
-            assertThat(actualComment.get().getId()).isEqualTo(commentId);
+            assertThat(actualComment.get().id()).isEqualTo(commentId);
+            assertThat(actualComment.get().newsId()).isEqualTo(newsId);
         }
 
         @ParameterizedTest
         @MethodSource("provideCommentIdAndNewsIdNotPresentComments")
-        void checkFindByIdAndNewsIdShouldReturnNotPresentComment(Long commentId, Long newsId) {
-            Optional<Comment> actualComment = commentRepository.findByIdAndNewsId(commentId, newsId);
+        void checkFindNewsCommentByIdAndNewsIdShouldReturnNotPresentComment(Long commentId, Long newsId) {
+            Optional<NewsCommentProjection> actualComment = commentRepository.findNewsCommentByIdAndNewsId(commentId,
+                    newsId);
 
             assertThat(actualComment).isNotPresent();
         }
@@ -256,4 +266,92 @@ class CommentRepositoryTest extends BaseIntegrationTest {
             );
         }
     }
+
+    @Nested
+    class CommentRepositoryFindNewsCommentByIdTest {
+
+        @Test
+        void checkFindNewsCommentByIdShouldReturnCommentWithNews() {
+            Optional<NewsCommentProjection> actualComment = commentRepository.findNewsCommentById(4L);
+
+            assertThat(actualComment).hasValueSatisfying(comment -> assertAll(
+                    () -> assertThat(comment.id()).isEqualTo(4L),
+                    () -> assertThat(comment.newsId()).isEqualTo(3L),
+                    () -> assertThat(comment.newsCommentCount()).isEqualTo(3L)
+            ));
+        }
+
+        @Test
+        void checkFindNewsCommentByIdShouldReturnNotPresentComment() {
+            Optional<NewsCommentProjection> actualComment = commentRepository.findNewsCommentById(100L);
+
+            assertThat(actualComment).isNotPresent();
+        }
+    }
+
+    @Nested
+    class CommentRepositoryFindResponseSliceTest {
+
+        @Test
+        void checkFindResponseSliceShouldReturnMatchingCommentResponses() {
+            Comment comment = new Comment();
+            comment.setUsername("GARCIA");
+
+            Slice<CommentResponse> actualComments = commentRepository.findResponseSlice(commentsContaining(comment),
+                    PageRequest.of(0, 5, Sort.by(ASC, "id")));
+
+            assertThat(actualComments.getContent())
+                    .extracting(CommentResponse::getUsername)
+                    .containsOnly("debbie_garcia");
+        }
+    }
+
+    @Nested
+    class CommentRepositoryFindAllByKeysetTest {
+
+        @Test
+        void checkFindAllByOrderByTimeDescIdDescShouldReturnNewestCommentIds() {
+            List<CommentResponse> actualComments = commentRepository.findAllByOrderByTimeDescIdDesc(PageRequest.ofSize(4));
+            List<Long> actualCommentIds = actualComments.stream()
+                    .map(CommentResponse::getId)
+                    .toList();
+
+            assertThat(actualCommentIds).containsExactly(1L, 3L, 2L, 7L);
+        }
+
+        @Test
+        void checkFindAllBeforeShouldReturnCommentIdsFollowingPosition() {
+            LocalDateTime time = LocalDateTime.of(2023, 6, 4, 23, 7, 21);
+
+            List<CommentResponse> actualComments = commentRepository.findAllBefore(time, 7L, PageRequest.ofSize(10));
+            List<Long> actualCommentIds = actualComments.stream()
+                    .map(CommentResponse::getId)
+                    .toList();
+
+            assertThat(actualCommentIds).containsExactly(8L, 6L, 5L, 4L, 10L, 9L);
+        }
+
+        @Test
+        void checkFindAllByNewsIdOrderByTimeAscIdAscShouldReturnOldestCommentIds() {
+            List<CommentResponse> actualComments = commentRepository.findAllByNewsIdOrderByTimeAscIdAsc(3L,
+                    PageRequest.ofSize(2));
+            List<Long> actualCommentIds = actualComments.stream()
+                    .map(CommentResponse::getId)
+                    .toList();
+
+            assertThat(actualCommentIds).containsExactly(4L, 5L);
+        }
+
+        @Test
+        void checkFindAllByNewsIdAfterShouldReturnCommentIdsFollowingPosition() {
+            LocalDateTime time = LocalDateTime.of(2023, 6, 2, 10, 21, 43);
+
+            List<CommentResponse> actualComments = commentRepository.findAllByNewsIdAfter(3L, time, 5L, PageRequest.ofSize(2));
+            List<Long> actualCommentIds = actualComments.stream()
+                    .map(CommentResponse::getId)
+                    .toList();
+
+            assertThat(actualCommentIds).containsExactly(6L);
+        }
+    }
 }
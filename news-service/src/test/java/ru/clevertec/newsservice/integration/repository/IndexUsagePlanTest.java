@@ -0,0 +1,63 @@
+package ru.clevertec.newsservice.integration.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import ru.clevertec.newsservice.integration.BaseIntegrationTest;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+/**
+ * Checks the plans of the queries run by the repositories on comments of a news and in the listing order.
+ * The test data is too small for the planner to prefer an index, so sequential scans are disabled for the
+ * transaction of every test
+ */
+class IndexUsagePlanTest extends BaseIntegrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("set local enable_seqscan = off");
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideQueriesAndIndexes")
+    void checkQueryShouldUseIndex(String query, String index) {
+        List<String> plan = jdbcTemplate.queryForList("explain " + query, String.class);
+
+        assertThat(plan).anyMatch(line -> line.contains(index));
+    }
+
+    private static Stream<Arguments> provideQueriesAndIndexes() {
+        return Stream.of(
+                arguments("select * from comments where news_id = 3",
+                        "idx_comments_news_id_time_id"),
+                arguments("select * from comments where news_id = 3 order by time, id limit 2",
+                        "idx_comments_news_id_time_id"),
+                arguments("""
+                        select * from comments
+                        where news_id = 3 and time >= '2023-06-01' and (time > '2023-06-01' or id > 4)
+                        order by time, id limit 2""", "idx_comments_news_id_time_id"),
+                arguments("select * from comments order by time desc, id desc limit 2",
+                        "idx_comments_time_id"),
+                arguments("select * from news order by time desc, id desc limit 2",
+                        "idx_news_time_id"),
+                arguments("""
+                        select * from news
+                        where time <= '2023-06-01' and (time < '2023-06-01' or id < 2)
+                        order by time desc, id desc limit 2""", "idx_news_time_id")
+        );
+    }
+}
@@ -9,27 +9,40 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
 
+import ru.clevertec.newsservice.dto.response.news.NewsResponse;
 import ru.clevertec.newsservice.entity.News;
 import ru.clevertec.newsservice.integration.BaseIntegrationTest;
 import ru.clevertec.newsservice.repository.NewsRepository;
+import ru.clevertec.newsservice.repository.projection.NewsExportRow;
+import ru.clevertec.newsservice.repository.projection.NewsSearchHit;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
 import static org.springframework.data.domain.Sort.Direction.ASC;
 import static org.springframework.data.domain.Sort.Direction.DESC;
 
+import static ru.clevertec.newsservice.repository.specification.SubstringSpecifications.newsContaining;
+
 class NewsRepositoryTest extends BaseIntegrationTest {
 
     @Autowired
     private NewsRepository newsRepository;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Nested
     class NewsRepositoryFindAllByCommentsTextContainingIgnoreCaseTest {
 
@@ -38,7 +51,7 @@ class NewsRepositoryTest extends BaseIntegrationTest {
         void checkFindAllByCommentsTextContainingIgnoreCaseShouldReturnSize(String commentsText, int expectedSize) {
             Pageable pageable = Pageable.unpaged();
 
-            List<News> actualNews = newsRepository.findAllByCommentsTextContainingIgnoreCase(commentsText, pageable);
+            List<NewsResponse> actualNews = newsRepository.findAllByCommentsTextContainingIgnoreCase(commentsText, pageable);
 
             assertThat(actualNews).hasSize(expectedSize);
         }
@@ -48,9 +61,9 @@ class NewsRepositoryTest extends BaseIntegrationTest {
         void checkFindAllByCommentsTextContainingIgnoreShouldCaseReturnNewsIds(String commentsText, List<Long> newsIds) {
             Pageable pageable = Pageable.unpaged();
 
-            List<News> actualNews = newsRepository.findAllByCommentsTextContainingIgnoreCase(commentsText, pageable);
+            List<NewsResponse> actualNews = newsRepository.findAllByCommentsTextContainingIgnoreCase(commentsText, pageable);
             List<Long> actualNewsIds = actualNews.stream()
-                    .map(News::getId)
+                    .map(NewsResponse::getId)
                     .toList();
 
             assertThat(actualNewsIds).containsAll(newsIds);
@@ -61,7 +74,7 @@ class NewsRepositoryTest extends BaseIntegrationTest {
         void checkFindAllByCommentsTextContainingIgnoreCaseShouldReturnSizeByPaginationParams(String commentsText,
                                                                                               Pageable pageable,
                                                                                               int expectedSize) {
-            List<News> actualNews = newsRepository.findAllByCommentsTextContainingIgnoreCase(commentsText, pageable);
+            List<NewsResponse> actualNews = newsRepository.findAllByCommentsTextContainingIgnoreCase(commentsText, pageable);
 
             assertThat(actualNews).hasSize(expectedSize);
         }
@@ -71,9 +84,9 @@ class NewsRepositoryTest extends BaseIntegrationTest {
         void checkFindAllByCommentsTextContainingIgnoreCaseShouldReturnCommentIdsBySortingParams(String commentsText,
                                                                                                  Pageable pageable,
                                                                                                  Long[] newsIds) {
-            List<News> actualNews = newsRepository.findAllByCommentsTextContainingIgnoreCase(commentsText, pageable);
+            List<NewsResponse> actualNews = newsRepository.findAllByCommentsTextContainingIgnoreCase(commentsText, pageable);
             List<Long> actualNewsIds = actualNews.stream()
-                    .map(News::getId)
+                    .map(NewsResponse::getId)
                     .toList();
 
             assertThat(actualNewsIds).containsExactly(newsIds);
@@ -83,7 +96,7 @@ class NewsRepositoryTest extends BaseIntegrationTest {
         @MethodSource("provideCommentsTextAndPaginationParamsEmptyNews")
         void checkFindAllByCommentsTextContainingIgnoreCaseShouldReturnEmptyNewsByPaginationParams(String commentsText,
                                                                                                    Pageable pageable) {
-            List<News> actualNews = newsRepository.findAllByCommentsTextContainingIgnoreCase(commentsText, pageable);
+            List<NewsResponse> actualNews = newsRepository.findAllByCommentsTextContainingIgnoreCase(commentsText, pageable);
 
             assertThat(actualNews).isEmpty();
         }
@@ -93,7 +106,7 @@ class NewsRepositoryTest extends BaseIntegrationTest {
             String commentsText = "Good news";
             Pageable pageable = Pageable.unpaged();
 
-            List<News> actualNews = newsRepository.findAllByCommentsTextContainingIgnoreCase(commentsText, pageable);
+            List<NewsResponse> actualNews = newsRepository.findAllByCommentsTextContainingIgnoreCase(commentsText, pageable);
 
             assertThat(actualNews).isEmpty();
         }
@@ -189,7 +202,7 @@ class NewsRepositoryTest extends BaseIntegrationTest {
         void checkFindAllByCommentsUsernameContainingIgnoreCaseShouldReturnSize(String commentsUsername, int expectedSize) {
             Pageable pageable = Pageable.unpaged();
 
-            List<News> actualNews = newsRepository.findAllByCommentsUsernameContainingIgnoreCase(commentsUsername, pageable);
+            List<NewsResponse> actualNews = newsRepository.findAllByCommentsUsernameContainingIgnoreCase(commentsUsername, pageable);
 
             assertThat(actualNews).hasSize(expectedSize);
         }
@@ -199,9 +212,9 @@ class NewsRepositoryTest extends BaseIntegrationTest {
         void checkFindAllByCommentsUsernameContainingIgnoreShouldCaseReturnNewsIds(String commentsUsername, List<Long> newsIds) {
             Pageable pageable = Pageable.unpaged();
 
-            List<News> actualNews = newsRepository.findAllByCommentsUsernameContainingIgnoreCase(commentsUsername, pageable);
+            List<NewsResponse> actualNews = newsRepository.findAllByCommentsUsernameContainingIgnoreCase(commentsUsername, pageable);
             List<Long> actualNewsIds = actualNews.stream()
-                    .map(News::getId)
+                    .map(NewsResponse::getId)
                     .toList();
 
             assertThat(actualNewsIds).containsAll(newsIds);
@@ -212,7 +225,7 @@ class NewsRepositoryTest extends BaseIntegrationTest {
         void checkFindAllByCommentsUsernameContainingIgnoreCaseShouldReturnSizeByPaginationParams(String commentsUsername,
                                                                                                   Pageable pageable,
                                                                                                   int expectedSize) {
-            List<News> actualNews = newsRepository.findAllByCommentsUsernameContainingIgnoreCase(commentsUsername, pageable);
+            List<NewsResponse> actualNews = newsRepository.findAllByCommentsUsernameContainingIgnoreCase(commentsUsername, pageable);
 
             assertThat(actualNews).hasSize(expectedSize);
         }
@@ -222,9 +235,9 @@ class NewsRepositoryTest extends BaseIntegrationTest {
         void checkFindAllByCommentsUsernameContainingIgnoreCaseShouldReturnCommentIdsBySortingParams(String commentsUsername,
                                                                                                      Pageable pageable,
                                                                                                      Long[] newsIds) {
-            List<News> actualNews = newsRepository.findAllByCommentsUsernameContainingIgnoreCase(commentsUsername, pageable);
+            List<NewsResponse> actualNews = newsRepository.findAllByCommentsUsernameContainingIgnoreCase(commentsUsername, pageable);
             List<Long> actualNewsIds = actualNews.stream()
-                    .map(News::getId)
+                    .map(NewsResponse::getId)
                     .toList();
 
             assertThat(actualNewsIds).containsExactly(newsIds);
@@ -234,7 +247,7 @@ class NewsRepositoryTest extends BaseIntegrationTest {
         @MethodSource("provideCommentsUsernameAndPaginationParamsEmptyNews")
         void checkFindAllByCommentsUsernameContainingIgnoreCaseShouldReturnEmptyNewsByPaginationParams(String commentsUsername,
                                                                                                        Pageable pageable) {
-            List<News> actualNews = newsRepository.findAllByCommentsUsernameContainingIgnoreCase(commentsUsername, pageable);
+            List<NewsResponse> actualNews = newsRepository.findAllByCommentsUsernameContainingIgnoreCase(commentsUsername, pageable);
 
             assertThat(actualNews).isEmpty();
         }
@@ -244,7 +257,7 @@ class NewsRepositoryTest extends BaseIntegrationTest {
             String commentsUsername = "alex";
             Pageable pageable = Pageable.unpaged();
 
-            List<News> actualNews = newsRepository.findAllByCommentsUsernameContainingIgnoreCase(commentsUsername, pageable);
+            List<NewsResponse> actualNews = newsRepository.findAllByCommentsUsernameContainingIgnoreCase(commentsUsername, pageable);
 
             assertThat(actualNews).isEmpty();
         }
@@ -328,4 +341,336 @@ class NewsRepositoryTest extends BaseIntegrationTest {
             );
         }
     }
+
+    @Nested
+    class NewsRepositoryFindAllByKeysetTest {
+
+        @Test
+        void checkFindAllByOrderByTimeDescIdDescShouldReturnNewestNewsIds() {
+            List<NewsResponse> actualNews = newsRepository.findAllByOrderByTimeDescIdDesc(PageRequest.ofSize(3));
+            List<Long> actualNewsIds = actualNews.stream()
+                    .map(NewsResponse::getId)
+                    .toList();
+
+            assertThat(actualNewsIds).containsExactly(2L, 1L, 5L);
+        }
+
+        @Test
+        void checkFindAllBeforeShouldReturnNewsIdsFollowingPosition() {
+            LocalDateTime time = LocalDateTime.of(2023, 6, 5, 11, 45, 32);
+
+            List<NewsResponse> actualNews = newsRepository.findAllBefore(time, 1L, PageRequest.ofSize(3));
+            List<Long> actualNewsIds = actualNews.stream()
+                    .map(NewsResponse::getId)
+                    .toList();
+
+            assertThat(actualNewsIds).containsExactly(5L, 4L, 3L);
+        }
+
+        @Test
+        void checkFindAllBeforeShouldBreakTimeTieById() {
+            LocalDateTime time = LocalDateTime.of(2023, 6, 5, 11, 45, 32);
+
+            List<NewsResponse> actualNews = newsRepository.findAllBefore(time, 2L, PageRequest.ofSize(1));
+            List<Long> actualNewsIds = actualNews.stream()
+                    .map(NewsResponse::getId)
+                    .toList();
+
+            assertThat(actualNewsIds).containsExactly(1L);
+        }
+    }
+
+    @Nested
+    class NewsRepositoryStreamExportTest {
+
+        @Test
+        void checkStreamExportShouldReturnRowsOfEveryNewsInOrderOfIds() {
+            List<Long> actualNewsIds;
+
+            try (Stream<NewsExportRow> rows = newsRepository.streamExport()) {
+                actualNewsIds = rows.map(NewsExportRow::id).toList();
+            }
+
+            assertThat(actualNewsIds).containsExactly(1L, 1L, 2L, 3L, 3L, 3L, 4L, 4L, 5L, 5L);
+        }
+
+        @Test
+        void checkStreamExportShouldReturnCommentsOfNewsInOrderOfTime() {
+            List<Long> actualCommentIds;
+
+            try (Stream<NewsExportRow> rows = newsRepository.streamExport()) {
+                actualCommentIds = rows.filter(row -> row.id() == 1L)
+                        .map(NewsExportRow::commentId)
+                        .toList();
+            }
+
+            assertThat(actualCommentIds).containsExactly(2L, 1L);
+        }
+
+        @Test
+        void checkStreamExportSinceShouldReturnRowsOfNewsSavedOrCommentedSinceTime() {
+            LocalDateTime since = LocalDateTime.of(2023, 6, 4, 0, 0);
+            List<Long> actualNewsIds;
+
+            try (Stream<NewsExportRow> rows = newsRepository.streamExportSince(since)) {
+                actualNewsIds = rows.map(NewsExportRow::id).toList();
+            }
+
+            assertThat(actualNewsIds).containsExactly(1L, 1L, 2L, 4L, 4L);
+        }
+
+        @Test
+        void checkStreamExportSinceShouldReturnEmptyRows() {
+            try (Stream<NewsExportRow> rows = newsRepository.streamExportSince(LocalDateTime.of(2024, 1, 1, 0, 0))) {
+                assertThat(rows).isEmpty();
+            }
+        }
+    }
+
+    @Nested
+    class NewsRepositoryFindResponseByIdTest {
+
+        @Test
+        void checkFindResponseByIdShouldReturnNewsResponse() {
+            Optional<NewsResponse> actualNews = newsRepository.findResponseById(1L);
+
+            assertThat(actualNews).hasValueSatisfying(news -> assertAll(
+                    () -> assertThat(news.getTitle()).startsWith("Vision Pro"),
+                    () -> assertThat(news.getTime()).isEqualTo(LocalDateTime.of(2023, 6, 5, 11, 45, 32)),
+                    () -> assertThat(news.getUsername()).isEqualTo("thomas_martinez"),
+                    () -> assertThat(news.getCommentCount()).isEqualTo(2L)
+            ));
+        }
+
+        @Test
+        void checkFindResponseByIdShouldReturnEmptyOptional() {
+            Optional<NewsResponse> actualNews = newsRepository.findResponseById(100L);
+
+            assertThat(actualNews).isEmpty();
+        }
+    }
+
+    @Nested
+    class NewsRepositoryFindSliceTest {
+
+        @Test
+        void checkFindSliceShouldReturnNewsIdsAndHasNext() {
+            Pageable pageable = PageRequest.of(0, 3, Sort.by(DESC, "time"));
+
+            Slice<News> actualNews = newsRepository.findSlice(newsContaining(new News()), pageable);
+            List<Long> actualNewsIds = actualNews.stream()
+                    .map(News::getId)
+                    .toList();
+
+            assertThat(actualNewsIds).containsExactly(2L, 1L, 5L);
+            assertThat(actualNews.hasNext()).isTrue();
+        }
+
+        @Test
+        void checkFindSliceShouldReturnLastSliceWithoutNext() {
+            Pageable pageable = PageRequest.of(1, 3, Sort.by(DESC, "time"));
+
+            Slice<News> actualNews = newsRepository.findSlice(newsContaining(new News()), pageable);
+            List<Long> actualNewsIds = actualNews.stream()
+                    .map(News::getId)
+                    .toList();
+
+            assertThat(actualNewsIds).containsExactly(4L, 3L);
+            assertThat(actualNews.hasNext()).isFalse();
+        }
+
+        @Test
+        void checkFindSliceShouldReturnMatchingNews() {
+            News news = new News();
+            news.setUsername("NORTON");
+
+            Slice<News> actualNews = newsRepository.findSlice(newsContaining(news), PageRequest.of(0, 5,
+                    Sort.by(ASC, "id")));
+            List<Long> actualNewsIds = actualNews.stream()
+                    .map(News::getId)
+                    .toList();
+
+            assertThat(actualNewsIds).containsExactly(3L, 5L);
+        }
+
+        @Test
+        void checkFindSliceShouldMatchAllFieldsOfProbe() {
+            News news = new News();
+            news.setTitle("CLIMATE");
+            news.setText("greenhouse");
+            news.setUsername("hill");
+
+            Slice<News> actualNews = newsRepository.findSlice(newsContaining(news), Pageable.unpaged());
+            List<Long> actualNewsIds = actualNews.stream()
+                    .map(News::getId)
+                    .toList();
+
+            assertThat(actualNewsIds).containsExactly(2L);
+        }
+
+        @Test
+        void checkFindResponseSliceShouldReturnNewsResponsesAndHasNext() {
+            Pageable pageable = PageRequest.of(0, 3, Sort.by(DESC, "time"));
+
+            Slice<NewsResponse> actualNews = newsRepository.findResponseSlice(newsContaining(new News()), pageable);
+            List<Long> actualNewsIds = actualNews.stream()
+                    .map(NewsResponse::getId)
+                    .toList();
+
+            assertThat(actualNewsIds).containsExactly(2L, 1L, 5L);
+            assertThat(actualNews.hasNext()).isTrue();
+        }
+
+        @Test
+        void checkFindResponseSliceShouldReturnMatchingNewsResponses() {
+            News news = new News();
+            news.setUsername("NORTON");
+
+            Slice<NewsResponse> actualNews = newsRepository.findResponseSlice(newsContaining(news),
+                    PageRequest.of(0, 5, Sort.by(ASC, "id")));
+
+            assertThat(actualNews.getContent())
+                    .extracting(NewsResponse::getId)
+                    .containsExactly(3L, 5L);
+        }
+
+        @Test
+        void checkFindSliceShouldMatchWildcardsLiterally() {
+            News news = new News();
+            news.setTitle("_%");
+
+            Slice<News> actualNews = newsRepository.findSlice(newsContaining(news), Pageable.unpaged());
+
+            assertThat(actualNews).isEmpty();
+        }
+    }
+
+    @Nested
+    class NewsRepositorySearchTest {
+
+        @ParameterizedTest
+        @MethodSource("provideQueriesAndNewsIds")
+        void checkSearchShouldReturnNewsIds(String query, Long[] newsIds) {
+            List<NewsSearchHit> actualHits = newsRepository.search(query, 10, 0);
+            List<Long> actualNewsIds = actualHits.stream()
+                    .map(NewsSearchHit::getId)
+                    .toList();
+
+            assertThat(actualNewsIds).containsExactlyInAnyOrder(newsIds);
+        }
+
+        @Test
+        void checkSearchShouldHighlightNewsTitleAndText() {
+            List<NewsSearchHit> actualHits = newsRepository.search("music streaming", 10, 0);
+
+            assertThat(actualHits).singleElement().satisfies(hit -> {
+                assertThat(hit.getTitleHighlight()).contains("<mark>Music</mark> <mark>streaming</mark>");
+                assertThat(hit.getTextHighlight()).contains("<mark>music</mark>");
+                assertThat(hit.getCommentHighlight()).isNull();
+                assertThat(hit.getRank()).isPositive();
+            });
+        }
+
+        @Test
+        void checkSearchShouldHighlightBestMatchingComment() {
+            List<NewsSearchHit> actualHits = newsRepository.search("diagnosis", 10, 0);
+
+            assertThat(actualHits).singleElement().satisfies(hit -> {
+                assertThat(hit.getId()).isEqualTo(3L);
+                assertThat(hit.getTextHighlight()).doesNotContain("<mark>");
+                assertThat(hit.getCommentHighlight()).contains("<mark>diagnosis</mark>");
+            });
+        }
+
+        @Test
+        void checkSearchShouldEscapeHtmlOfNewsTextBeforeHighlighting() {
+            jdbcTemplate.update("update news set text = '<script>alert(1)</script> Quantum & <b>entanglement</b>' "
+                    + "where id = 1");
+
+            List<NewsSearchHit> actualHits = newsRepository.search("entanglement", 10, 0);
+
+            assertThat(actualHits).singleElement().satisfies(hit -> {
+                assertThat(hit.getTextHighlight()).contains("&lt;script&gt;", "Quantum &amp;",
+                        "&lt;b&gt;<mark>entanglement</mark>&lt;/b&gt;");
+                assertThat(hit.getTextHighlight()).doesNotContain("<script>", "<b>");
+            });
+        }
+
+        @Test
+        void checkSearchShouldRankNewsMatchAboveCommentMatch() {
+            List<NewsSearchHit> actualHits = newsRepository.search("climate or diagnosis", 10, 0);
+            List<Long> actualNewsIds = actualHits.stream()
+                    .map(NewsSearchHit::getId)
+                    .toList();
+
+            assertThat(actualNewsIds).containsExactly(2L, 3L);
+        }
+
+        @Test
+        void checkSearchShouldReturnSize1ByLimitAndOffset() {
+            List<NewsSearchHit> actualHits = newsRepository.search("great", 1, 1);
+
+            assertThat(actualHits).hasSize(1);
+        }
+
+        private static Stream<Arguments> provideQueriesAndNewsIds() {
+            return Stream.of(
+                    arguments("apple headset", new Long[]{1L}),
+                    arguments("climate", new Long[]{2L}),
+                    arguments("great", new Long[]{3L, 4L}),
+                    arguments("great -player", new Long[]{3L, 4L}),
+                    arguments("\"record labels\"", new Long[]{5L}),
+                    arguments("football or cancer", new Long[]{3L, 4L}),
+                    arguments("metaverse", new Long[]{})
+            );
+        }
+    }
+
+    @Nested
+    class NewsRepositoryCommentCountersTest {
+
+        @Test
+        void checkFindByIdShouldReturnCommentCountersOfCommentsWrittenBeforeThem() {
+            News actualNews = newsRepository.findById(3L).orElseThrow();
+
+            assertThat(actualNews.getCommentCount()).isEqualTo(3L);
+            assertThat(actualNews.getLastCommentAt()).isEqualTo(findLastCommentTime(3L));
+        }
+
+        @Test
+        void checkUpdateCommentCountersShouldAddDeltaToCommentCount() {
+            newsRepository.updateCommentCounters(3L, -1);
+
+            assertThat(findCommentCount(3L)).isEqualTo(2L);
+        }
+
+        @Test
+        void checkReconcileCommentCountersShouldReturnIdsOfDriftedNews() {
+            jdbcTemplate.update("update news set comment_count = 0 where id = 4");
+            jdbcTemplate.update("update news set last_comment_at = null where id = 5");
+
+            List<Long> actualIds = newsRepository.reconcileCommentCounters();
+
+            assertThat(actualIds).containsExactlyInAnyOrder(4L, 5L);
+            assertThat(findCommentCount(4L)).isEqualTo(2L);
+            assertThat(jdbcTemplate.queryForObject("select last_comment_at from news where id = 5", LocalDateTime.class))
+                    .isEqualTo(findLastCommentTime(5L));
+        }
+
+        @Test
+        void checkReconcileCommentCountersShouldReturnEmptyListWhenCountersMatchComments() {
+            List<Long> actualIds = newsRepository.reconcileCommentCounters();
+
+            assertThat(actualIds).isEmpty();
+        }
+
+        private Long findCommentCount(Long newsId) {
+            return jdbcTemplate.queryForObject("select comment_count from news where id = ?", Long.class, newsId);
+        }
+
+        private LocalDateTime findLastCommentTime(Long newsId) {
+            return jdbcTemplate.queryForObject("select max(time) from comments where news_id = ?", LocalDateTime.class,
+                    newsId);
+        }
+    }
 }
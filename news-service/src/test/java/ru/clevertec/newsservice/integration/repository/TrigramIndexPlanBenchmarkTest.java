@@ -0,0 +1,82 @@
+package ru.clevertec.newsservice.integration.repository;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import ru.clevertec.newsservice.integration.BaseIntegrationTest;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+/**
+ * Benchmark of the substring filters on a million rows of news and comments. Every filter is explained with its
+ * trigram index and after dropping it in the same transaction, which shows the bitmap index scan replacing the
+ * sequential scan. The plans with their execution times are logged. Run by the benchmarkTest task
+ */
+@Slf4j
+@Tag("benchmark")
+class TrigramIndexPlanBenchmarkTest extends BaseIntegrationTest {
+
+    private static final int ROWS = 1_000_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("""
+                insert into news (title, text, time, username)
+                select 'News ' || md5(i::text), 'Text of news ' || i, now() - i * interval '1 second',
+                       'journalist_' || md5((i % 50000)::text)
+                from generate_series(1, ?) as i""", ROWS);
+        jdbcTemplate.update("""
+                insert into comments (text, time, username, news_id)
+                select 'Comment ' || md5(i::text || 'comment'), now() - i * interval '1 second',
+                       'subscriber_' || md5((i % 50000)::text), (select min(id) from news) + i % 1000
+                from generate_series(1, ?) as i""", ROWS);
+        jdbcTemplate.execute("analyze news");
+        jdbcTemplate.execute("analyze comments");
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideFiltersAndIndexes")
+    void checkSubstringFilterShouldUseTrigramIndexInsteadOfSequentialScan(String table, String column,
+                                                                          String index) {
+        String query = "select id from %s where %s ilike '%%B7E2A%%'".formatted(table, column);
+
+        List<String> indexedPlan = explain(query);
+        jdbcTemplate.execute("drop index " + index);
+        List<String> sequentialPlan = explain(query);
+
+        log.info("Plan of {} with {}:\n{}", query, index, String.join("\n", indexedPlan));
+        log.info("Plan of {} without {}:\n{}", query, index, String.join("\n", sequentialPlan));
+
+        assertThat(indexedPlan).anyMatch(line -> line.contains("Bitmap Index Scan on " + index));
+        assertThat(sequentialPlan).anyMatch(line -> line.contains("Seq Scan on " + table));
+    }
+
+    private List<String> explain(String query) {
+        return jdbcTemplate.queryForList("explain (analyze, buffers) " + query, String.class);
+    }
+
+    private static Stream<Arguments> provideFiltersAndIndexes() {
+        return Stream.of(
+                arguments("news", "title", "idx_news_title_trgm"),
+                arguments("news", "username", "idx_news_username_trgm"),
+                arguments("comments", "username", "idx_comments_username_trgm"),
+                arguments("comments", "text", "idx_comments_text_trgm")
+        );
+    }
+}
@@ -0,0 +1,52 @@
+package ru.clevertec.newsservice.job;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import ru.clevertec.newsservice.repository.NewsRepository;
+import ru.clevertec.newsservice.service.CommentNewsReadModel;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class CommentCounterReconciliationJobTest {
+
+    @Mock
+    private NewsRepository newsRepository;
+
+    @Mock
+    private CommentNewsReadModel commentNewsReadModel;
+
+    @InjectMocks
+    private CommentCounterReconciliationJob commentCounterReconciliationJob;
+
+    @Test
+    void checkReconcileShouldReturnNumberOfRepairedNewsAndEvictThem() {
+        doReturn(List.of(2L, 5L)).when(newsRepository).reconcileCommentCounters();
+
+        int actualRepaired = commentCounterReconciliationJob.reconcile();
+
+        assertThat(actualRepaired).isEqualTo(2);
+        verify(commentNewsReadModel).evictNews(2L);
+        verify(commentNewsReadModel).evictNews(5L);
+    }
+
+    @Test
+    void checkReconcileShouldReturn0WhenCountersMatchComments() {
+        doReturn(List.of()).when(newsRepository).reconcileCommentCounters();
+
+        int actualRepaired = commentCounterReconciliationJob.reconcile();
+
+        assertThat(actualRepaired).isZero();
+        verifyNoInteractions(commentNewsReadModel);
+    }
+}
@@ -12,6 +12,8 @@ import ru.clevertec.newsservice.dto.response.comment.NewsCommentResponse;
 import ru.clevertec.newsservice.dto.response.news.NewsResponse;
 import ru.clevertec.newsservice.entity.Comment;
 import ru.clevertec.newsservice.entity.News;
+import ru.clevertec.newsservice.repository.projection.NewsCommentProjection;
+import ru.clevertec.newsservice.repository.projection.NewsExportRow;
 import ru.clevertec.newsservice.util.filter.CommentFilterTestBuilder;
 import ru.clevertec.newsservice.util.request.CommentRequestTestBuilder;
 import ru.clevertec.newsservice.util.response.CommentResponseTestBuilder;
@@ -22,8 +24,6 @@ import ru.clevertec.newsservice.util.response.NewsResponseTestBuilder;
 import ru.clevertec.newsservice.util.entity.NewsTestBuilder;
 
 import java.time.LocalDateTime;
-import java.util.Collections;
-import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -151,48 +151,62 @@ class CommentMapperTest {
 
     @Test
     void checkMapToNewsCommentResponseShouldReturnNullNewsCommentResponse() {
-        NewsCommentResponse actualNewsCommentResponse = commentMapper.mapToNewsCommentResponse(null);
+        NewsCommentResponse actualNewsCommentResponse = commentMapper.mapToNewsCommentResponse((Comment) null);
 
         assertThat(actualNewsCommentResponse).isNull();
     }
 
     @Test
-    void checkMapToCommentResponsesShouldReturnCommentResponses() {
-        String text = "good comment";
-        LocalDateTime time = LocalDateTime.now();
-        String username = "debbie_garcia";
-        Comment comment = CommentTestBuilder.comment()
-                .withText(text)
-                .withTime(time)
-                .withUsername(username)
+    void checkMapToNewsCommentResponseShouldReturnNewsCommentResponseFromProjection() {
+        LocalDateTime newsTime = LocalDateTime.now();
+        LocalDateTime commentTime = LocalDateTime.now();
+        NewsCommentProjection newsCommentProjection = new NewsCommentProjection(4L, "good comment", commentTime,
+                "debbie_garcia", 3L, "news", "good news", newsTime, "thomas_martinez", 3L, commentTime);
+        NewsResponse newsResponse = NewsResponseTestBuilder.newsResponse()
+                .withId(3L)
+                .withTitle("news")
+                .withText("good news")
+                .withTime(newsTime)
+                .withUsername("thomas_martinez")
+                .withCommentCount(3L)
+                .withLastCommentAt(commentTime)
                 .build();
-        CommentResponse commentResponse = CommentResponseTestBuilder.commentResponse()
-                .withText(text)
-                .withTime(time)
-                .withUsername(username)
+        NewsCommentResponse expectedNewsCommentResponse = NewsCommentResponseTestBuilder.newsCommentResponse()
+                .withId(4L)
+                .withText("good comment")
+                .withTime(commentTime)
+                .withUsername("debbie_garcia")
+                .withNews(newsResponse)
                 .build();
-        List<Comment> comments = List.of(comment);
-        List<CommentResponse> expectedCommentResponses = List.of(commentResponse);
 
-        List<CommentResponse> actualCommentResponses = commentMapper.mapToCommentResponses(comments);
+        NewsCommentResponse actualNewsCommentResponse = commentMapper.mapToNewsCommentResponse(newsCommentProjection);
 
-        assertThat(actualCommentResponses).isEqualTo(expectedCommentResponses);
+        assertThat(actualNewsCommentResponse).isEqualTo(expectedNewsCommentResponse);
     }
 
     @Test
-    void checkMapToCommentResponsesShouldReturnEmptyCommentResponses() {
-        List<Comment> comments = Collections.emptyList();
-
-        List<CommentResponse> actualCommentResponses = commentMapper.mapToCommentResponses(comments);
+    void checkMapToNewsCommentResponseShouldReturnNullNewsCommentResponseFromNullProjection() {
+        NewsCommentResponse actualNewsCommentResponse =
+                commentMapper.mapToNewsCommentResponse((NewsCommentProjection) null);
 
-        assertThat(actualCommentResponses).isEmpty();
+        assertThat(actualNewsCommentResponse).isNull();
     }
 
     @Test
-    void checkMapToCommentResponsesShouldReturnNullCommentResponses() {
-        List<CommentResponse> actualCommentResponses = commentMapper.mapToCommentResponses(null);
+    void checkMapToCommentResponseShouldReturnCommentFieldsOfExportRow() {
+        LocalDateTime commentTime = LocalDateTime.now();
+        NewsExportRow row = new NewsExportRow(3L, "news", "good news", LocalDateTime.now(), "thomas_martinez",
+                4L, "good comment", commentTime, "debbie_garcia");
+        CommentResponse expectedCommentResponse = CommentResponseTestBuilder.commentResponse()
+                .withId(4L)
+                .withText("good comment")
+                .withTime(commentTime)
+                .withUsername("debbie_garcia")
+                .build();
+
+        CommentResponse actualCommentResponse = commentMapper.mapToCommentResponse(row);
 
-        assertThat(actualCommentResponses).isNull();
+        assertThat(actualCommentResponse).isEqualTo(expectedCommentResponse);
     }
 
     @Test
@@ -14,8 +14,9 @@ import ru.clevertec.newsservice.dto.request.news.NewsRequest;
 import ru.clevertec.newsservice.dto.response.comment.CommentResponse;
 import ru.clevertec.newsservice.dto.response.news.CommentNewsResponse;
 import ru.clevertec.newsservice.dto.response.news.NewsResponse;
-import ru.clevertec.newsservice.entity.Comment;
+import ru.clevertec.newsservice.dto.response.page.CursorPageResponse;
 import ru.clevertec.newsservice.entity.News;
+import ru.clevertec.newsservice.repository.projection.NewsExportRow;
 import ru.clevertec.newsservice.util.response.CommentResponseTestBuilder;
 import ru.clevertec.newsservice.util.entity.CommentTestBuilder;
 import ru.clevertec.newsservice.util.response.CommentNewsResponseTestBuilder;
@@ -25,7 +26,6 @@ import ru.clevertec.newsservice.util.response.NewsResponseTestBuilder;
 import ru.clevertec.newsservice.util.entity.NewsTestBuilder;
 
 import java.time.LocalDateTime;
-import java.util.Collections;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -33,6 +33,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 class NewsMapperTest {
@@ -133,95 +134,75 @@ class NewsMapperTest {
     }
 
     @Test
-    void checkMapToCommentNewsResponseShouldReturnCommentNewsResponse() {
+    void checkMapToCommentNewsResponseShouldReturnCommentNewsResponseWithoutLazyComments() {
         String newsTitle = "news";
         String newsText = "good news";
         LocalDateTime newsTime = LocalDateTime.now();
         String newsUsername = "thomas_martinez";
-        String commentText = "good comment";
-        LocalDateTime commentTime = LocalDateTime.now();
-        String commentUsername = "debbie_garcia";
-        Comment comment = CommentTestBuilder.comment()
-                .withText(commentText)
-                .withTime(commentTime)
-                .withUsername(commentUsername)
-                .build();
-        List<Comment> comments = List.of(comment);
         News news = NewsTestBuilder.news()
                 .withTitle(newsTitle)
                 .withText(newsText)
                 .withTime(newsTime)
                 .withUsername(newsUsername)
-                .withComments(comments)
-                .build();
-        CommentResponse commentResponse = CommentResponseTestBuilder.commentResponse()
-                .withText(commentText)
-                .withTime(commentTime)
-                .withUsername(commentUsername)
+                .withComments(List.of(CommentTestBuilder.comment().build()))
                 .build();
-        List<CommentResponse> commentResponses = List.of(commentResponse);
         CommentNewsResponse expectedCommentNewsResponse = CommentNewsResponseTestBuilder.commentNewsResponse()
                 .withTitle(newsTitle)
                 .withText(newsText)
                 .withTime(newsTime)
                 .withUsername(newsUsername)
-                .withComments(commentResponses)
                 .build();
 
-        doReturn(commentResponses).when(commentMapper).mapToCommentResponses(comments);
-
         CommentNewsResponse actualCommentNewsResponse = newsMapper.mapToCommentNewsResponse(news);
 
         assertThat(actualCommentNewsResponse).isEqualTo(expectedCommentNewsResponse);
+        verifyNoInteractions(commentMapper);
     }
 
     @Test
-    void checkMapToCommentNewsResponseShouldReturnNullCommentNewsResponse() {
-        CommentNewsResponse actualCommentNewsResponse = newsMapper.mapToCommentNewsResponse(null);
-
-        assertThat(actualCommentNewsResponse).isNull();
-    }
-
-    @Test
-    void checkMapToCommentResponsesShouldReturnCommentResponses() {
-        String title = "news";
-        String text = "good news";
-        LocalDateTime time = LocalDateTime.now();
-        String username = "thomas_martinez";
-        News news = NewsTestBuilder.news()
-                .withTitle(title)
-                .withText(text)
-                .withTime(time)
-                .withUsername(username)
+    void checkMapToCommentNewsResponseShouldReturnCommentNewsResponseWithCommentPreview() {
+        LocalDateTime newsTime = LocalDateTime.now();
+        NewsResponse news = NewsResponseTestBuilder.newsResponse()
+                .withTitle("news")
+                .withTime(newsTime)
                 .build();
-        NewsResponse newsResponse = NewsResponseTestBuilder.newsResponse()
-                .withTitle(title)
-                .withText(text)
-                .withTime(time)
-                .withUsername(username)
+        List<CommentResponse> comments = List.of(CommentResponseTestBuilder.commentResponse().build());
+        CommentNewsResponse expectedCommentNewsResponse = CommentNewsResponseTestBuilder.commentNewsResponse()
+                .withTitle("news")
+                .withTime(newsTime)
+                .withComments(comments)
+                .withNextCommentsCursor("cursor")
                 .build();
-        List<News> newsList = List.of(news);
-        List<NewsResponse> expectedNewsResponses = List.of(newsResponse);
 
-        List<NewsResponse> actualNewsResponses = newsMapper.mapToNewsResponses(newsList);
+        CommentNewsResponse actualCommentNewsResponse = newsMapper.mapToCommentNewsResponse(news,
+                new CursorPageResponse<>(comments, "cursor"));
 
-        assertThat(actualNewsResponses).isEqualTo(expectedNewsResponses);
+        assertThat(actualCommentNewsResponse).isEqualTo(expectedCommentNewsResponse);
     }
 
     @Test
-    void checkMapToNewsResponsesShouldReturnEmptyNewsResponses() {
-        List<News> news = Collections.emptyList();
+    void checkMapToCommentNewsResponseShouldReturnNewsFieldsOfExportRowWithoutComments() {
+        LocalDateTime newsTime = LocalDateTime.now();
+        NewsExportRow row = new NewsExportRow(3L, "news", "good news", newsTime, "thomas_martinez",
+                4L, "good comment", LocalDateTime.now(), "debbie_garcia");
+        CommentNewsResponse expectedCommentNewsResponse = CommentNewsResponseTestBuilder.commentNewsResponse()
+                .withId(3L)
+                .withTitle("news")
+                .withText("good news")
+                .withTime(newsTime)
+                .withUsername("thomas_martinez")
+                .build();
 
-        List<NewsResponse> actualNewsResponse = newsMapper.mapToNewsResponses(news);
+        CommentNewsResponse actualCommentNewsResponse = newsMapper.mapToCommentNewsResponse(row);
 
-        assertThat(actualNewsResponse).isEmpty();
+        assertThat(actualCommentNewsResponse).isEqualTo(expectedCommentNewsResponse);
     }
 
     @Test
-    void checkMapToNewsResponsesShouldReturnNullNewsResponses() {
-        List<NewsResponse> actualNewsResponse = newsMapper.mapToNewsResponses(null);
+    void checkMapToCommentNewsResponseShouldReturnNullCommentNewsResponse() {
+        CommentNewsResponse actualCommentNewsResponse = newsMapper.mapToCommentNewsResponse((News) null);
 
-        assertThat(actualNewsResponse).isNull();
+        assertThat(actualCommentNewsResponse).isNull();
     }
 
     @Test
@@ -0,0 +1,89 @@
+package ru.clevertec.newsservice.pagination;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class ApproximateTotalCounterTest {
+
+    private ApproximateTotalCounter approximateTotalCounter;
+    private AtomicInteger estimations;
+    private AtomicInteger exactCounts;
+
+    @BeforeEach
+    void setUp() {
+        approximateTotalCounter = new ApproximateTotalCounter(Duration.ofMinutes(1));
+        estimations = new AtomicInteger();
+        exactCounts = new AtomicInteger();
+    }
+
+    @Test
+    void checkCountShouldReturnEstimate() {
+        long actualTotal = approximateTotalCounter.count("news", () -> estimate(1_000_000), this::count);
+
+        assertAll(
+                () -> assertThat(actualTotal).isEqualTo(1_000_000),
+                () -> assertThat(exactCounts).hasValue(0)
+        );
+    }
+
+    @Test
+    void checkCountShouldReturnCachedEstimate() {
+        approximateTotalCounter.count("news", () -> estimate(1_000_000), this::count);
+
+        long actualTotal = approximateTotalCounter.count("news", () -> estimate(2_000_000), this::count);
+
+        assertAll(
+                () -> assertThat(actualTotal).isEqualTo(1_000_000),
+                () -> assertThat(estimations).hasValue(1)
+        );
+    }
+
+    @Test
+    void checkCountShouldCacheEstimatesOfTablesSeparately() {
+        approximateTotalCounter.count("news", () -> estimate(1_000_000), this::count);
+
+        long actualTotal = approximateTotalCounter.count("comments", () -> estimate(5_000_000), this::count);
+
+        assertAll(
+                () -> assertThat(actualTotal).isEqualTo(5_000_000),
+                () -> assertThat(estimations).hasValue(2)
+        );
+    }
+
+    @Test
+    void checkCountShouldReturnExactCountOfNotAnalyzedTable() {
+        long actualTotal = approximateTotalCounter.count("news", () -> estimate(-1), this::count);
+
+        assertAll(
+                () -> assertThat(actualTotal).isEqualTo(5),
+                () -> assertThat(exactCounts).hasValue(1)
+        );
+    }
+
+    @Test
+    void checkCountShouldRethrowExceptionOfEstimator() {
+        assertThatThrownBy(() -> approximateTotalCounter.count("news", () -> {
+            throw new IllegalArgumentException("Table not found");
+        }, this::count))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Table not found");
+    }
+
+    private long estimate(long estimate) {
+        estimations.incrementAndGet();
+        return estimate;
+    }
+
+    private long count() {
+        exactCounts.incrementAndGet();
+        return 5;
+    }
+}
@@ -0,0 +1,102 @@
+package ru.clevertec.newsservice.pagination;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import ru.clevertec.exceptionhandlingstarter.exception.InvalidCursorException;
+import ru.clevertec.newsservice.dto.response.page.CursorPageResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class KeysetCursorTest {
+
+    @Nested
+    class KeysetCursorDecodeTest {
+
+        @Test
+        void checkDecodeShouldReturnEncodedCursor() {
+            KeysetCursor expectedCursor = new KeysetCursor(LocalDateTime.of(2023, 6, 5, 11, 45, 32, 123_000), 42L);
+
+            KeysetCursor actualCursor = KeysetCursor.decode(expectedCursor.encode());
+
+            assertThat(actualCursor).isEqualTo(expectedCursor);
+        }
+
+        @ParameterizedTest
+        @NullAndEmptySource
+        @ValueSource(strings = " ")
+        void checkDecodeShouldReturnNullForFirstPage(String token) {
+            KeysetCursor actualCursor = KeysetCursor.decode(token);
+
+            assertThat(actualCursor).isNull();
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"%%%", "MjAyMy0wNi0wNVQxMTo0NTozMg", "bm90LWEtY3Vyc29yXzE"})
+        void checkDecodeShouldThrowInvalidCursorException(String token) {
+            assertThatThrownBy(() -> KeysetCursor.decode(token))
+                    .isInstanceOf(InvalidCursorException.class)
+                    .hasMessage("Cursor = [%s] is invalid".formatted(token));
+        }
+
+        @Test
+        void checkDecodeShouldThrowInvalidCursorExceptionForInvalidId() {
+            String token = Base64.getUrlEncoder()
+                    .encodeToString("2023-06-05T11:45:32_one".getBytes(StandardCharsets.UTF_8));
+
+            assertThatThrownBy(() -> KeysetCursor.decode(token))
+                    .isInstanceOf(InvalidCursorException.class);
+        }
+    }
+
+    @Nested
+    class KeysetCursorPageTest {
+
+        private final Function<Long, KeysetCursor> cursorOf = id -> new KeysetCursor(LocalDateTime.of(2023, 6, 5, 0, 0), id);
+        private final Function<List<Long>, List<String>> mapper = ids -> ids.stream()
+                .map(String::valueOf)
+                .toList();
+
+        @Test
+        void checkPageShouldDropProbeRowAndReturnNextCursor() {
+            CursorPageResponse<String> actualPage = KeysetCursor.page(List.of(1L, 2L, 3L), 2, cursorOf, mapper);
+
+            assertAll(
+                    () -> assertThat(actualPage.getContent()).containsExactly("1", "2"),
+                    () -> assertThat(KeysetCursor.decode(actualPage.getNextCursor())).isEqualTo(cursorOf.apply(2L))
+            );
+        }
+
+        @Test
+        void checkPageShouldReturnNullNextCursorOnLastPage() {
+            CursorPageResponse<String> actualPage = KeysetCursor.page(List.of(1L, 2L), 2, cursorOf, mapper);
+
+            assertAll(
+                    () -> assertThat(actualPage.getContent()).containsExactly("1", "2"),
+                    () -> assertThat(actualPage.getNextCursor()).isNull()
+            );
+        }
+
+        @Test
+        void checkPageShouldReturnEmptyPage() {
+            CursorPageResponse<String> actualPage = KeysetCursor.page(List.of(), 2, cursorOf, mapper);
+
+            assertAll(
+                    () -> assertThat(actualPage.getContent()).isEmpty(),
+                    () -> assertThat(actualPage.getNextCursor()).isNull()
+            );
+        }
+    }
+}
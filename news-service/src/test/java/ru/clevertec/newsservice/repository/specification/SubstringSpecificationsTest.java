@@ -0,0 +1,22 @@
+package ru.clevertec.newsservice.repository.specification;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SubstringSpecificationsTest {
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "music|%music%",
+            "50%|%50\\%%",
+            "user_1|%user\\_1%",
+            "C:\\news|%C:\\\\news%"
+    })
+    void checkContainingShouldEscapeWildcards(String value, String expectedPattern) {
+        String actualPattern = SubstringSpecifications.containing(value);
+
+        assertThat(actualPattern).isEqualTo(expectedPattern);
+    }
+}
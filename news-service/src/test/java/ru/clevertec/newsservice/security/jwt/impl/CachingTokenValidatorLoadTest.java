@@ -0,0 +1,144 @@
+package ru.clevertec.newsservice.security.jwt.impl;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import ru.clevertec.newsservice.dto.response.user.UserResponse;
+import ru.clevertec.newsservice.security.jwt.TokenValidator;
+import ru.clevertec.newsservice.util.response.UserResponseTestBuilder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Load test of the validation of the write requests by auth-service with and without the token cache. Every
+ * request carries one of the tokens of the active users, and auth-service is simulated by a validator taking
+ * the time of a round trip. The requests per second and the share of them reaching auth-service, which is
+ * the reduction of the auth-service load at the same rate of requests, are logged for both runs. Run by the
+ * benchmarkTest task
+ */
+@Slf4j
+@Tag("benchmark")
+class CachingTokenValidatorLoadTest {
+
+    private static final String SECRET_KEY = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+    private static final int THREADS = 16;
+    private static final int REQUESTS_PER_THREAD = 1_000;
+    private static final int USERS = 200;
+    private static final long ROUND_TRIP_MILLIS = 2;
+    private static final int CACHE_CAPACITY = 10_000;
+
+    private final AtomicInteger authServiceRequests = new AtomicInteger();
+    private final TokenValidator authService = authorizationHeader -> {
+        authServiceRequests.incrementAndGet();
+        sleep(ROUND_TRIP_MILLIS);
+
+        return UserResponseTestBuilder.userResponse()
+                .withUsername("user")
+                .withAuthorities(List.of("ROLE_SUBSCRIBER"))
+                .build();
+    };
+
+    private List<String> authorizationHeaders;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        Date expiration = new Date(System.currentTimeMillis() + Duration.ofHours(1).toMillis());
+        authorizationHeaders = IntStream.range(0, USERS)
+                .mapToObj(i -> "Bearer " + Jwts.builder()
+                        .setSubject("user_" + i)
+                        .setExpiration(expiration)
+                        .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET_KEY)), SignatureAlgorithm.HS256)
+                        .compact())
+                .toList();
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void checkTokenCacheShouldReduceRequestsToAuthService() throws Exception {
+        double uncachedShare = run("without cache", authService);
+
+        CachingTokenValidator cachingTokenValidator =
+                new CachingTokenValidator(authService, CACHE_CAPACITY, Duration.ofMinutes(5), null);
+        double cachedShare = run("with cache", cachingTokenValidator);
+
+        log.info("Hit ratio of the token cache: {}", cachingTokenValidator.getStats().getHitRatio());
+
+        assertThat(uncachedShare).isEqualTo(1);
+        assertThat(cachedShare).isLessThanOrEqualTo((double) USERS / (THREADS * REQUESTS_PER_THREAD));
+    }
+
+    /**
+     * Sends the requests validated by the validator from all threads
+     *
+     * @return the share of the requests validated by auth-service
+     */
+    private double run(String name, TokenValidator tokenValidator) throws Exception {
+        authServiceRequests.set(0);
+        Callable<Void> client = () -> {
+            for (int i = 0; i < REQUESTS_PER_THREAD; i++) {
+                String authorizationHeader =
+                        authorizationHeaders.get(ThreadLocalRandom.current().nextInt(USERS));
+                tokenValidator.validate(authorizationHeader);
+            }
+
+            return null;
+        };
+
+        long start = System.nanoTime();
+        List<Future<Void>> futures = new ArrayList<>();
+
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(executor.submit(client));
+        }
+
+        for (Future<Void> future : futures) {
+            future.get(5, TimeUnit.MINUTES);
+        }
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        int requests = THREADS * REQUESTS_PER_THREAD;
+        double authServiceShare = (double) authServiceRequests.get() / requests;
+
+        log.info("Validation {}: {} requests/s, {} of {} requests validated by auth-service ({}%)", name,
+                Math.round(requests / seconds), authServiceRequests.get(), requests,
+                Math.round(authServiceShare * 10_000) / 100.0);
+
+        return authServiceShare;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package ru.clevertec.newsservice.security.jwt.impl;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import ru.clevertec.exceptionhandlingstarter.exception.InvalidJwtException;
+import ru.clevertec.exceptionhandlingstarter.exception.JwtNotFoundException;
+import ru.clevertec.newsservice.dto.response.user.UserResponse;
+import ru.clevertec.newsservice.security.jwt.TokenValidator;
+import ru.clevertec.newsservice.util.response.UserResponseTestBuilder;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CachingTokenValidatorTest {
+
+    private static final String SECRET_KEY = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+    private static final Instant NOW = Instant.parse("2023-07-02T15:19:37Z");
+    private static final Duration MAX_TTL = Duration.ofMinutes(5);
+    private static final int THREADS = 32;
+
+    private final AtomicInteger validations = new AtomicInteger();
+    private final AtomicLong ticker = new AtomicLong();
+    private final UserResponse userResponse = UserResponseTestBuilder.userResponse()
+            .withUsername("erik_gibson")
+            .withAuthorities(List.of("ROLE_ADMIN"))
+            .build();
+
+    private SimpleMeterRegistry meterRegistry;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void checkValidateShouldValidateTokenOnce() {
+        CachingTokenValidator cachingTokenValidator = cachingTokenValidator(this::validate);
+        String authorizationHeader = authorizationHeader(NOW.plus(Duration.ofHours(1)));
+
+        cachingTokenValidator.validate(authorizationHeader);
+        UserResponse actualUserResponse = cachingTokenValidator.validate(authorizationHeader);
+
+        assertThat(actualUserResponse).isEqualTo(userResponse);
+        assertThat(validations).hasValue(1);
+    }
+
+    @Test
+    void checkValidateShouldValidateDifferentTokensSeparately() {
+        CachingTokenValidator cachingTokenValidator = cachingTokenValidator(this::validate);
+
+        cachingTokenValidator.validate(authorizationHeader(NOW.plus(Duration.ofHours(1))));
+        cachingTokenValidator.validate(authorizationHeader(NOW.plus(Duration.ofHours(2))));
+
+        assertThat(validations).hasValue(2);
+    }
+
+    @Test
+    void checkValidateShouldValidateTokenAgainAfterItsExpiration() {
+        CachingTokenValidator cachingTokenValidator = cachingTokenValidator(this::validate);
+        String authorizationHeader = authorizationHeader(NOW.plus(Duration.ofSeconds(10)));
+
+        cachingTokenValidator.validate(authorizationHeader);
+        ticker.addAndGet(Duration.ofSeconds(11).toNanos());
+        cachingTokenValidator.validate(authorizationHeader);
+
+        assertThat(validations).hasValue(2);
+    }
+
+    @Test
+    void checkValidateShouldValidateTokenAgainAfterMaxTtl() {
+        CachingTokenValidator cachingTokenValidator = cachingTokenValidator(this::validate);
+        String authorizationHeader = authorizationHeader(NOW.plus(Duration.ofHours(1)));
+
+        cachingTokenValidator.validate(authorizationHeader);
+        ticker.addAndGet(MAX_TTL.minusSeconds(1).toNanos());
+        cachingTokenValidator.validate(authorizationHeader);
+        ticker.addAndGet(Duration.ofSeconds(2).toNanos());
+        cachingTokenValidator.validate(authorizationHeader);
+
+        assertThat(validations).hasValue(2);
+    }
+
+    @Test
+    void checkValidateShouldNotCacheFailedValidation() {
+        CachingTokenValidator cachingTokenValidator = cachingTokenValidator(authorizationHeader -> {
+            if (validations.incrementAndGet() == 1) {
+                throw new InvalidJwtException("Jwt token is not valid");
+            }
+
+            return userResponse;
+        });
+        String authorizationHeader = authorizationHeader(NOW.plus(Duration.ofHours(1)));
+
+        assertThatThrownBy(() -> cachingTokenValidator.validate(authorizationHeader))
+                .isInstanceOf(InvalidJwtException.class);
+        UserResponse actualUserResponse = cachingTokenValidator.validate(authorizationHeader);
+
+        assertThat(actualUserResponse).isEqualTo(userResponse);
+        assertThat(validations).hasValue(2);
+    }
+
+    @Test
+    void checkValidateShouldThrowsJwtNotFoundExceptionWithoutValidation() {
+        CachingTokenValidator cachingTokenValidator = cachingTokenValidator(this::validate);
+
+        assertThatThrownBy(() -> cachingTokenValidator.validate(null))
+                .isInstanceOf(JwtNotFoundException.class)
+                .hasMessage("Jwt not found");
+        assertThat(validations).hasValue(0);
+    }
+
+    @Test
+    void checkRevokeShouldValidateTokenAgain() {
+        CachingTokenValidator cachingTokenValidator = cachingTokenValidator(this::validate);
+        String authorizationHeader = authorizationHeader(NOW.plus(Duration.ofHours(1)));
+
+        cachingTokenValidator.validate(authorizationHeader);
+        cachingTokenValidator.revoke(authorizationHeader.substring("Bearer ".length()));
+        cachingTokenValidator.validate(authorizationHeader);
+
+        assertThat(validations).hasValue(2);
+    }
+
+    @Test
+    void checkRevokeAllShouldValidateTokensAgain() {
+        CachingTokenValidator cachingTokenValidator = cachingTokenValidator(this::validate);
+        String authorizationHeader = authorizationHeader(NOW.plus(Duration.ofHours(1)));
+        String otherAuthorizationHeader = authorizationHeader(NOW.plus(Duration.ofHours(2)));
+
+        cachingTokenValidator.validate(authorizationHeader);
+        cachingTokenValidator.validate(otherAuthorizationHeader);
+        cachingTokenValidator.revokeAll();
+        cachingTokenValidator.validate(authorizationHeader);
+        cachingTokenValidator.validate(otherAuthorizationHeader);
+
+        assertThat(validations).hasValue(4);
+    }
+
+    @Test
+    void checkConcurrentValidateShouldValidateTokenOnce() throws Exception {
+        CountDownLatch validationStarted = new CountDownLatch(1);
+        CountDownLatch releaseValidation = new CountDownLatch(1);
+        CachingTokenValidator cachingTokenValidator = cachingTokenValidator(authorizationHeader -> {
+            validations.incrementAndGet();
+            validationStarted.countDown();
+
+            try {
+                releaseValidation.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            return userResponse;
+        });
+        String authorizationHeader = authorizationHeader(NOW.plus(Duration.ofHours(1)));
+
+        List<Future<UserResponse>> futures = new ArrayList<>();
+        futures.add(executor.submit(() -> cachingTokenValidator.validate(authorizationHeader)));
+        assertThat(validationStarted.await(1, TimeUnit.MINUTES)).isTrue();
+
+        for (int i = 1; i < THREADS; i++) {
+            futures.add(executor.submit(() -> cachingTokenValidator.validate(authorizationHeader)));
+        }
+
+        releaseValidation.countDown();
+
+        for (Future<UserResponse> future : futures) {
+            assertThat(future.get(1, TimeUnit.MINUTES)).isEqualTo(userResponse);
+        }
+
+        assertThat(validations).hasValue(1);
+    }
+
+    @Test
+    void checkValidateShouldPublishCacheMeters() {
+        CachingTokenValidator cachingTokenValidator = cachingTokenValidator(this::validate);
+        String authorizationHeader = authorizationHeader(NOW.plus(Duration.ofHours(1)));
+
+        cachingTokenValidator.validate(authorizationHeader);
+        cachingTokenValidator.validate(authorizationHeader);
+        cachingTokenValidator.validate(authorizationHeader);
+
+        assertThat(meterRegistry.get("cache.gets").tags("cache", "jwt-validations", "result", "hit")
+                .functionCounter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("cache.gets").tags("cache", "jwt-validations", "result", "miss")
+                .functionCounter().count()).isEqualTo(1);
+    }
+
+    private CachingTokenValidator cachingTokenValidator(TokenValidator tokenValidator) {
+        return new CachingTokenValidator(tokenValidator, 100, MAX_TTL, meterRegistry,
+                Clock.fixed(NOW, ZoneOffset.UTC), ticker::get);
+    }
+
+    private UserResponse validate(String authorizationHeader) {
+        validations.incrementAndGet();
+        return userResponse;
+    }
+
+    private static String authorizationHeader(Instant expiration) {
+        return "Bearer " + Jwts.builder()
+                .setSubject("erik_gibson")
+                .setIssuedAt(Date.from(NOW))
+                .setExpiration(Date.from(expiration))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET_KEY)), SignatureAlgorithm.HS256)
+                .compact();
+    }
+}
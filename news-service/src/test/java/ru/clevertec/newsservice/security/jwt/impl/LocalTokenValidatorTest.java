@@ -0,0 +1,148 @@
+package ru.clevertec.newsservice.security.jwt.impl;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import ru.clevertec.exceptionhandlingstarter.exception.InvalidJwtException;
+import ru.clevertec.exceptionhandlingstarter.exception.JwtNotFoundException;
+import ru.clevertec.newsservice.dto.response.user.UserResponse;
+import ru.clevertec.newsservice.util.response.UserResponseTestBuilder;
+
+import java.security.Key;
+import java.security.KeyPair;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LocalTokenValidatorTest {
+
+    private static final String KEY_ID = "auth-service-1";
+    private static final long EXPIRATION_MILLIS = 60_000;
+    private static final KeyPair KEY_PAIR = Keys.keyPairFor(SignatureAlgorithm.RS256);
+    private static final KeyPair OTHER_KEY_PAIR = Keys.keyPairFor(SignatureAlgorithm.RS256);
+
+    private LocalTokenValidator localTokenValidator;
+
+    @BeforeEach
+    void setUp() {
+        localTokenValidator = new LocalTokenValidator(new SigningKeyResolverAdapter() {
+            @Override
+            public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                if (!KEY_ID.equals(header.getKeyId())) {
+                    throw new SignatureException("Jwt key id [%s] is unknown".formatted(header.getKeyId()));
+                }
+
+                return KEY_PAIR.getPublic();
+            }
+        });
+    }
+
+    @Test
+    void checkValidateShouldReturnUserOfToken() {
+        String jwt = token(KEY_ID, KEY_PAIR, new Date(System.currentTimeMillis() + EXPIRATION_MILLIS))
+                .claim("authorities", List.of("ROLE_ADMIN", "ROLE_JOURNALIST"))
+                .compact();
+        UserResponse expectedUserResponse = UserResponseTestBuilder.userResponse()
+                .withUsername("erik_gibson")
+                .withAuthorities(List.of("ROLE_ADMIN", "ROLE_JOURNALIST"))
+                .build();
+
+        UserResponse actualUserResponse = localTokenValidator.validate("Bearer " + jwt);
+
+        assertThat(actualUserResponse).isEqualTo(expectedUserResponse);
+    }
+
+    @Test
+    void checkValidateShouldReturnUserWithoutAuthoritiesIfTokenHasNoAuthoritiesClaim() {
+        String jwt = token(KEY_ID, KEY_PAIR, new Date(System.currentTimeMillis() + EXPIRATION_MILLIS)).compact();
+
+        UserResponse actualUserResponse = localTokenValidator.validate("Bearer " + jwt);
+
+        assertThat(actualUserResponse.getAuthorities()).isEmpty();
+    }
+
+    @Test
+    void checkValidateShouldThrowsInvalidJwtExceptionForExpiredToken() {
+        String jwt = token(KEY_ID, KEY_PAIR, new Date(System.currentTimeMillis() - EXPIRATION_MILLIS)).compact();
+
+        assertThatThrownBy(() -> localTokenValidator.validate("Bearer " + jwt))
+                .isInstanceOf(InvalidJwtException.class)
+                .hasMessage("Jwt expired");
+    }
+
+    @Test
+    void checkValidateShouldThrowsInvalidJwtExceptionForTokenSignedByOtherKey() {
+        String jwt = token(KEY_ID, OTHER_KEY_PAIR, new Date(System.currentTimeMillis() + EXPIRATION_MILLIS)).compact();
+
+        assertThatThrownBy(() -> localTokenValidator.validate("Bearer " + jwt))
+                .isInstanceOf(InvalidJwtException.class)
+                .hasMessage("Jwt token is not valid");
+    }
+
+    @Test
+    void checkValidateShouldThrowsInvalidJwtExceptionForTokenSignedByUnknownKey() {
+        String jwt = token("auth-service-2", OTHER_KEY_PAIR, new Date(System.currentTimeMillis() + EXPIRATION_MILLIS))
+                .compact();
+
+        assertThatThrownBy(() -> localTokenValidator.validate("Bearer " + jwt))
+                .isInstanceOf(InvalidJwtException.class)
+                .hasMessage("Jwt token is not valid");
+    }
+
+    @Test
+    void checkValidateShouldThrowsInvalidJwtExceptionForUnsignedToken() {
+        String jwt = Jwts.builder()
+                .setSubject("erik_gibson")
+                .setExpiration(new Date(System.currentTimeMillis() + EXPIRATION_MILLIS))
+                .compact();
+
+        assertThatThrownBy(() -> localTokenValidator.validate("Bearer " + jwt))
+                .isInstanceOf(InvalidJwtException.class)
+                .hasMessage("Jwt token is not valid");
+    }
+
+    @Test
+    void checkValidateShouldThrowsInvalidJwtExceptionForTokenWithoutSubject() {
+        String jwt = token(KEY_ID, KEY_PAIR, new Date(System.currentTimeMillis() + EXPIRATION_MILLIS))
+                .setSubject(null)
+                .compact();
+
+        assertThatThrownBy(() -> localTokenValidator.validate("Bearer " + jwt))
+                .isInstanceOf(InvalidJwtException.class)
+                .hasMessage("Jwt doesn't contain subject");
+    }
+
+    @Test
+    void checkValidateShouldThrowsJwtNotFoundExceptionForHeaderWithoutBearerToken() {
+        assertThatThrownBy(() -> localTokenValidator.validate("Basic ZXJpazpwYXNzd29yZA=="))
+                .isInstanceOf(JwtNotFoundException.class)
+                .hasMessage("Jwt not found");
+    }
+
+    @Test
+    void checkValidateShouldThrowsJwtNotFoundExceptionForAbsentHeader() {
+        assertThatThrownBy(() -> localTokenValidator.validate(null))
+                .isInstanceOf(JwtNotFoundException.class)
+                .hasMessage("Jwt not found");
+    }
+
+    private JwtBuilder token(String keyId, KeyPair keyPair, Date expiration) {
+        return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, keyId)
+                .setSubject("erik_gibson")
+                .setIssuedAt(new Date())
+                .setExpiration(expiration)
+                .signWith(keyPair.getPrivate(), SignatureAlgorithm.RS256);
+    }
+}
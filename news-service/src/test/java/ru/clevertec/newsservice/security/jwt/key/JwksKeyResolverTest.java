@@ -0,0 +1,196 @@
+package ru.clevertec.newsservice.security.jwt.key;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import ru.clevertec.newsservice.client.AuthFeignClient;
+import ru.clevertec.newsservice.dto.response.jwk.JwkResponse;
+import ru.clevertec.newsservice.dto.response.jwk.JwksResponse;
+
+import java.math.BigInteger;
+import java.security.KeyPair;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class JwksKeyResolverTest {
+
+    private static final Duration TTL = Duration.ofMinutes(10);
+    private static final Duration MIN_REFRESH_INTERVAL = Duration.ofSeconds(30);
+    private static final KeyPair KEY_PAIR = Keys.keyPairFor(SignatureAlgorithm.RS256);
+    private static final KeyPair NEXT_KEY_PAIR = Keys.keyPairFor(SignatureAlgorithm.RS256);
+
+    @Mock
+    private AuthFeignClient authFeignClient;
+
+    private final AtomicLong ticker = new AtomicLong();
+
+    private JwksKeyResolver jwksKeyResolver;
+
+    @BeforeEach
+    void setUp() {
+        jwksKeyResolver = new JwksKeyResolver(authFeignClient, TTL, MIN_REFRESH_INTERVAL, ticker::get);
+    }
+
+    @Test
+    void checkGetKeyShouldReturnKeyOfJwks() {
+        doReturn(jwks(jwk("auth-service-1", KEY_PAIR)))
+                .when(authFeignClient)
+                .getJwks();
+
+        assertThat(jwksKeyResolver.getKey("auth-service-1")).isEqualTo(KEY_PAIR.getPublic());
+    }
+
+    @Test
+    void checkGetKeyShouldLoadJwksOnceWithinTtl() {
+        doReturn(jwks(jwk("auth-service-1", KEY_PAIR)))
+                .when(authFeignClient)
+                .getJwks();
+
+        jwksKeyResolver.getKey("auth-service-1");
+        ticker.addAndGet(TTL.toNanos() - 1);
+        jwksKeyResolver.getKey("auth-service-1");
+
+        verify(authFeignClient).getJwks();
+    }
+
+    @Test
+    void checkGetKeyShouldReloadJwksAfterTtl() {
+        doReturn(jwks(jwk("auth-service-1", KEY_PAIR)))
+                .when(authFeignClient)
+                .getJwks();
+
+        jwksKeyResolver.getKey("auth-service-1");
+        ticker.addAndGet(TTL.toNanos());
+        jwksKeyResolver.getKey("auth-service-1");
+
+        verify(authFeignClient, times(2)).getJwks();
+    }
+
+    @Test
+    void checkGetKeyShouldReloadJwksForUnknownKeyIdAfterRotation() {
+        doReturn(jwks(jwk("auth-service-1", KEY_PAIR)))
+                .doReturn(jwks(jwk("auth-service-1", KEY_PAIR), jwk("auth-service-2", NEXT_KEY_PAIR)))
+                .when(authFeignClient)
+                .getJwks();
+
+        jwksKeyResolver.getKey("auth-service-1");
+        ticker.addAndGet(MIN_REFRESH_INTERVAL.toNanos());
+
+        assertThat(jwksKeyResolver.getKey("auth-service-2")).isEqualTo(NEXT_KEY_PAIR.getPublic());
+    }
+
+    @Test
+    void checkGetKeyShouldNotReloadJwksForUnknownKeyIdWithinMinRefreshInterval() {
+        doReturn(jwks(jwk("auth-service-1", KEY_PAIR)))
+                .when(authFeignClient)
+                .getJwks();
+
+        jwksKeyResolver.getKey("auth-service-1");
+
+        assertThatThrownBy(() -> jwksKeyResolver.getKey("auth-service-2"))
+                .isInstanceOf(SignatureException.class)
+                .hasMessage("Jwt key id [auth-service-2] is unknown");
+        assertThatThrownBy(() -> jwksKeyResolver.getKey("auth-service-3"))
+                .isInstanceOf(SignatureException.class)
+                .hasMessage("Jwt key id [auth-service-3] is unknown");
+        verify(authFeignClient).getJwks();
+    }
+
+    @Test
+    void checkGetKeyShouldReturnCachedKeyIfJwksCannotBeReloaded() {
+        doReturn(jwks(jwk("auth-service-1", KEY_PAIR)))
+                .doThrow(new IllegalStateException("auth-service is unavailable"))
+                .when(authFeignClient)
+                .getJwks();
+
+        jwksKeyResolver.getKey("auth-service-1");
+        ticker.addAndGet(TTL.toNanos());
+
+        assertThat(jwksKeyResolver.getKey("auth-service-1")).isEqualTo(KEY_PAIR.getPublic());
+    }
+
+    @Test
+    void checkGetKeyShouldThrowsExceptionIfJwksHasNeverBeenLoaded() {
+        doThrow(new IllegalStateException("auth-service is unavailable"))
+                .when(authFeignClient)
+                .getJwks();
+
+        assertThatThrownBy(() -> jwksKeyResolver.getKey("auth-service-1"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("auth-service is unavailable");
+    }
+
+    @Test
+    void checkGetKeyShouldSkipKeysNotUsedForSignature() {
+        JwkResponse encryptionJwk = jwk("auth-service-1", KEY_PAIR);
+        encryptionJwk.setUse("enc");
+        doReturn(jwks(encryptionJwk))
+                .when(authFeignClient)
+                .getJwks();
+
+        assertThatThrownBy(() -> jwksKeyResolver.getKey("auth-service-1"))
+                .isInstanceOf(SignatureException.class)
+                .hasMessage("Jwt key id [auth-service-1] is unknown");
+    }
+
+    @Test
+    void checkResolveSigningKeyShouldThrowsUnsupportedJwtExceptionForHmacToken() {
+        JwsHeader<?> header = Jwts.jwsHeader()
+                .setAlgorithm(SignatureAlgorithm.HS256.getValue())
+                .setKeyId("auth-service-1");
+
+        assertThatThrownBy(() -> jwksKeyResolver.resolveSigningKey(header, Jwts.claims()))
+                .isInstanceOf(UnsupportedJwtException.class)
+                .hasMessage("Jwt algorithm [HS256] is not supported");
+    }
+
+    private JwksResponse jwks(JwkResponse... jwks) {
+        return JwksResponse.builder()
+                .keys(Arrays.asList(jwks))
+                .build();
+    }
+
+    private JwkResponse jwk(String keyId, KeyPair keyPair) {
+        RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
+
+        return JwkResponse.builder()
+                .kty("RSA")
+                .kid(keyId)
+                .use("sig")
+                .alg(SignatureAlgorithm.RS256.getValue())
+                .n(encodeUnsigned(publicKey.getModulus()))
+                .e(encodeUnsigned(publicKey.getPublicExponent()))
+                .build();
+    }
+
+    private String encodeUnsigned(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+
+        if (bytes[0] == 0 && bytes.length > 1) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+
+        return Encoders.BASE64URL.encode(bytes);
+    }
+}
@@ -0,0 +1,106 @@
+package ru.clevertec.newsservice.service.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import ru.clevertec.exceptionhandlingstarter.exception.NewsNotFoundException;
+import ru.clevertec.newsservice.dto.response.comment.CommentResponse;
+import ru.clevertec.newsservice.dto.response.news.NewsResponse;
+import ru.clevertec.newsservice.repository.CommentRepository;
+import ru.clevertec.newsservice.repository.NewsRepository;
+import ru.clevertec.newsservice.util.response.CommentResponseTestBuilder;
+import ru.clevertec.newsservice.util.response.NewsResponseTestBuilder;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import static org.mockito.Mockito.doReturn;
+
+@ExtendWith(MockitoExtension.class)
+class CommentNewsReadModelImplTest {
+
+    @Mock
+    private NewsRepository newsRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @InjectMocks
+    private CommentNewsReadModelImpl commentNewsReadModel;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(commentNewsReadModel, "previewSize", 10);
+    }
+
+    @Nested
+    class CommentNewsReadModelImplFindNewsByIdTest {
+
+        @Test
+        void checkFindNewsByIdShouldReturnNewsResponse() {
+            NewsResponse newsResponse = NewsResponseTestBuilder.newsResponse().build();
+
+            doReturn(Optional.of(newsResponse)).when(newsRepository).findResponseById(newsResponse.getId());
+
+            NewsResponse actualNewsResponse = commentNewsReadModel.findNewsById(newsResponse.getId());
+
+            assertThat(actualNewsResponse).isEqualTo(newsResponse);
+        }
+
+        @Test
+        void checkFindNewsByIdShouldThrowsNewsNotFoundException() {
+            Long id = 1L;
+
+            doReturn(Optional.empty()).when(newsRepository).findResponseById(id);
+
+            assertThatThrownBy(() -> commentNewsReadModel.findNewsById(id))
+                    .isInstanceOf(NewsNotFoundException.class);
+        }
+    }
+
+    @Test
+    void checkFindCommentSegmentShouldReadOneCommentMoreThanPreview() {
+        Long newsId = 1L;
+        PageRequest pageRequest = PageRequest.ofSize(11);
+        List<CommentResponse> commentResponses = List.of(
+                CommentResponseTestBuilder.commentResponse().withId(1L).build()
+        );
+
+        doReturn(commentResponses).when(commentRepository)
+                .findAllByNewsIdOrderByTimeAscIdAsc(newsId, pageRequest);
+
+        List<CommentResponse> actualCommentResponses = commentNewsReadModel.findCommentSegment(newsId);
+
+        assertThat(actualCommentResponses).isEqualTo(commentResponses);
+    }
+
+    @Test
+    void checkGetPreviewSizeShouldReturnPreviewSize() {
+        assertThat(commentNewsReadModel.getPreviewSize()).isEqualTo(10);
+    }
+
+    @Test
+    void checkIsInCommentSegmentShouldReturnTrueForPreviewAndFollowingComment() {
+        assertThat(commentNewsReadModel.isInCommentSegment(0)).isTrue();
+        assertThat(commentNewsReadModel.isInCommentSegment(9)).isTrue();
+        assertThat(commentNewsReadModel.isInCommentSegment(10)).isTrue();
+    }
+
+    @Test
+    void checkIsInCommentSegmentShouldReturnFalseAfterSegment() {
+        assertThat(commentNewsReadModel.isInCommentSegment(11)).isFalse();
+        assertThat(commentNewsReadModel.isInCommentSegment(250)).isFalse();
+    }
+}
@@ -9,25 +9,37 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import org.springframework.data.domain.Example;
-import org.springframework.data.domain.ExampleMatcher;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.access.AccessDeniedException;
 
 import ru.clevertec.exceptionhandlingstarter.exception.CommentNotFoundException;
+import ru.clevertec.exceptionhandlingstarter.exception.InvalidBatchException;
+import ru.clevertec.exceptionhandlingstarter.exception.InvalidCursorException;
 import ru.clevertec.exceptionhandlingstarter.exception.NewsNotFoundException;
+import ru.clevertec.newsservice.batch.BatchItemValidator;
+import ru.clevertec.newsservice.cache.tag.CacheTagInvalidator;
 import ru.clevertec.newsservice.dto.filter.CommentFilter;
 import ru.clevertec.newsservice.dto.request.comment.CommentRequest;
 import ru.clevertec.newsservice.dto.request.comment.NewsCommentRequest;
+import ru.clevertec.newsservice.dto.response.batch.BatchItemResponse;
+import ru.clevertec.newsservice.dto.response.batch.BatchResponse;
 import ru.clevertec.newsservice.dto.response.comment.CommentResponse;
 import ru.clevertec.newsservice.dto.response.comment.NewsCommentResponse;
+import ru.clevertec.newsservice.dto.response.page.CursorPageResponse;
+import ru.clevertec.newsservice.dto.response.page.SlicePageResponse;
 import ru.clevertec.newsservice.entity.Comment;
 import ru.clevertec.newsservice.entity.News;
 import ru.clevertec.newsservice.mapper.CommentMapper;
+import ru.clevertec.newsservice.pagination.ApproximateTotalCounter;
+import ru.clevertec.newsservice.pagination.KeysetCursor;
 import ru.clevertec.newsservice.repository.CommentRepository;
 import ru.clevertec.newsservice.repository.NewsRepository;
+import ru.clevertec.newsservice.repository.projection.NewsCommentProjection;
+import ru.clevertec.newsservice.service.CommentNewsReadModel;
 import ru.clevertec.newsservice.util.factory.SecurityContextFactory;
 import ru.clevertec.newsservice.util.filter.CommentFilterTestBuilder;
 import ru.clevertec.newsservice.util.request.CommentRequestTestBuilder;
@@ -38,17 +50,27 @@ import ru.clevertec.newsservice.util.response.NewsCommentResponseTestBuilder;
 import ru.clevertec.newsservice.util.entity.NewsTestBuilder;
 
 import java.security.Principal;
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 
-import static org.springframework.data.domain.ExampleMatcher.GenericPropertyMatchers.contains;
+import static org.junit.jupiter.api.Assertions.assertAll;
 
 @ExtendWith(MockitoExtension.class)
 class CommentServiceImplTest {
@@ -62,44 +84,54 @@ class CommentServiceImplTest {
     @Mock
     private CommentRepository commentRepository;
 
+    @Mock
+    private CommentNewsReadModel commentNewsReadModel;
+
+    @Mock
+    private ApproximateTotalCounter approximateTotalCounter;
+
+    @Mock
+    private BatchItemValidator batchItemValidator;
+
+    @Mock
+    private CacheTagInvalidator cacheTagInvalidator;
+
     @InjectMocks
     private CommentServiceImpl commentService;
 
+    @BeforeEach
+    void setUp() {
+        lenient().doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(cacheTagInvalidator).afterCommit(any());
+    }
+
     @Nested
     class CommentServiceImplFindAllTest {
 
         private CommentFilter commentFilter;
         private Pageable pageable;
         private Comment comment;
-        private Example<Comment> commentExample;
 
         @BeforeEach
         void setUp() {
             commentFilter = CommentFilterTestBuilder.commentFilter().build();
             pageable = Pageable.unpaged();
-            ExampleMatcher commentMatcher = ExampleMatcher.matching()
-                    .withMatcher("text", contains().ignoreCase())
-                    .withMatcher("username", contains().ignoreCase());
             comment = CommentTestBuilder.comment().build();
-            commentExample = Example.of(comment, commentMatcher);
         }
 
         @Test
         void checkFindAllShouldReturnSize2() {
             int expectedSize = 2;
-            List<Comment> comments = List.of(
-                    CommentTestBuilder.comment().build(),
-                    CommentTestBuilder.comment().build()
-            );
-            Page<Comment> commentPage = new PageImpl<>(comments);
             List<CommentResponse> commentResponses = List.of(
                     CommentResponseTestBuilder.commentResponse().build(),
                     CommentResponseTestBuilder.commentResponse().build()
             );
+            Slice<CommentResponse> commentSlice = new SliceImpl<>(commentResponses);
 
             doReturn(comment).when(commentMapper).mapToComment(commentFilter);
-            doReturn(commentPage).when(commentRepository).findAll(commentExample, pageable);
-            doReturn(commentResponses).when(commentMapper).mapToCommentResponses(comments);
+            doReturn(commentSlice).when(commentRepository).findResponseSlice(any(), eq(pageable));
 
             List<CommentResponse> actualCommentResponses = commentService.findAll(commentFilter, pageable);
 
@@ -108,19 +140,14 @@ class CommentServiceImplTest {
 
         @Test
         void checkFindAllShouldReturnCommentResponses() {
-            List<Comment> comments = List.of(
-                    CommentTestBuilder.comment().build(),
-                    CommentTestBuilder.comment().build()
-            );
-            Page<Comment> commentPage = new PageImpl<>(comments);
             List<CommentResponse> commentResponses = List.of(
                     CommentResponseTestBuilder.commentResponse().build(),
                     CommentResponseTestBuilder.commentResponse().build()
             );
+            Slice<CommentResponse> commentSlice = new SliceImpl<>(commentResponses);
 
             doReturn(comment).when(commentMapper).mapToComment(commentFilter);
-            doReturn(commentPage).when(commentRepository).findAll(commentExample, pageable);
-            doReturn(commentResponses).when(commentMapper).mapToCommentResponses(comments);
+            doReturn(commentSlice).when(commentRepository).findResponseSlice(any(), eq(pageable));
 
             List<CommentResponse> actualCommentResponses = commentService.findAll(commentFilter, pageable);
 
@@ -130,7 +157,8 @@ class CommentServiceImplTest {
         @Test
         void checkFindAllShouldReturnEmptyCommentResponses() {
             doReturn(comment).when(commentMapper).mapToComment(commentFilter);
-            doReturn(Page.empty()).when(commentRepository).findAll(commentExample, pageable);
+            doReturn(new SliceImpl<>(Collections.emptyList())).when(commentRepository)
+                    .findResponseSlice(any(), eq(pageable));
 
             List<CommentResponse> actualCommentResponses = commentService.findAll(commentFilter, pageable);
 
@@ -153,17 +181,12 @@ class CommentServiceImplTest {
         @Test
         void checkFindAllByNewsIdShouldReturnSize2() {
             int expectedSize = 2;
-            List<Comment> comments = List.of(
-                    CommentTestBuilder.comment().build(),
-                    CommentTestBuilder.comment().build()
-            );
             List<CommentResponse> commentResponses = List.of(
                     CommentResponseTestBuilder.commentResponse().build(),
                     CommentResponseTestBuilder.commentResponse().build()
             );
 
-            doReturn(comments).when(commentRepository).findAllByNewsId(id, pageable);
-            doReturn(commentResponses).when(commentMapper).mapToCommentResponses(comments);
+            doReturn(commentResponses).when(commentRepository).findAllByNewsId(id, pageable);
 
             List<CommentResponse> actualCommentResponses = commentService.findAllByNewsId(id, pageable);
 
@@ -172,17 +195,12 @@ class CommentServiceImplTest {
 
         @Test
         void checkFindAllByNewsIdShouldReturnCommentResponses() {
-            List<Comment> comments = List.of(
-                    CommentTestBuilder.comment().build(),
-                    CommentTestBuilder.comment().build()
-            );
             List<CommentResponse> commentResponses = List.of(
                     CommentResponseTestBuilder.commentResponse().build(),
                     CommentResponseTestBuilder.commentResponse().build()
             );
 
-            doReturn(comments).when(commentRepository).findAllByNewsId(id, pageable);
-            doReturn(commentResponses).when(commentMapper).mapToCommentResponses(comments);
+            doReturn(commentResponses).when(commentRepository).findAllByNewsId(id, pageable);
 
             List<CommentResponse> actualCommentResponses = commentService.findAllByNewsId(id, pageable);
 
@@ -199,18 +217,172 @@ class CommentServiceImplTest {
         }
     }
 
+    @Nested
+    class CommentServiceImplFindAllBySliceTest {
+
+        private Pageable pageable;
+        private List<CommentResponse> commentResponses;
+
+        @BeforeEach
+        void setUp() {
+            pageable = PageRequest.of(1, 1);
+            commentResponses = List.of(CommentResponseTestBuilder.commentResponse().build());
+        }
+
+        @Test
+        void checkFindAllBySliceShouldReturnApproximateTotalOfUnfilteredComments() {
+            CommentFilter commentFilter = CommentFilterTestBuilder.commentFilter().build();
+            Comment comment = CommentTestBuilder.comment().build();
+
+            doReturn(comment).when(commentMapper).mapToComment(commentFilter);
+            doReturn(new SliceImpl<>(commentResponses, pageable, true)).when(commentRepository)
+                    .findResponseSlice(any(), eq(pageable));
+            doReturn(10L).when(approximateTotalCounter).count(eq("comments"), any(), any());
+
+            SlicePageResponse<CommentResponse> actualSlice = commentService.findAllBySlice(commentFilter, pageable,
+                    true);
+
+            assertAll(
+                    () -> assertThat(actualSlice.getContent()).isEqualTo(commentResponses),
+                    () -> assertThat(actualSlice.isHasNext()).isTrue(),
+                    () -> assertThat(actualSlice.getApproximateTotal()).isEqualTo(10L)
+            );
+        }
+
+        @Test
+        void checkFindAllBySliceShouldNotCountFilteredComments() {
+            CommentFilter commentFilter = CommentFilterTestBuilder.commentFilter().withUsername("garcia").build();
+            Comment comment = CommentTestBuilder.comment().build();
+
+            doReturn(comment).when(commentMapper).mapToComment(commentFilter);
+            doReturn(new SliceImpl<>(commentResponses, pageable, false)).when(commentRepository)
+                    .findResponseSlice(any(), eq(pageable));
+
+            SlicePageResponse<CommentResponse> actualSlice = commentService.findAllBySlice(commentFilter, pageable,
+                    true);
+
+            assertAll(
+                    () -> assertThat(actualSlice.isHasNext()).isFalse(),
+                    () -> assertThat(actualSlice.getApproximateTotal()).isNull()
+            );
+            verifyNoInteractions(approximateTotalCounter);
+        }
+    }
+
+    @Nested
+    class CommentServiceImplFindAllByCursorTest {
+
+        private Pageable pageable;
+        private Pageable probe;
+
+        @BeforeEach
+        void setUp() {
+            pageable = PageRequest.ofSize(1);
+            probe = PageRequest.ofSize(2);
+        }
+
+        @Test
+        void checkFindAllByCursorShouldReadFirstPageAndReturnNextCursor() {
+            CommentResponse lastComment = CommentResponseTestBuilder.commentResponse().withId(7L)
+                    .withTime(LocalDateTime.of(2023, 6, 6, 7, 0)).build();
+            List<CommentResponse> comments = List.of(lastComment,
+                    CommentResponseTestBuilder.commentResponse().withId(6L).build());
+            List<CommentResponse> commentResponses = List.of(lastComment);
+
+            doReturn(comments).when(commentRepository).findAllByOrderByTimeDescIdDesc(probe);
+
+            CursorPageResponse<CommentResponse> actualPage = commentService.findAllByCursor("", pageable);
+
+            assertAll(
+                    () -> assertThat(actualPage.getContent()).isEqualTo(commentResponses),
+                    () -> assertThat(KeysetCursor.decode(actualPage.getNextCursor()))
+                            .isEqualTo(new KeysetCursor(lastComment.getTime(), lastComment.getId()))
+            );
+        }
+
+        @Test
+        void checkFindAllByCursorShouldReadCommentsBeforeCursor() {
+            KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2023, 6, 6, 7, 0), 7L);
+            List<CommentResponse> commentResponses = List.of(
+                    CommentResponseTestBuilder.commentResponse().withId(6L).build()
+            );
+
+            doReturn(commentResponses).when(commentRepository).findAllBefore(cursor.time(), cursor.id(), probe);
+
+            CursorPageResponse<CommentResponse> actualPage = commentService.findAllByCursor(cursor.encode(), pageable);
+
+            assertAll(
+                    () -> assertThat(actualPage.getContent()).isEqualTo(commentResponses),
+                    () -> assertThat(actualPage.getNextCursor()).isNull()
+            );
+        }
+    }
+
+    @Nested
+    class CommentServiceImplFindAllByNewsIdAndCursorTest {
+
+        private Long id;
+        private Pageable pageable;
+        private Pageable probe;
+
+        @BeforeEach
+        void setUp() {
+            id = 1L;
+            pageable = PageRequest.ofSize(1);
+            probe = PageRequest.ofSize(2);
+        }
+
+        @Test
+        void checkFindAllByNewsIdAndCursorShouldReadFirstPage() {
+            List<CommentResponse> commentResponses = List.of(CommentResponseTestBuilder.commentResponse().build());
+
+            doReturn(commentResponses).when(commentRepository).findAllByNewsIdOrderByTimeAscIdAsc(id, probe);
+
+            CursorPageResponse<CommentResponse> actualPage = commentService.findAllByNewsIdAndCursor(id, null, pageable);
+
+            assertAll(
+                    () -> assertThat(actualPage.getContent()).isEqualTo(commentResponses),
+                    () -> assertThat(actualPage.getNextCursor()).isNull()
+            );
+        }
+
+        @Test
+        void checkFindAllByNewsIdAndCursorShouldReadCommentsAfterCursorAndReturnNextCursor() {
+            KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2023, 6, 6, 7, 0), 1L);
+            CommentResponse lastComment = CommentResponseTestBuilder.commentResponse().withId(2L)
+                    .withTime(LocalDateTime.of(2023, 6, 6, 8, 0)).build();
+            List<CommentResponse> comments = List.of(lastComment,
+                    CommentResponseTestBuilder.commentResponse().withId(3L).build());
+
+            doReturn(comments).when(commentRepository).findAllByNewsIdAfter(id, cursor.time(), cursor.id(), probe);
+
+            CursorPageResponse<CommentResponse> actualPage = commentService.findAllByNewsIdAndCursor(id,
+                    cursor.encode(), pageable);
+
+            assertThat(KeysetCursor.decode(actualPage.getNextCursor()))
+                    .isEqualTo(new KeysetCursor(lastComment.getTime(), lastComment.getId()));
+        }
+
+        @Test
+        void checkFindAllByNewsIdAndCursorShouldThrowsInvalidCursorException() {
+            assertThatThrownBy(() -> commentService.findAllByNewsIdAndCursor(id, "bm90LWEtY3Vyc29yXzE", pageable))
+                    .isInstanceOf(InvalidCursorException.class);
+        }
+    }
+
     @Nested
     class CommentServiceImplFindByIdTest {
 
         @Test
         void checkFindByIdShouldReturnNewsCommentResponse() {
-            Comment comment = CommentTestBuilder.comment().build();
+            Long id = 1L;
+            NewsCommentProjection comment = newsCommentProjection(id, 1L);
             NewsCommentResponse newsCommentResponse = NewsCommentResponseTestBuilder.newsCommentResponse().build();
 
-            doReturn(Optional.of(comment)).when(commentRepository).findById(comment.getId());
+            doReturn(Optional.of(comment)).when(commentRepository).findNewsCommentById(id);
             doReturn(newsCommentResponse).when(commentMapper).mapToNewsCommentResponse(comment);
 
-            NewsCommentResponse actualNewsCommentResponse = commentService.findById(comment.getId());
+            NewsCommentResponse actualNewsCommentResponse = commentService.findById(id);
 
             assertThat(actualNewsCommentResponse).isEqualTo(newsCommentResponse);
         }
@@ -219,7 +391,7 @@ class CommentServiceImplTest {
         void checkFindByIdShouldThrowsCommentNotFoundException() {
             Long id = 1L;
 
-            doReturn(Optional.empty()).when(commentRepository).findById(id);
+            doReturn(Optional.empty()).when(commentRepository).findNewsCommentById(id);
 
             assertThatThrownBy(() -> commentService.findById(id))
                     .isInstanceOf(CommentNotFoundException.class);
@@ -231,14 +403,15 @@ class CommentServiceImplTest {
 
         @Test
         void checkFindByIdAndNewsIdShouldReturnNewsCommentResponse() {
+            Long commentId = 1L;
             Long newsId = 1L;
-            Comment comment = CommentTestBuilder.comment().build();
+            NewsCommentProjection comment = newsCommentProjection(commentId, newsId);
             NewsCommentResponse newsCommentResponse = NewsCommentResponseTestBuilder.newsCommentResponse().build();
 
-            doReturn(Optional.of(comment)).when(commentRepository).findByIdAndNewsId(comment.getId(), newsId);
+            doReturn(Optional.of(comment)).when(commentRepository).findNewsCommentByIdAndNewsId(commentId, newsId);
             doReturn(newsCommentResponse).when(commentMapper).mapToNewsCommentResponse(comment);
 
-            NewsCommentResponse actualNewsCommentResponse = commentService.findByIdAndNewsId(comment.getId(), newsId);
+            NewsCommentResponse actualNewsCommentResponse = commentService.findByIdAndNewsId(commentId, newsId);
 
             assertThat(actualNewsCommentResponse).isEqualTo(newsCommentResponse);
         }
@@ -248,7 +421,7 @@ class CommentServiceImplTest {
             Long commentId = 1L;
             Long newsId = 1L;
 
-            doReturn(Optional.empty()).when(commentRepository).findByIdAndNewsId(commentId, newsId);
+            doReturn(Optional.empty()).when(commentRepository).findNewsCommentByIdAndNewsId(commentId, newsId);
 
             assertThatThrownBy(() -> commentService.findByIdAndNewsId(commentId, newsId))
                     .isInstanceOf(CommentNotFoundException.class);
@@ -283,6 +456,58 @@ class CommentServiceImplTest {
             assertThat(actualNewsCommentResponse).isEqualTo(newsCommentResponse);
         }
 
+        @Test
+        void checkSaveShouldEvictSegmentWhenSavedCommentInsideIt() {
+            News news = NewsTestBuilder.news().build();
+            Comment comment = CommentTestBuilder.comment().withId(6L).build();
+
+            doReturn(Optional.of(news)).when(newsRepository).findById(news.getId());
+            doReturn(comment).when(commentMapper).mapToComment(commentRequest, principal.getName());
+            doReturn(comment).when(commentRepository).save(comment);
+            doReturn(10).when(commentNewsReadModel).getPreviewSize();
+            doReturn(commentIds(5)).when(commentRepository)
+                    .findIdsByNewsIdBefore(news.getId(), comment.getTime(), comment.getId(), PageRequest.ofSize(11));
+            doReturn(true).when(commentNewsReadModel).isInCommentSegment(5L);
+
+            commentService.save(commentRequest, principal);
+
+            verify(commentNewsReadModel).evictCommentSegment(news.getId());
+            verify(commentNewsReadModel).evictNews(news.getId());
+        }
+
+        @Test
+        void checkSaveShouldNotEvictSegmentWhenSavedCommentAfterIt() {
+            News news = NewsTestBuilder.news().build();
+            Comment comment = CommentTestBuilder.comment().withId(250L).build();
+
+            doReturn(Optional.of(news)).when(newsRepository).findById(news.getId());
+            doReturn(comment).when(commentMapper).mapToComment(commentRequest, principal.getName());
+            doReturn(comment).when(commentRepository).save(comment);
+            doReturn(10).when(commentNewsReadModel).getPreviewSize();
+            doReturn(commentIds(11)).when(commentRepository)
+                    .findIdsByNewsIdBefore(news.getId(), comment.getTime(), comment.getId(), PageRequest.ofSize(11));
+            doReturn(false).when(commentNewsReadModel).isInCommentSegment(11L);
+
+            commentService.save(commentRequest, principal);
+
+            verify(commentNewsReadModel, never()).evictCommentSegment(news.getId());
+            verify(commentNewsReadModel).evictNews(news.getId());
+        }
+
+        @Test
+        void checkSaveShouldIncrementCommentCounterOfNews() {
+            News news = NewsTestBuilder.news().build();
+            Comment comment = CommentTestBuilder.comment().build();
+
+            doReturn(Optional.of(news)).when(newsRepository).findById(news.getId());
+            doReturn(comment).when(commentMapper).mapToComment(commentRequest, principal.getName());
+            doReturn(comment).when(commentRepository).save(comment);
+
+            commentService.save(commentRequest, principal);
+
+            verify(newsRepository).updateCommentCounters(news.getId(), 1);
+        }
+
         @Test
         void checkSaveShouldThrowsNewsNotFoundException() {
             Long id = 1L;
@@ -294,6 +519,96 @@ class CommentServiceImplTest {
         }
     }
 
+    @Nested
+    class CommentServiceImplSaveAllTest {
+
+        private Principal principal;
+        private News news;
+
+        @BeforeEach
+        void setUp() {
+            principal = () -> "ronnie_stevens";
+            news = NewsTestBuilder.news().withId(1L).build();
+        }
+
+        @Test
+        void checkSaveAllShouldReturnResultOfEveryCommentInOrderOfBatch() {
+            CommentRequest firstCommentRequest = CommentRequestTestBuilder.commentRequest().withText("First").build();
+            CommentRequest invalidCommentRequest = CommentRequestTestBuilder.commentRequest().build();
+            CommentRequest missingNewsCommentRequest = CommentRequestTestBuilder.commentRequest()
+                    .withText("Missing")
+                    .withNewsId(7L)
+                    .build();
+            List<CommentRequest> commentRequests = List.of(firstCommentRequest, invalidCommentRequest,
+                    missingNewsCommentRequest);
+            Comment comment = CommentTestBuilder.comment().withId(51L).withText("First").build();
+            NewsCommentResponse newsCommentResponse = NewsCommentResponseTestBuilder.newsCommentResponse()
+                    .withId(51L)
+                    .build();
+            List<String> errors = List.of("Comment text cannot be empty");
+            BatchResponse<NewsCommentResponse> expectedBatchResponse = new BatchResponse<>(1, 2, List.of(
+                    BatchItemResponse.created(0, newsCommentResponse),
+                    BatchItemResponse.failed(1, HttpStatus.BAD_REQUEST, errors),
+                    BatchItemResponse.failed(2, HttpStatus.NOT_FOUND, List.of("News with id = [7] not found"))
+            ));
+
+            doReturn(List.of(news)).when(newsRepository).findAllById(List.of(1L, 7L));
+            doReturn(List.of()).when(batchItemValidator).validate(firstCommentRequest);
+            doReturn(errors).when(batchItemValidator).validate(invalidCommentRequest);
+            doReturn(List.of()).when(batchItemValidator).validate(missingNewsCommentRequest);
+            doReturn(comment).when(commentMapper).mapToComment(firstCommentRequest, principal.getName());
+            doReturn(List.of(comment)).when(commentRepository).saveAll(List.of(comment));
+            doReturn(newsCommentResponse).when(commentMapper).mapToNewsCommentResponse(comment);
+
+            BatchResponse<NewsCommentResponse> actualBatchResponse = commentService.saveAll(commentRequests, principal);
+
+            assertAll(
+                    () -> assertThat(actualBatchResponse).isEqualTo(expectedBatchResponse),
+                    () -> assertThat(comment.getNews()).isSameAs(news)
+            );
+        }
+
+        @Test
+        void checkSaveAllShouldUpdateCountersAndEvictSegmentOncePerNews() {
+            CommentRequest firstCommentRequest = CommentRequestTestBuilder.commentRequest().withText("First").build();
+            CommentRequest lastCommentRequest = CommentRequestTestBuilder.commentRequest().withText("Last").build();
+            Comment firstComment = CommentTestBuilder.comment().withId(250L).withText("First").build();
+            Comment lastComment = CommentTestBuilder.comment().withId(251L).withText("Last").build();
+
+            doReturn(List.of(news)).when(newsRepository).findAllById(List.of(1L));
+            doReturn(List.of()).when(batchItemValidator).validate(any());
+            doReturn(firstComment).when(commentMapper).mapToComment(firstCommentRequest, principal.getName());
+            doReturn(lastComment).when(commentMapper).mapToComment(lastCommentRequest, principal.getName());
+            doReturn(List.of(firstComment, lastComment)).when(commentRepository)
+                    .saveAll(List.of(firstComment, lastComment));
+            doReturn(10).when(commentNewsReadModel).getPreviewSize();
+            doReturn(commentIds(9)).when(commentRepository)
+                    .findIdsByNewsIdBefore(news.getId(), firstComment.getTime(), firstComment.getId(),
+                            PageRequest.ofSize(11));
+            doReturn(true).when(commentNewsReadModel).isInCommentSegment(9L);
+
+            commentService.saveAll(List.of(firstCommentRequest, lastCommentRequest), principal);
+
+            verify(newsRepository).updateCommentCounters(news.getId(), 2);
+            verify(commentNewsReadModel).getPreviewSize();
+            verify(commentNewsReadModel).isInCommentSegment(9L);
+            verify(commentNewsReadModel).evictCommentSegment(news.getId());
+            verify(commentNewsReadModel).evictNews(news.getId());
+            verifyNoMoreInteractions(commentNewsReadModel);
+        }
+
+        @Test
+        void checkSaveAllShouldThrowsInvalidBatchException() {
+            List<CommentRequest> commentRequests = Collections.emptyList();
+
+            doThrow(InvalidBatchException.class).when(batchItemValidator).checkSize(commentRequests);
+
+            assertThatThrownBy(() -> commentService.saveAll(commentRequests, principal))
+                    .isInstanceOf(InvalidBatchException.class);
+            verifyNoInteractions(commentRepository);
+        }
+    }
+
     @Nested
     class CommentServiceImplUpdateTest {
 
@@ -332,6 +647,20 @@ class CommentServiceImplTest {
             assertThat(actualNewsCommentResponse).isEqualTo(newsCommentResponse);
         }
 
+        @Test
+        void checkUpdateShouldKeepCommentCounterOfNews() {
+            Comment comment = CommentTestBuilder.comment()
+                    .withUsername("ronnie_stevens")
+                    .build();
+
+            doReturn(Optional.of(comment)).when(commentRepository).findById(comment.getId());
+            doReturn(comment).when(commentRepository).save(comment);
+
+            commentService.update(comment.getId(), newsCommentRequest);
+
+            verify(newsRepository).updateCommentCounters(comment.getNews().getId(), 0);
+        }
+
         @Test
         void checkUpdateShouldThrowsCommentNotFoundException() {
             Long id = 1L;
@@ -378,6 +707,58 @@ class CommentServiceImplTest {
             verify(commentRepository).deleteById(comment.getId());
         }
 
+        @Test
+        void checkDeleteByIdShouldDecrementCommentCounterOfNews() {
+            Comment comment = CommentTestBuilder.comment()
+                    .withUsername("ronnie_stevens")
+                    .build();
+
+            doReturn(Optional.of(comment)).when(commentRepository).findById(comment.getId());
+
+            commentService.deleteById(comment.getId());
+
+            verify(newsRepository).updateCommentCounters(comment.getNews().getId(), -1);
+            verify(commentNewsReadModel).evictNews(comment.getNews().getId());
+        }
+
+        @Test
+        void checkDeleteByIdShouldEvictSegmentWhenDeletedCommentInsideIt() {
+            News news = NewsTestBuilder.news().build();
+            Comment comment = CommentTestBuilder.comment()
+                    .withUsername("ronnie_stevens")
+                    .withNews(news)
+                    .build();
+
+            doReturn(Optional.of(comment)).when(commentRepository).findById(comment.getId());
+            doReturn(10).when(commentNewsReadModel).getPreviewSize();
+            doReturn(commentIds(3)).when(commentRepository)
+                    .findIdsByNewsIdBefore(news.getId(), comment.getTime(), comment.getId(), PageRequest.ofSize(11));
+            doReturn(true).when(commentNewsReadModel).isInCommentSegment(3L);
+
+            commentService.deleteById(comment.getId());
+
+            verify(commentNewsReadModel).evictCommentSegment(news.getId());
+        }
+
+        @Test
+        void checkDeleteByIdShouldNotEvictSegmentWhenDeletedCommentAfterIt() {
+            News news = NewsTestBuilder.news().build();
+            Comment comment = CommentTestBuilder.comment()
+                    .withUsername("ronnie_stevens")
+                    .withNews(news)
+                    .build();
+
+            doReturn(Optional.of(comment)).when(commentRepository).findById(comment.getId());
+            doReturn(10).when(commentNewsReadModel).getPreviewSize();
+            doReturn(commentIds(11)).when(commentRepository)
+                    .findIdsByNewsIdBefore(news.getId(), comment.getTime(), comment.getId(), PageRequest.ofSize(11));
+            doReturn(false).when(commentNewsReadModel).isInCommentSegment(11L);
+
+            commentService.deleteById(comment.getId());
+
+            verify(commentNewsReadModel, never()).evictCommentSegment(news.getId());
+        }
+
         @Test
         void checkDeleteByIdShouldThrowsCommentNotFoundException() {
             Long id = 1L;
@@ -400,4 +781,17 @@ class CommentServiceImplTest {
                     .isInstanceOf(AccessDeniedException.class);
         }
     }
+
+    private static List<Long> commentIds(long count) {
+        return LongStream.rangeClosed(1, count)
+                .boxed()
+                .toList();
+    }
+
+    private static NewsCommentProjection newsCommentProjection(Long id, Long newsId) {
+        LocalDateTime time = LocalDateTime.of(2023, 6, 6, 7, 0);
+
+        return new NewsCommentProjection(id, "good comment", time, "debbie_garcia", newsId, "news", "good news", time,
+                "thomas_martinez", 1L, time);
+    }
 }
@@ -1,5 +1,7 @@
 package ru.clevertec.newsservice.service.impl;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -7,44 +9,74 @@ import org.junit.jupiter.api.extension.ExtendWith;
 
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import org.springframework.data.domain.Example;
-import org.springframework.data.domain.ExampleMatcher;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.access.AccessDeniedException;
 
+import ru.clevertec.exceptionhandlingstarter.exception.InvalidBatchException;
+import ru.clevertec.exceptionhandlingstarter.exception.InvalidCursorException;
 import ru.clevertec.exceptionhandlingstarter.exception.NewsNotFoundException;
+import ru.clevertec.newsservice.batch.BatchItemValidator;
+import ru.clevertec.newsservice.cache.tag.CacheTagInvalidator;
 import ru.clevertec.newsservice.dto.filter.NewsFilter;
 import ru.clevertec.newsservice.dto.request.news.NewsRequest;
 import ru.clevertec.newsservice.dto.request.news.NewsTextRequest;
+import ru.clevertec.newsservice.dto.response.batch.BatchItemResponse;
+import ru.clevertec.newsservice.dto.response.batch.BatchResponse;
+import ru.clevertec.newsservice.dto.response.comment.CommentResponse;
 import ru.clevertec.newsservice.dto.response.news.CommentNewsResponse;
 import ru.clevertec.newsservice.dto.response.news.NewsResponse;
+import ru.clevertec.newsservice.dto.response.news.NewsSearchResponse;
+import ru.clevertec.newsservice.dto.response.page.CursorPageResponse;
+import ru.clevertec.newsservice.dto.response.page.SlicePageResponse;
 import ru.clevertec.newsservice.entity.News;
+import ru.clevertec.newsservice.mapper.CommentMapper;
 import ru.clevertec.newsservice.mapper.NewsMapper;
+import ru.clevertec.newsservice.pagination.ApproximateTotalCounter;
+import ru.clevertec.newsservice.pagination.KeysetCursor;
 import ru.clevertec.newsservice.repository.NewsRepository;
+import ru.clevertec.newsservice.repository.projection.NewsExportRow;
+import ru.clevertec.newsservice.repository.projection.NewsSearchHit;
+import ru.clevertec.newsservice.service.CommentNewsReadModel;
 import ru.clevertec.newsservice.util.factory.SecurityContextFactory;
 import ru.clevertec.newsservice.util.response.CommentNewsResponseTestBuilder;
+import ru.clevertec.newsservice.util.response.CommentResponseTestBuilder;
 import ru.clevertec.newsservice.util.filter.NewsFilterTestBuilder;
 import ru.clevertec.newsservice.util.request.NewsRequestTestBuilder;
 import ru.clevertec.newsservice.util.response.NewsResponseTestBuilder;
 import ru.clevertec.newsservice.util.entity.NewsTestBuilder;
 import ru.clevertec.newsservice.util.request.NewsTextRequestTestBuilder;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.security.Principal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
-import static org.springframework.data.domain.ExampleMatcher.GenericPropertyMatchers.contains;
+import static org.junit.jupiter.api.Assertions.assertAll;
 
 @ExtendWith(MockitoExtension.class)
 public class NewsServiceImplTest {
@@ -52,9 +84,27 @@ public class NewsServiceImplTest {
     @Mock
     private NewsMapper newsMapper;
 
+    @Mock
+    private CommentMapper commentMapper;
+
     @Mock
     private NewsRepository newsRepository;
 
+    @Mock
+    private CommentNewsReadModel commentNewsReadModel;
+
+    @Mock
+    private CacheTagInvalidator cacheTagInvalidator;
+
+    @Mock
+    private ApproximateTotalCounter approximateTotalCounter;
+
+    @Mock
+    private BatchItemValidator batchItemValidator;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
     @InjectMocks
     private NewsServiceImpl newsService;
 
@@ -64,36 +114,25 @@ public class NewsServiceImplTest {
         private NewsFilter newsFilter;
         private Pageable pageable;
         private News news;
-        private Example<News> newsExample;
 
         @BeforeEach
         void setUp() {
             newsFilter = NewsFilterTestBuilder.newsFilter().build();
             pageable = Pageable.unpaged();
-            ExampleMatcher newsMatcher = ExampleMatcher.matching()
-                    .withMatcher("title", contains().ignoreCase())
-                    .withMatcher("text", contains().ignoreCase())
-                    .withMatcher("username", contains().ignoreCase());
             news = NewsTestBuilder.news().build();
-            newsExample = Example.of(news, newsMatcher);
         }
 
         @Test
         void checkFindAllShouldReturnSize2() {
             int expectedSize = 2;
-            List<News> newsList = List.of(
-                    NewsTestBuilder.news().build(),
-                    NewsTestBuilder.news().build()
-            );
-            Page<News> newsPage = new PageImpl<>(newsList);
             List<NewsResponse> newsResponses = List.of(
                     NewsResponseTestBuilder.newsResponse().build(),
                     NewsResponseTestBuilder.newsResponse().build()
             );
+            Slice<NewsResponse> newsSlice = new SliceImpl<>(newsResponses);
 
             doReturn(news).when(newsMapper).mapToNews(newsFilter);
-            doReturn(newsPage).when(newsRepository).findAll(newsExample, pageable);
-            doReturn(newsResponses).when(newsMapper).mapToNewsResponses(newsList);
+            doReturn(newsSlice).when(newsRepository).findResponseSlice(any(), eq(pageable));
 
             List<NewsResponse> actualNewsResponses = newsService.findAll(newsFilter, pageable);
 
@@ -102,19 +141,14 @@ public class NewsServiceImplTest {
 
         @Test
         void checkFindAllShouldReturnNewsResponses() {
-            List<News> newsList = List.of(
-                    NewsTestBuilder.news().build(),
-                    NewsTestBuilder.news().build()
-            );
-            Page<News> newsPage = new PageImpl<>(newsList);
             List<NewsResponse> newsResponses = List.of(
                     NewsResponseTestBuilder.newsResponse().build(),
                     NewsResponseTestBuilder.newsResponse().build()
             );
+            Slice<NewsResponse> newsSlice = new SliceImpl<>(newsResponses);
 
             doReturn(news).when(newsMapper).mapToNews(newsFilter);
-            doReturn(newsPage).when(newsRepository).findAll(newsExample, pageable);
-            doReturn(newsResponses).when(newsMapper).mapToNewsResponses(newsList);
+            doReturn(newsSlice).when(newsRepository).findResponseSlice(any(), eq(pageable));
 
             List<NewsResponse> actualNewsResponses = newsService.findAll(newsFilter, pageable);
 
@@ -124,7 +158,8 @@ public class NewsServiceImplTest {
         @Test
         void checkFindAllShouldReturnEmptyNewsResponses() {
             doReturn(news).when(newsMapper).mapToNews(newsFilter);
-            doReturn(Page.empty()).when(newsRepository).findAll(newsExample, pageable);
+            doReturn(new SliceImpl<>(Collections.emptyList())).when(newsRepository)
+                    .findResponseSlice(any(), eq(pageable));
 
             List<NewsResponse> actualNewsResponses = newsService.findAll(newsFilter, pageable);
 
@@ -132,6 +167,168 @@ public class NewsServiceImplTest {
         }
     }
 
+    @Nested
+    class NewsServiceImplFindAllBySliceTest {
+
+        private Pageable pageable;
+        private List<NewsResponse> newsResponses;
+
+        @BeforeEach
+        void setUp() {
+            pageable = PageRequest.of(0, 2);
+            newsResponses = List.of(
+                    NewsResponseTestBuilder.newsResponse().build(),
+                    NewsResponseTestBuilder.newsResponse().build()
+            );
+        }
+
+        @Test
+        void checkFindAllBySliceShouldReturnNewsResponsesAndHasNext() {
+            NewsFilter newsFilter = NewsFilterTestBuilder.newsFilter().withTitle("music").build();
+            News news = NewsTestBuilder.news().build();
+
+            doReturn(news).when(newsMapper).mapToNews(newsFilter);
+            doReturn(new SliceImpl<>(newsResponses, pageable, true)).when(newsRepository)
+                    .findResponseSlice(any(), eq(pageable));
+
+            SlicePageResponse<NewsResponse> actualSlice = newsService.findAllBySlice(newsFilter, pageable, true);
+
+            assertAll(
+                    () -> assertThat(actualSlice.getContent()).isEqualTo(newsResponses),
+                    () -> assertThat(actualSlice.isHasNext()).isTrue(),
+                    () -> assertThat(actualSlice.getApproximateTotal()).isNull()
+            );
+            verifyNoInteractions(approximateTotalCounter);
+        }
+
+        @Test
+        void checkFindAllBySliceShouldReturnApproximateTotalOfUnfilteredNews() {
+            NewsFilter newsFilter = NewsFilterTestBuilder.newsFilter().withTitle("").build();
+            News news = NewsTestBuilder.news().build();
+
+            doReturn(news).when(newsMapper).mapToNews(newsFilter);
+            doReturn(new SliceImpl<>(newsResponses, pageable, false)).when(newsRepository)
+                    .findResponseSlice(any(), eq(pageable));
+            doReturn(1_000_000L).when(approximateTotalCounter).count(eq("news"), any(), any());
+
+            SlicePageResponse<NewsResponse> actualSlice = newsService.findAllBySlice(newsFilter, pageable, true);
+
+            assertAll(
+                    () -> assertThat(actualSlice.isHasNext()).isFalse(),
+                    () -> assertThat(actualSlice.getApproximateTotal()).isEqualTo(1_000_000L)
+            );
+        }
+
+        @Test
+        void checkFindAllBySliceShouldNotCountNewsWithoutTotalRequested() {
+            NewsFilter newsFilter = NewsFilterTestBuilder.newsFilter().build();
+            News news = NewsTestBuilder.news().build();
+
+            doReturn(news).when(newsMapper).mapToNews(newsFilter);
+            doReturn(new SliceImpl<>(newsResponses, pageable, false)).when(newsRepository)
+                    .findResponseSlice(any(), eq(pageable));
+
+            SlicePageResponse<NewsResponse> actualSlice = newsService.findAllBySlice(newsFilter, pageable, false);
+
+            assertThat(actualSlice.getApproximateTotal()).isNull();
+            verifyNoInteractions(approximateTotalCounter);
+        }
+    }
+
+    @Nested
+    class NewsServiceImplFindAllByCursorTest {
+
+        private Pageable pageable;
+        private Pageable probe;
+
+        @BeforeEach
+        void setUp() {
+            pageable = PageRequest.ofSize(2);
+            probe = PageRequest.ofSize(3);
+        }
+
+        @Test
+        void checkFindAllByCursorShouldReadFirstPageAndReturnNextCursor() {
+            NewsResponse lastNews = NewsResponseTestBuilder.newsResponse().withId(4L)
+                    .withTime(LocalDateTime.of(2023, 6, 5, 11, 45)).build();
+            List<NewsResponse> newsResponses = List.of(NewsResponseTestBuilder.newsResponse().withId(5L).build(),
+                    lastNews);
+            List<NewsResponse> news = new ArrayList<>(newsResponses);
+            news.add(NewsResponseTestBuilder.newsResponse().withId(3L).build());
+
+            doReturn(news).when(newsRepository).findAllByOrderByTimeDescIdDesc(probe);
+
+            CursorPageResponse<NewsResponse> actualPage = newsService.findAllByCursor(null, pageable);
+
+            assertAll(
+                    () -> assertThat(actualPage.getContent()).isEqualTo(newsResponses),
+                    () -> assertThat(KeysetCursor.decode(actualPage.getNextCursor()))
+                            .isEqualTo(new KeysetCursor(lastNews.getTime(), lastNews.getId()))
+            );
+        }
+
+        @Test
+        void checkFindAllByCursorShouldReadNewsBeforeCursorAndReturnNullCursorOnLastPage() {
+            KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2023, 6, 5, 11, 45), 4L);
+            List<NewsResponse> newsResponses = List.of(NewsResponseTestBuilder.newsResponse().withId(3L).build());
+
+            doReturn(newsResponses).when(newsRepository).findAllBefore(cursor.time(), cursor.id(), probe);
+
+            CursorPageResponse<NewsResponse> actualPage = newsService.findAllByCursor(cursor.encode(), pageable);
+
+            assertAll(
+                    () -> assertThat(actualPage.getContent()).isEqualTo(newsResponses),
+                    () -> assertThat(actualPage.getNextCursor()).isNull()
+            );
+        }
+
+        @Test
+        void checkFindAllByCursorShouldThrowsInvalidCursorException() {
+            assertThatThrownBy(() -> newsService.findAllByCursor("%%%", pageable))
+                    .isInstanceOf(InvalidCursorException.class);
+        }
+    }
+
+    @Nested
+    class NewsServiceImplSearchTest {
+
+        @Test
+        void checkSearchShouldReturnNewsSearchResponses() {
+            Pageable pageable = PageRequest.of(2, 5);
+            List<NewsSearchHit> newsSearchHits = List.of(mock(NewsSearchHit.class));
+            List<NewsSearchResponse> newsSearchResponses = List.of(
+                    NewsSearchResponse.builder()
+                            .id(5L)
+                            .titleHighlight("<mark>Music</mark> streaming royalties")
+                            .build()
+            );
+
+            doReturn(newsSearchHits).when(newsRepository).search("music", 5, 10L);
+            doReturn(newsSearchResponses).when(newsMapper).mapToNewsSearchResponses(newsSearchHits);
+
+            List<NewsSearchResponse> actualNewsSearchResponses = newsService.search("music", pageable);
+
+            assertThat(actualNewsSearchResponses).isEqualTo(newsSearchResponses);
+        }
+
+        @Test
+        void checkSearchShouldSearchAllNewsWhenUnpaged() {
+            doReturn(Collections.emptyList()).when(newsRepository).search("music", Integer.MAX_VALUE, 0L);
+
+            newsService.search("music", Pageable.unpaged());
+
+            verify(newsRepository).search("music", Integer.MAX_VALUE, 0L);
+        }
+
+        @Test
+        void checkSearchShouldReturnEmptyNewsSearchResponsesForBlankQuery() {
+            List<NewsSearchResponse> actualNewsSearchResponses = newsService.search(" ", PageRequest.of(0, 5));
+
+            assertThat(actualNewsSearchResponses).isEmpty();
+            verifyNoInteractions(newsRepository);
+        }
+    }
+
     @Nested
     class NewsServiceImplFindAllByCommentsTextTest {
 
@@ -147,17 +344,12 @@ public class NewsServiceImplTest {
         @Test
         void checkFindAllByCommentsTextShouldReturnSize2() {
             int expectedSize = 2;
-            List<News> news = List.of(
-                    NewsTestBuilder.news().build(),
-                    NewsTestBuilder.news().build()
-            );
             List<NewsResponse> newsResponses = List.of(
                     NewsResponseTestBuilder.newsResponse().build(),
                     NewsResponseTestBuilder.newsResponse().build()
             );
 
-            doReturn(news).when(newsRepository).findAllByCommentsTextContainingIgnoreCase(commentText, pageable);
-            doReturn(newsResponses).when(newsMapper).mapToNewsResponses(news);
+            doReturn(newsResponses).when(newsRepository).findAllByCommentsTextContainingIgnoreCase(commentText, pageable);
 
             List<NewsResponse> actualNewsResponses = newsService.findAllByCommentsText(commentText, pageable);
 
@@ -166,17 +358,12 @@ public class NewsServiceImplTest {
 
         @Test
         void checkFindAllByCommentsTextShouldReturnNewsResponses() {
-            List<News> news = List.of(
-                    NewsTestBuilder.news().build(),
-                    NewsTestBuilder.news().build()
-            );
             List<NewsResponse> newsResponses = List.of(
                     NewsResponseTestBuilder.newsResponse().build(),
                     NewsResponseTestBuilder.newsResponse().build()
             );
 
-            doReturn(news).when(newsRepository).findAllByCommentsTextContainingIgnoreCase(commentText, pageable);
-            doReturn(newsResponses).when(newsMapper).mapToNewsResponses(news);
+            doReturn(newsResponses).when(newsRepository).findAllByCommentsTextContainingIgnoreCase(commentText, pageable);
 
             List<NewsResponse> actualNewsResponses = newsService.findAllByCommentsText(commentText, pageable);
 
@@ -208,17 +395,12 @@ public class NewsServiceImplTest {
         @Test
         void checkFindAllByCommentsUsernameShouldReturnSize2() {
             int expectedSize = 2;
-            List<News> news = List.of(
-                    NewsTestBuilder.news().build(),
-                    NewsTestBuilder.news().build()
-            );
             List<NewsResponse> newsResponses = List.of(
                     NewsResponseTestBuilder.newsResponse().build(),
                     NewsResponseTestBuilder.newsResponse().build()
             );
 
-            doReturn(news).when(newsRepository).findAllByCommentsUsernameContainingIgnoreCase(commentUsername, pageable);
-            doReturn(newsResponses).when(newsMapper).mapToNewsResponses(news);
+            doReturn(newsResponses).when(newsRepository).findAllByCommentsUsernameContainingIgnoreCase(commentUsername, pageable);
 
             List<NewsResponse> actualNewsResponses = newsService.findAllByCommentsUsername(commentUsername, pageable);
 
@@ -227,17 +409,12 @@ public class NewsServiceImplTest {
 
         @Test
         void checkFindAllByCommentsUsernameShouldReturnNewsResponses() {
-            List<News> news = List.of(
-                    NewsTestBuilder.news().build(),
-                    NewsTestBuilder.news().build()
-            );
             List<NewsResponse> newsResponses = List.of(
                     NewsResponseTestBuilder.newsResponse().build(),
                     NewsResponseTestBuilder.newsResponse().build()
             );
 
-            doReturn(news).when(newsRepository).findAllByCommentsUsernameContainingIgnoreCase(commentUsername, pageable);
-            doReturn(newsResponses).when(newsMapper).mapToNewsResponses(news);
+            doReturn(newsResponses).when(newsRepository).findAllByCommentsUsernameContainingIgnoreCase(commentUsername, pageable);
 
             List<NewsResponse> actualNewsResponses = newsService.findAllByCommentsUsername(commentUsername, pageable);
 
@@ -254,27 +431,107 @@ public class NewsServiceImplTest {
         }
     }
 
+    @Nested
+    class NewsServiceImplExportTest {
+
+        private final LocalDateTime time = LocalDateTime.of(2023, 7, 1, 12, 30);
+
+        @Test
+        void checkExportShouldWriteOneLineOfEveryNewsWithItsComments() throws IOException {
+            NewsExportRow firstRow = new NewsExportRow(1L, "First", "One", time, "thomas_martinez",
+                    3L, "Good", time, "debbie_garcia");
+            NewsExportRow secondRow = new NewsExportRow(1L, "First", "One", time, "thomas_martinez",
+                    4L, "Great", time, "ronnie_stevens");
+            NewsExportRow uncommentedRow = new NewsExportRow(2L, "Second", "Two", time, "thomas_martinez",
+                    null, null, null, null);
+            CommentNewsResponse firstNews = CommentNewsResponseTestBuilder.commentNewsResponse()
+                    .withId(1L)
+                    .withTime(time)
+                    .build();
+            CommentNewsResponse secondNews = CommentNewsResponseTestBuilder.commentNewsResponse()
+                    .withId(2L)
+                    .withTime(time)
+                    .build();
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+            doReturn(Stream.of(firstRow, secondRow, uncommentedRow)).when(newsRepository).streamExport();
+            doReturn(firstNews).when(newsMapper).mapToCommentNewsResponse(firstRow);
+            doReturn(secondNews).when(newsMapper).mapToCommentNewsResponse(uncommentedRow);
+            doReturn(CommentResponseTestBuilder.commentResponse().withId(3L).withTime(time).build())
+                    .when(commentMapper).mapToCommentResponse(firstRow);
+            doReturn(CommentResponseTestBuilder.commentResponse().withId(4L).withTime(time).build())
+                    .when(commentMapper).mapToCommentResponse(secondRow);
+
+            newsService.export(null, outputStream);
+
+            assertThat(outputStream.toString(StandardCharsets.UTF_8).split("\n"))
+                    .containsExactly(objectMapper.writeValueAsString(firstNews),
+                            objectMapper.writeValueAsString(secondNews));
+            assertThat(firstNews.getComments()).extracting(CommentResponse::getId).containsExactly(3L, 4L);
+        }
+
+        @Test
+        void checkExportShouldReadNewsChangedSinceTime() throws IOException {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+            doReturn(Stream.empty()).when(newsRepository).streamExportSince(time);
+
+            newsService.export(time, outputStream);
+
+            assertThat(outputStream.size()).isZero();
+            verify(newsRepository, never()).streamExport();
+        }
+    }
+
     @Nested
     class NewsServiceImplFindByIdTest {
 
         @Test
         void checkFindByIdShouldReturnCommentNewsResponse() {
-            News news = NewsTestBuilder.news().build();
+            NewsResponse news = NewsResponseTestBuilder.newsResponse().build();
+            List<CommentResponse> comments = List.of(
+                    CommentResponseTestBuilder.commentResponse().withId(1L).build(),
+                    CommentResponseTestBuilder.commentResponse().withId(2L).build()
+            );
             CommentNewsResponse commentNewsResponse = CommentNewsResponseTestBuilder.commentNewsResponse().build();
 
-            doReturn(Optional.of(news)).when(newsRepository).findById(news.getId());
-            doReturn(commentNewsResponse).when(newsMapper).mapToCommentNewsResponse(news);
+            doReturn(news).when(commentNewsReadModel).findNewsById(news.getId());
+            doReturn(comments).when(commentNewsReadModel).findCommentSegment(news.getId());
+            doReturn(10).when(commentNewsReadModel).getPreviewSize();
+            doReturn(commentNewsResponse).when(newsMapper)
+                    .mapToCommentNewsResponse(news, new CursorPageResponse<>(comments, null));
 
             CommentNewsResponse actualCommentNewsResponse = newsService.findById(news.getId());
 
             assertThat(actualCommentNewsResponse).isEqualTo(commentNewsResponse);
         }
 
+        @Test
+        void checkFindByIdShouldReturnPreviewWithCursorOfFollowingComments() {
+            NewsResponse news = NewsResponseTestBuilder.newsResponse().build();
+            LocalDateTime time = LocalDateTime.of(2023, 6, 1, 10, 0);
+            List<CommentResponse> segment = List.of(
+                    CommentResponseTestBuilder.commentResponse().withId(1L).withTime(time).build(),
+                    CommentResponseTestBuilder.commentResponse().withId(3L).withTime(time.plusMinutes(1)).build(),
+                    CommentResponseTestBuilder.commentResponse().withId(2L).withTime(time.plusMinutes(2)).build()
+            );
+            String expectedCursor = new KeysetCursor(time.plusMinutes(1), 3L).encode();
+
+            doReturn(news).when(commentNewsReadModel).findNewsById(news.getId());
+            doReturn(segment).when(commentNewsReadModel).findCommentSegment(news.getId());
+            doReturn(2).when(commentNewsReadModel).getPreviewSize();
+
+            newsService.findById(news.getId());
+
+            verify(newsMapper).mapToCommentNewsResponse(news,
+                    new CursorPageResponse<>(segment.subList(0, 2), expectedCursor));
+        }
+
         @Test
         void checkFindByIdShouldThrowsNewsNotFoundException() {
             Long id = 1L;
 
-            doReturn(Optional.empty()).when(newsRepository).findById(id);
+            doThrow(new NewsNotFoundException("News with id = [1] not found")).when(commentNewsReadModel).findNewsById(id);
 
             assertThatThrownBy(() -> newsService.findById(id))
                     .isInstanceOf(NewsNotFoundException.class);
@@ -308,6 +565,59 @@ public class NewsServiceImplTest {
         }
     }
 
+    @Nested
+    class NewsServiceImplSaveAllTest {
+
+        private Principal principal;
+
+        @BeforeEach
+        void setUp() {
+            principal = () -> "thomas_martinez";
+        }
+
+        @Test
+        void checkSaveAllShouldReturnResultOfEveryNewsInOrderOfBatch() {
+            NewsRequest firstNewsRequest = NewsRequestTestBuilder.newsRequest().withTitle("First").withText("One").build();
+            NewsRequest invalidNewsRequest = NewsRequestTestBuilder.newsRequest().withText("Two").build();
+            NewsRequest lastNewsRequest = NewsRequestTestBuilder.newsRequest().withTitle("Last").withText("Three").build();
+            List<NewsRequest> newsRequests = List.of(firstNewsRequest, invalidNewsRequest, lastNewsRequest);
+            News firstNews = NewsTestBuilder.news().withId(51L).withTitle("First").build();
+            News lastNews = NewsTestBuilder.news().withId(52L).withTitle("Last").build();
+            CommentNewsResponse firstResponse = CommentNewsResponseTestBuilder.commentNewsResponse().withId(51L).build();
+            CommentNewsResponse lastResponse = CommentNewsResponseTestBuilder.commentNewsResponse().withId(52L).build();
+            List<String> errors = List.of("News title cannot be empty");
+            BatchResponse<CommentNewsResponse> expectedBatchResponse = new BatchResponse<>(2, 1, List.of(
+                    BatchItemResponse.created(0, firstResponse),
+                    BatchItemResponse.failed(1, HttpStatus.BAD_REQUEST, errors),
+                    BatchItemResponse.created(2, lastResponse)
+            ));
+
+            doReturn(List.of()).when(batchItemValidator).validate(firstNewsRequest);
+            doReturn(errors).when(batchItemValidator).validate(invalidNewsRequest);
+            doReturn(List.of()).when(batchItemValidator).validate(lastNewsRequest);
+            doReturn(firstNews).when(newsMapper).mapToNews(firstNewsRequest, principal.getName());
+            doReturn(lastNews).when(newsMapper).mapToNews(lastNewsRequest, principal.getName());
+            doReturn(List.of(firstNews, lastNews)).when(newsRepository).saveAll(List.of(firstNews, lastNews));
+            doReturn(firstResponse).when(newsMapper).mapToCommentNewsResponse(firstNews);
+            doReturn(lastResponse).when(newsMapper).mapToCommentNewsResponse(lastNews);
+
+            BatchResponse<CommentNewsResponse> actualBatchResponse = newsService.saveAll(newsRequests, principal);
+
+            assertThat(actualBatchResponse).isEqualTo(expectedBatchResponse);
+        }
+
+        @Test
+        void checkSaveAllShouldThrowsInvalidBatchException() {
+            List<NewsRequest> newsRequests = Collections.emptyList();
+
+            doThrow(InvalidBatchException.class).when(batchItemValidator).checkSize(newsRequests);
+
+            assertThatThrownBy(() -> newsService.saveAll(newsRequests, principal))
+                    .isInstanceOf(InvalidBatchException.class);
+            verifyNoInteractions(newsRepository);
+        }
+    }
+
     @Nested
     class NewsServiceImplUpdateTest {
 
@@ -340,9 +650,15 @@ public class NewsServiceImplTest {
                     .withText("Text great news")
                     .build();
 
+            NewsResponse newsResponse = NewsResponseTestBuilder.newsResponse().build();
+
             doReturn(Optional.of(news)).when(newsRepository).findById(news.getId());
             doReturn(updatedNews).when(newsRepository).save(news);
-            doReturn(commentNewsResponse).when(newsMapper).mapToCommentNewsResponse(updatedNews);
+            doReturn(newsResponse).when(newsMapper).mapToNewsResponse(updatedNews);
+            doReturn(List.of()).when(commentNewsReadModel).findCommentSegment(news.getId());
+            doReturn(10).when(commentNewsReadModel).getPreviewSize();
+            doReturn(commentNewsResponse).when(newsMapper)
+                    .mapToCommentNewsResponse(newsResponse, new CursorPageResponse<>(List.of(), null));
 
             CommentNewsResponse actualCommentNewsResponse = newsService.update(news.getId(), newsRequest);
 
@@ -401,9 +717,15 @@ public class NewsServiceImplTest {
                     .withText("Text great news")
                     .build();
 
+            NewsResponse newsResponse = NewsResponseTestBuilder.newsResponse().build();
+
             doReturn(Optional.of(news)).when(newsRepository).findById(news.getId());
             doReturn(updatedNews).when(newsRepository).save(news);
-            doReturn(commentNewsResponse).when(newsMapper).mapToCommentNewsResponse(updatedNews);
+            doReturn(newsResponse).when(newsMapper).mapToNewsResponse(updatedNews);
+            doReturn(List.of()).when(commentNewsReadModel).findCommentSegment(news.getId());
+            doReturn(10).when(commentNewsReadModel).getPreviewSize();
+            doReturn(commentNewsResponse).when(newsMapper)
+                    .mapToCommentNewsResponse(newsResponse, new CursorPageResponse<>(List.of(), null));
 
             CommentNewsResponse actualCommentNewsResponse = newsService.updateText(news.getId(), newsTextRequest);
 
@@ -456,6 +778,19 @@ public class NewsServiceImplTest {
             verify(newsRepository).deleteById(news.getId());
         }
 
+        @Test
+        void checkDeleteByIdShouldInvalidateCachedCommentsOfNews() {
+            News news = NewsTestBuilder.news()
+                    .withUsername("thomas_martinez")
+                    .build();
+
+            doReturn(Optional.of(news)).when(newsRepository).findById(news.getId());
+
+            newsService.deleteById(news.getId());
+
+            verify(cacheTagInvalidator).invalidateAfterCommit(news.getId(), "comment", "commentSegments");
+        }
+
         @Test
         void checkDeleteByIdShouldThrowsNewsNotFoundException() {
             Long id = 1L;
@@ -22,6 +22,8 @@ public class NewsTestBuilder implements TestBuilder<News> {
     private String text = "";
     private LocalDateTime time = LocalDateTime.now();
     private String username = "";
+    private Long commentCount = 0L;
+    private LocalDateTime lastCommentAt;
     private List<Comment> comments = new ArrayList<>();
 
     @Override
@@ -33,6 +35,8 @@ public class NewsTestBuilder implements TestBuilder<News> {
         news.setText(text);
         news.setTime(time);
         news.setUsername(username);
+        news.setCommentCount(commentCount);
+        news.setLastCommentAt(lastCommentAt);
         news.setComments(comments);
 
         return news;
@@ -0,0 +1,25 @@
+package ru.clevertec.newsservice.util.request;
+
+import lombok.AllArgsConstructor;
+import lombok.NoArgsConstructor;
+import lombok.With;
+
+import ru.clevertec.newsservice.dto.request.token.TokenRevocationRequest;
+import ru.clevertec.newsservice.util.TestBuilder;
+
+@With
+@AllArgsConstructor
+@NoArgsConstructor(staticName = "tokenRevocationRequest")
+public class TokenRevocationRequestTestBuilder implements TestBuilder<TokenRevocationRequest> {
+
+    private String token = "";
+
+    @Override
+    public TokenRevocationRequest build() {
+        final TokenRevocationRequest tokenRevocationRequest = new TokenRevocationRequest();
+
+        tokenRevocationRequest.setToken(token);
+
+        return tokenRevocationRequest;
+    }
+}
@@ -23,6 +23,7 @@ public class CommentNewsResponseTestBuilder implements TestBuilder<CommentNewsRe
     private LocalDateTime time = LocalDateTime.now();
     private String username = "";
     private List<CommentResponse> comments = new ArrayList<>();
+    private String nextCommentsCursor;
 
     @Override
     public CommentNewsResponse build() {
@@ -34,6 +35,7 @@ public class CommentNewsResponseTestBuilder implements TestBuilder<CommentNewsRe
         commentNewsResponse.setTime(time);
         commentNewsResponse.setUsername(username);
         commentNewsResponse.setComments(comments);
+        commentNewsResponse.setNextCommentsCursor(nextCommentsCursor);
 
         return commentNewsResponse;
     }
@@ -19,6 +19,8 @@ public class NewsResponseTestBuilder implements TestBuilder<NewsResponse> {
     private String text = "";
     private LocalDateTime time = LocalDateTime.now();
     private String username = "";
+    private Long commentCount = 0L;
+    private LocalDateTime lastCommentAt;
 
     @Override
     public NewsResponse build() {
@@ -29,6 +31,8 @@ public class NewsResponseTestBuilder implements TestBuilder<NewsResponse> {
         newsResponse.setText(text);
         newsResponse.setTime(time);
         newsResponse.setUsername(username);
+        newsResponse.setCommentCount(commentCount);
+        newsResponse.setLastCommentAt(lastCommentAt);
 
         return newsResponse;
     }